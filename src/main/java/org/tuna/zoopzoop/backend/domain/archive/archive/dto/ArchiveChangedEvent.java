@@ -0,0 +1,9 @@
+package org.tuna.zoopzoop.backend.domain.archive.archive.dto;
+
+import java.util.Collection;
+
+// 자료 변경 없이 아카이브 내용이 바뀜 (폴더 생성/이름 변경) → 커밋 후 아카이브 버전 증가
+public record ArchiveChangedEvent(
+        Collection<Integer> archiveIds
+) {
+}
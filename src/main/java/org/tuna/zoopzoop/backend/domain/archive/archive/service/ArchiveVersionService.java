@@ -0,0 +1,76 @@
+package org.tuna.zoopzoop.backend.domain.archive.archive.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.tuna.zoopzoop.backend.domain.archive.archive.dto.ArchiveChangedEvent;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceChangedEvent;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 아카이브 단위 버전 (쓰기마다 원자적으로 +1).
+ * 검색 결과/건수 캐시는 키에 버전을 넣어, 아카이브가 바뀌면 이전 캐시를 자연스럽게 버린다.
+ * 인스턴스 간 공유를 위해 Redis INCR를 사용하고, 비활성화 시 프로세스 로컬 값으로 동작한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArchiveVersionService {
+    private static final String KEY_PREFIX = "archive:version:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final Map<Integer, Long> localVersions = new ConcurrentHashMap<>();
+
+    @Value("${archive.version.redis-enabled:true}")
+    private boolean redisEnabled;
+
+    /**
+     * 현재 버전. Redis 조회에 실패하면 null → 호출 측은 캐시를 쓰지 않는다.
+     */
+    public Long current(int archiveId) {
+        if (!redisEnabled) return localVersions.getOrDefault(archiveId, 0L);
+        try {
+            String value = stringRedisTemplate.opsForValue().get(KEY_PREFIX + archiveId);
+            return value == null ? 0L : Long.parseLong(value);
+        } catch (RuntimeException e) {
+            log.warn("Archive version lookup failed. archiveId: {}, reason: {}", archiveId, e.getMessage());
+            return null;
+        }
+    }
+
+    public void bump(int archiveId) {
+        if (!redisEnabled) {
+            localVersions.merge(archiveId, 1L, Long::sum);
+            return;
+        }
+        try {
+            stringRedisTemplate.opsForValue().increment(KEY_PREFIX + archiveId);
+        } catch (RuntimeException e) {
+            // 실패 시 캐시 TTL이 지날 때까지 이전 값이 보일 수 있음
+            log.warn("Archive version bump failed. archiveId: {}, reason: {}", archiveId, e.getMessage());
+        }
+    }
+
+    public void bumpAll(Collection<Integer> archiveIds) {
+        if (archiveIds == null) return;
+        archiveIds.forEach(this::bump);
+    }
+
+    // 커밋 후에 올려야 커밋 전 데이터로 계산한 값이 새 버전 키로 캐시되지 않는다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDataSourceChanged(DataSourceChangedEvent event) {
+        bumpAll(event.archiveIds());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArchiveChanged(ArchiveChangedEvent event) {
+        bumpAll(event.archiveIds());
+    }
+}
@@ -23,9 +23,9 @@ import java.util.List;
                         columnNames = {"archive_id", "name"}
                 )
         },
-        // Archive 별 조회 속도 개선
+        // Archive 별 조회 + 기본 폴더 조회 (findDefaultFolderByMemberId 등) 속도 개선
         indexes = {
-                @Index( name = "idx_folder__archive_id", columnList = "archive_id")
+                @Index( name = "idx_folder__archive_id__is_default", columnList = "archive_id, is_default")
         }
 )
 public class Folder extends BaseEntity {
@@ -42,8 +42,7 @@ public interface FolderRepository extends JpaRepository<Folder, Integer>{
     @Query("""
         select f
         from Folder f
-        join f.archive a
-        join PersonalArchive pa on pa.archive = a
+        join PersonalArchive pa on pa.archive.id = f.archive.id
         where pa.member.id = :memberId
           and f.isDefault = true
     """)
@@ -53,8 +52,7 @@ public interface FolderRepository extends JpaRepository<Folder, Integer>{
     @Query("""
         select f
         from Folder f
-        join f.archive a
-        join PersonalArchive pa on pa.archive = a
+        join PersonalArchive pa on pa.archive.id = f.archive.id
         where f.id = :folderId
           and pa.member.id = :memberId
     """)
@@ -67,8 +65,7 @@ public interface FolderRepository extends JpaRepository<Folder, Integer>{
 
     @Query("""
         select f from Folder f
-        join f.archive a
-        join PersonalArchive pa on pa.archive.id = a.id
+        join PersonalArchive pa on pa.archive.id = f.archive.id
         where pa.member.id = :memberId and f.isDefault = true
     """)
     Optional<Folder> findDefaultByMemberId(@Param("memberId") Integer memberId);
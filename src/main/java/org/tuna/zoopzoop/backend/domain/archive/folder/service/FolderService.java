@@ -2,13 +2,16 @@ package org.tuna.zoopzoop.backend.domain.archive.folder.service;
 
 import jakarta.persistence.NoResultException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.tuna.zoopzoop.backend.domain.archive.archive.dto.ArchiveChangedEvent;
 import org.tuna.zoopzoop.backend.domain.archive.archive.entity.Archive;
 import org.tuna.zoopzoop.backend.domain.archive.folder.dto.FolderResponse;
 import org.tuna.zoopzoop.backend.domain.archive.folder.entity.Folder;
 import org.tuna.zoopzoop.backend.domain.archive.folder.repository.FolderRepository;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceChangedEvent;
 import org.tuna.zoopzoop.backend.domain.datasource.dto.FileSummary;
 import org.tuna.zoopzoop.backend.domain.datasource.dto.FolderFilesDto;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.DataSource;
@@ -27,6 +30,7 @@ public class FolderService {
 
     private final FolderRepository folderRepository;
     private final DataSourceRepository dataSourceRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ===== 생성 =====
     @Transactional
@@ -46,6 +50,7 @@ public class FolderService {
                 folder.setDefault(false);
 
                 Folder saved = folderRepository.save(folder);
+                eventPublisher.publishEvent(new ArchiveChangedEvent(List.of(archive.getId())));
                 return new FolderResponse(saved.getName(), saved.getId());
             } catch (DataIntegrityViolationException e) {
                 unique = generateUniqueFolderName(archive.getId(), requested);
@@ -78,6 +83,10 @@ public class FolderService {
 
         String name = folder.getName();
         folderRepository.delete(folder);
+
+        // 커밋 후 이관된 자료 재색인 + 아카이브 버전 증가
+        eventPublisher.publishEvent(new DataSourceChangedEvent(
+                dataSources.stream().map(DataSource::getId).toList(), List.of(archive.getId())));
         return name;
     }
 
@@ -102,6 +111,7 @@ public class FolderService {
 
         folder.setName(newName.trim());
         folderRepository.save(folder);
+        eventPublisher.publishEvent(new ArchiveChangedEvent(List.of(archive.getId())));
         return folder.getName();
     }
 
@@ -138,6 +148,14 @@ public class FolderService {
         return new FolderFilesDto(folder.getId(), folder.getName(), files);
     }
 
+    // ===== 폴더 소속 확인 (Archive 스코프) =====
+    @Transactional(readOnly = true)
+    public Integer getFolderArchiveId(Archive archive, Integer folderId) {
+        folderRepository.findByIdAndArchiveId(folderId, archive.getId())
+                .orElseThrow(() -> new NoResultException("존재하지 않는 폴더입니다."));
+        return archive.getId();
+    }
+
     // ===== 기본 폴더 ID 조회 (Archive 스코프) =====
     @Transactional(readOnly = true)
     public Integer getDefaultFolderId(Archive archive) {
@@ -60,6 +60,14 @@ public class PersonalArchiveFolderService {
         return folderService.getFilesInFolder(folder.getArchive(), folderId);
     }
 
+    // 내 폴더인지 확인하고 폴더가 속한 아카이브 id 반환
+    @Transactional(readOnly = true)
+    public Integer getFolderArchiveId(Integer memberId, Integer folderId) {
+        Folder folder = folderRepository.findByIdAndMemberId(folderId, memberId)
+                .orElseThrow(() -> new NoResultException("존재하지 않는 폴더입니다."));
+        return folder.getArchive().getId();
+    }
+
     @Transactional(readOnly = true)
     public Integer getDefaultFolderId(Integer memberId) {
         Folder folder = folderRepository.findDefaultFolderByMemberId(memberId)
@@ -0,0 +1,36 @@
+package org.tuna.zoopzoop.backend.domain.dashboard;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "dashboard.graph.queue")
+@Getter
+@Setter
+public class GraphQueueProperties {
+    //application.yml에 dashboard.graph.queue 항목 작성
+    //예시
+    //dashboard:
+    //  graph:
+    //    queue:
+    //      shards: 8
+    //      drain-shards: 16
+    //      owned-shards: 0,1,2,3
+    //      standby-delay: 30s
+    //      batch-size: 200
+    //      receive-timeout: 200ms
+    //      prefetch: 250
+    private int shards = 8;                                // 샤드 큐 수 (바꾸면 일부 대시보드만 다른 샤드로 이동, 이동 중에는 순서 보장 X)
+    private int drainShards = 0;                           // 샤드 수를 줄였을 때 이전 샤드 수: shards 이상 큐는 발행 없이 남은 메시지만 소비
+    private List<Integer> ownedShards = new ArrayList<>(); // 이 인스턴스가 기동 즉시 구독할 샤드 (비우면 전부)
+    private Duration standbyDelay = Duration.ofSeconds(30); // 나머지 샤드는 이만큼 뒤에 대기 컨슈머로 구독 (다른 인스턴스 장애 시 인계)
+    private int batchSize = 200;                           // 한 번에 모아 받을 최대 메시지 수
+    private Duration receiveTimeout = Duration.ofMillis(200); // 배치를 채우려고 기다리는 최대 시간
+    private int prefetch = 250;                            // 컨슈머당 ACK 전 최대 메시지 수 (batchSize 이상)
+}
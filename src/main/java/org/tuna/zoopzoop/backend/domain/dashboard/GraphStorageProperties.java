@@ -0,0 +1,24 @@
+package org.tuna.zoopzoop.backend.domain.dashboard;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "dashboard.graph")
+@Getter
+@Setter
+public class GraphStorageProperties {
+    //application.yml에 dashboard.graph 항목 작성
+    //예시
+    //dashboard:
+    //  graph:
+    //    storage: snapshot
+    private Storage storage = Storage.NORMALIZED; // 그래프 저장 방식
+
+    public enum Storage {
+        NORMALIZED, // node / edge / node_data 행으로 저장
+        SNAPSHOT    // Graph.snapshot 한 컬럼에 압축 JSON 문서로 저장 (조회 시 엔티티 로딩/재직렬화 없음)
+    }
+}
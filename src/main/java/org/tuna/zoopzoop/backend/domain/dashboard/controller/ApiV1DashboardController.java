@@ -1,20 +1,24 @@
 package org.tuna.zoopzoop.backend.domain.dashboard.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-import org.tuna.zoopzoop.backend.domain.dashboard.dto.BodyForReactFlow;
-import org.tuna.zoopzoop.backend.domain.dashboard.entity.Graph;
+import org.springframework.web.context.request.WebRequest;
+import org.tuna.zoopzoop.backend.domain.dashboard.dto.GraphDocument;
 import org.tuna.zoopzoop.backend.domain.dashboard.service.DashboardService;
-import org.tuna.zoopzoop.backend.domain.dashboard.service.GraphService;
 import org.tuna.zoopzoop.backend.domain.member.entity.Member;
 import org.tuna.zoopzoop.backend.global.rsData.RsData;
 import org.tuna.zoopzoop.backend.global.security.jwt.CustomUserDetails;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.AccessDeniedException;
 
 @RestController
@@ -23,6 +27,7 @@ import java.nio.file.AccessDeniedException;
 @Tag(name = "ApiV1GraphController", description = "React-flow 데이터 컨트롤러")
 public class ApiV1DashboardController {
     private final DashboardService dashboardService;
+    private final ObjectMapper objectMapper;
 
     /**
      * React-flow 데이터 저장(갱신) API
@@ -35,7 +40,7 @@ public class ApiV1DashboardController {
     @Operation(summary = "React-flow 데이터 저장(갱신)")
     public ResponseEntity<RsData<Void>> queueGraphUpdate(
             @PathVariable Integer dashboardId,
-            @RequestBody String requestBody,
+            @RequestBody byte[] requestBody,
             @RequestHeader("Liveblocks-Signature") String signature
     ) {
         dashboardService.queueGraphUpdate(dashboardId, requestBody, signature);
@@ -51,25 +56,47 @@ public class ApiV1DashboardController {
 
     /**
      * React-flow 데이터 조회 API
+     * data는 저장된 JSON 바이트를 그대로 끼워 응답 (SNAPSHOT 저장 방식이면 엔티티 로딩/재직렬화 없음).
+     * ETag = 그래프 버전, If-None-Match가 같으면 304.
      * @param dashboardId React-flow 데이터의 dashboard 식별 id
      */
     @GetMapping("/{dashboardId}/graph")
     @Operation(summary = "React-flow 데이터 조회")
-    public ResponseEntity<RsData<BodyForReactFlow>> getGraph(
+    public ResponseEntity<byte[]> getGraph(
             @PathVariable Integer dashboardId,
-            @AuthenticationPrincipal CustomUserDetails userDetails
-    ) throws AccessDeniedException {
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest
+    ) throws AccessDeniedException, JsonProcessingException {
         // TODO : 권한 체크 로직 추가
         Member member = userDetails.getMember();
         dashboardService.verifyAccessPermission(member, dashboardId);
 
-        Graph graph = dashboardService.getGraphByDashboardId(dashboardId);
+        GraphDocument document = dashboardService.getGraphDocument(dashboardId);
+        if (webRequest.checkNotModified(document.eTag())) {
+            return null; // 304
+        }
+
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(new RsData<>(
+                .eTag(document.eTag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(rawRsData(
                         "200",
                         "ID: " + dashboardId + " 의 React-flow 데이터를 조회했습니다.",
-                        BodyForReactFlow.from(graph)
+                        document.json()
                 ));
     }
+
+    // RsData와 같은 모양({"status","msg","data"})에 data JSON 바이트를 파싱 없이 그대로 넣음
+    private byte[] rawRsData(String resultCode, String msg, byte[] data) throws JsonProcessingException {
+        byte[] head = ("{\"status\":" + objectMapper.writeValueAsString(resultCode)
+                + ",\"msg\":" + objectMapper.writeValueAsString(msg)
+                + ",\"data\":").getBytes(StandardCharsets.UTF_8);
+        byte[] body = new byte[head.length + data.length + 1];
+        System.arraycopy(head, 0, body, 0, head.length);
+        System.arraycopy(data, 0, body, head.length, data.length);
+        body[body.length - 1] = '}';
+        return body;
+    }
 }
@@ -0,0 +1,12 @@
+package org.tuna.zoopzoop.backend.domain.dashboard.dto;
+
+// 그래프 조회 결과: 응답 data에 그대로 쓸 BodyForReactFlow JSON 바이트 + 낙관적 락 버전 (ETag)
+public record GraphDocument(
+        Integer graphId,
+        Long version,
+        byte[] json
+) {
+    public String eTag() {
+        return "\"" + graphId + "-" + version + "\"";
+    }
+}
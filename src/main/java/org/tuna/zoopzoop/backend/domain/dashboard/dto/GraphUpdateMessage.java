@@ -2,6 +2,10 @@ package org.tuna.zoopzoop.backend.domain.dashboard.dto;
 
 public record GraphUpdateMessage(
         Integer dashboardId,
-        String requestBody
+        String requestBody,
+        long webhookTimestamp // Liveblocks-Signature의 t (ms), 같은 대시보드 메시지 중 최신 판별용
 ){
+    public GraphUpdateMessage(Integer dashboardId, String requestBody) {
+        this(dashboardId, requestBody, System.currentTimeMillis());
+    }
 }
@@ -0,0 +1,38 @@
+package org.tuna.zoopzoop.backend.domain.dashboard.dto;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+
+/**
+ * 큐를 거치는 그래프 업데이트 한 건: webhook 원문 바이트 + 메타데이터.
+ * RabbitMQ에는 원문 바이트를 그대로 본문으로, 메타데이터는 헤더로 실어 JSON을 다시 감싸지 않는다.
+ */
+public record GraphWebhook(
+        Integer dashboardId,
+        long webhookTimestamp, // Liveblocks-Signature의 t (ms)
+        byte[] body            // React-flow 상태 JSON (BodyForReactFlow)
+) {
+    public static final String DASHBOARD_ID_HEADER = "x-dashboard-id";
+    public static final String WEBHOOK_TIMESTAMP_HEADER = "x-webhook-timestamp";
+
+    // 본문 배열을 복사하지 않음
+    public Message toMessage() {
+        return MessageBuilder.withBody(body)
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding("UTF-8")
+                .setHeader(DASHBOARD_ID_HEADER, dashboardId)
+                .setHeader(WEBHOOK_TIMESTAMP_HEADER, webhookTimestamp)
+                .build();
+    }
+
+    /**
+     * @return 헤더가 없으면(이전 형식 GraphUpdateMessage JSON) null
+     */
+    public static GraphWebhook fromMessage(Message message) {
+        Object dashboardId = message.getMessageProperties().getHeader(DASHBOARD_ID_HEADER);
+        Object timestamp = message.getMessageProperties().getHeader(WEBHOOK_TIMESTAMP_HEADER);
+        if (!(dashboardId instanceof Number id)) return null;
+        return new GraphWebhook(id.intValue(), timestamp instanceof Number t ? t.longValue() : 0L, message.getBody());
+    }
+}
@@ -1,7 +1,9 @@
 package org.tuna.zoopzoop.backend.domain.dashboard.entity;
 
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Lob;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Version;
 import lombok.Getter;
@@ -24,4 +26,9 @@ public class Graph extends BaseEntity {
 
     @OneToMany(mappedBy = "graph", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Edge> edges = new ArrayList<>();
+
+    // SNAPSHOT 저장 방식일 때의 그래프 문서 (gzip JSON, GraphSnapshotCodec). 바뀌면 version도 함께 오름
+    @Lob
+    @Column(name = "snapshot")
+    private byte[] snapshot;
 }
@@ -3,6 +3,7 @@ package org.tuna.zoopzoop.backend.domain.dashboard.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 import org.tuna.zoopzoop.backend.domain.dashboard.enums.NodeType;
 import org.tuna.zoopzoop.backend.global.jpa.entity.BaseEntity;
 
@@ -24,7 +25,9 @@ public class Node extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private NodeType nodeType;
 
+    // 조회(BodyForReactFlow.from)에서 노드마다 SELECT가 나가지 않도록 100개씩 묶어 읽음
     @ElementCollection
+    @BatchSize(size = 100)
     @CollectionTable(name = "node_data", joinColumns = @JoinColumn(name = "node_id"))
     @MapKeyColumn(name = "data_key")
     @Column(name = "data_value")
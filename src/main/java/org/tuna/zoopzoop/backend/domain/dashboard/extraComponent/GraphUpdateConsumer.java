@@ -1,39 +1,99 @@
 package org.tuna.zoopzoop.backend.domain.dashboard.extraComponent;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 import org.tuna.zoopzoop.backend.domain.dashboard.dto.BodyForReactFlow;
 import org.tuna.zoopzoop.backend.domain.dashboard.dto.GraphUpdateMessage;
+import org.tuna.zoopzoop.backend.domain.dashboard.dto.GraphWebhook;
 import org.tuna.zoopzoop.backend.domain.dashboard.service.DashboardService;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 그래프 업데이트 컨슈머: Liveblocks는 드래그 중에 전체 상태 webhook을 초당 여러 번 보내고,
+ * 대부분은 반영되기 전에 다음 메시지로 덮인다. 큐에서 모아 받은 배치 안에서 대시보드별로
+ * webhook 시각이 가장 늦은 메시지만 반영하고, 덮인 메시지는 반영 없이 함께 ACK 한다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class GraphUpdateConsumer {
     private final DashboardService dashboardService;
     private final ObjectMapper objectMapper;
+    private final Counter appliedCounter;
+    private final Counter coalescedCounter;
+
+    public GraphUpdateConsumer(DashboardService dashboardService, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.dashboardService = dashboardService;
+        this.objectMapper = objectMapper;
+        this.appliedCounter = Counter.builder("graph.update.messages")
+                .tag("result", "applied")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("graph.update.messages")
+                .tag("result", "coalesced") // 같은 배치의 더 최신 메시지에 덮여 건너뜀
+                .register(meterRegistry);
+    }
+
+    // 샤딩 이전 graph.update.queue에 남은 메시지(본문 JSON을 다시 감싼 이전 형식)를 비움
+    @RabbitListener(queues = "graph.update.queue", containerFactory = "graphUpdateBatchContainerFactory")
+    public void handleGraphUpdates(List<GraphUpdateMessage> messages) {
+        List<GraphWebhook> webhooks = new ArrayList<>(messages.size());
+        for (GraphUpdateMessage message : messages) {
+            webhooks.add(new GraphWebhook(message.dashboardId(), message.webhookTimestamp(),
+                    message.requestBody().getBytes(StandardCharsets.UTF_8)));
+        }
+        handleWebhooks(webhooks);
+    }
+
+    /**
+     * 샤드 큐(GraphUpdateShardListeners)의 배치. 대시보드별 최신 webhook만 본문을 한 번 역직렬화해 반영하고,
+     * 덮인 것은 파싱하지 않는다.
+     */
+    public void handleWebhooks(List<GraphWebhook> webhooks) {
+        // 같은 시각이면 큐에 나중에 들어온 것
+        Map<Integer, GraphWebhook> latest = new LinkedHashMap<>();
+        for (GraphWebhook webhook : webhooks) {
+            latest.merge(webhook.dashboardId(), webhook,
+                    (current, next) -> next.webhookTimestamp() >= current.webhookTimestamp() ? next : current);
+        }
+
+        int coalesced = webhooks.size() - latest.size();
+        coalescedCounter.increment(coalesced);
+        if (coalesced > 0) {
+            log.debug("Coalesced {} of {} graph update messages into {} dashboards", coalesced, webhooks.size(), latest.size());
+        }
+
+        for (GraphWebhook webhook : latest.values()) {
+            handleGraphUpdate(webhook);
+        }
+    }
 
-    @RabbitListener(queues = "graph.update.queue")
-    public void handleGraphUpdate(GraphUpdateMessage message) {
-        log.info("Received graph update message for dashboardId: {}", message.dashboardId());
+    private void handleGraphUpdate(GraphWebhook webhook) {
+        log.info("Received graph update message for dashboardId: {}", webhook.dashboardId());
         try {
-            BodyForReactFlow dto = objectMapper.readValue(message.requestBody(), BodyForReactFlow.class);
-            dashboardService.updateGraph(message.dashboardId(), dto);
-            log.info("Successfully updated graph for dashboardId: {}", message.dashboardId());
+            BodyForReactFlow dto = objectMapper.readValue(webhook.body(), BodyForReactFlow.class);
+            dashboardService.updateGraph(webhook.dashboardId(), dto);
+            appliedCounter.increment();
+            log.info("Successfully updated graph for dashboardId: {}", webhook.dashboardId());
         } catch (ObjectOptimisticLockingFailureException e) {
             // Optimistic Lock 충돌 발생!
             // 내가 처리하려던 메시지는 이미 구버전 데이터에 대한 요청이었음.
             // 따라서 이 메시지는 무시하고 정상 처리된 것으로 간주.
-            log.warn("Stale update attempt for dashboardId: {}. A newer version already exists. Discarding message.", message.dashboardId());
+            log.warn("Stale update attempt for dashboardId: {}. A newer version already exists. Discarding message.", webhook.dashboardId());
             // 예외를 다시 던지지 않으므로, 메시지는 큐에서 정상적으로 제거(ACK)됩니다.
         } catch (Exception e) {
+            // 한 대시보드의 실패가 같은 배치의 다른 대시보드 반영을 막지 않도록 여기서 처리.
             // 실제 운영에서는 메시지를 재시도하거나, 실패 큐(Dead Letter Queue)로 보내는 등의
             // 정교한 에러 처리 로직이 필요합니다.
-            log.error("Failed to process graph update for dashboardId: {}", message.dashboardId(), e);
+            log.error("Failed to process graph update for dashboardId: {}", webhook.dashboardId(), e);
         }
     }
 }
@@ -0,0 +1,186 @@
+package org.tuna.zoopzoop.backend.domain.dashboard.extraComponent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.BatchMessageListener;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.annotation.RabbitListenerConfigurer;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerEndpoint;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistrar;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.tuna.zoopzoop.backend.domain.dashboard.GraphQueueProperties;
+import org.tuna.zoopzoop.backend.domain.dashboard.dto.GraphUpdateMessage;
+import org.tuna.zoopzoop.backend.domain.dashboard.dto.GraphWebhook;
+import org.tuna.zoopzoop.backend.global.config.mq.RabbitMQConfig;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 샤드 큐마다 리스너 컨테이너를 하나씩 등록한다 (한 컨테이너로 여러 큐를 받으면 한 스레드가 모든 샤드를 처리하게 됨).
+ * owned-shards는 기동 즉시, 나머지는 standby-delay 뒤에 구독해 다른 인스턴스가 먼저 활성 컨슈머가 되도록 하고
+ * 그 인스턴스가 죽으면 이어받는다. 샤드별 대기 메시지 수와 webhook → 수신 지연을 메트릭으로 남긴다.
+ * 샤드 수를 줄인 뒤에도 drain-shards까지의 이전 샤드 큐를 계속 구독해 남은 메시지를 비운다.
+ */
+@Slf4j
+@Component
+public class GraphUpdateShardListeners implements RabbitListenerConfigurer {
+    private static final String ENDPOINT_ID_PREFIX = "graph-update-shard-";
+
+    private final GraphUpdateConsumer graphUpdateConsumer;
+    private final GraphUpdateShards shards;
+    private final GraphQueueProperties properties;
+    private final SimpleRabbitListenerContainerFactory containerFactory;
+    private final ObjectMapper objectMapper;
+    private final RabbitListenerEndpointRegistry endpointRegistry;
+    private final AmqpAdmin amqpAdmin;
+    private final RabbitTemplate rabbitTemplate;
+    private final Counter invalidCounter;
+    private final AtomicLongArray depths;
+    private final List<Timer> lagTimers = new ArrayList<>();
+    private final long startedAt = System.currentTimeMillis();
+    private volatile boolean standbyStarted;
+
+    public GraphUpdateShardListeners(GraphUpdateConsumer graphUpdateConsumer,
+                                     GraphUpdateShards shards,
+                                     GraphQueueProperties properties,
+                                     @Qualifier("graphUpdateBatchContainerFactory") SimpleRabbitListenerContainerFactory containerFactory,
+                                     ObjectMapper objectMapper,
+                                     RabbitListenerEndpointRegistry endpointRegistry,
+                                     AmqpAdmin amqpAdmin,
+                                     RabbitTemplate rabbitTemplate,
+                                     MeterRegistry meterRegistry) {
+        this.graphUpdateConsumer = graphUpdateConsumer;
+        this.shards = shards;
+        this.properties = properties;
+        this.containerFactory = containerFactory;
+        this.objectMapper = objectMapper;
+        this.endpointRegistry = endpointRegistry;
+        this.amqpAdmin = amqpAdmin;
+        this.rabbitTemplate = rabbitTemplate;
+        this.invalidCounter = Counter.builder("graph.update.messages")
+                .tag("result", "invalid") // 읽을 수 없어 DLQ로 보낸 메시지
+                .register(meterRegistry);
+        this.depths = new AtomicLongArray(shards.consumedCount());
+
+        for (int shard = 0; shard < shards.consumedCount(); shard++) {
+            int index = shard;
+            String tag = String.valueOf(shard);
+            Gauge.builder("graph.update.queue.depth", depths, d -> d.get(index))
+                    .description("샤드 큐에 쌓인(아직 전달되지 않은) 그래프 업데이트 수")
+                    .tag("shard", tag)
+                    .register(meterRegistry);
+            lagTimers.add(Timer.builder("graph.update.lag")
+                    .description("webhook 발생 → 컨슈머 수신까지 걸린 시간")
+                    .tag("shard", tag)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public void configureRabbitListeners(RabbitListenerEndpointRegistrar registrar) {
+        for (int shard = 0; shard < shards.consumedCount(); shard++) {
+            int index = shard;
+            SimpleRabbitListenerEndpoint endpoint = new SimpleRabbitListenerEndpoint();
+            endpoint.setId(ENDPOINT_ID_PREFIX + shard);
+            endpoint.setQueueNames(GraphUpdateShards.queueName(shard));
+            endpoint.setBatchListener(true);
+            endpoint.setAutoStartup(isOwned(shard));
+            endpoint.setMessageListener((BatchMessageListener) messages -> onBatch(index, messages));
+            registrar.registerEndpoint(endpoint, containerFactory);
+        }
+    }
+
+    // 읽을 수 없는 메시지는 그 한 건만 DLQ로 보내고 나머지는 그대로 반영 (배치 전체가 재전달되지 않도록)
+    void onBatch(int shard, List<Message> messages) {
+        long now = System.currentTimeMillis();
+        List<GraphWebhook> webhooks = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            GraphWebhook webhook;
+            try {
+                webhook = read(message);
+            } catch (RuntimeException e) {
+                deadLetter(shard, message, e);
+                continue;
+            }
+            if (webhook.webhookTimestamp() > 0) {
+                lagTimers.get(shard).record(Math.max(0, now - webhook.webhookTimestamp()), TimeUnit.MILLISECONDS);
+            }
+            webhooks.add(webhook);
+        }
+        if (!webhooks.isEmpty()) graphUpdateConsumer.handleWebhooks(webhooks);
+    }
+
+    private void deadLetter(int shard, Message message, RuntimeException cause) {
+        invalidCounter.increment();
+        log.error("Invalid graph update message on shard {}. Sending to DLQ.", shard, cause);
+        try {
+            rabbitTemplate.send(RabbitMQConfig.DLQ_EXCHANGE_NAME, RabbitMQConfig.DLQ_ROUTING_KEY, message);
+        } catch (AmqpException e) {
+            log.error("Failed to dead-letter graph update message on shard {}. Dropping it.", shard, e);
+        }
+    }
+
+    // 메타데이터는 헤더에서만 읽고 본문(React-flow JSON)은 컨슈머가 반영할 때 한 번만 파싱
+    private GraphWebhook read(Message message) {
+        GraphWebhook webhook = GraphWebhook.fromMessage(message);
+        if (webhook != null) return webhook;
+
+        // 헤더 없이 GraphUpdateMessage로 감싸 발행되던 이전 형식
+        try {
+            GraphUpdateMessage legacy = objectMapper.readValue(message.getBody(), GraphUpdateMessage.class);
+            if (legacy == null || legacy.dashboardId() == null || legacy.requestBody() == null) {
+                throw new IllegalArgumentException("Graph update message without dashboardId or body.");
+            }
+            return new GraphWebhook(legacy.dashboardId(), legacy.webhookTimestamp(),
+                    legacy.requestBody().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Invalid graph update message.", e);
+        }
+    }
+
+    private boolean isOwned(int shard) {
+        return properties.getOwnedShards().isEmpty() || properties.getOwnedShards().contains(shard);
+    }
+
+    @Scheduled(fixedDelay = 10_000)
+    public void monitor() {
+        for (int shard = 0; shard < shards.consumedCount(); shard++) {
+            try {
+                QueueInformation info = amqpAdmin.getQueueInfo(GraphUpdateShards.queueName(shard));
+                if (info != null) depths.set(shard, info.getMessageCount());
+            } catch (RuntimeException e) {
+                log.debug("Failed to read depth of graph update shard {}", shard, e);
+            }
+        }
+
+        Duration uptime = Duration.ofMillis(System.currentTimeMillis() - startedAt);
+        if (!standbyStarted && uptime.compareTo(properties.getStandbyDelay()) >= 0) {
+            for (int shard = 0; shard < shards.consumedCount(); shard++) {
+                MessageListenerContainer container = endpointRegistry.getListenerContainer(ENDPOINT_ID_PREFIX + shard);
+                if (container != null && !container.isRunning()) container.start();
+            }
+            standbyStarted = true;
+        }
+    }
+}
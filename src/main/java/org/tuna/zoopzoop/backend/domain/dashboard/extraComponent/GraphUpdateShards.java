@@ -0,0 +1,54 @@
+package org.tuna.zoopzoop.backend.domain.dashboard.extraComponent;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.tuna.zoopzoop.backend.domain.dashboard.GraphQueueProperties;
+
+/**
+ * 그래프 업데이트 큐 샤딩: dashboardId → 샤드 번호 (jump consistent hash).
+ * 같은 대시보드는 항상 같은 샤드 큐로 가고, 샤드 큐마다 활성 컨슈머가 하나뿐이라 대시보드 안의 순서가 유지된다.
+ * 샤드 수를 N → N+1로 늘리면 대시보드의 약 1/(N+1)만 옮겨진다.
+ * 줄일 때는 drain-shards에 이전 샤드 수를 두면 더 이상 발행되지 않는 큐도 남은 메시지를 계속 소비한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GraphUpdateShards {
+    // 기존 graph.update.queue의 바인딩(graph.update.#)에 걸리지 않는 라우팅 키
+    private static final String ROUTING_KEY_PREFIX = "graph.shard.";
+    private static final String QUEUE_PREFIX = "graph.update.shard.";
+
+    private final GraphQueueProperties properties;
+
+    public int count() {
+        return properties.getShards();
+    }
+
+    // 구독할 샤드 큐 수: 발행 중인 샤드 + 줄이기 전 샤드 (0..N-1)
+    public int consumedCount() {
+        return Math.max(properties.getShards(), properties.getDrainShards());
+    }
+
+    public int shardOf(int dashboardId) {
+        return jumpHash(dashboardId, properties.getShards());
+    }
+
+    public static String routingKey(int shard) {
+        return ROUTING_KEY_PREFIX + shard;
+    }
+
+    public static String queueName(int shard) {
+        return QUEUE_PREFIX + shard;
+    }
+
+    // Lamping & Veach, "A Fast, Minimal Memory, Consistent Hash Algorithm"
+    static int jumpHash(long key, int buckets) {
+        long b = -1;
+        long j = 0;
+        while (j < buckets) {
+            b = j;
+            key = key * 2862933555777941757L + 1;
+            j = (long) ((b + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) b;
+    }
+}
@@ -1,9 +1,20 @@
 package org.tuna.zoopzoop.backend.domain.dashboard.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.tuna.zoopzoop.backend.domain.dashboard.entity.Dashboard;
 
+import java.util.Optional;
+
 @Repository
 public interface DashboardRepository extends JpaRepository<Dashboard, Integer> {
+
+    @Query("""
+            select new org.tuna.zoopzoop.backend.domain.dashboard.repository.GraphSnapshotRow(g.id, g.version, g.snapshot)
+            from Dashboard d join d.graph g
+            where d.id = :dashboardId
+            """)
+    Optional<GraphSnapshotRow> findGraphSnapshot(@Param("dashboardId") Integer dashboardId);
 }
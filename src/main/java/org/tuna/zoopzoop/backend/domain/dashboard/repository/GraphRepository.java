@@ -1,10 +1,25 @@
 package org.tuna.zoopzoop.backend.domain.dashboard.repository;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.tuna.zoopzoop.backend.domain.dashboard.entity.Graph;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface GraphRepository extends JpaRepository<Graph,Integer> {
     Optional<Graph> findGraphById(Integer id);
+
+    // 커밋 때 version을 올림 (노드/엣지 행만 바뀌는 업데이트도 낙관적 락 충돌로 잡히도록)
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("select g from Graph g where g.id = :id")
+    Optional<Graph> findWithForceIncrementById(@Param("id") Integer id);
+
+    // 스냅샷 이관 대상 (id 순 keyset)
+    @Query("select g.id from Graph g where g.snapshot is null and g.id > :afterId order by g.id")
+    List<Integer> findIdsWithoutSnapshot(@Param("afterId") int afterId, Pageable pageable);
 }
@@ -0,0 +1,9 @@
+package org.tuna.zoopzoop.backend.domain.dashboard.repository;
+
+// 대시보드 그래프 조회용 프로젝션 (노드/엣지 로딩 없이 스냅샷 컬럼만)
+public record GraphSnapshotRow(
+        Integer graphId,
+        Long version,
+        byte[] snapshot
+) {
+}
@@ -1,7 +1,14 @@
 package org.tuna.zoopzoop.backend.domain.dashboard.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.tuna.zoopzoop.backend.domain.dashboard.entity.Node;
 
+import java.util.List;
+
 public interface NodeRepository extends JpaRepository<Node,Integer> {
+    // 그래프의 노드와 node_data를 한 쿼리로 읽어 영속성 컨텍스트에 올림 (병합 중 노드마다 node_data SELECT가 나가지 않도록)
+    @Query("select distinct n from Node n left join fetch n.data where n.graph.id = :graphId")
+    List<Node> findAllWithDataByGraphId(@Param("graphId") Integer graphId);
 }
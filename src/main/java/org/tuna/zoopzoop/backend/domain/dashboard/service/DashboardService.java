@@ -1,21 +1,28 @@
 package org.tuna.zoopzoop.backend.domain.dashboard.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.NoResultException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.binary.Hex;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.tuna.zoopzoop.backend.domain.dashboard.GraphStorageProperties;
 import org.tuna.zoopzoop.backend.domain.dashboard.dto.BodyForReactFlow;
-import org.tuna.zoopzoop.backend.domain.dashboard.dto.GraphUpdateMessage;
+import org.tuna.zoopzoop.backend.domain.dashboard.dto.GraphDocument;
+import org.tuna.zoopzoop.backend.domain.dashboard.dto.GraphWebhook;
 import org.tuna.zoopzoop.backend.domain.dashboard.dto.ReqBodyForLiveblocksAuth;
 import org.tuna.zoopzoop.backend.domain.dashboard.entity.Dashboard;
-import org.tuna.zoopzoop.backend.domain.dashboard.entity.Edge;
+import org.tuna.zoopzoop.backend.domain.dashboard.extraComponent.GraphUpdateShards;
 import org.tuna.zoopzoop.backend.domain.dashboard.entity.Graph;
-import org.tuna.zoopzoop.backend.domain.dashboard.entity.Node;
 import org.tuna.zoopzoop.backend.domain.dashboard.repository.DashboardRepository;
+import org.tuna.zoopzoop.backend.domain.dashboard.repository.GraphRepository;
+import org.tuna.zoopzoop.backend.domain.dashboard.repository.GraphSnapshotRow;
+import org.tuna.zoopzoop.backend.domain.dashboard.repository.NodeRepository;
+import org.tuna.zoopzoop.backend.domain.dashboard.snapshot.GraphSnapshotCodec;
 import org.tuna.zoopzoop.backend.domain.member.entity.Member;
 import org.tuna.zoopzoop.backend.domain.space.membership.entity.Membership;
 import org.tuna.zoopzoop.backend.domain.space.membership.enums.Authority;
@@ -25,21 +32,28 @@ import org.tuna.zoopzoop.backend.domain.space.space.service.SpaceService;
 import org.tuna.zoopzoop.backend.global.clients.liveblocks.LiveblocksClient;
 
 import java.nio.file.AccessDeniedException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class DashboardService {
     private final DashboardRepository dashboardRepository;
+    private final GraphRepository graphRepository;
+    private final NodeRepository nodeRepository;
     private final MembershipService membershipService;
     private final ObjectMapper objectMapper;
     private final SignatureService signatureService;
     private final RabbitTemplate rabbitTemplate;
     private final SpaceService spaceService;
     private final LiveblocksClient liveblocksClient;
+    private final GraphSnapshotCodec graphSnapshotCodec;
+    private final GraphStorageProperties graphStorageProperties;
+    private final GraphUpdateShards graphUpdateShards;
 
 
     // =========================== Graph 관련 메서드 ===========================
@@ -55,24 +69,67 @@ public class DashboardService {
         return dashboard.getGraph();
     }
 
+    /**
+     * 대시보드 그래프를 응답 data에 그대로 쓸 JSON 바이트로 조회하는 메서드
+     * SNAPSHOT 저장 방식이면 스냅샷 컬럼 하나만 읽어 압축만 풀어 반환 (노드/엣지 로딩, 재직렬화 없음).
+     * 아직 스냅샷이 없는 그래프(이관 전)는 노드/엣지에서 만들어 반환.
+     * 스냅샷이 있으면 저장 방식과 관계없이 그것이 최신 (NORMALIZED 쓰기는 스냅샷을 지우므로, 남아 있다면 SNAPSHOT 때 쓴 것).
+     */
+    @Transactional(readOnly = true)
+    public GraphDocument getGraphDocument(Integer dashboardId) {
+        if (graphStorageProperties.getStorage() == GraphStorageProperties.Storage.SNAPSHOT) {
+            GraphSnapshotRow row = dashboardRepository.findGraphSnapshot(dashboardId)
+                    .orElseThrow(() -> new NoResultException(dashboardId + " ID를 가진 대시보드를 찾을 수 없습니다."));
+            if (row.snapshot() != null) {
+                return new GraphDocument(row.graphId(), row.version(), graphSnapshotCodec.toJson(row.snapshot()));
+            }
+        }
+
+        Graph graph = getGraphByDashboardId(dashboardId);
+        // SNAPSHOT에서 NORMALIZED로 되돌린 뒤 아직 웹훅을 받지 않은 그래프: 노드/엣지 행은 이관 시점 그대로
+        if (graph.getSnapshot() != null) {
+            return new GraphDocument(graph.getId(), graph.getVersion(), graphSnapshotCodec.toJson(graph.getSnapshot()));
+        }
+        try {
+            return new GraphDocument(graph.getId(), graph.getVersion(), objectMapper.writeValueAsBytes(BodyForReactFlow.from(graph)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Graph 데이터를 JSON으로 변환할 수 없습니다.", e);
+        }
+    }
+
     /**
      * 특정 대시보드의 Graph 데이터를 덮어쓰는(수정) 메서드
+     * NORMALIZED: 노드/엣지를 key로 맞춰 바뀐 행만 INSERT/UPDATE/DELETE 한다 (전체 삭제 후 재삽입 X).
+     *             남아 있던 스냅샷은 지운다 (다시 SNAPSHOT으로 바꿀 때 이관 대상이 되도록).
+     * SNAPSHOT: 압축 JSON 문서 한 컬럼만 교체한다 (노드/엣지 행은 갱신하지 않음).
      */
     public void updateGraph(Integer dashboardId, BodyForReactFlow dto) {
         Graph graph = getGraphByDashboardId(dashboardId);
 
-        // 기존 Graph의 노드와 엣지를 모두 삭제
-        graph.getNodes().clear();
-        graph.getEdges().clear();
+        if (graphStorageProperties.getStorage() == GraphStorageProperties.Storage.SNAPSHOT) {
+            byte[] snapshot = graphSnapshotCodec.encode(dto);
+            // 같은 문서면 쓰지 않음 (version, ETag 유지)
+            if (!Arrays.equals(graph.getSnapshot(), snapshot)) {
+                graph.setSnapshot(snapshot);
+                log.debug("Graph {} snapshot replaced ({} bytes)", graph.getId(), snapshot.length);
+            }
+            return;
+        }
 
-        // DTO로부터 새로운 노드와 엣지 Entity 리스트를 생성
-        List<Node> newNodes = dto.toNodeEntities(graph); // DTO에 변환 로직이 있다고 가정
-        List<Edge> newEdges = dto.toEdgeEntities(graph);
+        // node_data는 지연 로딩 컬렉션이라 미리 한 번에 올려 둠 (그래프 크기와 무관하게 SELECT 수 고정)
+        nodeRepository.findAllWithDataByGraphId(graph.getId());
+        GraphMerger.Changes changes = GraphMerger.merge(graph, dto);
+        log.debug("Graph {} merged: {}", graph.getId(), changes);
 
-        // Graph에 새로운 리스트를 추가
-        graph.getNodes().addAll(newNodes);
-        graph.getEdges().addAll(newEdges);
+        // 웹훅은 전체 상태라 행이 최신이 됨 → 이제 낡은 스냅샷 제거 (바뀌면 version도 오름)
+        if (graph.getSnapshot() != null) {
+            graph.setSnapshot(null);
+        }
 
+        // 자식 행만 바뀌면 Graph 버전이 오르지 않으므로 강제로 올려 동시 업데이트 충돌을 계속 감지
+        if (!changes.isEmpty()) {
+            graphRepository.findWithForceIncrementById(graph.getId());
+        }
     }
 
     /**
@@ -122,10 +179,10 @@ public class DashboardService {
     /**
      * Graph 업데이트 요청을 RabbitMQ 큐에 비동기적으로 발행하는 메서드
      * @param dashboardId 대시보드 ID
-     * @param requestBody 요청 바디
+     * @param requestBody 요청 바디 원문 (파싱하지 않고 그대로 메시지 본문으로 발행)
      * @param signatureHeader 서명 헤더
      */
-    public void queueGraphUpdate(Integer dashboardId, String requestBody, String signatureHeader){
+    public void queueGraphUpdate(Integer dashboardId, byte[] requestBody, String signatureHeader){
         // 서명 검증은 동기적으로 즉시 처리
         if (!signatureService.isValidSignature(requestBody, signatureHeader)) {
             throw new SecurityException("Invalid webhook signature.");
@@ -136,11 +193,11 @@ public class DashboardService {
             throw new NoResultException(dashboardId + " ID를 가진 대시보드를 찾을 수 없습니다.");
         }
 
-        // 큐에 보낼 메시지 생성
-        GraphUpdateMessage message = new GraphUpdateMessage(dashboardId, requestBody);
+        // 큐에 보낼 메시지 생성 (컨슈머가 대시보드별 최신 상태만 반영하도록 webhook 시각을 헤더에 포함)
+        GraphWebhook webhook = new GraphWebhook(dashboardId, signatureService.timestampOf(signatureHeader), requestBody);
 
-        // RabbitMQ에 메시지 발행
-        rabbitTemplate.convertAndSend("zoopzoop.exchange", "graph.update.rk", message);
+        // RabbitMQ에 메시지 발행 (대시보드별 샤드 큐 → 같은 대시보드 업데이트는 순서대로 처리)
+        rabbitTemplate.send("zoopzoop.exchange", GraphUpdateShards.routingKey(graphUpdateShards.shardOf(dashboardId)), webhook.toMessage());
     }
 
     // =========================== 기타 메서드 ===========================
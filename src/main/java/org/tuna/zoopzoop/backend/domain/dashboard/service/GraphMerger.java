@@ -0,0 +1,166 @@
+package org.tuna.zoopzoop.backend.domain.dashboard.service;
+
+import org.tuna.zoopzoop.backend.domain.dashboard.dto.BodyForReactFlow;
+import org.tuna.zoopzoop.backend.domain.dashboard.entity.Edge;
+import org.tuna.zoopzoop.backend.domain.dashboard.entity.Graph;
+import org.tuna.zoopzoop.backend.domain.dashboard.entity.Node;
+import org.tuna.zoopzoop.backend.domain.dashboard.enums.EdgeType;
+import org.tuna.zoopzoop.backend.domain.dashboard.enums.NodeType;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * React-flow 상태를 영속 Graph에 차이만 반영한다.
+ * 노드는 nodeKey, 엣지는 edgeKey로 맞춰 보고 새로 생긴 것은 추가, 사라진 것은 삭제(orphanRemoval),
+ * 남아 있는 것은 바뀐 필드만 고친다. node_data도 Map을 갈아끼우지 않고 바뀐 항목만 put/remove 하므로
+ * 노드 하나를 옮기면 UPDATE 한 줄만 나간다.
+ */
+public final class GraphMerger {
+
+    private GraphMerger() {
+    }
+
+    // 반영된 변경 수 (로그/벤치마크용)
+    public record Changes(
+            int nodesInserted, int nodesUpdated, int nodesDeleted,
+            int edgesInserted, int edgesUpdated, int edgesDeleted
+    ) {
+        public boolean isEmpty() {
+            return nodesInserted + nodesUpdated + nodesDeleted + edgesInserted + edgesUpdated + edgesDeleted == 0;
+        }
+    }
+
+    public static Changes merge(Graph graph, BodyForReactFlow dto) {
+        int[] nodeCounts = mergeNodes(graph, dto.nodes() == null ? List.of() : dto.nodes());
+        int[] edgeCounts = mergeEdges(graph, dto.edges() == null ? List.of() : dto.edges());
+        return new Changes(nodeCounts[0], nodeCounts[1], nodeCounts[2], edgeCounts[0], edgeCounts[1], edgeCounts[2]);
+    }
+
+    // {inserted, updated, deleted}
+    private static int[] mergeNodes(Graph graph, List<BodyForReactFlow.NodeDto> dtos) {
+        Map<String, BodyForReactFlow.NodeDto> incoming = new LinkedHashMap<>();
+        for (BodyForReactFlow.NodeDto dto : dtos) incoming.put(dto.nodeKey(), dto); // 같은 키가 중복되면 마지막 것
+
+        int updated = 0;
+        int deleted = 0;
+        for (Iterator<Node> it = graph.getNodes().iterator(); it.hasNext(); ) {
+            Node node = it.next();
+            BodyForReactFlow.NodeDto dto = incoming.remove(node.getNodeKey()); // 남은 것 = 새 노드
+            if (dto == null) {
+                it.remove(); // 사라졌거나 중복 저장된 노드
+                deleted++;
+            } else if (apply(node, dto)) {
+                updated++;
+            }
+        }
+
+        for (BodyForReactFlow.NodeDto dto : incoming.values()) {
+            Node node = new Node();
+            node.setNodeKey(dto.nodeKey());
+            node.setGraph(graph);
+            apply(node, dto);
+            graph.getNodes().add(node);
+        }
+        return new int[]{incoming.size(), updated, deleted};
+    }
+
+    private static int[] mergeEdges(Graph graph, List<BodyForReactFlow.EdgeDto> dtos) {
+        Map<String, BodyForReactFlow.EdgeDto> incoming = new LinkedHashMap<>();
+        for (BodyForReactFlow.EdgeDto dto : dtos) incoming.put(dto.edgeKey(), dto);
+
+        int updated = 0;
+        int deleted = 0;
+        for (Iterator<Edge> it = graph.getEdges().iterator(); it.hasNext(); ) {
+            Edge edge = it.next();
+            BodyForReactFlow.EdgeDto dto = incoming.remove(edge.getEdgeKey());
+            if (dto == null) {
+                it.remove();
+                deleted++;
+            } else if (apply(edge, dto)) {
+                updated++;
+            }
+        }
+
+        for (BodyForReactFlow.EdgeDto dto : incoming.values()) {
+            Edge edge = new Edge();
+            edge.setEdgeKey(dto.edgeKey());
+            edge.setGraph(graph);
+            apply(edge, dto);
+            graph.getEdges().add(edge);
+        }
+        return new int[]{incoming.size(), updated, deleted};
+    }
+
+    // 바뀐 필드만 set, 하나라도 바뀌었으면 true
+    private static boolean apply(Node node, BodyForReactFlow.NodeDto dto) {
+        boolean changed = false;
+
+        NodeType nodeType = NodeType.valueOf(dto.nodeType().toUpperCase());
+        if (node.getNodeType() != nodeType) {
+            node.setNodeType(nodeType);
+            changed = true;
+        }
+        double x = dto.positionDto().x();
+        double y = dto.positionDto().y();
+        if (Double.compare(node.getPositonX(), x) != 0 || Double.compare(node.getPositonY(), y) != 0) {
+            node.setPositonX(x);
+            node.setPositonY(y);
+            changed = true;
+        }
+
+        Map<String, String> data = node.getData();
+        if (data == null) {
+            data = new HashMap<>();
+            node.setData(data);
+        }
+        Map<String, String> next = dto.data() == null ? Map.of() : dto.data();
+        // 영속 Map에 항목 단위로 반영해야 node_data도 바뀐 행만 INSERT/UPDATE/DELETE 됨
+        if (data.keySet().retainAll(next.keySet())) changed = true;
+        for (Map.Entry<String, String> entry : next.entrySet()) {
+            if (!data.containsKey(entry.getKey()) || !Objects.equals(data.get(entry.getKey()), entry.getValue())) {
+                data.put(entry.getKey(), entry.getValue());
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private static boolean apply(Edge edge, BodyForReactFlow.EdgeDto dto) {
+        boolean changed = false;
+
+        if (!Objects.equals(edge.getSourceNodeKey(), dto.sourceNodeKey())) {
+            edge.setSourceNodeKey(dto.sourceNodeKey());
+            changed = true;
+        }
+        if (!Objects.equals(edge.getTargetNodeKey(), dto.targetNodeKey())) {
+            edge.setTargetNodeKey(dto.targetNodeKey());
+            changed = true;
+        }
+        EdgeType edgeType = EdgeType.valueOf(dto.edgeType().toUpperCase());
+        if (edge.getEdgeType() != edgeType) {
+            edge.setEdgeType(edgeType);
+            changed = true;
+        }
+        if (edge.isAnimated() != dto.isAnimated()) {
+            edge.setAnimated(dto.isAnimated());
+            changed = true;
+        }
+        // style이 빠지면 새로 만든 엣지와 같도록 비움
+        String stroke = dto.styleDto() == null ? null : dto.styleDto().stroke();
+        Double strokeWidth = dto.styleDto() == null ? null : dto.styleDto().strokeWidth();
+        if (!Objects.equals(edge.getStroke(), stroke)) {
+            edge.setStroke(stroke);
+            changed = true;
+        }
+        if (!Objects.equals(edge.getStrokeWidth(), strokeWidth)) {
+            edge.setStrokeWidth(strokeWidth);
+            changed = true;
+        }
+        return changed;
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 
 @Service
@@ -19,6 +20,9 @@ public class SignatureService {
     // 5분 (밀리초 단위)
     private static final long TOLERANCE_IN_MILLIS = 5 * 60 * 1000;
 
+    // Mac은 스레드 안전하지 않고 getInstance/init 비용이 있어 요청 스레드마다 하나를 재사용
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+
     /**
      * LiveBlocks Webhook 요청의 유효성을 검증하는 메서드
      * @param requestBody 요청 바디
@@ -26,6 +30,17 @@ public class SignatureService {
      * @return 서명이 유효하면 true, 그렇지 않으면 false
      */
     public boolean isValidSignature(String requestBody, String signatureHeader) {
+        return isValidSignature(requestBody.getBytes(StandardCharsets.UTF_8), signatureHeader);
+    }
+
+    /**
+     * LiveBlocks Webhook 요청의 유효성을 검증하는 메서드 (요청 원문 바이트)
+     * "timestamp." 접두사와 본문을 이어 붙이지 않고 Mac에 차례로 넣어 계산한다.
+     * @param requestBody 요청 바디 원문
+     * @param signatureHeader LiveBlocks가 제공하는 서명 헤더
+     * @return 서명이 유효하면 true, 그렇지 않으면 false
+     */
+    public boolean isValidSignature(byte[] requestBody, String signatureHeader) {
         // [임시 코드] 로컬 테스트를 위해 무조건 true 반환
 //        if ("true".equals(System.getProperty("local.test.skip.signature"))) {
 //            return true;
@@ -33,20 +48,8 @@ public class SignatureService {
 
         try {
             // 1. 헤더 파싱
-            String[] parts = signatureHeader.split(",");
-            long timestamp = -1;
-            String signatureHashFromHeader = null;
-
-            for (String part : parts) {
-                String[] pair = part.split("=", 2);
-                if (pair.length == 2) {
-                    if ("t".equals(pair[0])) {
-                        timestamp = Long.parseLong(pair[1]);
-                    } else if ("v1".equals(pair[0])) {
-                        signatureHashFromHeader = pair[1];
-                    }
-                }
-            }
+            long timestamp = timestampOf(signatureHeader);
+            String signatureHashFromHeader = headerValue(signatureHeader, "v1");
 
             if (timestamp == -1 || signatureHashFromHeader == null) {
                 return false; // 헤더 형식이 잘못됨
@@ -58,12 +61,12 @@ public class SignatureService {
                 return false; // 너무 오래된 요청
             }
 
-            // 3. 서명 재생성
-            String payload = timestamp + "." + requestBody;
-            Mac mac = Mac.getInstance("HmacSHA256");
-            SecretKeySpec secretKeySpec = new SecretKeySpec(liveblocksSecretKey.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
-            mac.init(secretKeySpec);
-            byte[] expectedHashBytes = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+            // 3. 서명 재생성 (payload = timestamp + "." + requestBody)
+            Mac mac = macs.get();
+            mac.reset();
+            mac.update((timestamp + ".").getBytes(StandardCharsets.US_ASCII));
+            mac.update(requestBody);
+            byte[] expectedHashBytes = mac.doFinal();
 
             // 4. 서명 비교 (타이밍 공격 방지를 위해 MessageDigest.isEqual 사용)
             byte[] signatureHashBytesFromHeader = Hex.decodeHex(signatureHashFromHeader);
@@ -74,4 +77,38 @@ public class SignatureService {
             return false;
         }
     }
+
+    /**
+     * 서명 헤더의 webhook 발생 시각(t, ms)을 꺼내는 메서드
+     * @return 없거나 형식이 잘못되면 -1
+     */
+    public long timestampOf(String signatureHeader) {
+        String value = headerValue(signatureHeader, "t");
+        if (value == null) return -1;
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(liveblocksSecretKey.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available.", e);
+        }
+    }
+
+    // "t=...,v1=..." 형식에서 key의 값
+    private static String headerValue(String signatureHeader, String key) {
+        if (signatureHeader == null) return null;
+        for (String part : signatureHeader.split(",")) {
+            String[] pair = part.split("=", 2);
+            if (pair.length == 2 && key.equals(pair[0])) return pair[1];
+        }
+        return null;
+    }
 }
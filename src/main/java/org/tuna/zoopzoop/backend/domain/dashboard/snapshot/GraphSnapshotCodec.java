@@ -0,0 +1,45 @@
+package org.tuna.zoopzoop.backend.domain.dashboard.snapshot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.tuna.zoopzoop.backend.domain.dashboard.dto.BodyForReactFlow;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Graph 스냅샷 = BodyForReactFlow JSON(조회 응답의 data와 같은 모양)을 gzip으로 압축한 바이트.
+ * 노드 data 문자열이 반복되는 React-flow 문서는 보통 1/5 이하로 줄어든다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GraphSnapshotCodec {
+    private final ObjectMapper objectMapper;
+
+    public byte[] encode(BodyForReactFlow dto) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (OutputStream gzip = new GZIPOutputStream(out)) {
+                objectMapper.writeValue(gzip, dto);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("Graph 스냅샷을 만들 수 없습니다.", e);
+        }
+    }
+
+    // 압축만 풀어 JSON 바이트 그대로 반환 (역직렬화 X)
+    public byte[] toJson(byte[] snapshot) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(snapshot))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new IllegalStateException("Graph 스냅샷을 읽을 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ai.dto;
+
+import org.tuna.zoopzoop.backend.domain.datasource.entity.Category;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 추출 + 요약/분류를 한 번에 받는 응답 (불특정 사이트용)
+public record AiExtractAnalyzeDto(
+        String title, // 제목
+        LocalDate dataCreatedDate, // 작성일자
+        String content, // 본문 내용
+        String imageUrl, // 썸네일 이미지 url
+        String source, // 출처
+        String summary, // 내용 요약
+        Category category, // 카테고리
+        List<String> tags // 태그
+) {
+    public AiExtractorDto toExtractorDto() {
+        return new AiExtractorDto(title, dataCreatedDate, content, imageUrl, source);
+    }
+
+    public AnalyzeContentDto toAnalyzeContentDto() {
+        return new AnalyzeContentDto(summary, category, tags);
+    }
+}
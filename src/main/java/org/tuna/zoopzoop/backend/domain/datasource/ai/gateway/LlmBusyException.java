@@ -0,0 +1,12 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ai.gateway;
+
+// LLM 호출 한도/대기 기한 초과. 재시도해도 바로 성공하지 않으므로 호출 측에서 나중에 다시 시도
+public class LlmBusyException extends RuntimeException {
+    public LlmBusyException(String message) {
+        super(message);
+    }
+
+    public LlmBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,184 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ai.gateway;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.token.TokenEstimator;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 모든 LLM 호출의 단일 진입점.
+ * 동시 호출 permit → 분당 요청/토큰 한도(토큰 버킷) 순으로 획득하고, 기한 안에 못 얻으면 LlmBusyException.
+ * 429 응답은 Retry-After 만큼 전체 호출을 멈추고, 기한이 남아 있는 동안 계속 다시 시도한다.
+ */
+@Slf4j
+@Component
+public class LlmGateway {
+    private static final Pattern TOO_MANY_REQUESTS =
+            Pattern.compile("^429\\b|too many requests|rate_limit_exceeded", Pattern.CASE_INSENSITIVE);
+    // Groq/OpenAI 오류 메시지: "Please try again in 7.66s", "2m59.5s", "460ms"
+    private static final Pattern TRY_AGAIN_IN =
+            Pattern.compile("try again in (?:(\\d+)m(?=[\\d.]))?([\\d.]+)(ms|s)", Pattern.CASE_INSENSITIVE);
+
+    private final ChatClient chatClient;
+    private final LlmGatewayProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final LlmRateLimiter rateLimiter;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Timer waitTimer;
+    private final Counter rateLimited;
+
+    public LlmGateway(ChatClient chatClient, LlmGatewayProperties properties, MeterRegistry meterRegistry) {
+        this.chatClient = chatClient;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.rateLimiter = new LlmRateLimiter(properties.getRequestsPerMinute(), properties.getTokensPerMinute(), System::nanoTime);
+        this.permits = new Semaphore(Math.max(1, properties.getMaxConcurrency()), true);
+
+        Gauge.builder("ai.gateway.queue.depth", waiting, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("ai.gateway.in_flight", inFlight, AtomicInteger::get).register(meterRegistry);
+        this.waitTimer = Timer.builder("ai.gateway.wait")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rateLimited = Counter.builder("ai.gateway.rate_limited").register(meterRegistry);
+    }
+
+    // 응답 본문 그대로 (JSON 변환은 AiResponseParser)
+    public String content(String prompt) {
+        return textOf(chat(prompt));
+    }
+
+    // 응답 본문 + 사용량(usage) 메타데이터
+    public ChatResponse chat(String prompt) {
+        int cost = TokenEstimator.estimate(prompt) + properties.getCompletionTokenReserve();
+        long deadline = System.nanoTime() + properties.getMaxWait().toNanos();
+
+        while (true) {
+            acquire(cost, deadline);
+            inFlight.incrementAndGet();
+            try {
+                return chatClient.prompt()
+                        .user(prompt)
+                        .call()
+                        .chatResponse();
+            } catch (RuntimeException e) {
+                Duration retryAfter = retryAfterOf(e, properties.getDefaultRetryAfter());
+                if (retryAfter == null) throw e;
+
+                rateLimited.increment();
+                rateLimiter.blockFor(retryAfter.toNanos());
+                log.warn("LLM rate limited. Pausing calls for {} ms.", retryAfter.toMillis());
+                if (deadline - System.nanoTime() <= retryAfter.toNanos()) {
+                    throw reject("rate_limited", e);
+                }
+                // 다음 반복에서 Retry-After가 지난 뒤 다시 시도 (기한까지 반복)
+            } finally {
+                inFlight.decrementAndGet();
+                permits.release();
+            }
+        }
+    }
+
+    public static String textOf(ChatResponse response) {
+        if (response == null || response.getResult() == null || response.getResult().getOutput() == null) return null;
+        return response.getResult().getOutput().getText();
+    }
+
+    private void acquire(int cost, long deadline) {
+        long start = System.nanoTime();
+        if (waiting.incrementAndGet() > properties.getMaxQueueSize()) {
+            waiting.decrementAndGet();
+            throw reject("queue_full", null);
+        }
+
+        boolean holdingPermit = false;
+        try {
+            // 1) 동시 호출 수: 버킷보다 먼저 잡아야 permit을 못 얻고 거절될 때 한도(토큰)를 낭비하지 않음
+            if (!permits.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                throw reject("deadline", null);
+            }
+            holdingPermit = true;
+
+            // 2) 분당 요청/토큰 한도: 기한 안에 채워지지 않으면 기다리지 않고 거절
+            long wait;
+            while ((wait = rateLimiter.tryAcquire(cost)) > 0) {
+                if (wait >= deadline - System.nanoTime()) throw reject("deadline", null);
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            holdingPermit = false; // 획득 성공: permit은 호출 측(chat)이 반납
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject("interrupted", e);
+        } finally {
+            if (holdingPermit) permits.release(); // 버킷 대기 중 거절/인터럽트
+            waiting.decrementAndGet();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private LlmBusyException reject(String reason, Throwable cause) {
+        Counter.builder("ai.gateway.rejected")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        return new LlmBusyException("AI 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요. (" + reason + ")", cause);
+    }
+
+    // 429 응답이면 대기 시간, 아니면 null
+    static Duration retryAfterOf(Throwable e, Duration fallback) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof RestClientResponseException http) {
+                if (http.getStatusCode().value() != 429) return null;
+                HttpHeaders headers = http.getResponseHeaders();
+                return parseRetryAfter(headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER), fallback);
+            }
+
+            // Spring AI는 4xx를 "429 - {본문}" 메시지의 예외로 감싸서 헤더가 남지 않음
+            String message = t.getMessage();
+            if (message != null && TOO_MANY_REQUESTS.matcher(message).find()) {
+                Matcher hint = TRY_AGAIN_IN.matcher(message);
+                if (!hint.find()) return fallback;
+                long minutes = hint.group(1) == null ? 0 : Long.parseLong(hint.group(1));
+                double amount = Double.parseDouble(hint.group(2));
+                long millis = "ms".equalsIgnoreCase(hint.group(3)) ? (long) Math.ceil(amount) : (long) Math.ceil(amount * 1000);
+                return Duration.ofMinutes(minutes).plusMillis(millis);
+            }
+        }
+        return null;
+    }
+
+    // Retry-After: 초 단위 정수 또는 HTTP 날짜
+    static Duration parseRetryAfter(String header, Duration fallback) {
+        if (header == null || header.isBlank()) return fallback;
+        String value = header.trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException ignore) {
+            // HTTP 날짜 형식
+        }
+        try {
+            Duration until = Duration.between(ZonedDateTime.now(), ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME));
+            return until.isNegative() ? Duration.ZERO : until;
+        } catch (DateTimeParseException ignore) {
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ai.gateway;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "ai.gateway")
+@Getter
+@Setter
+public class LlmGatewayProperties {
+    //application.yml에 ai.gateway 항목 작성 (제공자 쿼터에 맞춤)
+    //예시
+    //ai:
+    //  gateway:
+    //    max-concurrency: 4
+    //    requests-per-minute: 30
+    //    tokens-per-minute: 30000
+    //    completion-token-reserve: 512
+    //    max-queue-size: 100
+    //    max-wait: 30s
+    //    default-retry-after: 5s
+    private int maxConcurrency = 4;                        // 동시 호출 수 (permit 수)
+    private int requestsPerMinute = 30;                    // 분당 요청 한도
+    private int tokensPerMinute = 30000;                   // 분당 토큰 한도
+    private int completionTokenReserve = 512;              // 호출당 응답 토큰 예약분 (프롬프트 추정치에 더함)
+    private int maxQueueSize = 100;                        // 대기열 상한 (초과 시 즉시 거절)
+    private Duration maxWait = Duration.ofSeconds(30);     // 호출당 대기 기한 (한도 대기 + permit 대기 + Retry-After)
+    private Duration defaultRetryAfter = Duration.ofSeconds(5); // 429 응답에 대기 시간 정보가 없을 때
+}
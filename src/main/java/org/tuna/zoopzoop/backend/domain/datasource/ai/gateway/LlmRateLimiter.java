@@ -0,0 +1,67 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ai.gateway;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 분당 요청 수/토큰 수 두 개의 토큰 버킷.
+ * 두 버킷을 한 번에 확인하고 차감하며, 모자라면 기다려야 할 시간(ns)을 돌려준다.
+ * 429 Retry-After 동안은 모든 호출을 막는다.
+ */
+final class LlmRateLimiter {
+    private static final double NANOS_PER_MINUTE = 60_000_000_000d;
+
+    private final double requestCapacity;
+    private final double tokenCapacity;
+    private final double requestsPerNano;
+    private final double tokensPerNano;
+    private final LongSupplier clock;
+
+    private double requests;
+    private double tokens;
+    private long refilledAt;
+    private long blockedUntil;
+
+    LlmRateLimiter(int requestsPerMinute, int tokensPerMinute, LongSupplier clock) {
+        this.requestCapacity = Math.max(1, requestsPerMinute);
+        this.tokenCapacity = Math.max(1, tokensPerMinute);
+        this.requestsPerNano = requestCapacity / NANOS_PER_MINUTE;
+        this.tokensPerNano = tokenCapacity / NANOS_PER_MINUTE;
+        this.clock = clock;
+        this.requests = requestCapacity;
+        this.tokens = tokenCapacity;
+        this.refilledAt = clock.getAsLong();
+        this.blockedUntil = refilledAt;
+    }
+
+    // 0이면 획득 성공, 양수면 그만큼 기다린 뒤 다시 시도
+    synchronized long tryAcquire(int tokenCost) {
+        long now = clock.getAsLong();
+        refill(now);
+        if (now - blockedUntil < 0) return blockedUntil - now;
+
+        // 한도보다 큰 요청은 버킷을 가득 채운 뒤 통과 (영원히 대기하지 않도록)
+        double cost = Math.min(Math.max(tokenCost, 0), tokenCapacity);
+        long requestWait = requests >= 1 ? 0 : (long) Math.ceil((1 - requests) / requestsPerNano);
+        long tokenWait = tokens >= cost ? 0 : (long) Math.ceil((cost - tokens) / tokensPerNano);
+        long wait = Math.max(requestWait, tokenWait);
+        if (wait > 0) return wait;
+
+        requests -= 1;
+        tokens -= cost;
+        return 0;
+    }
+
+    // Retry-After: 지정 시간 동안 새 호출을 막는다
+    synchronized void blockFor(long nanos) {
+        long until = clock.getAsLong() + nanos;
+        if (until - blockedUntil > 0) blockedUntil = until;
+    }
+
+    private void refill(long now) {
+        long elapsed = now - refilledAt;
+        if (elapsed <= 0) return;
+        requests = Math.min(requestCapacity, requests + elapsed * requestsPerNano);
+        tokens = Math.min(tokenCapacity, tokens + elapsed * tokensPerNano);
+        refilledAt = now;
+    }
+}
@@ -0,0 +1,8 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ai.parser;
+
+// 보정으로도 읽을 수 없는 LLM 응답. AiService가 이 예외에서만 다시 호출한다
+public class AiResponseParseException extends RuntimeException {
+    public AiResponseParseException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
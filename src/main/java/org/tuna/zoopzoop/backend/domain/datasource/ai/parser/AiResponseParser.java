@@ -0,0 +1,225 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ai.parser;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.tuna.zoopzoop.backend.domain.datasource.entity.Category;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * LLM 응답 문자열 → DTO 변환.
+ * 그대로 읽히면 사용하고, 아니면 JsonRepair + 관대한 파서로 고쳐 읽은 뒤
+ * DTO 필드 기준으로 값 보정(카테고리, 날짜, 태그)과 기본값 채우기를 한다.
+ * 그래도 실패할 때만 AiResponseParseException → AiService가 다시 호출.
+ */
+@Slf4j
+@Component
+public class AiResponseParser {
+    private static final Pattern DATE = Pattern.compile("(\\d{4})\\s*[-./년]\\s*(\\d{1,2})\\s*[-./월]\\s*(\\d{1,2})");
+    private static final Pattern CATEGORY_CODE = Pattern.compile("[A-Za-z]+");
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper lenientMapper;
+    private final MeterRegistry meterRegistry;
+
+    public AiResponseParser(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper.copy()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.lenientMapper = this.objectMapper.copy()
+                .configure(JsonReadFeature.ALLOW_TRAILING_COMMA.mappedFeature(), true)
+                .configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true)
+                .configure(JsonReadFeature.ALLOW_SINGLE_QUOTES.mappedFeature(), true)
+                .configure(JsonReadFeature.ALLOW_UNQUOTED_FIELD_NAMES.mappedFeature(), true)
+                .configure(JsonReadFeature.ALLOW_JAVA_COMMENTS.mappedFeature(), true)
+                .configure(JsonParser.Feature.STRICT_DUPLICATE_DETECTION, false);
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T parse(String operation, String raw, Class<T> type) {
+        boolean repaired = false;
+        try {
+            JsonNode tree;
+            try {
+                tree = objectMapper.readTree(raw == null ? "" : raw);
+            } catch (JsonProcessingException e) {
+                tree = lenientMapper.readTree(JsonRepair.repair(raw));
+                repaired = true;
+            }
+            if (tree == null || !tree.isObject()) {
+                throw new AiResponseParseException("JSON 객체가 아닌 응답입니다.", null);
+            }
+
+            repaired |= normalize((ObjectNode) tree, type);
+            T result = objectMapper.treeToValue(tree, type);
+            count(operation, repaired ? "repaired" : "valid");
+            return result;
+        } catch (JsonProcessingException | IllegalArgumentException | AiResponseParseException e) {
+            // 실패 집계는 재호출 여부를 아는 호출 측에서 (recordFailure)
+            log.warn("Unparseable LLM response for {}: {}", operation, e.getMessage());
+            throw e instanceof AiResponseParseException parseException
+                    ? parseException
+                    : new AiResponseParseException("AI 응답을 해석하지 못했습니다.", e);
+        }
+    }
+
+    // 해석 실패: 다시 호출할 예정이면 reasked, 마지막 시도였으면 failed
+    public void recordFailure(String operation, boolean willRetry) {
+        count(operation, willRetry ? "reasked" : "failed");
+    }
+
+    // ===== DTO 필드 기준 보정 =====
+
+    // 값이 바뀌었으면 true (누락 필드의 기본값 채우기는 보정으로 세지 않음)
+    static boolean normalize(ObjectNode node, Class<?> type) {
+        if (!type.isRecord()) return false;
+        boolean changed = renameKeys(node, type);
+
+        for (RecordComponent component : type.getRecordComponents()) {
+            String name = component.getName();
+            JsonNode value = node.get(name);
+            boolean missing = value == null || value.isNull();
+            Class<?> fieldType = component.getType();
+
+            if (fieldType == String.class) {
+                if (missing) node.put(name, "");
+                else if (!value.isTextual()) {
+                    node.put(name, value.isContainerNode() ? value.toString() : value.asText());
+                    changed = true;
+                }
+            } else if (fieldType == List.class && isStringList(component)) {
+                if (missing) node.set(name, node.arrayNode());
+                else if (!value.isArray()) {
+                    node.set(name, splitTags(value.asText()));
+                    changed = true;
+                }
+            } else if (fieldType == Category.class && !missing) {
+                String coerced = coerceCategory(value.asText());
+                if (!value.asText().isBlank() && !isCategory(value.asText())) changed = true;
+                if (coerced == null) node.putNull(name);
+                else node.put(name, coerced);
+            } else if (fieldType == LocalDate.class && !missing) {
+                String coerced = coerceDate(value.asText());
+                if (!value.asText().equals(coerced)) changed = true;
+                if (coerced == null) node.putNull(name);
+                else node.put(name, coerced);
+            }
+        }
+        return changed;
+    }
+
+    // 필드명 대소문자 차이 (e.g. "datacreatedDate" → "dataCreatedDate")
+    private static boolean renameKeys(ObjectNode node, Class<?> type) {
+        Map<String, String> names = new HashMap<>();
+        for (RecordComponent component : type.getRecordComponents()) {
+            names.put(component.getName().toLowerCase(Locale.ROOT), component.getName());
+        }
+
+        Map<String, JsonNode> renamed = new HashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String name = names.get(field.getKey().toLowerCase(Locale.ROOT));
+            if (name != null && !name.equals(field.getKey())) {
+                renamed.put(name, field.getValue());
+                fields.remove();
+            }
+        }
+        renamed.forEach((name, value) -> {
+            if (!node.has(name)) node.set(name, value);
+        });
+        return !renamed.isEmpty();
+    }
+
+    private static boolean isStringList(RecordComponent component) {
+        return component.getGenericType() instanceof ParameterizedType parameterized
+                && parameterized.getActualTypeArguments()[0] == String.class;
+    }
+
+    // "Java, Spring" / "#Java #Spring" → ["Java", "Spring"]
+    private static ArrayNode splitTags(String text) {
+        ArrayNode tags = JsonNodeFactory.instance.arrayNode();
+        for (String tag : text.split("[,#\\n]")) {
+            String trimmed = tag.trim();
+            if (!trimmed.isEmpty()) tags.add(trimmed);
+        }
+        return tags;
+    }
+
+    // "경제", "economy", "ECONOMY(\"경제\")" → "ECONOMY", 알 수 없으면 null
+    static String coerceCategory(String text) {
+        String value = text == null ? "" : text.trim();
+        if (value.isEmpty()) return null;
+        try {
+            Category category = Category.from(value);
+            return category == null ? null : category.name();
+        } catch (IllegalArgumentException ignore) {
+            // 아래에서 다시 시도
+        }
+
+        Matcher code = CATEGORY_CODE.matcher(value);
+        if (code.find()) {
+            try {
+                return Category.valueOf(code.group().toUpperCase(Locale.ROOT)).name();
+            } catch (IllegalArgumentException ignore) {
+                // 목록에 없는 영문
+            }
+        }
+        for (Category category : Category.values()) {
+            if (value.contains(category.getName())) return category.name();
+        }
+        return null;
+    }
+
+    private static boolean isCategory(String text) {
+        try {
+            return Category.from(text) != null;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // "2025.09.01", "2025년 9월 1일" → "2025-09-01", 알 수 없으면 null
+    static String coerceDate(String text) {
+        if (text == null || text.isBlank()) return null;
+        Matcher matcher = DATE.matcher(text);
+        if (!matcher.find()) return null;
+        try {
+            return LocalDate.of(
+                    Integer.parseInt(matcher.group(1)),
+                    Integer.parseInt(matcher.group(2)),
+                    Integer.parseInt(matcher.group(3))
+            ).toString();
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private void count(String operation, String result) {
+        Counter.builder("ai.response.parse")
+                .tag("operation", operation)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
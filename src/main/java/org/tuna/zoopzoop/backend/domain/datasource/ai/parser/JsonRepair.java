@@ -0,0 +1,113 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ai.parser;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * LLM이 돌려준 "거의 JSON"을 파싱 가능한 형태로 고친다.
+ * - Markdown 코드 펜스(```json ... ```)와 앞뒤 설명 문장 제거
+ * - 문자열 안의 이스케이프되지 않은 따옴표 이스케이프
+ * - 응답이 잘려 닫히지 않은 문자열/괄호 닫기
+ * 후행 쉼표, 문자열 안 줄바꿈은 관대한 파서 설정(AiResponseParser)이 처리한다.
+ */
+public final class JsonRepair {
+    private static final Pattern FENCE = Pattern.compile("```(?:json|JSON)?\\s*(.*?)\\s*```", Pattern.DOTALL);
+
+    private JsonRepair() {
+    }
+
+    public static String repair(String raw) {
+        if (raw == null) return null;
+        return balance(sliceObject(stripFence(raw.trim())));
+    }
+
+    static String stripFence(String text) {
+        Matcher matcher = FENCE.matcher(text);
+        if (matcher.find()) return matcher.group(1);
+        // 닫는 펜스 없이 잘린 응답
+        if (text.startsWith("```")) {
+            int newline = text.indexOf('\n');
+            return newline < 0 ? "" : text.substring(newline + 1);
+        }
+        return text;
+    }
+
+    // 첫 '{'부터 마지막 '}'까지 (닫는 괄호가 없으면 끝까지)
+    static String sliceObject(String text) {
+        int start = text.indexOf('{');
+        if (start < 0) return text;
+        int end = text.lastIndexOf('}');
+        return end > start ? text.substring(start, end + 1) : text.substring(start);
+    }
+
+    // 한 번 훑으면서 문자열 내부 따옴표 이스케이프 + 열린 괄호 추적
+    static String balance(String text) {
+        StringBuilder out = new StringBuilder(text.length() + 16);
+        Deque<Character> closers = new ArrayDeque<>();
+        boolean inString = false;
+        boolean escaped = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    if (!closesString(text, i + 1)) {
+                        out.append('\\');
+                    } else {
+                        inString = false;
+                    }
+                }
+                out.append(c);
+                continue;
+            }
+
+            switch (c) {
+                case '"' -> inString = true;
+                case '{' -> closers.push('}');
+                case '[' -> closers.push(']');
+                case '}', ']' -> {
+                    if (!closers.isEmpty()) closers.pop();
+                }
+                default -> { }
+            }
+            out.append(c);
+        }
+
+        if (inString) {
+            if (escaped) out.setLength(out.length() - 1);
+            out.append('"');
+        }
+        trimDanglingSeparator(out);
+        while (!closers.isEmpty()) out.append(closers.pop());
+        return out.toString();
+    }
+
+    // 다음 공백 아닌 문자가 구조 문자면 문자열 종료로 본다
+    private static boolean closesString(String text, int from) {
+        for (int i = from; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            return c == ',' || c == ':' || c == '}' || c == ']';
+        }
+        return true;
+    }
+
+    // 잘린 응답 끝의 ',' 또는 ':' 제거 (키만 남은 경우 null 값으로)
+    private static void trimDanglingSeparator(StringBuilder out) {
+        int i = out.length() - 1;
+        while (i >= 0 && Character.isWhitespace(out.charAt(i))) i--;
+        if (i < 0) return;
+        if (out.charAt(i) == ',') {
+            out.setLength(i);
+        } else if (out.charAt(i) == ':') {
+            out.setLength(i + 1);
+            out.append("null");
+        }
+    }
+}
@@ -54,4 +54,56 @@ public class AiPrompt {
         content: %s
         existingTags: %s
         """;
+
+    // 불특정 사이트 메타데이터 추출 + 요약/태그/카테고리 통합 프롬프트 (LLM 호출 1회)
+    public static final String EXTRACTION_SUMMARY_TAG_CATEGORY = """
+        너는 웹 페이지 정보 추출 및 분류 AI야. 아래의 규칙에 따라 답변해.
+
+        [규칙]
+        1. 주어진 HTML에서 제목, 작성일자(YYYY-MM-DD), 본문 내용, 썸네일 이미지 URL, 출처를 추출해라.
+           - 출처는 출판사 이름 or 서비스 이름 or 도메인 이름으로 해라.
+        2. 추출한 본문 내용을 50자 이상 100자 이하로 간단히 요약해라.
+        3. 아래 Category 목록 중에서 본문과 가장 적절한 카테고리 하나를 정확히 선택해라.
+           - POLITICS("정치")
+           - ECONOMY("경제")
+           - SOCIETY("사회")
+           - IT("IT")
+           - SCIENCE("과학")
+           - CULTURE("문화")
+           - SPORTS("스포츠")
+           - ENVIRONMENT("환경")
+           - HISTORY("역사")
+           - WORLD("세계")
+        4. 내가 제공하는 태그 목록을 참고해서, 본문과 관련된 태그를 3~5개 생성해라.
+           - 제공된 태그와 중복 가능하다.
+           - 필요하면 새로운 태그를 만들어도 된다.
+        5. 출력은 반드시 아래 JSON 형식으로 해라. Markdown 문법(```)은 쓰지 마라.
+           - 해당정보가 없으면 문자열은 빈 문자열, category는 null, tags는 빈 리스트로 출력해줘라.
+
+        [출력 JSON 형식]
+        {
+          "title": "제목",
+          "dataCreatedDate": "작성일자 (YYYY-MM-DD)",
+          "content": "본문 내용",
+          "imageUrl": "썸네일 이미지 URL",
+          "source": "출처",
+          "summary": "내용 요약 (50~100자)",
+          "category": "선택된 카테고리 ENUM 이름",
+          "tags": ["태그1", "태그2", "태그3", ...]
+        }
+
+        [입력 데이터]
+        HTML: %s
+        existingTags: %s
+        """;
+
+    // 긴 본문 분할 요약 (map 단계) - 결과는 다시 SUMMARY_TAG_CATEGORY의 content로 사용
+    public static final String CHUNK_SUMMARY = """
+        아래 글은 긴 문서의 %d번째 부분(전체 %d개)이다.
+        이 부분의 핵심 내용을 300자 이내의 한국어 문장으로 요약해라.
+        - 요약문만 출력하고 다른 말은 붙이지 마라.
+
+        [본문]
+        %s
+        """;
 }
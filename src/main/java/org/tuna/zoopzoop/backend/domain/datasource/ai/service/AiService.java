@@ -2,42 +2,74 @@ package org.tuna.zoopzoop.backend.domain.datasource.ai.service;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import lombok.RequiredArgsConstructor;
-import org.springframework.ai.chat.client.ChatClient;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.retry.RetryContext;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Recover;
 import org.springframework.retry.annotation.Retryable;
+import org.springframework.retry.support.RetrySynchronizationManager;
 import org.springframework.stereotype.Service;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.dto.AiExtractAnalyzeDto;
 import org.tuna.zoopzoop.backend.domain.datasource.ai.dto.AiExtractorDto;
 import org.tuna.zoopzoop.backend.domain.datasource.ai.dto.AnalyzeContentDto;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.gateway.LlmBusyException;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.gateway.LlmGateway;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.parser.AiResponseParseException;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.parser.AiResponseParser;
 import org.tuna.zoopzoop.backend.domain.datasource.ai.prompt.AiPrompt;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.token.AiTokenProperties;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.token.ContentChunker;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.token.TokenEstimator;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.Tag;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class AiService {
-    private final ChatClient chatClient;
+    private static final int MAX_ATTEMPTS = 3; // @Retryable 호출 횟수 (형식 오류 재호출 포함)
+
+    private final LlmGateway llmGateway;
+    private final AiResponseParser aiResponseParser;
+    private final AiTokenProperties aiTokenProperties;
+    private final MeterRegistry meterRegistry;
+    private final Executor aiMapExecutor; // 조각 요약(map) 공용 풀 (AiConfig)
+
+    public AiService(LlmGateway llmGateway,
+                     AiResponseParser aiResponseParser,
+                     AiTokenProperties aiTokenProperties,
+                     MeterRegistry meterRegistry,
+                     @Qualifier("aiMapExecutor") Executor aiMapExecutor) {
+        this.llmGateway = llmGateway;
+        this.aiResponseParser = aiResponseParser;
+        this.aiTokenProperties = aiTokenProperties;
+        this.meterRegistry = meterRegistry;
+        this.aiMapExecutor = aiMapExecutor;
+    }
 
     @Retryable(
-        maxAttempts = 3,
+        maxAttempts = MAX_ATTEMPTS,
         backoff = @Backoff(delay = 500),
-        retryFor = {JsonParseException.class, JsonProcessingException.class}
+        retryFor = {AiResponseParseException.class, JsonParseException.class, JsonProcessingException.class}
     )
     public AiExtractorDto extract(String rawHtml) {
-        AiExtractorDto response = chatClient.prompt()
-                .user(AiPrompt.EXTRACTION.formatted(rawHtml))
-                .call()
-                .entity(AiExtractorDto.class);
-
-        return response;
+        String prompt = AiPrompt.EXTRACTION.formatted(truncate(rawHtml, aiTokenProperties.getMaxInputTokens()));
+        return call("extract", prompt, AiExtractorDto.class);
     }
 
     @Recover
     public AiExtractorDto extractRecover(Exception e, String rawHtml) {
+        rethrowIfBusy(e);
         return new AiExtractorDto(
                 "",
                 null,
@@ -48,27 +80,19 @@ public class AiService {
     }
 
     @Retryable(
-        maxAttempts = 3,
+        maxAttempts = MAX_ATTEMPTS,
         backoff = @Backoff(delay = 500),
-        retryFor = {JsonParseException.class, JsonProcessingException.class}
+        retryFor = {AiResponseParseException.class, JsonParseException.class, JsonProcessingException.class}
     )
     public AnalyzeContentDto analyzeContent(String content, List<Tag> tagList) {
-        // JSON 배열 문자열로 변환
-        String tags = tagList.stream()
-                .map(Tag::getTagName)   // 태그명만 추출
-                .map(tagName -> "\"" + tagName + "\"")
-                .collect(Collectors.joining(", ", "[", "]"));
-
-        AnalyzeContentDto response = chatClient.prompt()
-                .user(AiPrompt.SUMMARY_TAG_CATEGORY.formatted(content, tags))
-                .call()
-                .entity(AnalyzeContentDto.class);
-
-        return response;
+        // 긴 본문은 호출 측에서 fitToBudget으로 줄여서 넘김 (조각 요약은 재시도 대상이 아님). 여기서는 자르기만.
+        String input = truncate(content, aiTokenProperties.getMaxInputTokens());
+        return call("analyze", AiPrompt.SUMMARY_TAG_CATEGORY.formatted(input, toJsonArray(tagList)), AnalyzeContentDto.class);
     }
 
     @Recover
     public AnalyzeContentDto analyzeContentRecover(Exception e, String content, List<Tag> tagList) {
+        rethrowIfBusy(e);
         return new AnalyzeContentDto(
                 "",
                 null,
@@ -76,4 +100,139 @@ public class AiService {
         );
     }
 
-}
\ No newline at end of file
+    // 불특정 사이트: 추출과 요약/분류를 한 번의 호출로 처리
+    @Retryable(
+        maxAttempts = MAX_ATTEMPTS,
+        backoff = @Backoff(delay = 500),
+        retryFor = {AiResponseParseException.class, JsonParseException.class, JsonProcessingException.class}
+    )
+    public AiExtractAnalyzeDto extractAndAnalyze(String rawHtml, List<Tag> tagList) {
+        String html = truncate(rawHtml, aiTokenProperties.getMaxInputTokens());
+        return call("extract_analyze", AiPrompt.EXTRACTION_SUMMARY_TAG_CATEGORY.formatted(html, toJsonArray(tagList)), AiExtractAnalyzeDto.class);
+    }
+
+    @Recover
+    public AiExtractAnalyzeDto extractAndAnalyzeRecover(Exception e, String rawHtml, List<Tag> tagList) {
+        rethrowIfBusy(e);
+        return new AiExtractAnalyzeDto(
+                "",
+                null,
+                "",
+                "",
+                "",
+                "",
+                null,
+                new ArrayList<>()
+        );
+    }
+
+    // ===== 토큰 예산 =====
+
+    /**
+     * 토큰 예산을 넘는 본문은 조각별 요약(map)을 합쳐 예산 안으로 줄인다. (reduce = analyzeContent)
+     * analyzeContent의 @Retryable 밖에서 호출해야 응답 형식 오류로 재호출할 때 조각 요약을 반복하지 않는다.
+     */
+    public String fitToBudget(String content) {
+        if (content == null || TokenEstimator.estimate(content) <= aiTokenProperties.getMaxInputTokens()) return content;
+
+        List<String> chunks = ContentChunker.chunk(content, aiTokenProperties.getChunkTokens());
+        if (chunks.size() > aiTokenProperties.getMaxChunks()) {
+            log.info("Content split into {} chunks. Using first {}.", chunks.size(), aiTokenProperties.getMaxChunks());
+            chunks = chunks.subList(0, aiTokenProperties.getMaxChunks());
+        }
+
+        int total = chunks.size();
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < total; i++) {
+            int index = i + 1;
+            String chunk = chunks.get(i);
+            futures.add(CompletableFuture.supplyAsync(() -> summarizeChunk(chunk, index, total), aiMapExecutor));
+        }
+        try {
+            String joined = futures.stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.joining("\n"));
+            return truncate(joined, aiTokenProperties.getMaxInputTokens());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof LlmBusyException busy) throw busy;
+            throw e;
+        }
+    }
+
+    // 조각 요약 실패 시 해당 조각 앞부분으로 대체 (전체 분석이 실패하지 않도록)
+    private String summarizeChunk(String chunk, int index, int total) {
+        String prompt = AiPrompt.CHUNK_SUMMARY.formatted(index, total, chunk);
+        try {
+            ChatResponse response = llmGateway.chat(prompt);
+            String summary = LlmGateway.textOf(response);
+            recordTokens("chunk_summary", prompt, summary, response);
+            return summary == null ? "" : summary.trim();
+        } catch (LlmBusyException e) {
+            // 한도 초과는 조각 대체로 숨기지 않고 작업 전체를 나중에 재시도
+            throw e;
+        } catch (Exception e) {
+            log.warn("Chunk summary failed ({}/{}): {}", index, total, e.getMessage());
+            return truncate(chunk, aiTokenProperties.getChunkTokens() / total);
+        }
+    }
+
+    private static String truncate(String text, int maxTokens) {
+        if (text == null || TokenEstimator.estimate(text) <= maxTokens) return text;
+        List<String> chunks = ContentChunker.chunk(text, maxTokens);
+        return chunks.isEmpty() ? "" : chunks.get(0);
+    }
+
+    // ===== 호출/메트릭 =====
+
+    private <T> T call(String operation, String prompt, Class<T> type) {
+        ChatResponse chatResponse = llmGateway.chat(prompt);
+        String content = LlmGateway.textOf(chatResponse);
+        // 해석에 실패한 응답도 비용은 발생했으므로 먼저 기록
+        recordTokens(operation, prompt, content, chatResponse);
+        // 형식이 조금 어긋난 응답은 다시 호출하지 않고 보정해서 사용 (보정 실패 시에만 @Retryable 재호출)
+        try {
+            return aiResponseParser.parse(operation, content, type);
+        } catch (AiResponseParseException e) {
+            aiResponseParser.recordFailure(operation, willRetry());
+            throw e;
+        }
+    }
+
+    // 지금 호출이 실패하면 @Retryable이 한 번 더 호출하는지 (프록시 밖 호출이면 재시도 없음)
+    private static boolean willRetry() {
+        RetryContext context = RetrySynchronizationManager.getContext();
+        return context != null && context.getRetryCount() + 1 < MAX_ATTEMPTS;
+    }
+
+    // 호출 한도 초과는 빈 결과로 저장하지 않고 호출 측(수집 파이프라인 재시도)으로 넘김
+    private static void rethrowIfBusy(Exception e) {
+        if (e instanceof LlmBusyException busy) throw busy;
+    }
+
+    // 호출별 토큰 수: 제공자가 돌려준 usage, 없으면(0) 문자열로 추정
+    private void recordTokens(String operation, String prompt, String completion, ChatResponse response) {
+        Usage usage = response == null || response.getMetadata() == null ? null : response.getMetadata().getUsage();
+        DistributionSummary.builder("ai.tokens")
+                .tag("operation", operation)
+                .tag("type", "prompt")
+                .register(meterRegistry)
+                .record(orEstimate(usage == null ? null : usage.getPromptTokens(), prompt));
+        DistributionSummary.builder("ai.tokens")
+                .tag("operation", operation)
+                .tag("type", "completion")
+                .register(meterRegistry)
+                .record(orEstimate(usage == null ? null : usage.getCompletionTokens(), completion));
+    }
+
+    private static int orEstimate(Integer reported, String text) {
+        return reported != null && reported > 0 ? reported : TokenEstimator.estimate(text);
+    }
+
+    // JSON 배열 문자열로 변환
+    private String toJsonArray(List<Tag> tagList) {
+        return tagList.stream()
+                .map(Tag::getTagName)   // 태그명만 추출
+                .map(tagName -> "\"" + tagName + "\"")
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+}
@@ -0,0 +1,27 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ai.token;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "ai.token")
+@Getter
+@Setter
+public class AiTokenProperties {
+    //application.yml에 ai.token 항목 작성
+    //예시
+    //ai:
+    //  token:
+    //    max-input-tokens: 6000
+    //    chunk-tokens: 3000
+    //    max-chunks: 8
+    //    map-parallelism: 4
+    //    map-queue-capacity: 32
+    private int maxInputTokens = 6000; // 한 번의 분석 호출에 넣을 본문 토큰 상한
+    private int chunkTokens = 3000;    // 초과 시 조각당 토큰 수
+    private int maxChunks = 8;         // 조각 수 상한 (초과분은 버림, 수집 1건당 비용 상한)
+    private int mapParallelism = 4;    // 조각 요약 동시 호출 수 (모든 수집 작업이 공유하는 풀 크기)
+    private int mapQueueCapacity = 32; // 풀 대기열 상한 (가득 차면 호출한 스레드가 직접 실행)
+}
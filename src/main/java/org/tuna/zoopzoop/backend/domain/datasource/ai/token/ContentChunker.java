@@ -0,0 +1,60 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ai.token;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 본문을 토큰 예산에 맞게 자르는 유틸
+ * 문단(줄바꿈) → 문장 → 글자 순서로 경계를 찾아, 각 조각이 maxTokens를 넘지 않도록 나눈다.
+ */
+public final class ContentChunker {
+
+    private ContentChunker() {
+    }
+
+    public static List<String> chunk(String content, int maxTokens) {
+        List<String> chunks = new ArrayList<>();
+        if (content == null || content.isBlank()) return chunks;
+        if (TokenEstimator.estimate(content) <= maxTokens) {
+            chunks.add(content);
+            return chunks;
+        }
+
+        StringBuilder current = new StringBuilder();
+        int currentTokens = 0;
+        for (String piece : splitPieces(content, maxTokens)) {
+            int pieceTokens = TokenEstimator.estimate(piece);
+            if (currentTokens + pieceTokens > maxTokens && !current.isEmpty()) {
+                chunks.add(current.toString().trim());
+                current.setLength(0);
+                currentTokens = 0;
+            }
+            current.append(piece);
+            currentTokens += pieceTokens;
+        }
+        if (!current.toString().isBlank()) chunks.add(current.toString().trim());
+        return chunks;
+    }
+
+    // 예산을 넘지 않는 가장 큰 단위(문단 > 문장 > 고정 길이)로 분할
+    private static List<String> splitPieces(String content, int maxTokens) {
+        List<String> pieces = new ArrayList<>();
+        for (String paragraph : content.split("(?<=\\n)")) {
+            if (TokenEstimator.estimate(paragraph) <= maxTokens) {
+                pieces.add(paragraph);
+                continue;
+            }
+            for (String sentence : paragraph.split("(?<=[.!?。다요])\\s+")) {
+                if (TokenEstimator.estimate(sentence) <= maxTokens) {
+                    pieces.add(sentence + " ");
+                    continue;
+                }
+                // 문장 하나가 예산보다 크면 글자 단위로 자름 (CJK 기준이라 글자 수 = 토큰 상한)
+                for (int i = 0; i < sentence.length(); i += maxTokens) {
+                    pieces.add(sentence.substring(i, Math.min(sentence.length(), i + maxTokens)));
+                }
+            }
+        }
+        return pieces;
+    }
+}
@@ -0,0 +1,36 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ai.token;
+
+/**
+ * 토크나이저 없이 쓰는 보수적인 토큰 수 추정
+ * - 한글/한자/가나: 글자당 1토큰 (BPE에서 대부분 1~2바이트 조각으로 나뉨)
+ * - 그 외 문자: 4글자당 1토큰
+ * 실제보다 약간 크게 잡아 컨텍스트 초과를 피하는 용도.
+ */
+public final class TokenEstimator {
+
+    private TokenEstimator() {
+    }
+
+    public static int estimate(String text) {
+        if (text == null || text.isEmpty()) return 0;
+
+        int cjk = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isCjk(c)) cjk++;
+            else other++;
+        }
+        return cjk + (other + 3) / 4;
+    }
+
+    private static boolean isCjk(char c) {
+        Character.UnicodeBlock block = Character.UnicodeBlock.of(c);
+        return block == Character.UnicodeBlock.HANGUL_SYLLABLES
+                || block == Character.UnicodeBlock.HANGUL_JAMO
+                || block == Character.UnicodeBlock.HANGUL_COMPATIBILITY_JAMO
+                || block == Character.UnicodeBlock.CJK_UNIFIED_IDEOGRAPHS
+                || block == Character.UnicodeBlock.HIRAGANA
+                || block == Character.UnicodeBlock.KATAKANA;
+    }
+}
@@ -8,6 +8,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -15,13 +17,17 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.tuna.zoopzoop.backend.domain.datasource.dto.*;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.Category;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.dto.resBodyForIngestionJob;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.entity.IngestionJob;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.service.IngestionService;
 import org.tuna.zoopzoop.backend.domain.datasource.service.DataSourceService;
+import org.tuna.zoopzoop.backend.domain.datasource.suggest.SuggestProperties;
 import org.tuna.zoopzoop.backend.domain.datasource.service.PersonalDataSourceService;
 import org.tuna.zoopzoop.backend.global.rsData.RsData;
 import org.tuna.zoopzoop.backend.global.security.jwt.CustomUserDetails;
 
-import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -31,24 +37,38 @@ import java.util.Map;
 public class DataSourceController {
 
     private final PersonalDataSourceService personalApp;
+    private final IngestionService ingestionService;
+    private final SuggestProperties suggestProperties;
 
     // ===== 등록 (개인만) =====
     // DataSourceController
 
-    @Operation(summary = "자료 등록", description = "내 PersonalArchive 안에 자료를 등록합니다.")
+    @Operation(summary = "자료 등록", description = "내 PersonalArchive 안에 자료 등록을 요청합니다. 처리 결과는 SSE(ingestion-completed / ingestion-failed)로 전달됩니다.")
     @PostMapping("")
     public ResponseEntity<RsData<Map<String, Integer>>> createDataSource(
             @Valid @RequestBody reqBodyForCreateDataSource rq,
             @AuthenticationPrincipal CustomUserDetails user
-    )  throws IOException {
-        int id = personalApp.create(
+    ) {
+        int jobId = personalApp.requestCreate(
                 user.getMember().getId(),
                 rq.sourceUrl(),
                 rq.folderId(),
                 DataSourceService.CreateCmd.builder().build()
         );
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .body(new RsData<>("202", "자료 등록 요청이 접수됐습니다.", Map.of("jobId", jobId)));
+    }
+
+    @Operation(summary = "자료 등록 작업 조회", description = "자료 등록 요청의 처리 상태를 조회합니다.")
+    @GetMapping("/ingestions/{jobId}")
+    public ResponseEntity<RsData<resBodyForIngestionJob>> getIngestionJob(
+            @PathVariable Integer jobId,
+            @AuthenticationPrincipal CustomUserDetails user
+    ) {
+        IngestionJob job = ingestionService.getJob(user.getMember().getId(), jobId);
         return ResponseEntity.ok(
-                new RsData<>("200", "새로운 자료가 등록됐습니다.", Map.of("dataSourceId", id))
+                new RsData<>("200", jobId + "번 등록 작업을 조회했습니다.", resBodyForIngestionJob.from(job))
         );
     }
 
@@ -210,6 +230,9 @@ public class DataSourceController {
             @RequestParam(required = false) Integer folderId,
             @RequestParam(required = false) String folderName,
             @RequestParam(required = false, defaultValue = "true") Boolean isActive,
+            @RequestParam(required = false, defaultValue = "offset") String paging, // offset | cursor
+            @RequestParam(required = false) String cursor, // paging=cursor일 때 이전 응답의 nextCursor
+            @RequestParam(required = false, defaultValue = "false") boolean semantic, // true면 keyword 의미 유사도 순 (offset 페이징만)
             @PageableDefault(size = 8, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             @AuthenticationPrincipal CustomUserDetails user
     ) {
@@ -218,15 +241,92 @@ public class DataSourceController {
                 .title(title).summary(summary).category(categoryEnum).folderId(folderId)
                 .folderName(folderName).isActive(isActive).keyword(keyword).build();
 
-        Page<DataSourceSearchItem> page = personalApp.search(user.getMember().getId(), cond, pageable);
         String sorted = pageable.getSort().toString().replace(": ", ",");
 
-        var pageInfo = new PageInfo(
-                page.getNumber(), page.getSize(), page.getTotalElements(), page.getTotalPages(),
-                page.isFirst(), page.isLast(), sorted
-        );
+        // 의미 검색: 정렬은 유사도 순으로 고정, 상위 결과 안에서만 페이지 이동
+        if (semantic) {
+            Page<DataSourceSearchItem> page = personalApp.semanticSearch(user.getMember().getId(), cond, pageable);
+            var body = new SearchResponse<>(page.getContent(), PageInfo.of(page, "similarity,DESC"));
+            return ResponseEntity.ok(new RsData<>("200", "복수개의 자료가 조회됐습니다.", body));
+        }
+
+        // 커서 모드: count 없이 다음 커서만 반환 (무한 스크롤)
+        if ("cursor".equalsIgnoreCase(paging)) {
+            CursorPage<DataSourceSearchItem> slice = personalApp.scroll(user.getMember().getId(), cond, pageable, cursor);
+            var cursorInfo = new CursorInfo(pageable.getPageSize(), slice.nextCursor(), slice.hasNext(), sorted);
+            return ResponseEntity.ok(new RsData<>("200", "복수개의 자료가 조회됐습니다.", new SearchResponse<>(slice.content(), cursorInfo)));
+        }
+
+        Page<DataSourceSearchItem> page = personalApp.search(user.getMember().getId(), cond, pageable);
+
+        var pageInfo = PageInfo.of(page, sorted);
         var body = new SearchResponse<>(page.getContent(), pageInfo);
 
         return ResponseEntity.ok(new RsData<>("200", "복수개의 자료가 조회됐습니다.", body));
     }
-}
\ No newline at end of file
+
+    // ===== 통합 검색 =====
+    // 개인 아카이브 + 참여 중인 스페이스를 한 번에 커서 검색 (폴더 조건 없음, 항목마다 origin 표시)
+    @Operation(summary = "통합 자료 검색", description = "내 PersonalArchive와 참여 중인 모든 스페이스의 자료를 한 번에 검색합니다.")
+    @GetMapping("/all")
+    public ResponseEntity<RsData<SearchResponse<FederatedSearchItem>>> searchAll(
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String summary,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false, defaultValue = "true") Boolean isActive,
+            @RequestParam(required = false) String cursor, // 이전 응답의 nextCursor
+            @PageableDefault(size = 8, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @AuthenticationPrincipal CustomUserDetails user
+    ) {
+        Category categoryEnum = category != null ? Category.from(category) : null;
+        var cond = DataSourceSearchCondition.builder()
+                .title(title).summary(summary).category(categoryEnum)
+                .isActive(isActive).keyword(keyword).build();
+
+        String sorted = pageable.getSort().toString().replace(": ", ",");
+
+        CursorPage<FederatedSearchItem> slice = personalApp.searchAll(user.getMember().getId(), cond, pageable, cursor);
+        var cursorInfo = new CursorInfo(pageable.getPageSize(), slice.nextCursor(), slice.hasNext(), sorted);
+        return ResponseEntity.ok(new RsData<>("200", "복수개의 자료가 조회됐습니다.", new SearchResponse<>(slice.content(), cursorInfo)));
+    }
+
+    // ===== 검색어 자동완성 =====
+    // 키 입력마다 호출되는 가벼운 경로: 메모리 접두사 색인만 조회, 짧게 브라우저 캐시
+    @Operation(summary = "검색어 자동완성", description = "내 PersonalArchive의 제목/태그/출처 중 입력한 접두사로 시작하는 항목을 자료 수 순으로 조회합니다.")
+    @GetMapping("/suggestions")
+    public ResponseEntity<RsData<List<SearchSuggestion>>> suggest(
+            @RequestParam String q,
+            @RequestParam(required = false, defaultValue = "10") int limit,
+            @AuthenticationPrincipal CustomUserDetails user
+    ) {
+        List<SearchSuggestion> suggestions = personalApp.suggest(user.getMember().getId(), q, limit);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(suggestProperties.getClientMaxAge()).cachePrivate())
+                .body(new RsData<>("200", "검색어 후보가 조회됐습니다.", suggestions));
+    }
+
+    // ===== 검색 패싯 =====
+    // 카테고리/폴더 건수는 자기 조건을 뺀 값 (선택 중인 항목 외 다른 항목의 건수도 표시)
+    @Operation(summary = "자료 검색 패싯", description = "내 PersonalArchive 검색 조건에 대한 카테고리/태그 상위 N/폴더별 건수를 한 번에 조회합니다.")
+    @GetMapping("/facets")
+    public ResponseEntity<RsData<SearchFacets>> facets(
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String summary,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Integer folderId,
+            @RequestParam(required = false) String folderName,
+            @RequestParam(required = false, defaultValue = "true") Boolean isActive,
+            @RequestParam(required = false, defaultValue = "10") int tagLimit,
+            @AuthenticationPrincipal CustomUserDetails user
+    ) {
+        Category categoryEnum = category != null ? Category.from(category) : null;
+        var cond = DataSourceSearchCondition.builder()
+                .title(title).summary(summary).category(categoryEnum).folderId(folderId)
+                .folderName(folderName).isActive(isActive).keyword(keyword).build();
+
+        SearchFacets facets = personalApp.facets(user.getMember().getId(), cond, tagLimit);
+        return ResponseEntity.ok(new RsData<>("200", "검색 패싯이 조회됐습니다.", facets));
+    }
+}
@@ -0,0 +1,27 @@
+package org.tuna.zoopzoop.backend.domain.datasource.crawler.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 구조화 메타데이터(OpenGraph, Twitter Card, JSON-LD, microdata)에서 얻은 값
+ * 찾지 못한 필드는 null
+ * fallbackTitle/fallbackDate는 일반 태그(&lt;title&gt;, 첫 time[datetime])에서 얻은 값으로,
+ * 댓글/사이드바 날짜일 수 있어 AI 추출 생략 판단에는 쓰지 않고 AI 결과도 없을 때만 사용한다.
+ */
+public record PageMetadata(
+        String title, // 제목
+        LocalDate dataCreatedDate, // 작성일자
+        String content, // 본문 (JSON-LD articleBody / microdata articleBody)
+        String imageUrl, // 썸네일 이미지 url
+        String source, // 출처
+        String fallbackTitle, // <title>
+        LocalDate fallbackDate // 페이지의 첫 time[datetime]
+) {
+    public PageMetadata withContent(String content) {
+        return new PageMetadata(title, dataCreatedDate, content, imageUrl, source, fallbackTitle, fallbackDate);
+    }
+
+    public boolean isEmpty() {
+        return title == null && dataCreatedDate == null && content == null && imageUrl == null && source == null;
+    }
+}
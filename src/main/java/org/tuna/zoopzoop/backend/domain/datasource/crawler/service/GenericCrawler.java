@@ -19,30 +19,8 @@ public class GenericCrawler implements Crawler {
 
     @Override
     public CrawlerResult<?> extract(Document doc) {
-        // img 태그
-        doc.select("img[src]").forEach(el ->
-                el.attr("src", el.absUrl("src"))
-        );
-
-        // meta 태그 (Open Graph, Twitter Card 등)
-        doc.select("meta[content]").forEach(meta -> {
-            String absUrl = meta.absUrl("content");
-            if (!absUrl.isEmpty() && !absUrl.equals(meta.attr("content"))) {
-                meta.attr("content", absUrl);
-            }
-        });
-
-        // 본문만 가져오기 (HTML)
-        String cleanHtml = doc.body().html()
-                .replaceAll("<script[^>]*>.*?</script>", "")
-                .replaceAll("<style[^>]*>.*?</style>", "")
-                // 주석 제거
-                .replaceAll("<!--.*?-->", "")
-                // 연속된 공백 제거
-                .replaceAll("\\s+", " ")
-                // 불필요한 속성 제거
-                .replaceAll("(class|id|style|onclick|onload)=\"[^\"]*\"", "")
-                .trim();
+        // 본문 서브트리 + OG/Twitter 메타만 추출 (프롬프트 크기 축소)
+        String cleanHtml = MainContentExtractor.extract(doc);
 
         return new CrawlerResult<>(
                 CrawlerResult.CrawlerType.UNSPECIFIC,
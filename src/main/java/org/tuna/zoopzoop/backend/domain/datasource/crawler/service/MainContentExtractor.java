@@ -0,0 +1,246 @@
+package org.tuna.zoopzoop.backend.domain.datasource.crawler.service;
+
+import org.jsoup.nodes.Attribute;
+import org.jsoup.nodes.Comment;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.NodeFilter;
+import org.jsoup.select.NodeTraversor;
+import org.jsoup.select.NodeVisitor;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 불특정 사이트 본문 추출기 (DOM 기반)
+ * - nav/footer/aside/script 등 보일러플레이트 제거
+ * - Jsoup 트리를 한 번 순회하며 요소별 텍스트 길이/링크 텍스트 길이/문단 수를 집계
+ * - 텍스트 밀도는 높고 링크 밀도는 낮은 블록을 본문으로 선택
+ * - 결과: OG/Twitter 메타 + 본문 서브트리만 담은 작은 HTML (AI 추출 프롬프트 입력용)
+ */
+public final class MainContentExtractor {
+    private static final Set<String> NOISE_TAGS = Set.of(
+            "script", "style", "noscript", "iframe", "svg", "canvas", "template",
+            "nav", "footer", "aside", "form", "button", "select", "input", "textarea"
+    );
+    private static final Set<String> CANDIDATE_TAGS = Set.of(
+            "article", "main", "section", "div", "td", "body"
+    );
+    private static final Set<String> PARAGRAPH_TAGS = Set.of("p", "pre", "blockquote", "li", "td");
+    private static final int MIN_PARAGRAPH_LENGTH = 25;
+    private static final Set<String> ALLOWED_ATTRIBUTES = Set.of("src", "alt", "datetime");
+
+    // class/id로 판별하는 보일러플레이트 영역 (본문 후보 표시가 함께 있으면 유지)
+    private static final Pattern UNLIKELY = Pattern.compile(
+            "comment|footer|sidebar|menu|nav|banner|popup|cookie|share|social|related|recommend|advert|\\bad-|gnb|lnb|breadcrumb",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern LIKELY = Pattern.compile(
+            "article|content|main|post|entry|body|text|story|view",
+            Pattern.CASE_INSENSITIVE);
+
+    private static final List<String> META_KEYS = List.of(
+            "og:title", "og:description", "og:image", "og:site_name", "og:url",
+            "article:published_time", "twitter:title", "twitter:description", "twitter:image",
+            "description", "author"
+    );
+
+    private static final int MIN_CONTENT_LENGTH = 140; // 이보다 짧으면 body 전체를 사용
+
+    private MainContentExtractor() {
+    }
+
+    // 요소별 집계값
+    private static final class Stats {
+        int textLength;      // 하위 전체 텍스트 길이
+        int ownTextLength;   // 직속 텍스트 노드 길이
+        int linkTextLength;  // 하위 링크 텍스트 길이
+        int commas;
+        double contentScore; // 자식 문단으로부터 전파된 점수
+
+        double linkDensity() {
+            return textLength == 0 ? 0 : (double) linkTextLength / textLength;
+        }
+    }
+
+    public static String extract(Document doc) {
+        StringBuilder sb = new StringBuilder();
+        appendMeta(doc, sb);
+
+        Element body = doc.body();
+        if (body == null) return sb.toString();
+
+        removeNoise(body);
+        body.select("img[src]").forEach(el -> el.attr("src", el.absUrl("src")));
+        Element main = selectMainContent(body);
+        sb.append(serialize(main));
+        return sb.toString();
+    }
+
+    // ===== 메타 =====
+
+    private static void appendMeta(Document doc, StringBuilder sb) {
+        String title = doc.title();
+        if (!title.isBlank()) sb.append("<title>").append(escape(title)).append("</title>");
+
+        for (String key : META_KEYS) {
+            Element meta = doc.selectFirst("meta[property=" + key + "], meta[name=" + key + "]");
+            if (meta == null) continue;
+
+            String content = meta.attr("content");
+            if (key.endsWith("image") || key.endsWith("url")) {
+                String absUrl = meta.absUrl("content");
+                if (!absUrl.isEmpty()) content = absUrl;
+            }
+            if (content.isBlank()) continue;
+
+            sb.append("<meta property=\"").append(key).append("\" content=\"")
+                    .append(escape(content.trim())).append("\">");
+        }
+    }
+
+    // ===== 보일러플레이트 제거 =====
+
+    private static void removeNoise(Element body) {
+        // 주석 노드 포함, 순회 중 제거는 NodeTraversor.filter로 처리
+        NodeTraversor.filter(new NodeFilter() {
+            @Override
+            public FilterResult head(Node node, int depth) {
+                if (node instanceof Comment) return FilterResult.REMOVE;
+                if (!(node instanceof Element el) || el == body) return FilterResult.CONTINUE;
+
+                if (NOISE_TAGS.contains(el.normalName())) return FilterResult.REMOVE;
+                if (el.normalName().equals("header") && el.closest("article") == null) return FilterResult.REMOVE;
+
+                String marker = el.className() + " " + el.id();
+                if (!marker.isBlank() && UNLIKELY.matcher(marker).find() && !LIKELY.matcher(marker).find()
+                        && !el.normalName().equals("article") && !el.normalName().equals("main")) {
+                    return FilterResult.REMOVE;
+                }
+                return FilterResult.CONTINUE;
+            }
+        }, body);
+    }
+
+    // ===== 본문 후보 선택 =====
+
+    private static Element selectMainContent(Element body) {
+        Map<Element, Stats> stats = new IdentityHashMap<>();
+
+        // 자식 -> 부모 방향으로 텍스트/링크 길이를 누적 (tail 시점에 부모에 합산)
+        // 문단은 부모에 점수 전체, 조부모에 절반을 전파 (본문 블록이 감싸는 wrapper보다 높게 나오도록)
+        NodeTraversor.traverse(new NodeVisitor() {
+            @Override
+            public void head(Node node, int depth) {
+            }
+
+            @Override
+            public void tail(Node node, int depth) {
+                if (node instanceof TextNode text) {
+                    if (!(text.parent() instanceof Element parent)) return;
+                    String value = text.text().trim();
+                    Stats s = stats.computeIfAbsent(parent, k -> new Stats());
+                    s.textLength += value.length();
+                    s.ownTextLength += value.length();
+                    s.commas += countCommas(value);
+                    if (parent.normalName().equals("a")) s.linkTextLength += value.length();
+                    return;
+                }
+                if (!(node instanceof Element el) || el == body) return;
+
+                Stats own = stats.computeIfAbsent(el, k -> new Stats());
+                Element parent = el.parent();
+                if (parent == null) return;
+
+                Stats p = stats.computeIfAbsent(parent, k -> new Stats());
+                p.textLength += own.textLength;
+                p.linkTextLength += el.normalName().equals("a") ? own.textLength : own.linkTextLength;
+                p.commas += own.commas;
+
+                if (isParagraph(el, own)) {
+                    double score = 1 + own.commas + Math.min(own.textLength / 100.0, 3);
+                    p.contentScore += score;
+                    Element grandParent = parent.parent();
+                    if (grandParent != null) stats.computeIfAbsent(grandParent, k -> new Stats()).contentScore += score / 2;
+                }
+            }
+        }, body);
+
+        Element best = null;
+        double bestScore = 0;
+        for (Map.Entry<Element, Stats> entry : stats.entrySet()) {
+            Element el = entry.getKey();
+            Stats s = entry.getValue();
+            if (!CANDIDATE_TAGS.contains(el.normalName()) || s.contentScore == 0) continue;
+
+            double score = (s.contentScore + tagBonus(el)) * (1 - s.linkDensity());
+            if (score > bestScore) {
+                best = el;
+                bestScore = score;
+            }
+        }
+
+        if (best == null || stats.get(best).textLength < MIN_CONTENT_LENGTH) return body;
+        return best;
+    }
+
+    // p/li 등 문단 태그이거나, 직접 텍스트를 가진 div (br로 문단을 나누는 블로그형 페이지)
+    private static boolean isParagraph(Element el, Stats own) {
+        if (own.textLength < MIN_PARAGRAPH_LENGTH) return false;
+        if (PARAGRAPH_TAGS.contains(el.normalName())) return true;
+        return el.normalName().equals("div") && own.ownTextLength >= MIN_PARAGRAPH_LENGTH;
+    }
+
+    private static double tagBonus(Element el) {
+        return switch (el.normalName()) {
+            case "article", "main" -> 10;
+            case "div" -> 5;
+            case "td" -> 3;
+            default -> 0;
+        };
+    }
+
+    private static int countCommas(String text) {
+        int count = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '，' || c == '、') count++;
+        }
+        return count;
+    }
+
+    // ===== 직렬화 =====
+
+    private static String serialize(Element main) {
+        Document shell = Document.createShell("");
+        shell.outputSettings().prettyPrint(false);
+        Element copy = main.clone();
+        shell.body().appendChild(copy);
+
+        // 허용 속성 외 제거 (class/id/style/on* 등)
+        for (Element el : copy.getAllElements()) {
+            el.attributes().asList().stream()
+                    .map(Attribute::getKey)
+                    .filter(key -> el == copy || !ALLOWED_ATTRIBUTES.contains(key))
+                    .toList()
+                    .forEach(el::removeAttr);
+        }
+
+        // 빈 요소 제거 (이미지/시간 정보는 유지)
+        copy.select("*").stream()
+                .filter(el -> el != copy && !el.normalName().equals("img") && !el.normalName().equals("time"))
+                .filter(el -> !el.hasText() && el.select("img, time").isEmpty())
+                .toList()
+                .forEach(Element::remove);
+
+        return copy.outerHtml().replaceAll("\\s+", " ").trim();
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("\"", "&quot;").replace("<", "&lt;");
+    }
+}
@@ -0,0 +1,207 @@
+package org.tuna.zoopzoop.backend.domain.datasource.crawler.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.tuna.zoopzoop.backend.domain.datasource.crawler.dto.PageMetadata;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 결정적(deterministic) 메타데이터 추출기
+ * 우선순위: JSON-LD > OpenGraph > Twitter Card > microdata
+ * 일반 태그(title, time)는 fallback 필드에 따로 담는다. (AI 추출 생략 판단에서 제외)
+ * GenericCrawler가 DOM을 정리하기 전에 호출해야 한다. (body 안의 JSON-LD script 보존)
+ */
+public final class MetadataExtractor {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Set<String> ARTICLE_TYPES = Set.of(
+            "Article", "NewsArticle", "BlogPosting", "Report", "ScholarlyArticle",
+            "TechArticle", "AnalysisNewsArticle", "OpinionNewsArticle", "ReportageNewsArticle", "SocialMediaPosting"
+    );
+    private static final Pattern DATE_PATTERN = Pattern.compile("(\\d{4})[-./년]\\s*(\\d{1,2})[-./월]\\s*(\\d{1,2})");
+
+    private MetadataExtractor() {
+    }
+
+    public static PageMetadata extract(Document doc) {
+        JsonNode article = findJsonLdArticle(doc);
+
+        String title = firstNonBlank(
+                text(article, "headline"),
+                meta(doc, "og:title"),
+                meta(doc, "twitter:title"),
+                itemprop(doc, "headline")
+        );
+
+        LocalDate dataCreatedDate = parseDate(firstNonBlank(
+                text(article, "datePublished"),
+                text(article, "dateCreated"),
+                meta(doc, "article:published_time"),
+                meta(doc, "og:regDate"),
+                itemprop(doc, "datePublished")
+        ));
+
+        String content = firstNonBlank(
+                text(article, "articleBody"),
+                itempropText(doc, "articleBody")
+        );
+
+        String imageUrl = absolute(doc, firstNonBlank(
+                image(article),
+                meta(doc, "og:image"),
+                meta(doc, "twitter:image"),
+                itemprop(doc, "image")
+        ));
+
+        String source = firstNonBlank(
+                article == null ? null : text(article.path("publisher"), "name"),
+                meta(doc, "og:site_name"),
+                itempropText(doc, "publisher")
+        );
+
+        return new PageMetadata(title, dataCreatedDate, content, imageUrl, source,
+                firstNonBlank(doc.title()), parseDate(attr(doc, "time[datetime]", "datetime")));
+    }
+
+    // ===== JSON-LD =====
+
+    private static JsonNode findJsonLdArticle(Document doc) {
+        for (Element script : doc.select("script[type=application/ld+json]")) {
+            try {
+                JsonNode root = OBJECT_MAPPER.readTree(script.data());
+                for (JsonNode node : flatten(root)) {
+                    if (isArticle(node)) return node;
+                }
+            } catch (Exception ignore) {
+                // 잘못된 JSON-LD는 건너뜀
+            }
+        }
+        return null;
+    }
+
+    private static List<JsonNode> flatten(JsonNode root) {
+        List<JsonNode> nodes = new ArrayList<>();
+        if (root == null) return nodes;
+        if (root.isArray()) {
+            root.forEach(n -> nodes.addAll(flatten(n)));
+        } else if (root.isObject()) {
+            nodes.add(root);
+            if (root.has("@graph")) nodes.addAll(flatten(root.get("@graph")));
+            if (root.has("mainEntity")) nodes.addAll(flatten(root.get("mainEntity")));
+        }
+        return nodes;
+    }
+
+    private static boolean isArticle(JsonNode node) {
+        JsonNode type = node.get("@type");
+        if (type == null) return false;
+        if (type.isArray()) {
+            for (JsonNode t : type) if (ARTICLE_TYPES.contains(t.asText())) return true;
+            return false;
+        }
+        return ARTICLE_TYPES.contains(type.asText());
+    }
+
+    private static String text(JsonNode node, String field) {
+        if (node == null || node.isMissingNode()) return null;
+        JsonNode value = node.get(field);
+        if (value == null || value.isNull()) return null;
+        if (value.isArray()) value = value.isEmpty() ? null : value.get(0);
+        return value == null || value.isContainerNode() ? null : value.asText();
+    }
+
+    // image: "url" | {"url": ...} | ["url", ...] | [{"url": ...}]
+    private static String image(JsonNode article) {
+        if (article == null) return null;
+        JsonNode image = article.get("image");
+        if (image == null) return null;
+        if (image.isArray()) image = image.isEmpty() ? null : image.get(0);
+        if (image == null) return null;
+        return image.isObject() ? text(image, "url") : image.asText();
+    }
+
+    // ===== HTML 메타/마이크로데이터 =====
+
+    private static String meta(Document doc, String key) {
+        Element el = doc.selectFirst("meta[property=" + key + "], meta[name=" + key + "]");
+        return el == null ? null : el.attr("content");
+    }
+
+    private static String itemprop(Document doc, String prop) {
+        Element el = doc.selectFirst("[itemprop=" + prop + "]");
+        if (el == null) return null;
+        if (el.hasAttr("content")) return el.attr("content");
+        if (el.hasAttr("datetime")) return el.attr("datetime");
+        if (el.hasAttr("src")) return el.attr("src");
+        return el.text();
+    }
+
+    private static String itempropText(Document doc, String prop) {
+        Element el = doc.selectFirst("[itemprop=" + prop + "]");
+        if (el == null) return null;
+        Element name = el.selectFirst("[itemprop=name]");
+        if (name != null) return name.hasAttr("content") ? name.attr("content") : name.text();
+        return el.text();
+    }
+
+    private static String attr(Document doc, String selector, String attr) {
+        Element el = doc.selectFirst(selector);
+        return el == null ? null : el.attr(attr);
+    }
+
+    // ===== 공통 =====
+
+    static LocalDate parseDate(String raw) {
+        if (raw == null || raw.isBlank()) return null;
+        String value = raw.trim();
+        try {
+            return OffsetDateTime.parse(value).toLocalDate();
+        } catch (DateTimeParseException ignore) {
+            // 오프셋이 없는 형식은 아래 패턴으로 처리
+        }
+
+        // yyyyMMddHHmmss (tistory og:regDate)
+        if (value.matches("\\d{14}")) {
+            return safeDate(value.substring(0, 4), value.substring(4, 6), value.substring(6, 8));
+        }
+
+        Matcher m = DATE_PATTERN.matcher(value);
+        return m.find() ? safeDate(m.group(1), m.group(2), m.group(3)) : null;
+    }
+
+    private static LocalDate safeDate(String year, String month, String day) {
+        try {
+            return LocalDate.of(Integer.parseInt(year), Integer.parseInt(month), Integer.parseInt(day));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String absolute(Document doc, String url) {
+        if (url == null) return null;
+        if (url.startsWith("http://") || url.startsWith("https://")) return url;
+        if (url.startsWith("//")) return "https:" + url;
+        try {
+            return URI.create(doc.location()).resolve(url).toString();
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+
+    private static String firstNonBlank(String... values) {
+        for (String v : values) {
+            if (v != null && !v.isBlank()) return v.trim();
+        }
+        return null;
+    }
+}
@@ -1,7 +1,6 @@
 package org.tuna.zoopzoop.backend.domain.datasource.crawler.service;
 
-import org.jsoup.Connection;
-import org.jsoup.Jsoup;
+import lombok.RequiredArgsConstructor;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
@@ -11,6 +10,7 @@ import org.springframework.stereotype.Component;
 import org.tuna.zoopzoop.backend.domain.datasource.crawler.dto.CrawlerResult;
 import org.tuna.zoopzoop.backend.domain.datasource.crawler.dto.SpecificSiteDto;
 import org.tuna.zoopzoop.backend.domain.datasource.exception.ServiceException;
+import org.tuna.zoopzoop.backend.global.clients.web.WebFetchClient;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -21,11 +21,14 @@ import java.util.regex.Pattern;
 
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
 public class NaverBlogCrawler implements Crawler {
     private static final SupportedDomain DOMAIN = SupportedDomain.NAVERBLOG;
     private static final DateTimeFormatter NAVERBLOG_FORMATTER =
             DateTimeFormatter.ofPattern("yyyy. M. d. HH:mm");
 
+    private final WebFetchClient webFetchClient;
+
     @Override
     public boolean supports(String domain) {
         return domain.contains(DOMAIN.getDomain());
@@ -45,13 +48,7 @@ public class NaverBlogCrawler implements Crawler {
         Document iframeDoc;
 
         try {
-            Connection.Response response = Jsoup.connect(iframeUrl)
-                    .userAgent("Mozilla/5.0")
-                    .timeout(5000)
-                    .followRedirects(true)
-                    .execute();
-
-            iframeDoc = response.parse();
+            iframeDoc = webFetchClient.get(iframeUrl).toDocument();
         } catch (Exception e) {
             throw new ServiceException("URL 접속에 실패했습니다.");
         }
@@ -1,23 +1,29 @@
 package org.tuna.zoopzoop.backend.domain.datasource.crawler.service;
 
-import org.jsoup.Jsoup;
+import lombok.RequiredArgsConstructor;
 import org.jsoup.nodes.Document;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.tuna.zoopzoop.backend.domain.datasource.crawler.dto.CrawlerResult;
 import org.tuna.zoopzoop.backend.domain.datasource.crawler.dto.SpecificSiteDto;
+import org.tuna.zoopzoop.backend.global.clients.web.WebFetchClient;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Optional;
 
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
 public class TistoryCralwer implements Crawler {
     private static final SupportedDomain DOMAIN = SupportedDomain.TISTORY;
     private static final DateTimeFormatter TISTORY_FORMATTER =
             DateTimeFormatter.ofPattern("yyyyMMddHHmmss"); // 날짜 형식
+    private static final Duration IMAGE_CHECK_TIMEOUT = Duration.ofSeconds(3);
+
+    private final WebFetchClient webFetchClient;
 
     @Override
     public boolean supports(String domain) {
@@ -48,17 +54,7 @@ public class TistoryCralwer implements Crawler {
 
         // 접근 권한이 없는 이미지 url에 대해서 예외처리
         imageUrl = Optional.of(imageUrl)
-                .filter(url -> {
-                    try {
-                        Jsoup.connect(url)
-                                .ignoreContentType(true)
-                                .timeout(3000)
-                                .execute();
-                        return true;
-                    } catch (Exception e) {
-                        return false;
-                    }
-                })
+                .filter(url -> webFetchClient.isReachable(url, IMAGE_CHECK_TIMEOUT))
                 .orElse("");
 
 
@@ -0,0 +1,15 @@
+package org.tuna.zoopzoop.backend.domain.datasource.dataprocessor.dto;
+
+import org.tuna.zoopzoop.backend.domain.datasource.ai.dto.AnalyzeContentDto;
+import org.tuna.zoopzoop.backend.domain.datasource.dataprocessor.enums.ExtractionTier;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.ArticleData;
+
+public record ExtractionResult(
+        ArticleData articleData,
+        ExtractionTier tier, // 추출을 충족한 단계
+        AnalyzeContentDto analysis // 통합 LLM 호출로 함께 받은 요약/분류 (없으면 null)
+) {
+    public ExtractionResult(ArticleData articleData, ExtractionTier tier) {
+        this(articleData, tier, null);
+    }
+}
@@ -0,0 +1,17 @@
+package org.tuna.zoopzoop.backend.domain.datasource.dataprocessor.enums;
+
+/**
+ * 본문/메타데이터 추출을 충족한 단계
+ * - CRAWLER          : 지원 사이트 전용 크롤러
+ * - METADATA         : 구조화 메타데이터만으로 충족 (LLM 호출 없음)
+ * - METADATA_AND_LLM : 메타데이터로 못 채운 필드만 LLM으로 보완
+ * - LLM              : 메타데이터 없이 LLM 추출
+ * - CACHE            : 다른 회원이 등록한 결과 재사용
+ */
+public enum ExtractionTier {
+    CRAWLER,
+    METADATA,
+    METADATA_AND_LLM,
+    LLM,
+    CACHE
+}
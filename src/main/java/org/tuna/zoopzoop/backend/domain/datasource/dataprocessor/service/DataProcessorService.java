@@ -1,67 +1,45 @@
 package org.tuna.zoopzoop.backend.domain.datasource.dataprocessor.service;
 
 import lombok.RequiredArgsConstructor;
-import org.jsoup.Connection;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.springframework.stereotype.Service;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.dto.AiExtractAnalyzeDto;
 import org.tuna.zoopzoop.backend.domain.datasource.ai.dto.AiExtractorDto;
 import org.tuna.zoopzoop.backend.domain.datasource.ai.dto.AnalyzeContentDto;
 import org.tuna.zoopzoop.backend.domain.datasource.ai.service.AiService;
 import org.tuna.zoopzoop.backend.domain.datasource.crawler.dto.CrawlerResult;
+import org.tuna.zoopzoop.backend.domain.datasource.crawler.dto.PageMetadata;
 import org.tuna.zoopzoop.backend.domain.datasource.crawler.dto.SpecificSiteDto;
 import org.tuna.zoopzoop.backend.domain.datasource.crawler.dto.UnspecificSiteDto;
 import org.tuna.zoopzoop.backend.domain.datasource.crawler.service.CrawlerManagerService;
+import org.tuna.zoopzoop.backend.domain.datasource.crawler.service.MetadataExtractor;
+import org.tuna.zoopzoop.backend.domain.datasource.dataprocessor.dto.ExtractionResult;
+import org.tuna.zoopzoop.backend.domain.datasource.dataprocessor.enums.ExtractionTier;
 import org.tuna.zoopzoop.backend.domain.datasource.dto.ArticleData;
 import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceDto;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.Tag;
-import org.tuna.zoopzoop.backend.domain.datasource.exception.ServiceException;
 
-import java.util.ArrayList;
+import java.net.URI;
 import java.util.List;
 import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class DataProcessorService {
+    private static final int MIN_CONTENT_LENGTH = 200;
+
     public final CrawlerManagerService crawlerManagerService;
     public final AiService aiService;
+    public final UrlProbeService urlProbeService;
 
     /**
         url체크 메소드
         - 도메인에 https, http 둘 다 붙이기
-        - https, http 둘 다 실행
+        - https, http 동시 실행 후 먼저 성공한 응답 사용 (host별 성공 경로 캐시)
      */
     public Map<String, Object> checkUrl(String inputUrl) {
-        List<String> candidatesUrl = new ArrayList<>();
-
-        // 1. 원본에서 프로토콜 제거
-        String strippedUrl = inputUrl.replaceFirst("^https?://", "");
-
-        // 2. 무조건 두 가지 프로토콜을 모두 리스트에 추가
-        candidatesUrl.add("https://" + strippedUrl);
-        candidatesUrl.add("http://" + strippedUrl);
-
-        for (String url : candidatesUrl) {
-            try {
-                Connection.Response response = Jsoup.connect(url)
-                        .userAgent("Mozilla/5.0")
-                        .timeout(5000)
-                        .followRedirects(true)
-                        .execute();
-
-                Document doc = response.parse();
-                return Map.of(
-                        "url", url,
-                        "document", doc
-                );
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
-        }
-
-        // 모든 시도 실패 시 마지막 예외 던지기
-        throw new ServiceException("URL 접속에 실패했습니다.");
+        return urlProbeService.probe(inputUrl);
     }
 
     public DataSourceDto process(String inputUrl, List<Tag> tagList) {
@@ -69,33 +47,11 @@ public class DataProcessorService {
         String url = (String) outputMap.get("url");
         Document doc = (Document) outputMap.get("document");
 
-        CrawlerResult<?> result = crawlerManagerService.extractContent(url, doc);
-
-        ArticleData articleData = switch (result.type()) {
-            case SPECIFIC -> {
-                SpecificSiteDto specificSiteDto = (SpecificSiteDto) result.data();
-                yield new ArticleData(
-                        specificSiteDto.title(),
-                        specificSiteDto.content(),
-                        specificSiteDto.dataCreatedDate(),
-                        specificSiteDto.imageUrl(),
-                        specificSiteDto.source()
-                );
-            }
-            case UNSPECIFIC -> {
-                UnspecificSiteDto unspecificSiteDto = (UnspecificSiteDto) result.data();
-                AiExtractorDto aiExtractorDto = aiService.extract(unspecificSiteDto.rawHtml());
-                yield new ArticleData(
-                        aiExtractorDto.title(),
-                        aiExtractorDto.content(),
-                        aiExtractorDto.dataCreatedDate(),
-                        aiExtractorDto.imageUrl(),
-                        aiExtractorDto.source()
-                );
-            }
-        };
-
-        AnalyzeContentDto analyzeContentDto = aiService.analyzeContent(articleData.content(), tagList);
+        ExtractionResult extraction = extractWithTier(url, doc, tagList);
+        ArticleData articleData = extraction.articleData();
+        AnalyzeContentDto analyzeContentDto = extraction.analysis() != null
+                ? extraction.analysis()
+                : analyze(articleData.content(), tagList);
 
         return new DataSourceDto(
                 articleData.title(),
@@ -108,4 +64,125 @@ public class DataProcessorService {
                 analyzeContentDto.tags()
         );
     }
+
+    /**
+        본문/메타데이터 추출 단계
+        - 지원 사이트는 전용 크롤러, 그 외에는 AI 추출
+     */
+    public ArticleData extract(String url, Document doc) {
+        return extractWithTier(url, doc).articleData();
+    }
+
+    /**
+        본문/메타데이터 추출 단계 (충족한 단계 포함)
+        - 지원 사이트 : 전용 크롤러
+        - 그 외 : 구조화 메타데이터(OG, Twitter, JSON-LD, microdata) + 본문 블록 텍스트로 먼저 채우고,
+                  제목/본문/작성일자 중 빠진 값이 있을 때만 AI 추출로 보완
+     */
+    public ExtractionResult extractWithTier(String url, Document doc) {
+        return extractWithTier(url, doc, null);
+    }
+
+    /**
+        tagList가 주어지면 AI 추출이 필요한 경우 요약/카테고리/태그까지 한 번의 호출로 받는다. (analysis 포함)
+        tagList가 null이면 추출만 수행하고 분석은 analyze 단계에서 따로 호출한다.
+     */
+    public ExtractionResult extractWithTier(String url, Document doc, List<Tag> tagList) {
+        // GenericCrawler가 DOM을 정리하기 전에 메타데이터를 읽어 둔다.
+        PageMetadata metadata = MetadataExtractor.extract(doc);
+        CrawlerResult<?> result = crawlerManagerService.extractContent(url, doc);
+
+        if (result.type() == CrawlerResult.CrawlerType.SPECIFIC) {
+            SpecificSiteDto specificSiteDto = (SpecificSiteDto) result.data();
+            return new ExtractionResult(new ArticleData(
+                    specificSiteDto.title(),
+                    specificSiteDto.content(),
+                    specificSiteDto.dataCreatedDate(),
+                    specificSiteDto.imageUrl(),
+                    specificSiteDto.source()
+            ), ExtractionTier.CRAWLER);
+        }
+
+        UnspecificSiteDto unspecificSiteDto = (UnspecificSiteDto) result.data();
+        if (isBlank(metadata.content())) {
+            metadata = metadata.withContent(mainText(unspecificSiteDto.rawHtml()));
+        }
+
+        if (isSufficient(metadata)) {
+            return new ExtractionResult(new ArticleData(
+                    metadata.title(),
+                    metadata.content(),
+                    metadata.dataCreatedDate(),
+                    orEmpty(metadata.imageUrl()),
+                    firstNonBlank(metadata.source(), hostOf(url))
+            ), ExtractionTier.METADATA);
+        }
+
+        // 메타데이터로 채운 값이 우선, 빈 필드만 AI 결과 사용 (<title>/time 태그는 AI 결과도 없을 때만)
+        AnalyzeContentDto analysis = null;
+        AiExtractorDto aiExtractorDto;
+        if (tagList != null) {
+            AiExtractAnalyzeDto combined = aiService.extractAndAnalyze(unspecificSiteDto.rawHtml(), tagList);
+            aiExtractorDto = combined.toExtractorDto();
+            // 통합 호출이 실패(@Recover)하면 analyze 단계에서 따로 분석
+            if (!isBlank(combined.summary())) analysis = combined.toAnalyzeContentDto();
+        } else {
+            aiExtractorDto = aiService.extract(unspecificSiteDto.rawHtml());
+        }
+        ArticleData merged = new ArticleData(
+                firstNonBlank(metadata.title(), aiExtractorDto.title(), metadata.fallbackTitle()),
+                firstNonBlank(metadata.content(), aiExtractorDto.content()),
+                metadata.dataCreatedDate() != null ? metadata.dataCreatedDate()
+                        : aiExtractorDto.dataCreatedDate() != null ? aiExtractorDto.dataCreatedDate() : metadata.fallbackDate(),
+                orEmpty(firstNonBlank(metadata.imageUrl(), aiExtractorDto.imageUrl())),
+                firstNonBlank(metadata.source(), aiExtractorDto.source(), hostOf(url))
+        );
+        return new ExtractionResult(merged, metadata.isEmpty() ? ExtractionTier.LLM : ExtractionTier.METADATA_AND_LLM, analysis);
+    }
+
+    // 제목, 본문, 작성일자가 모두 있으면 AI 추출 생략 (썸네일은 선택, 출처는 도메인으로 대체 가능)
+    // 제목/작성일자는 구조화 메타데이터 값만 인정 (fallback 제외)
+    private boolean isSufficient(PageMetadata metadata) {
+        return !isBlank(metadata.title())
+                && !isBlank(metadata.content())
+                && metadata.dataCreatedDate() != null;
+    }
+
+    // 본문 블록 HTML의 텍스트 (너무 짧으면 본문으로 인정하지 않음)
+    private String mainText(String mainHtml) {
+        if (mainHtml == null) return null;
+        String text = Jsoup.parse(mainHtml).body().text();
+        return text.length() >= MIN_CONTENT_LENGTH ? text : null;
+    }
+
+    private String hostOf(String url) {
+        try {
+            return URI.create(url).getHost();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String firstNonBlank(String... values) {
+        for (String v : values) {
+            if (!isBlank(v)) return v;
+        }
+        return null;
+    }
+
+    private static String orEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+        요약/카테고리/태그 분석 단계
+        긴 본문 조각 요약은 재시도 밖에서 한 번만, 형식 오류 재호출은 최종 분석만
+     */
+    public AnalyzeContentDto analyze(String content, List<Tag> tagList) {
+        return aiService.analyzeContent(aiService.fitToBudget(content), tagList);
+    }
 }
@@ -0,0 +1,149 @@
+package org.tuna.zoopzoop.backend.domain.datasource.dataprocessor.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.springframework.stereotype.Service;
+import org.tuna.zoopzoop.backend.domain.datasource.exception.ServiceException;
+import org.tuna.zoopzoop.backend.global.clients.web.FetchedPage;
+import org.tuna.zoopzoop.backend.global.clients.web.WebFetchClient;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
+/**
+ * URL 접속 확인 (https/http 프로브)
+ * - 처음 보는 host는 https, http를 동시에 시도하되 https가 성공하면 https를 쓰고 http는 취소
+ *   (http가 먼저 와도 https 결과를 기다림 → https도 되는 host가 http로 고정되지 않음, https 실패 시에만 http)
+ * - 성공한 프로토콜과 host 단위 리다이렉트 대상을 host별로 캐시해 다음 요청은 바로 접속
+ * - 실제 요청과 host별 응답 시간 메트릭은 WebFetchClient가 담당
+ */
+@Slf4j
+@Service
+public class UrlProbeService {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    // host별로 성공한 접속 경로
+    record HostRoute(String scheme, String redirectHost) {
+    }
+
+    // 프로브 한 번의 결과
+    private record Probe(String scheme, String url, FetchedPage page, Document document) {
+    }
+
+    private final WebFetchClient webFetchClient;
+    private final ExecutorService probeExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Cache<String, HostRoute> routes = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofHours(6))
+            .build();
+
+    public UrlProbeService(WebFetchClient webFetchClient) {
+        this.webFetchClient = webFetchClient;
+    }
+
+    /**
+     * @return "url": 접속에 성공한 (프로토콜이 붙은) 입력 URL, "document": 파싱된 문서
+     */
+    public Map<String, Object> probe(String inputUrl) {
+        String strippedUrl = inputUrl.replaceFirst("^https?://", "");
+        String host = hostOf(strippedUrl);
+
+        // 1. 이전에 성공한 경로가 있으면 해당 경로로 바로 접속
+        HostRoute route = host == null ? null : routes.getIfPresent(host);
+        if (route != null) {
+            try {
+                String url = route.scheme() + "://" + strippedUrl;
+                Document doc = webFetchClient.get(viaRedirectHost(url, route.redirectHost()), TIMEOUT).toDocument();
+                return Map.of("url", url, "document", doc);
+            } catch (Exception e) {
+                log.debug("Cached route failed for host {}. Probing again. reason: {}", host, e.getMessage());
+                routes.invalidate(host);
+            }
+        }
+
+        // 2. https, http 동시 시도 (https 우선, https가 실패했을 때만 http 사용)
+        long deadline = System.nanoTime() + TIMEOUT.plusSeconds(1).toNanos();
+        Future<Probe> https = probeExecutor.submit(() -> probeOnce("https", strippedUrl));
+        Future<Probe> http = probeExecutor.submit(() -> probeOnce("http", strippedUrl));
+
+        try {
+            Probe probe;
+            try {
+                probe = await(https, deadline);
+            } catch (ExecutionException | TimeoutException e) {
+                log.debug("https probe failed for {}. Falling back to http. reason: {}", strippedUrl, e.getClass().getSimpleName());
+                probe = await(http, deadline);
+            }
+
+            if (host != null) routes.put(host, new HostRoute(probe.scheme(), redirectHostOf(probe.url(), probe.page().finalUrl())));
+            return Map.of("url", probe.url(), "document", probe.document());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException("URL 접속에 실패했습니다.");
+        } catch (ExecutionException | TimeoutException e) {
+            log.info("URL probe failed: {} ({})", inputUrl, e.getClass().getSimpleName());
+            throw new ServiceException("URL 접속에 실패했습니다.");
+        } finally {
+            // 쓰지 않는 쪽(남은 프로브) 취소
+            https.cancel(true);
+            http.cancel(true);
+        }
+    }
+
+    private static Probe await(Future<Probe> probe, long deadline)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return probe.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    private Probe probeOnce(String scheme, String strippedUrl) throws Exception {
+        String url = scheme + "://" + strippedUrl;
+        FetchedPage page = webFetchClient.get(url, TIMEOUT);
+        return new Probe(scheme, url, page, page.toDocument());
+    }
+
+    // 경로는 그대로이고 host만 바뀌는 리다이렉트(example.com -> www.example.com)만 기억한다.
+    static String redirectHostOf(String requestedUrl, String finalUrl) {
+        try {
+            URI requested = URI.create(requestedUrl);
+            URI landed = URI.create(finalUrl);
+            if (landed.getHost() == null || landed.getHost().equalsIgnoreCase(requested.getHost())) return null;
+            if (!String.valueOf(landed.getRawPath()).equals(String.valueOf(requested.getRawPath()))) return null;
+            return landed.getHost().toLowerCase(Locale.ROOT);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    static String viaRedirectHost(String url, String redirectHost) {
+        if (redirectHost == null) return url;
+        String host = hostOf(url.replaceFirst("^https?://", ""));
+        return host == null ? url : url.replaceFirst("(?i)(^https?://)" + Pattern.quote(host), "$1" + redirectHost);
+    }
+
+    static String hostOf(String strippedUrl) {
+        int end = strippedUrl.length();
+        for (char c : new char[]{'/', '?', '#'}) {
+            int idx = strippedUrl.indexOf(c);
+            if (idx >= 0 && idx < end) end = idx;
+        }
+        String host = strippedUrl.substring(0, end).toLowerCase(Locale.ROOT);
+        return host.isBlank() ? null : host;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        probeExecutor.shutdownNow();
+    }
+}
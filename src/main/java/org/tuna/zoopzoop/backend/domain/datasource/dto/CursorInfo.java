@@ -0,0 +1,8 @@
+package org.tuna.zoopzoop.backend.domain.datasource.dto;
+
+public record CursorInfo(
+        int size,
+        String nextCursor, // 다음 요청의 cursor 파라미터 (마지막이면 null)
+        boolean hasNext,
+        String sorted
+) {}
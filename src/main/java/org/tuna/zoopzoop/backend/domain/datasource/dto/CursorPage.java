@@ -0,0 +1,14 @@
+package org.tuna.zoopzoop.backend.domain.datasource.dto;
+
+import java.util.List;
+
+// 커서(keyset) 페이지: 전체 건수 없이 다음 커서만 반환
+public record CursorPage<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static <T> CursorPage<T> empty() {
+        return new CursorPage<>(List.of(), null, false);
+    }
+}
@@ -0,0 +1,10 @@
+package org.tuna.zoopzoop.backend.domain.datasource.dto;
+
+import java.util.Collection;
+
+// 자료 생성/수정/이동/삭제 → 커밋 후 검색 색인 동기화 + 아카이브 버전 증가
+public record DataSourceChangedEvent(
+        Collection<Integer> dataSourceIds,
+        Collection<Integer> archiveIds // 변경 전/후 자료가 속한 아카이브
+) {
+}
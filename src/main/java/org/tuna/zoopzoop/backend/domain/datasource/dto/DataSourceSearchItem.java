@@ -1,14 +1,22 @@
 package org.tuna.zoopzoop.backend.domain.datasource.dto;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.tuna.zoopzoop.backend.domain.datasource.entity.Category;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
 @AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // 검색 캐시(Redis) 역직렬화용
 public class DataSourceSearchItem {
+    // 검색 쿼리에서 태그를 한 문자열로 모을 때의 구분자 (태그명에 쓰이지 않는 제어 문자)
+    public static final String TAG_SEPARATOR = "\u001F";
+
     private Integer dataSourceId;
     private String title;
     private LocalDate dataCreatedDate;
@@ -18,4 +26,13 @@ public class DataSourceSearchItem {
     private String imageUrl;
     private List<String> tags;
     private String category;
+
+    // 검색 쿼리 프로젝션용: 행 그대로 받아 생성일시 → 날짜, 모은 태그 → 목록, 카테고리 → 코드로 변환
+    public DataSourceSearchItem(Integer dataSourceId, String title, LocalDateTime createDate, String summary,
+                                String source, String sourceUrl, String imageUrl, String joinedTags, Category category) {
+        this(dataSourceId, title, createDate != null ? createDate.toLocalDate() : null, summary,
+                source, sourceUrl, imageUrl,
+                joinedTags == null || joinedTags.isEmpty() ? List.of() : List.of(joinedTags.split(TAG_SEPARATOR)),
+                category != null ? category.name() : null);
+    }
 }
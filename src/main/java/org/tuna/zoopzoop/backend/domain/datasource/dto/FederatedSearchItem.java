@@ -0,0 +1,9 @@
+package org.tuna.zoopzoop.backend.domain.datasource.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+// 통합 검색 항목: 일반 검색 항목 필드 + origin (어느 아카이브의 자료인지)
+public record FederatedSearchItem(
+        @JsonUnwrapped DataSourceSearchItem dataSource,
+        SearchOrigin origin
+) {}
@@ -1,5 +1,7 @@
 package org.tuna.zoopzoop.backend.domain.datasource.dto;
 
+import org.springframework.data.domain.Page;
+
 public record PageInfo(
         int page,
         int size,
@@ -7,5 +9,14 @@ public record PageInfo(
         int totalPages,
         boolean first,
         boolean last,
-        String sorted
-) {}
\ No newline at end of file
+        String sorted,
+        boolean totalApproximate // true면 totalElements는 "이 값 이상"
+) {
+    public static PageInfo of(Page<?> page, String sorted) {
+        boolean approximate = page instanceof SearchPage<?> sp && sp.isTotalApproximate();
+        return new PageInfo(
+                page.getNumber(), page.getSize(), page.getTotalElements(), page.getTotalPages(),
+                page.isFirst(), page.isLast(), sorted, approximate
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package org.tuna.zoopzoop.backend.domain.datasource.dto;
+
+import java.util.List;
+
+// 검색 필터 사이드바용 집계 (카테고리 / 태그 상위 N / 폴더별 건수)
+public record SearchFacets(
+        List<FacetCount> categories,
+        List<FacetCount> tags,
+        List<FolderFacetCount> folders
+) {
+    public static SearchFacets empty() {
+        return new SearchFacets(List.of(), List.of(), List.of());
+    }
+
+    // value: 필터에 그대로 넘길 값 (카테고리 코드 / 태그명), label: 화면 표시용
+    public record FacetCount(String value, String label, long count) {}
+
+    public record FolderFacetCount(Integer folderId, String folderName, long count) {}
+}
@@ -0,0 +1,24 @@
+package org.tuna.zoopzoop.backend.domain.datasource.dto;
+
+// 통합 검색 결과의 출처: 개인 아카이브(spaceId/spaceName 없음) 또는 참여 중인 스페이스
+public record SearchOrigin(
+        Type type,
+        Integer archiveId,
+        Integer spaceId,
+        String spaceName
+) {
+    public enum Type { PERSONAL, SPACE }
+
+    // JPQL 생성자 표현식용 (참여 스페이스 조회)
+    public SearchOrigin(Integer archiveId, Integer spaceId, String spaceName) {
+        this(Type.SPACE, archiveId, spaceId, spaceName);
+    }
+
+    public static SearchOrigin personal(Integer archiveId) {
+        return new SearchOrigin(Type.PERSONAL, archiveId, null, null);
+    }
+
+    public static SearchOrigin space(Integer archiveId, Integer spaceId, String spaceName) {
+        return new SearchOrigin(archiveId, spaceId, spaceName);
+    }
+}
@@ -0,0 +1,20 @@
+package org.tuna.zoopzoop.backend.domain.datasource.dto;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+// 전체 건수가 근사값("N건 이상")일 수 있는 검색 페이지
+public class SearchPage<T> extends PageImpl<T> {
+    private final boolean totalApproximate;
+
+    public SearchPage(List<T> content, Pageable pageable, long total, boolean totalApproximate) {
+        super(content, pageable, total);
+        this.totalApproximate = totalApproximate;
+    }
+
+    public boolean isTotalApproximate() {
+        return totalApproximate;
+    }
+}
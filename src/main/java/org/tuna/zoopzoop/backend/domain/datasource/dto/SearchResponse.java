@@ -1,8 +1,21 @@
 package org.tuna.zoopzoop.backend.domain.datasource.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
+// paging=offset → pageInfo, paging=cursor → cursorInfo (사용하지 않는 쪽은 응답에서 생략)
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record SearchResponse<T>(
         List<T> items,
-        PageInfo pageInfo
-) {}
+        PageInfo pageInfo,
+        CursorInfo cursorInfo
+) {
+    public SearchResponse(List<T> items, PageInfo pageInfo) {
+        this(items, pageInfo, null);
+    }
+
+    public SearchResponse(List<T> items, CursorInfo cursorInfo) {
+        this(items, null, cursorInfo);
+    }
+}
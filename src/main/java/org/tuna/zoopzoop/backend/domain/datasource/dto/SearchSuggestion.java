@@ -0,0 +1,10 @@
+package org.tuna.zoopzoop.backend.domain.datasource.dto;
+
+// 검색어 자동완성 항목: 제목/태그/출처 중 입력한 접두사로 시작하는 것 (count: 같은 값을 가진 자료 수)
+public record SearchSuggestion(
+        Type type,
+        String text,
+        long count
+) {
+    public enum Type { TITLE, TAG, SOURCE }
+}
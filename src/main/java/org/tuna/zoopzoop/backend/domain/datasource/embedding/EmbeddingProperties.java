@@ -0,0 +1,51 @@
+package org.tuna.zoopzoop.backend.domain.datasource.embedding;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "embedding")
+@Getter
+@Setter
+public class EmbeddingProperties {
+    //application.yml에 embedding 항목 작성
+    //예시
+    //embedding:
+    //  enabled: true
+    //  provider: spring-ai
+    //  dimensions: 256
+    //  batch-size: 64
+    //  max-k: 200
+    //  overfetch: 3
+    //  index:
+    //    max-archives: 200
+    //    idle-ttl: 1h
+    //    min-size: 1000
+    //    m: 16
+    //    ef-construction: 100
+    //    ef-search: 100
+    //    sync-interval: 30s
+    private boolean enabled = true;        // 자료 변경 시 임베딩 계산
+    private String provider = "spring-ai"; // spring-ai | local (결정적 해시 임베딩, 테스트용)
+    private int dimensions = 256;          // 벡터 차원 (모델 출력과 같아야 함)
+    private int batchSize = 64;            // 임베딩 API 한 번에 보낼 문장 수
+    private int maxK = 200;                // 의미 검색에서 가져올 최대 결과 수
+    private int overfetch = 3;             // 필터/휴지통으로 빠질 몫을 감안해 k의 몇 배를 인덱스에서 찾을지
+    private Index index = new Index();
+
+    @Getter
+    @Setter
+    public static class Index {
+        private long maxArchives = 200;    // 메모리에 올려 둘 아카이브 인덱스 수 (LRU)
+        private Duration idleTtl = Duration.ofHours(1); // 이 시간 동안 검색이 없으면 내림
+        private int minSize = 1_000;       // 이보다 작은 아카이브는 HNSW 없이 전체 비교 (그 편이 빠름)
+        private int m = 16;                // HNSW 노드당 이웃 수 (0층은 2M)
+        private int efConstruction = 100;  // 삽입 시 후보 폭
+        private int efSearch = 100;        // 검색 시 후보 폭 (k보다 작으면 k 사용)
+        private Duration syncInterval = Duration.ofSeconds(30); // 버전이 그대로여도 이 주기로 다른 인스턴스 변경분/삭제를 따라잡음
+    }
+}
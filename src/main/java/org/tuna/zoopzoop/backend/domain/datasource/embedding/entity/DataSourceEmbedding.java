@@ -0,0 +1,76 @@
+package org.tuna.zoopzoop.backend.domain.datasource.embedding.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.tuna.zoopzoop.backend.global.jpa.entity.BaseEntity;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 자료(제목 + 요약)의 임베딩 벡터. 자료당 1건.
+ * 벡터는 float32 little-endian 바이트로 저장하고, 검색은 아카이브별 메모리 인덱스에서 한다.
+ */
+@Getter
+@Setter
+@Entity
+@NoArgsConstructor
+@Table(
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_data_source_embedding__data_source_id",
+                        columnNames = {"data_source_id"}
+                )
+        },
+        // 아카이브 인덱스 적재 + 다른 인스턴스의 변경분 따라잡기
+        indexes = {
+                @Index(name = "idx_data_source_embedding__archive_id__model__modify_date", columnList = "archive_id, model, modify_date")
+        }
+)
+public class DataSourceEmbedding extends BaseEntity {
+    // 자료 id (자료 본문을 읽지 않도록 연관관계 대신 값으로 보관)
+    @Column(name = "data_source_id", nullable = false)
+    private Integer dataSourceId;
+
+    // 자료가 속한 아카이브 (자료 이동 시 함께 갱신)
+    @Column(name = "archive_id")
+    private Integer archiveId;
+
+    // 계산한 모델 (모델/차원이 바뀌면 다시 계산)
+    @Column(nullable = false, length = 100)
+    private String model;
+
+    // sha256(모델 + 임베딩한 문장) — 제목/요약이 그대로면 다시 계산하지 않음
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "vector_data", nullable = false, length = 8192) // MySQL 9의 VECTOR 타입명과 겹치지 않게
+    private byte[] vector;
+
+    public DataSourceEmbedding(Integer dataSourceId, Integer archiveId, String model, String contentHash, float[] vector) {
+        this.dataSourceId = dataSourceId;
+        this.archiveId = archiveId;
+        this.model = model;
+        this.contentHash = contentHash;
+        this.vector = encode(vector);
+    }
+
+    public float[] vectorValues() {
+        return decode(vector);
+    }
+
+    public static byte[] encode(float[] values) {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (float v : values) buffer.putFloat(v);
+        return buffer.array();
+    }
+
+    public static float[] decode(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        float[] values = new float[bytes.length / Float.BYTES];
+        for (int i = 0; i < values.length; i++) values[i] = buffer.getFloat();
+        return values;
+    }
+}
@@ -0,0 +1,153 @@
+package org.tuna.zoopzoop.backend.domain.datasource.embedding.index;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 아카이브 하나의 벡터 모음 + HNSW 인덱스.
+ * HNSW는 백그라운드에서 만들고, 준비되기 전(또는 작은 아카이브)에는 메모리 전체 비교로 답한다.
+ * 빌드 중에 들어온 변경은 모아 두었다가 새 인덱스를 공개하기 직전에 반영한다.
+ */
+public final class ArchiveVectors {
+    private final int dimensions;
+    private final Map<Integer, float[]> vectors = new ConcurrentHashMap<>();
+    private final Set<Integer> changedDuringBuild = ConcurrentHashMap.newKeySet();
+
+    private volatile HnswIndex hnsw;
+    private volatile boolean building;
+
+    // 마지막으로 DB와 맞춘 아카이브 버전 / 시각 (다른 인스턴스 변경분 따라잡기)
+    private volatile Long syncedVersion;
+    private volatile LocalDateTime syncedAt;
+    private volatile long checkedAtNanos;
+    private final AtomicBoolean syncing = new AtomicBoolean();
+
+    public ArchiveVectors(int dimensions, Long syncedVersion, LocalDateTime syncedAt) {
+        this.dimensions = dimensions;
+        this.syncedVersion = syncedVersion;
+        this.syncedAt = syncedAt;
+        this.checkedAtNanos = System.nanoTime();
+    }
+
+    public int size() {
+        return vectors.size();
+    }
+
+    public boolean isIndexed() {
+        return hnsw != null;
+    }
+
+    public Long syncedVersion() {
+        return syncedVersion;
+    }
+
+    public LocalDateTime syncedAt() {
+        return syncedAt;
+    }
+
+    public void markSynced(Long version, LocalDateTime at) {
+        this.syncedVersion = version;
+        this.syncedAt = at;
+        this.checkedAtNanos = System.nanoTime();
+    }
+
+    // 버전이 그대로여도 마지막 동기화 후 interval이 지났으면 다시 맞춤 (자료 변경보다 늦게 저장된 벡터)
+    public boolean syncDue(Duration interval) {
+        return System.nanoTime() - checkedAtNanos >= interval.toNanos();
+    }
+
+    // 따라잡기는 아카이브당 하나씩 (이미 예약/진행 중이면 false)
+    public boolean startSync() {
+        return syncing.compareAndSet(false, true);
+    }
+
+    public void finishSync() {
+        syncing.set(false);
+    }
+
+    public Set<Integer> keys() {
+        return Set.copyOf(vectors.keySet());
+    }
+
+    public synchronized void upsert(int key, float[] vector) {
+        if (vector.length != dimensions) return; // 모델이 바뀌는 중인 이전 벡터
+        vectors.put(key, vector);
+        if (hnsw != null) hnsw.upsert(key, vector);
+        if (building) changedDuringBuild.add(key);
+    }
+
+    public synchronized void remove(int key) {
+        vectors.remove(key);
+        if (hnsw != null) hnsw.remove(key);
+        if (building) changedDuringBuild.add(key);
+    }
+
+    /**
+     * 새 HNSW가 필요하면 빌드를 시작할 수 있도록 표시하고 true.
+     * (아직 인덱스가 없고 minSize 이상이거나, 삭제 표시가 너무 많아 다시 만들 때)
+     */
+    public synchronized boolean startBuildIfNeeded(int minSize) {
+        if (building) return false;
+        boolean needed = hnsw == null ? vectors.size() >= minSize : hnsw.needsCompaction();
+        if (!needed) return false;
+        building = true;
+        changedDuringBuild.clear();
+        return true;
+    }
+
+    // 백그라운드 스레드에서 호출: 현재 벡터 스냅샷으로 빌드 → 빌드 중 변경 반영 → 공개
+    public void build(Supplier<HnswIndex> factory) {
+        try {
+            List<Map.Entry<Integer, float[]>> snapshot = new ArrayList<>(vectors.entrySet());
+            HnswIndex built = factory.get();
+            for (Map.Entry<Integer, float[]> e : snapshot) built.upsert(e.getKey(), e.getValue());
+
+            synchronized (this) {
+                for (Integer key : changedDuringBuild) {
+                    float[] v = vectors.get(key);
+                    if (v == null) built.remove(key);
+                    else built.upsert(key, v);
+                }
+                hnsw = built;
+            }
+        } finally {
+            cancelBuild();
+        }
+    }
+
+    public synchronized void cancelBuild() {
+        building = false;
+        changedDuringBuild.clear();
+    }
+
+    public List<HnswIndex.Hit> search(float[] query, int k, int ef) {
+        HnswIndex index = hnsw;
+        if (index != null) return index.search(query, k, ef);
+        return exactSearch(query, k);
+    }
+
+    // 인덱스가 없을 때: 메모리에 있는 벡터 전체와 비교 (상위 k개만 힙으로 유지)
+    private List<HnswIndex.Hit> exactSearch(float[] query, int k) {
+        if (k <= 0) return List.of();
+        PriorityQueue<HnswIndex.Hit> top = new PriorityQueue<>(k + 1, (a, b) -> Float.compare(a.score(), b.score()));
+        for (Map.Entry<Integer, float[]> e : vectors.entrySet()) {
+            float score = HnswIndex.dot(query, e.getValue());
+            if (top.size() < k) top.add(new HnswIndex.Hit(e.getKey(), score));
+            else if (score > top.peek().score()) {
+                top.poll();
+                top.add(new HnswIndex.Hit(e.getKey(), score));
+            }
+        }
+        List<HnswIndex.Hit> hits = new ArrayList<>(top);
+        hits.sort((a, b) -> Float.compare(b.score(), a.score()));
+        return hits;
+    }
+}
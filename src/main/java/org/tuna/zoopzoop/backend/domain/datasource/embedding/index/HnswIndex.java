@@ -0,0 +1,333 @@
+package org.tuna.zoopzoop.backend.domain.datasource.embedding.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 정규화된 벡터의 근사 최근접 이웃 인덱스 (HNSW, 유사도 = 내적 = 코사인).
+ * 층마다 이웃 M개(0층 2M개)의 그래프를 두고 위층에서 내려오며 탐색하므로,
+ * 10만 건에서도 한 번의 검색이 수천 번 이내의 내적으로 끝난다.
+ * 갱신은 이전 노드를 삭제 표시하고 새 노드를 넣는다 (삭제 노드는 경로로만 쓰이고 결과에서 빠짐).
+ * 쓰기는 배타 락, 검색은 공유 락.
+ */
+public final class HnswIndex {
+
+    public record Hit(int key, float score) {}
+
+    private record Candidate(int node, float score) {}
+
+    private static final Comparator<Candidate> BEST_FIRST = Comparator.comparingDouble(Candidate::score).reversed();
+    private static final Comparator<Candidate> WORST_FIRST = Comparator.comparingDouble(Candidate::score);
+
+    private static final class Node {
+        final int key;
+        final float[] vector;
+        final int[][] links;  // [층][이웃 노드 번호]
+        final int[] sizes;    // 층별 이웃 수
+        boolean deleted;
+
+        Node(int key, float[] vector, int level, int m, int maxM0) {
+            this.key = key;
+            this.vector = vector;
+            this.links = new int[level + 1][];
+            this.sizes = new int[level + 1];
+            for (int l = 0; l <= level; l++) links[l] = new int[l == 0 ? maxM0 : m];
+        }
+
+        int level() {
+            return links.length - 1;
+        }
+    }
+
+    private final int dimensions;
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final Random random;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<Node> nodes = new ArrayList<>();
+    private final Map<Integer, Integer> nodeByKey = new HashMap<>();
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+    private int deletedCount;
+
+    public HnswIndex(int dimensions, int m, int efConstruction, long seed) {
+        if (dimensions <= 0 || m < 2) throw new IllegalArgumentException("dimensions > 0, m >= 2 이어야 합니다.");
+        this.dimensions = dimensions;
+        this.m = m;
+        this.maxM0 = m * 2;
+        this.efConstruction = Math.max(efConstruction, m);
+        this.levelMultiplier = 1 / Math.log(m);
+        this.random = new Random(seed);
+    }
+
+    public int dimensions() {
+        return dimensions;
+    }
+
+    // 결과로 나올 수 있는 (삭제되지 않은) 항목 수
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodeByKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 삭제 표시된 노드가 살아 있는 노드보다 많으면 다시 만드는 편이 검색이 빠름
+    public boolean needsCompaction() {
+        lock.readLock().lock();
+        try {
+            return deletedCount > 1_000 && deletedCount > nodeByKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * key의 벡터를 넣거나 바꾼다. 같은 벡터면 아무것도 하지 않음.
+     */
+    public void upsert(int key, float[] vector) {
+        if (vector.length != dimensions)
+            throw new IllegalArgumentException("벡터 차원이 인덱스와 다릅니다. expected: " + dimensions + ", actual: " + vector.length);
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = nodeByKey.get(key);
+            if (existing != null) {
+                if (Arrays.equals(nodes.get(existing).vector, vector)) return;
+                markDeleted(existing);
+            }
+            insert(key, vector.clone());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int key) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = nodeByKey.get(key);
+            if (existing != null) markDeleted(existing);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 유사도 내림차순 상위 k개.
+     * @param ef 0층 후보 폭 (클수록 정확하고 느림, k보다 작으면 k)
+     */
+    public List<Hit> search(float[] query, int k, int ef) {
+        if (query.length != dimensions)
+            throw new IllegalArgumentException("벡터 차원이 인덱스와 다릅니다. expected: " + dimensions + ", actual: " + query.length);
+        if (k <= 0) return List.of();
+
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0 || nodeByKey.isEmpty()) return List.of();
+
+            int ep = entryPoint;
+            for (int l = maxLevel; l > 0; l--) ep = greedyClosest(query, ep, l);
+
+            // 삭제 노드가 후보 자리를 차지하므로 그만큼 폭을 넓힘
+            int width = Math.max(ef, k) + Math.min(deletedCount, Math.max(ef, k));
+            List<Candidate> found = searchLayer(query, ep, width, 0);
+
+            List<Hit> hits = new ArrayList<>(Math.min(k, found.size()));
+            for (Candidate c : found) {
+                Node node = nodes.get(c.node());
+                if (node.deleted) continue;
+                hits.add(new Hit(node.key, c.score()));
+                if (hits.size() == k) break;
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== 삽입 =====
+
+    private void insert(int key, float[] vector) {
+        int level = randomLevel();
+        int id = nodes.size();
+        Node node = new Node(key, vector, level, m, maxM0);
+        nodes.add(node);
+        nodeByKey.put(key, id);
+
+        if (entryPoint < 0) {
+            entryPoint = id;
+            maxLevel = level;
+            return;
+        }
+
+        int ep = entryPoint;
+        for (int l = maxLevel; l > level; l--) ep = greedyClosest(vector, ep, l);
+
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            List<Candidate> candidates = searchLayer(vector, ep, efConstruction, l);
+            int limit = l == 0 ? maxM0 : m;
+            List<Candidate> neighbors = selectNeighbors(candidates, m);
+
+            for (Candidate neighbor : neighbors) {
+                link(node, l, neighbor.node());
+                connectBack(neighbor.node(), id, l, limit);
+            }
+            ep = candidates.getFirst().node();
+        }
+
+        if (level > maxLevel) {
+            entryPoint = id;
+            maxLevel = level;
+        }
+    }
+
+    private int randomLevel() {
+        double u = 1.0 - random.nextDouble(); // (0, 1]
+        return (int) Math.floor(-Math.log(u) * levelMultiplier);
+    }
+
+    /**
+     * 이웃 선택 휴리스틱: 이미 고른 이웃보다 후보 쪽에 더 가까운 후보만 고른다 (방향이 겹치는 이웃 배제).
+     * 모자라면 남은 후보 중 가까운 순으로 채움.
+     */
+    private List<Candidate> selectNeighbors(List<Candidate> candidates, int limit) {
+        if (candidates.size() <= limit) return candidates;
+
+        List<Candidate> selected = new ArrayList<>(limit);
+        List<Candidate> pruned = new ArrayList<>();
+        for (Candidate c : candidates) {
+            if (selected.size() == limit) break;
+            float[] v = nodes.get(c.node()).vector;
+            boolean diverse = true;
+            for (Candidate s : selected) {
+                if (dot(v, nodes.get(s.node()).vector) > c.score()) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) selected.add(c);
+            else pruned.add(c);
+        }
+        for (int i = 0; selected.size() < limit && i < pruned.size(); i++) selected.add(pruned.get(i));
+        return selected;
+    }
+
+    private void link(Node node, int level, int neighbor) {
+        node.links[level][node.sizes[level]++] = neighbor;
+    }
+
+    // 이웃 쪽에도 새 노드를 연결, 넘치면 그 이웃 기준으로 가장 먼 이웃 하나를 뺀다
+    private void connectBack(int neighborId, int newId, int level, int limit) {
+        Node neighbor = nodes.get(neighborId);
+        if (neighbor.sizes[level] < limit) {
+            link(neighbor, level, newId);
+            return;
+        }
+
+        int[] links = neighbor.links[level];
+        int worst = -1;
+        float worstScore = dot(neighbor.vector, nodes.get(newId).vector);
+        for (int i = 0; i < limit; i++) {
+            float score = dot(neighbor.vector, nodes.get(links[i]).vector);
+            if (score < worstScore) {
+                worstScore = score;
+                worst = i;
+            }
+        }
+        if (worst >= 0) links[worst] = newId;
+    }
+
+    private void markDeleted(int id) {
+        Node node = nodes.get(id);
+        if (node.deleted) return;
+        node.deleted = true;
+        nodeByKey.remove(node.key);
+        deletedCount++;
+    }
+
+    // ===== 탐색 =====
+
+    private int greedyClosest(float[] query, int start, int level) {
+        int current = start;
+        float best = dot(query, nodes.get(current).vector);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            Node node = nodes.get(current);
+            for (int i = 0; i < node.sizes[level]; i++) {
+                int next = node.links[level][i];
+                float score = dot(query, nodes.get(next).vector);
+                if (score > best) {
+                    best = score;
+                    current = next;
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    // 한 층에서 ef개 후보를 유지하며 넓혀 가는 탐색. 유사도 내림차순으로 반환
+    private List<Candidate> searchLayer(float[] query, int entry, int ef, int level) {
+        BitSet visited = new BitSet(nodes.size());
+        PriorityQueue<Candidate> frontier = new PriorityQueue<>(BEST_FIRST);
+        PriorityQueue<Candidate> results = new PriorityQueue<>(WORST_FIRST);
+
+        Candidate start = new Candidate(entry, dot(query, nodes.get(entry).vector));
+        visited.set(entry);
+        frontier.add(start);
+        results.add(start);
+
+        while (!frontier.isEmpty()) {
+            Candidate current = frontier.poll();
+            if (results.size() >= ef && current.score() < results.peek().score()) break;
+
+            Node node = nodes.get(current.node());
+            for (int i = 0; i < node.sizes[level]; i++) {
+                int next = node.links[level][i];
+                if (visited.get(next)) continue;
+                visited.set(next);
+
+                float score = dot(query, nodes.get(next).vector);
+                if (results.size() < ef || score > results.peek().score()) {
+                    Candidate c = new Candidate(next, score);
+                    frontier.add(c);
+                    results.add(c);
+                    if (results.size() > ef) results.poll();
+                }
+            }
+        }
+
+        List<Candidate> sorted = new ArrayList<>(results);
+        sorted.sort(BEST_FIRST);
+        return sorted;
+    }
+
+    // 누산기 4개로 나눠 의존 사슬을 끊음 (JIT가 부동소수 합을 벡터화하지 않으므로)
+    static float dot(float[] a, float[] b) {
+        float s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        int bound = a.length - (a.length % 4);
+        for (; i < bound; i += 4) {
+            s0 += a[i] * b[i];
+            s1 += a[i + 1] * b[i + 1];
+            s2 += a[i + 2] * b[i + 2];
+            s3 += a[i + 3] * b[i + 3];
+        }
+        for (; i < a.length; i++) s0 += a[i] * b[i];
+        return (s0 + s1) + (s2 + s3);
+    }
+}
@@ -0,0 +1,71 @@
+package org.tuna.zoopzoop.backend.domain.datasource.embedding.model;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.EmbeddingProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 외부 호출 없는 결정적 임베딩 (테스트/로컬 개발용).
+ * 단어와 글자 bigram을 해시해 차원에 더하는 feature hashing이라 같은 글자를 많이 공유할수록 가깝다.
+ * 의미는 모르므로 "금리 인상" ↔ "rate hike" 같은 매칭은 실제 모델(spring-ai)에서만 된다.
+ */
+@Component
+@ConditionalOnProperty(value = "embedding.provider", havingValue = "local")
+public class LocalHashingTextEmbedder implements TextEmbedder {
+    private final int dimensions;
+
+    public LocalHashingTextEmbedder(EmbeddingProperties properties) {
+        this.dimensions = properties.getDimensions();
+    }
+
+    @Override
+    public String model() {
+        return "local-hashing:" + dimensions;
+    }
+
+    @Override
+    public int dimensions() {
+        return dimensions;
+    }
+
+    @Override
+    public List<float[]> embed(List<String> texts) {
+        List<float[]> out = new ArrayList<>(texts.size());
+        for (String text : texts) out.add(embedOne(text));
+        return out;
+    }
+
+    private float[] embedOne(String text) {
+        float[] v = new float[dimensions];
+        if (text == null) return v;
+
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) continue;
+            add(v, "w:" + word, 1.0f);
+            for (int i = 0; i + 1 < word.length(); i++) {
+                add(v, "b:" + word.substring(i, i + 2), 0.5f);
+            }
+        }
+        return TextEmbedder.normalize(v);
+    }
+
+    // 해시로 차원과 부호를 정해 더함 (부호를 섞어 충돌 편향 상쇄)
+    private void add(float[] v, String feature, float weight) {
+        int h = mix(feature.hashCode());
+        int index = Math.floorMod(h, dimensions);
+        v[index] += (h & 0x8000_0000) == 0 ? weight : -weight;
+    }
+
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85eb_ca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2_ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -0,0 +1,50 @@
+package org.tuna.zoopzoop.backend.domain.datasource.embedding.model;
+
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.EmbeddingProperties;
+
+import java.util.List;
+
+// Spring AI EmbeddingModel (spring.ai.openai.embedding.*) 위임
+// 임베딩 키가 비면 Spring AI가 공통 키(Groq)로 대체하므로 기동 시 막는다
+@Component
+@ConditionalOnProperty(value = "embedding.provider", havingValue = "spring-ai", matchIfMissing = true)
+public class SpringAiTextEmbedder implements TextEmbedder {
+    private final EmbeddingModel embeddingModel;
+    private final EmbeddingProperties properties;
+    private final String model;
+
+    public SpringAiTextEmbedder(EmbeddingModel embeddingModel,
+                                EmbeddingProperties properties,
+                                @Value("${spring.ai.openai.embedding.options.model:text-embedding-3-small}") String model,
+                                @Value("${spring.ai.openai.embedding.api-key:}") String apiKey) {
+        if (apiKey.isBlank())
+            throw new IllegalStateException("embedding.provider=spring-ai에는 OPENAI_EMBEDDING_API_KEY가 필요합니다. (로컬/테스트는 embedding.provider=local)");
+        this.embeddingModel = embeddingModel;
+        this.properties = properties;
+        this.model = model + ":" + properties.getDimensions();
+    }
+
+    @Override
+    public String model() {
+        return model;
+    }
+
+    @Override
+    public int dimensions() {
+        return properties.getDimensions();
+    }
+
+    @Override
+    public List<float[]> embed(List<String> texts) {
+        List<float[]> vectors = embeddingModel.embed(texts);
+        for (float[] v : vectors) {
+            if (v.length != properties.getDimensions())
+                throw new IllegalStateException("임베딩 차원이 설정과 다릅니다. expected: " + properties.getDimensions() + ", actual: " + v.length);
+        }
+        return vectors.stream().map(TextEmbedder::normalize).toList();
+    }
+}
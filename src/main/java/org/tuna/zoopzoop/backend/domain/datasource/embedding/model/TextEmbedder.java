@@ -0,0 +1,31 @@
+package org.tuna.zoopzoop.backend.domain.datasource.embedding.model;
+
+import java.util.List;
+
+/**
+ * 문장 → 벡터. 구현은 embedding.provider로 선택 (spring-ai | local).
+ * 반환 벡터는 L2 정규화되어 있어 내적이 곧 코사인 유사도.
+ */
+public interface TextEmbedder {
+
+    // 저장된 벡터가 어떤 모델로 계산됐는지 구분 (모델이 바뀌면 다시 계산)
+    String model();
+
+    int dimensions();
+
+    List<float[]> embed(List<String> texts);
+
+    default float[] embed(String text) {
+        return embed(List.of(text)).getFirst();
+    }
+
+    static float[] normalize(float[] v) {
+        double norm = 0;
+        for (float x : v) norm += x * x;
+        if (norm == 0) return v;
+        float inv = (float) (1 / Math.sqrt(norm));
+        float[] out = new float[v.length];
+        for (int i = 0; i < v.length; i++) out[i] = v[i] * inv;
+        return out;
+    }
+}
@@ -0,0 +1,51 @@
+package org.tuna.zoopzoop.backend.domain.datasource.embedding.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.entity.DataSourceEmbedding;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface DataSourceEmbeddingRepository extends JpaRepository<DataSourceEmbedding, Integer> {
+
+    List<DataSourceEmbedding> findAllByDataSourceIdIn(Collection<Integer> dataSourceIds);
+
+    // 아카이브 인덱스 적재 (id 기준 keyset)
+    @Query("""
+           select new org.tuna.zoopzoop.backend.domain.datasource.embedding.repository.EmbeddingVectorRow(
+                  e.id, e.dataSourceId, e.vector)
+           from DataSourceEmbedding e
+           where e.archiveId = :archiveId and e.model = :model and e.id > :afterId
+           order by e.id
+           """)
+    List<EmbeddingVectorRow> findVectorsAfter(@Param("archiveId") Integer archiveId,
+                                     @Param("model") String model,
+                                     @Param("afterId") int afterId,
+                                     Pageable pageable);
+
+    // 다른 인스턴스에서 바뀐 벡터 따라잡기
+    @Query("""
+           select new org.tuna.zoopzoop.backend.domain.datasource.embedding.repository.EmbeddingVectorRow(
+                  e.id, e.dataSourceId, e.vector)
+           from DataSourceEmbedding e
+           where e.archiveId = :archiveId and e.model = :model and e.modifyDate >= :since
+           """)
+    List<EmbeddingVectorRow> findVectorsChangedSince(@Param("archiveId") Integer archiveId,
+                                            @Param("model") String model,
+                                            @Param("since") LocalDateTime since);
+
+    // 따라잡기 시 삭제/이동된 자료 정리
+    @Query("select e.dataSourceId from DataSourceEmbedding e where e.archiveId = :archiveId and e.model = :model")
+    List<Integer> findDataSourceIds(@Param("archiveId") Integer archiveId, @Param("model") String model);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from DataSourceEmbedding e where e.dataSourceId in :dataSourceIds")
+    int deleteAllByDataSourceIdIn(@Param("dataSourceIds") Collection<Integer> dataSourceIds);
+}
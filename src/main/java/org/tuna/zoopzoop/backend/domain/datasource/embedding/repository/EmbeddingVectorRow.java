@@ -0,0 +1,5 @@
+package org.tuna.zoopzoop.backend.domain.datasource.embedding.repository;
+
+// 인덱스 적재용 (엔티티 대신 필요한 값만)
+public record EmbeddingVectorRow(int id, Integer dataSourceId, byte[] vector) {
+}
@@ -0,0 +1,173 @@
+package org.tuna.zoopzoop.backend.domain.datasource.embedding.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.tuna.zoopzoop.backend.domain.archive.archive.service.ArchiveVersionService;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.EmbeddingProperties;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.entity.DataSourceEmbedding;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.index.ArchiveVectors;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.index.HnswIndex;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.model.TextEmbedder;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.repository.DataSourceEmbeddingRepository;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.repository.EmbeddingVectorRow;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 아카이브별 메모리 벡터 인덱스 (인스턴스 로컬, LRU).
+ * 첫 의미 검색 때 DB에서 벡터를 읽어 올리고 HNSW는 전용 풀(vectorIndexExecutor)에서 만든다.
+ * 이 인스턴스의 변경은 바로 반영하고, 다른 인스턴스의 변경은 아카이브 버전이 바뀌었거나 sync-interval이 지났을 때
+ * 같은 풀에서 아카이브당 하나씩 따라잡는다 (수정 시각 기준 반영 후 DB에 없는 자료(삭제/다른 아카이브로 이동)를 지움).
+ * 검색 요청은 따라잡기를 기다리지 않고 현재 벡터로 답하며, 그 사이 옮겨지거나 지워진 자료는 호출 측에서 MySQL 조건으로 다시 거른다.
+ */
+@Slf4j
+@Service
+public class ArchiveVectorIndexService {
+    private static final int LOAD_BATCH_SIZE = 2_000;
+    // 인스턴스 간 시계 차이/커밋 지연만큼 겹쳐 읽음 (같은 벡터 재반영은 무시됨)
+    private static final long SYNC_OVERLAP_SECONDS = 30;
+
+    private final DataSourceEmbeddingRepository embeddingRepository;
+    private final ArchiveVersionService archiveVersionService;
+    private final TextEmbedder embedder;
+    private final EmbeddingProperties properties;
+    private final Cache<Integer, ArchiveVectors> archives;
+    private final Executor builder;
+    private final Timer searchTimer;
+
+    public ArchiveVectorIndexService(DataSourceEmbeddingRepository embeddingRepository,
+                                     ArchiveVersionService archiveVersionService,
+                                     TextEmbedder embedder,
+                                     EmbeddingProperties properties,
+                                     MeterRegistry meterRegistry,
+                                     @Qualifier("vectorIndexExecutor") Executor vectorIndexExecutor) {
+        this.embeddingRepository = embeddingRepository;
+        this.archiveVersionService = archiveVersionService;
+        this.embedder = embedder;
+        this.properties = properties;
+        this.archives = Caffeine.newBuilder()
+                .maximumSize(properties.getIndex().getMaxArchives())
+                .expireAfterAccess(properties.getIndex().getIdleTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, archives, "embedding.index.archives");
+        this.builder = vectorIndexExecutor;
+        this.searchTimer = Timer.builder("embedding.index.search")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 유사도 내림차순 상위 k개 (자료 id, 코사인 유사도).
+     */
+    public List<HnswIndex.Hit> search(int archiveId, float[] query, int k) {
+        ArchiveVectors vectors = archives.get(archiveId, this::load);
+        scheduleCatchUpIfDue(archiveId, vectors);
+        scheduleBuildIfNeeded(archiveId, vectors);
+
+        int ef = Math.max(properties.getIndex().getEfSearch(), k);
+        return searchTimer.record(() -> vectors.search(query, k, ef));
+    }
+
+    // 이 인스턴스에서 계산한 벡터: 올라와 있는 아카이브에만 바로 반영
+    public void upsert(Integer archiveId, int dataSourceId, float[] vector) {
+        if (archiveId == null) return;
+        ArchiveVectors vectors = archives.getIfPresent(archiveId);
+        if (vectors != null) vectors.upsert(dataSourceId, vector);
+    }
+
+    public void remove(Integer archiveId, int dataSourceId) {
+        if (archiveId == null) return;
+        ArchiveVectors vectors = archives.getIfPresent(archiveId);
+        if (vectors != null) vectors.remove(dataSourceId);
+    }
+
+    // ===== 적재 / 동기화 =====
+
+    private ArchiveVectors load(Integer archiveId) {
+        long start = System.currentTimeMillis();
+        // 버전/시각을 먼저 잡아야 읽는 도중의 변경을 다음 따라잡기에서 놓치지 않음
+        Long version = archiveVersionService.current(archiveId);
+        LocalDateTime since = LocalDateTime.now().minusSeconds(SYNC_OVERLAP_SECONDS);
+
+        ArchiveVectors vectors = new ArchiveVectors(embedder.dimensions(), version, since);
+        int afterId = 0;
+        while (true) {
+            List<EmbeddingVectorRow> rows = embeddingRepository.findVectorsAfter(
+                    archiveId, embedder.model(), afterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            if (rows.isEmpty()) break;
+            for (EmbeddingVectorRow row : rows) vectors.upsert(row.dataSourceId(), DataSourceEmbedding.decode(row.vector()));
+            afterId = rows.getLast().id();
+        }
+
+        log.info("Loaded {} vectors for archive {} in {} ms", vectors.size(), archiveId, System.currentTimeMillis() - start);
+        return vectors;
+    }
+
+    private void scheduleCatchUpIfDue(int archiveId, ArchiveVectors vectors) {
+        Long version = archiveVersionService.current(archiveId);
+        boolean versionChanged = version != null && !Objects.equals(version, vectors.syncedVersion());
+        if (!versionChanged && !vectors.syncDue(properties.getIndex().getSyncInterval())) return;
+        if (!vectors.startSync()) return;
+
+        try {
+            builder.execute(() -> {
+                try {
+                    catchUp(archiveId, vectors, version);
+                } catch (RuntimeException e) {
+                    log.warn("Vector index catch-up failed. archiveId: {}", archiveId, e); // 다음 검색에서 다시 예약
+                } finally {
+                    vectors.finishSync();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            vectors.finishSync(); // 대기열이 가득 참/종료 중: 다음 검색에서 다시 예약
+        }
+    }
+
+    // version은 예약 시점에 읽은 값 (따라잡는 도중의 변경은 버전이 다시 올라 다음에 반영)
+    private void catchUp(int archiveId, ArchiveVectors vectors, Long version) {
+        LocalDateTime since = LocalDateTime.now().minusSeconds(SYNC_OVERLAP_SECONDS);
+        String model = embedder.model();
+        List<EmbeddingVectorRow> rows = embeddingRepository.findVectorsChangedSince(archiveId, model, vectors.syncedAt());
+        for (EmbeddingVectorRow row : rows) vectors.upsert(row.dataSourceId(), DataSourceEmbedding.decode(row.vector()));
+
+        // 수정 시각으로는 보이지 않는 삭제/이동: DB에 더 이상 이 아카이브 벡터가 없는 자료를 뺌
+        // (이 인스턴스가 커밋 전에 먼저 올린 벡터가 빠져도 겹쳐 읽는 구간 안이라 다음 따라잡기에서 다시 들어옴)
+        Set<Integer> stale = new HashSet<>(vectors.keys());
+        stale.removeAll(embeddingRepository.findDataSourceIds(archiveId, model));
+        stale.forEach(vectors::remove);
+
+        vectors.markSynced(version == null ? vectors.syncedVersion() : version, since);
+    }
+
+    private void scheduleBuildIfNeeded(int archiveId, ArchiveVectors vectors) {
+        EmbeddingProperties.Index config = properties.getIndex();
+        if (!vectors.startBuildIfNeeded(config.getMinSize())) return;
+
+        try {
+            builder.execute(() -> {
+                long start = System.currentTimeMillis();
+                vectors.build(() -> new HnswIndex(embedder.dimensions(), config.getM(), config.getEfConstruction(), archiveId));
+                log.info("Built HNSW index for archive {} ({} vectors) in {} ms",
+                        archiveId, vectors.size(), System.currentTimeMillis() - start);
+            });
+        } catch (RejectedExecutionException e) {
+            // 대기열이 가득 참/종료 중: 다음 검색에서 다시 시도
+            vectors.cancelBuild();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package org.tuna.zoopzoop.backend.domain.datasource.embedding.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceChangedEvent;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.EmbeddingProperties;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.entity.DataSourceEmbedding;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.model.TextEmbedder;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.repository.DataSourceEmbeddingRepository;
+import org.tuna.zoopzoop.backend.domain.datasource.entity.DataSource;
+import org.tuna.zoopzoop.backend.domain.datasource.repository.DataSourceRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 자료(제목 + 요약) 임베딩 계산/저장.
+ * 쓰기 트랜잭션 커밋 후 변경된 자료를 임베딩 전용 풀(embeddingExecutor)에서 다시 읽어, 문장이 바뀐 자료만 모델에 보낸다 (이동은 아카이브만 갱신).
+ * 요청 스레드는 임베딩 API를 기다리지 않으며, 임베딩 실패는 쓰기 요청을 실패시키지 않음 (의미 검색에서 빠질 뿐, 백필로 복구).
+ * 다른 인스턴스의 메모리 인덱스는 ArchiveVectorIndexService의 주기적 따라잡기로 반영된다.
+ */
+@Slf4j
+@Service
+public class DataSourceEmbeddingService {
+    private final DataSourceRepository dataSourceRepository;
+    private final DataSourceEmbeddingRepository embeddingRepository;
+    private final ArchiveVectorIndexService vectorIndexService;
+    private final TextEmbedder embedder;
+    private final EmbeddingProperties properties;
+    private final TransactionOperations transactionOperations;
+    private final Executor embeddingExecutor;
+
+    public DataSourceEmbeddingService(DataSourceRepository dataSourceRepository,
+                                      DataSourceEmbeddingRepository embeddingRepository,
+                                      ArchiveVectorIndexService vectorIndexService,
+                                      TextEmbedder embedder,
+                                      EmbeddingProperties properties,
+                                      TransactionOperations transactionOperations,
+                                      @Qualifier("embeddingExecutor") Executor embeddingExecutor) {
+        this.dataSourceRepository = dataSourceRepository;
+        this.embeddingRepository = embeddingRepository;
+        this.vectorIndexService = vectorIndexService;
+        this.embedder = embedder;
+        this.properties = properties;
+        this.transactionOperations = transactionOperations;
+        this.embeddingExecutor = embeddingExecutor;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(DataSourceChangedEvent event) {
+        if (!properties.isEnabled() || event.dataSourceIds() == null || event.dataSourceIds().isEmpty()) return;
+        List<Integer> ids = List.copyOf(event.dataSourceIds());
+        embeddingExecutor.execute(() -> {
+            try {
+                embed(ids);
+            } catch (RuntimeException e) {
+                log.warn("Failed to embed data sources {}", ids, e);
+            }
+        });
+    }
+
+    // 전체 백필 (id 순으로 batchSize씩, 배치마다 따로 트랜잭션)
+    public int embedAll(int batchSize) {
+        int embedded = 0;
+        int afterId = 0;
+        while (true) {
+            List<Integer> ids = dataSourceRepository.findIdsAfter(afterId, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) return embedded;
+
+            embedded += embed(ids);
+            afterId = ids.getLast();
+            log.info("Embedded {} data sources (last id {})", embedded, afterId);
+        }
+    }
+
+    // 새로 계산한 자료 수 반환 (호출마다 한 트랜잭션, 내부 호출에서도 프록시 없이 적용되도록 직접 감쌈)
+    public int embed(Collection<Integer> ids) {
+        Integer embedded = transactionOperations.execute(status -> embedInTransaction(ids));
+        return embedded == null ? 0 : embedded;
+    }
+
+    private int embedInTransaction(Collection<Integer> ids) {
+        String model = embedder.model();
+        List<DataSource> found = dataSourceRepository.findAllById(ids);
+        Map<Integer, DataSourceEmbedding> existing = embeddingRepository.findAllByDataSourceIdIn(ids).stream()
+                .collect(Collectors.toMap(DataSourceEmbedding::getDataSourceId, Function.identity()));
+        List<DataSourceEmbedding> changed = new ArrayList<>();
+
+        List<DataSource> pending = new ArrayList<>();
+        List<String> texts = new ArrayList<>();
+        for (DataSource ds : found) {
+            String text = textOf(ds);
+            DataSourceEmbedding current = existing.get(ds.getId());
+            if (text.isBlank()) continue;
+
+            String hash = DigestUtils.sha256Hex(model + "\n" + text);
+            if (current != null && hash.equals(current.getContentHash())) {
+                // 문장은 그대로: 다른 아카이브로 옮겨졌으면 아카이브만 바꿈
+                if (!Objects.equals(current.getArchiveId(), ds.getArchiveId())) {
+                    vectorIndexService.remove(current.getArchiveId(), ds.getId());
+                    current.setArchiveId(ds.getArchiveId());
+                    changed.add(current);
+                    vectorIndexService.upsert(ds.getArchiveId(), ds.getId(), current.vectorValues());
+                }
+                continue;
+            }
+            pending.add(ds);
+            texts.add(text);
+        }
+
+        int batchSize = Math.max(1, properties.getBatchSize());
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, pending.size());
+            List<float[]> vectors = embedder.embed(texts.subList(from, to));
+
+            for (int i = from; i < to; i++) {
+                DataSource ds = pending.get(i);
+                float[] vector = vectors.get(i - from);
+                String hash = DigestUtils.sha256Hex(model + "\n" + texts.get(i));
+
+                DataSourceEmbedding current = existing.get(ds.getId());
+                if (current == null) {
+                    changed.add(new DataSourceEmbedding(ds.getId(), ds.getArchiveId(), model, hash, vector));
+                } else {
+                    if (!Objects.equals(current.getArchiveId(), ds.getArchiveId()))
+                        vectorIndexService.remove(current.getArchiveId(), ds.getId());
+                    current.setArchiveId(ds.getArchiveId());
+                    current.setModel(model);
+                    current.setContentHash(hash);
+                    current.setVector(DataSourceEmbedding.encode(vector));
+                    changed.add(current);
+                }
+                vectorIndexService.upsert(ds.getArchiveId(), ds.getId(), vector);
+            }
+        }
+
+        embeddingRepository.saveAll(changed);
+
+        // 물리 삭제된 자료
+        Set<Integer> missing = new HashSet<>(ids);
+        found.forEach(ds -> missing.remove(ds.getId()));
+        if (!missing.isEmpty()) {
+            missing.forEach(id -> {
+                DataSourceEmbedding gone = existing.get(id);
+                if (gone != null) vectorIndexService.remove(gone.getArchiveId(), id);
+            });
+            embeddingRepository.deleteAllByDataSourceIdIn(missing);
+        }
+
+        return pending.size();
+    }
+
+    private static String textOf(DataSource ds) {
+        String title = ds.getTitle() == null ? "" : ds.getTitle().trim();
+        String summary = ds.getSummary() == null ? "" : ds.getSummary().trim();
+        return (title + "\n" + summary).trim();
+    }
+}
@@ -0,0 +1,77 @@
+package org.tuna.zoopzoop.backend.domain.datasource.embedding.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceSearchCondition;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceSearchItem;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.SearchPage;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.EmbeddingProperties;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.index.HnswIndex;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.model.TextEmbedder;
+import org.tuna.zoopzoop.backend.domain.datasource.repository.DataSourceQRepository;
+
+import java.util.List;
+
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * 의미 검색: keyword를 임베딩해 아카이브 벡터 인덱스에서 코사인 유사도 상위 k개를 찾고,
+ * MySQL에서 아카이브/활성/나머지 검색 조건으로 다시 걸러 유사도 순서대로 반환한다.
+ * 결과는 최대 maxK개까지만 페이지로 나눠 볼 수 있고 전체 건수는 근사치.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SemanticSearchService {
+    private final TextEmbedder embedder;
+    private final ArchiveVectorIndexService vectorIndexService;
+    private final DataSourceQRepository dataSourceQRepository;
+    private final EmbeddingProperties properties;
+
+    /**
+     * @return 의미 검색이 꺼져 있거나 임베딩 모델 장애 시 null → 호출 측에서 키워드 검색으로 대체
+     */
+    public Page<DataSourceSearchItem> search(int archiveId, DataSourceSearchCondition cond, Pageable pageable) {
+        if (cond == null || !hasText(cond.getKeyword()))
+            throw new IllegalArgumentException("의미 검색에는 keyword가 필요합니다.");
+        if (!properties.isEnabled()) return null;
+
+        int maxK = properties.getMaxK();
+        if (pageable.getOffset() >= maxK) return new SearchPage<>(List.of(), pageable, maxK, true);
+        int k = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), maxK);
+
+        float[] query;
+        try {
+            query = embedder.embed(cond.getKeyword());
+        } catch (RuntimeException e) {
+            log.warn("Query embedding failed. Falling back to keyword search.", e);
+            return null;
+        }
+
+        // 휴지통/다른 조건으로 빠질 몫까지 넉넉히 찾은 뒤 MySQL에서 거름
+        List<Integer> ids = vectorIndexService.search(archiveId, query, k * Math.max(1, properties.getOverfetch())).stream()
+                .map(HnswIndex.Hit::key)
+                .toList();
+        List<DataSourceSearchItem> ranked = dataSourceQRepository.findRankedInArchive(archiveId, withoutKeyword(cond), ids);
+        if (ranked.size() > k) ranked = ranked.subList(0, k);
+
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        List<DataSourceSearchItem> content = List.copyOf(ranked.subList(from, ranked.size()));
+        return new SearchPage<>(content, pageable, ranked.size(), ranked.size() == k);
+    }
+
+    // keyword는 벡터로 처리하므로 LIKE 조건에서는 뺌
+    private static DataSourceSearchCondition withoutKeyword(DataSourceSearchCondition cond) {
+        return DataSourceSearchCondition.builder()
+                .title(cond.getTitle())
+                .summary(cond.getSummary())
+                .category(cond.getCategory())
+                .folderId(cond.getFolderId())
+                .folderName(cond.getFolderName())
+                .isActive(cond.getIsActive())
+                .build();
+    }
+}
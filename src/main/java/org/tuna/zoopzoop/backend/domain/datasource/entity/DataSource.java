@@ -1,6 +1,7 @@
 package org.tuna.zoopzoop.backend.domain.datasource.entity;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -15,12 +16,28 @@ import java.util.List;
 @Setter
 @Entity
 @NoArgsConstructor
+@Table(
+        indexes = {
+                // 아카이브 범위 검색/정렬 (개인·공유 목록, keyset 커서)
+                @Index(name = "idx_data_source__archive_id__is_active__create_date",
+                        columnList = "archive_id, is_active, create_date"),
+                // 폴더별 목록/이동
+                @Index(name = "idx_data_source__folder_id__is_active",
+                        columnList = "folder_id, is_active")
+        }
+)
 public class DataSource extends BaseEntity {
     //연결된 폴더 id
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "folder_id")
     private Folder folder;
 
+    //폴더가 속한 아카이브 id (비정규화: Folder → Archive 조인 없이 범위 조회)
+    //setFolder로만 바뀜
+    @Setter(AccessLevel.NONE)
+    @Column(name = "archive_id")
+    private Integer archiveId;
+
     //제목
     @Column(length = 1000)
     private String title;
@@ -62,4 +79,21 @@ public class DataSource extends BaseEntity {
     // 삭제 일자
     @Column
     private LocalDate deletedAt;
+
+    public void setFolder(Folder folder) {
+        this.folder = folder;
+        this.archiveId = archiveIdOf(folder);
+    }
+
+    // 폴더 지정 시점에 아카이브가 아직 저장 전이었던 경우 보정
+    @PrePersist
+    void syncArchiveId() {
+        if (archiveId == null) archiveId = archiveIdOf(folder);
+    }
+
+    private static Integer archiveIdOf(Folder folder) {
+        if (folder == null || folder.getArchive() == null) return null;
+        int id = folder.getArchive().getId();
+        return id == 0 ? null : id;
+    }
 }
@@ -0,0 +1,73 @@
+package org.tuna.zoopzoop.backend.domain.datasource.entity;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
+import org.springframework.data.elasticsearch.annotations.Setting;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 자료 키워드 검색용 색인. 검색 결과는 id만 사용하고 본문은 MySQL에서 다시 읽음
+// 분석기는 소문자로 맞춘 ngram (색인/검색 모두, LIKE 검색처럼 대소문자 무시)
+@Document(indexName = "datasource")
+@Setting(settingPath = "datasource-ngram.json")
+@Getter
+@Setter
+public class DataSourceDocument {
+    @Id
+    @Field(type = FieldType.Integer)
+    private Integer id;
+
+    @MultiField(
+            mainField = @Field(type = FieldType.Text, analyzer = "datasource_ngram_analyzer", searchAnalyzer = "datasource_ngram_analyzer"),
+            otherFields = @InnerField(suffix = "sort", type = FieldType.Keyword, ignoreAbove = 256) // 제목순 정렬용
+    )
+    private String title;
+
+    @Field(type = FieldType.Text, analyzer = "datasource_ngram_analyzer", searchAnalyzer = "datasource_ngram_analyzer")
+    private String summary;
+
+    @Field(type = FieldType.Text, analyzer = "datasource_ngram_analyzer", searchAnalyzer = "datasource_ngram_analyzer")
+    private String source;
+
+    @Field(type = FieldType.Text, analyzer = "datasource_ngram_analyzer", searchAnalyzer = "datasource_ngram_analyzer")
+    private List<String> tags;
+
+    // ENUM 이름 (IT, SCIENCE ...)
+    @Field(type = FieldType.Keyword)
+    private String category;
+
+    @Field(type = FieldType.Integer)
+    private Integer folderId;
+
+    @Field(type = FieldType.Integer)
+    private Integer archiveId;
+
+    @Field(type = FieldType.Boolean)
+    private Boolean isActive;
+
+    @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second_millis)
+    private LocalDateTime createDate;
+
+    public static DataSourceDocument from(DataSource ds) {
+        DataSourceDocument doc = new DataSourceDocument();
+        doc.setId(ds.getId());
+        doc.setTitle(ds.getTitle());
+        doc.setSummary(ds.getSummary());
+        doc.setSource(ds.getSource());
+        doc.setTags(ds.getTags().stream().map(Tag::getTagName).toList());
+        doc.setCategory(ds.getCategory() != null ? ds.getCategory().name() : null);
+        doc.setFolderId(ds.getFolder().getId());
+        doc.setArchiveId(ds.getFolder().getArchive().getId());
+        doc.setIsActive(ds.isActive());
+        doc.setCreateDate(ds.getCreateDate());
+        return doc;
+    }
+}
@@ -0,0 +1,29 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ingestion.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "ingestion.cache")
+@Getter
+@Setter
+public class IngestionCacheProperties {
+    //application.yml에 ingestion.cache 항목 작성
+    //예시
+    //ingestion:
+    //  cache:
+    //    article-ttl: 6h
+    //    analysis-ttl: 7d
+    //    local-ttl: 10m
+    //    local-max-size: 10000
+    //    redis-enabled: true
+    private Duration articleTtl = Duration.ofHours(6);   // 크롤링/추출 결과 TTL
+    private Duration analysisTtl = Duration.ofDays(7);   // 요약/분류 결과 TTL (본문 해시 기준이라 길게 유지)
+    private Duration localTtl = Duration.ofMinutes(10);  // 로컬 near-cache TTL
+    private long localMaxSize = 10_000;                  // 로컬 near-cache 최대 항목 수 (캐시별)
+    private boolean redisEnabled = true;
+}
@@ -0,0 +1,167 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ingestion.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.dto.AnalyzeContentDto;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.ArticleData;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 회원 간 공유되는 자료 등록 캐시 (로컬 Caffeine near-cache + Redis)
+ * - article  : 정규화 URL -> 크롤링/추출 결과 (fetch, extract 단계 생략)
+ * - analysis : 정규화 URL + 본문 해시 -> 요약/카테고리/태그 (LLM 호출 생략)
+ * 사용자가 직접 입력한 태그는 캐시에 넣지 않고, 조회 시점에 요청자 태그를 위에 합친다.
+ */
+@Slf4j
+@Service
+public class IngestionCacheService {
+    private static final String ARTICLE_KEY_PREFIX = "ingestion:article:";
+    private static final String ANALYSIS_KEY_PREFIX = "ingestion:analysis:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final IngestionCacheProperties properties;
+
+    private final Cache<String, ArticleData> localArticles;
+    private final Cache<String, AnalyzeContentDto> localAnalyses;
+
+    public IngestionCacheService(StringRedisTemplate stringRedisTemplate,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 IngestionCacheProperties properties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+
+        this.localArticles = newLocalCache();
+        this.localAnalyses = newLocalCache();
+        CaffeineCacheMetrics.monitor(meterRegistry, localArticles, "ingestion.article");
+        CaffeineCacheMetrics.monitor(meterRegistry, localAnalyses, "ingestion.analysis");
+    }
+
+    // ===== article =====
+
+    public Optional<ArticleData> getArticle(String sourceUrl) {
+        String key = ARTICLE_KEY_PREFIX + UrlNormalizer.normalize(sourceUrl);
+        return lookup("article", key, localArticles, ArticleData.class);
+    }
+
+    public void putArticle(String sourceUrl, ArticleData articleData) {
+        // AI 추출 실패(@Recover) 등 비어 있는 결과는 공유하지 않음
+        if (articleData == null || isBlank(articleData.title()) || isBlank(articleData.content())) return;
+
+        String key = ARTICLE_KEY_PREFIX + UrlNormalizer.normalize(sourceUrl);
+        store(key, articleData, localArticles, properties.getArticleTtl());
+    }
+
+    // ===== analysis =====
+
+    public Optional<AnalyzeContentDto> getAnalysis(String sourceUrl, String content, Collection<String> requestedTags) {
+        return lookup("analysis", analysisKey(sourceUrl, content), localAnalyses, AnalyzeContentDto.class)
+                .map(cached -> mergeTags(cached, requestedTags));
+    }
+
+    public void putAnalysis(String sourceUrl, String content, AnalyzeContentDto analyzed, Collection<String> requestedTags) {
+        if (analyzed == null || isBlank(analyzed.summary()) || analyzed.category() == null) return;
+
+        // 요청자 개인 태그가 다른 회원에게 노출되지 않도록 제거 후 저장
+        Set<String> personal = requestedTags == null ? Set.of() : Set.copyOf(requestedTags);
+        List<String> sharedTags = analyzed.tags() == null ? List.of()
+                : analyzed.tags().stream().filter(t -> !personal.contains(t)).toList();
+
+        AnalyzeContentDto shared = new AnalyzeContentDto(analyzed.summary(), analyzed.category(), sharedTags);
+        store(analysisKey(sourceUrl, content), shared, localAnalyses, properties.getAnalysisTtl());
+    }
+
+    // 요청자 태그를 먼저, 캐시된 태그를 뒤에 (중복 제거, 순서 유지)
+    static AnalyzeContentDto mergeTags(AnalyzeContentDto cached, Collection<String> requestedTags) {
+        Set<String> merged = new LinkedHashSet<>();
+        if (requestedTags != null) merged.addAll(requestedTags);
+        if (cached.tags() != null) merged.addAll(cached.tags());
+        return new AnalyzeContentDto(cached.summary(), cached.category(), new ArrayList<>(merged));
+    }
+
+    private String analysisKey(String sourceUrl, String content) {
+        String contentHash = DigestUtils.sha256Hex(content == null ? "" : content);
+        return ANALYSIS_KEY_PREFIX + UrlNormalizer.normalize(sourceUrl) + "#" + contentHash;
+    }
+
+    // ===== 공통 =====
+
+    private <T> Optional<T> lookup(String cacheName, String key, Cache<String, T> localCache, Class<T> type) {
+        T local = localCache.getIfPresent(key);
+        if (local != null) {
+            count(cacheName, "local_hit");
+            return Optional.of(local);
+        }
+
+        if (properties.isRedisEnabled()) {
+            try {
+                String json = stringRedisTemplate.opsForValue().get(key);
+                if (json != null) {
+                    T value = objectMapper.readValue(json, type);
+                    localCache.put(key, value);
+                    count(cacheName, "redis_hit");
+                    return Optional.of(value);
+                }
+            } catch (Exception e) {
+                // 캐시 장애는 등록 실패로 이어지지 않도록 miss로 처리
+                log.warn("Ingestion cache lookup failed. key: {}, reason: {}", key, e.getMessage());
+            }
+        }
+
+        count(cacheName, "miss");
+        return Optional.empty();
+    }
+
+    private <T> void store(String key, T value, Cache<String, T> localCache, Duration ttl) {
+        localCache.put(key, value);
+        if (!properties.isRedisEnabled()) return;
+
+        try {
+            stringRedisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value), ttl);
+        } catch (JsonProcessingException e) {
+            log.warn("Ingestion cache serialization failed. key: {}", key, e);
+        } catch (Exception e) {
+            log.warn("Ingestion cache store failed. key: {}, reason: {}", key, e.getMessage());
+        }
+    }
+
+    private <T> Cache<String, T> newLocalCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaxSize())
+                .expireAfterWrite(properties.getLocalTtl())
+                .recordStats()
+                .build();
+    }
+
+    private void count(String cacheName, String result) {
+        Counter.builder("ingestion.cache.requests")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static boolean isBlank(String s) {
+        return s == null || s.isBlank();
+    }
+}
@@ -0,0 +1,66 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ingestion.cache;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 캐시 키용 URL 정규화
+ * - 프로토콜 무시 (checkUrl이 https/http를 모두 시도하므로 같은 자료로 취급)
+ * - host 소문자화, 기본 포트/fragment/마지막 '/' 제거
+ * - 추적용 쿼리 파라미터(utm_*, fbclid 등) 제거 후 정렬
+ */
+public final class UrlNormalizer {
+    // ref는 git ref/추천 페이지 등 내용을 고르는 사이트가 많아 제외 (다른 자료가 하나의 캐시로 합쳐짐)
+    private static final Set<String> TRACKING_PARAMS = Set.of("fbclid", "gclid", "igshid", "ref_src");
+
+    private UrlNormalizer() {
+    }
+
+    public static String normalize(String rawUrl) {
+        if (rawUrl == null || rawUrl.isBlank()) return "";
+        String trimmed = rawUrl.trim();
+        String withScheme = trimmed.matches("(?i)^https?://.*") ? trimmed : "https://" + trimmed;
+
+        try {
+            URI uri = URI.create(withScheme);
+            String host = uri.getHost() == null ? "" : uri.getHost().toLowerCase(Locale.ROOT);
+            int port = uri.getPort();
+            String portPart = (port == -1 || port == 80 || port == 443) ? "" : ":" + port;
+
+            String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+            if (path.endsWith("/")) path = path.substring(0, path.length() - 1);
+
+            String query = normalizeQuery(uri.getRawQuery());
+            return host + portPart + path + (query.isEmpty() ? "" : "?" + query);
+        } catch (IllegalArgumentException e) {
+            // URI로 해석되지 않는 입력은 프로토콜만 떼고 그대로 사용
+            return trimmed.replaceFirst("(?i)^https?://", "");
+        }
+    }
+
+    // host 추출 (통계/호스트별 캐시용)
+    public static String host(String rawUrl) {
+        String normalized = normalize(rawUrl);
+        int end = normalized.length();
+        for (char c : new char[]{'/', '?', ':'}) {
+            int idx = normalized.indexOf(c);
+            if (idx >= 0 && idx < end) end = idx;
+        }
+        return normalized.substring(0, end);
+    }
+
+    private static String normalizeQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isBlank()) return "";
+        return Arrays.stream(rawQuery.split("&"))
+                .filter(p -> !p.isBlank())
+                .filter(p -> {
+                    String name = p.split("=", 2)[0].toLowerCase(Locale.ROOT);
+                    return !name.startsWith("utm_") && !TRACKING_PARAMS.contains(name);
+                })
+                .sorted()
+                .collect(Collectors.joining("&"));
+    }
+}
@@ -0,0 +1,22 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ingestion.dto;
+
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.entity.IngestionJob;
+
+// SSE로 전송되는 등록 완료/실패 이벤트
+public record IngestionEvent(
+        Integer jobId,
+        String status,
+        Integer dataSourceId,
+        String sourceUrl,
+        String message
+) {
+    public static IngestionEvent from(IngestionJob job) {
+        return new IngestionEvent(
+                job.getId(),
+                job.getStatus().name(),
+                job.getDataSourceId(),
+                job.getSourceUrl(),
+                job.getErrorMessage()
+        );
+    }
+}
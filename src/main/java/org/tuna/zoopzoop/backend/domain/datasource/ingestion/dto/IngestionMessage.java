@@ -0,0 +1,10 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ingestion.dto;
+
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.enums.IngestionStatus;
+
+// RabbitMQ로 전달되는 단계 실행 메시지
+public record IngestionMessage(
+        Integer jobId,
+        IngestionStatus stage
+) {
+}
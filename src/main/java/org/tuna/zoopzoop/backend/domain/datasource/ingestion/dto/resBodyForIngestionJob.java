@@ -0,0 +1,23 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ingestion.dto;
+
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.entity.IngestionJob;
+
+public record resBodyForIngestionJob(
+        Integer jobId,
+        String status,
+        String sourceUrl,
+        String extractionTier,
+        Integer dataSourceId,
+        String errorMessage
+) {
+    public static resBodyForIngestionJob from(IngestionJob job) {
+        return new resBodyForIngestionJob(
+                job.getId(),
+                job.getStatus().name(),
+                job.getSourceUrl(),
+                job.getExtractionTier() == null ? null : job.getExtractionTier().name(),
+                job.getDataSourceId(),
+                job.getErrorMessage()
+        );
+    }
+}
@@ -0,0 +1,143 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ingestion.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.tuna.zoopzoop.backend.domain.datasource.dataprocessor.enums.ExtractionTier;
+import org.tuna.zoopzoop.backend.domain.datasource.entity.Category;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.enums.IngestionStatus;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.enums.LlmCallMode;
+import org.tuna.zoopzoop.backend.global.jpa.entity.BaseEntity;
+
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * URL 기반 자료 등록 작업
+ * 단계(fetch → extract → analyze → persist)별 결과를 저장해 두어
+ * 서버 재시작 이후에도 마지막 단계부터 이어서 처리할 수 있도록 한다.
+ */
+@Getter
+@Setter
+@Entity
+@NoArgsConstructor
+@Table(
+        indexes = {
+                // 멈춘 작업 복구 조회용
+                @Index(name = "idx_ingestion_job__status__modify_date", columnList = "status, modify_date")
+        }
+)
+public class IngestionJob extends BaseEntity {
+    // 동일 단계 중복 처리 방지
+    @Version
+    private Long version;
+
+    // 요청한 회원 id
+    @Column(nullable = false)
+    private int memberId;
+
+    // 저장될 폴더 id (요청 시점에 확정)
+    @Column(nullable = false)
+    private int folderId;
+
+    // 사용자가 입력한 URL
+    @Column(length = 2048, nullable = false)
+    private String sourceUrl;
+
+    // 실제 접속에 성공한 URL
+    @Column(length = 2048)
+    private String resolvedUrl;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private IngestionStatus status = IngestionStatus.FETCH;
+
+    // 단계 재시도 횟수 (단계가 넘어가면 초기화)
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    // 사용자가 입력한 태그
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "ingestion_job_requested_tag", joinColumns = @JoinColumn(name = "ingestion_job_id"))
+    @Column(name = "tag_name")
+    private Set<String> requestedTags = new LinkedHashSet<>();
+
+    // ===== fetch 결과 =====
+    // extract 단계에서 다시 파싱할 HTML (extract 이후 비움)
+    @Lob
+    private String rawHtml;
+
+    // ===== extract 결과 =====
+    @Column(length = 1000)
+    private String title;
+
+    @Lob
+    private String content;
+
+    @Column
+    private LocalDate dataCreatedDate;
+
+    @Column(length = 2048)
+    private String imageUrl;
+
+    @Column
+    private String source;
+
+    // 추출을 충족한 단계 (크롤러/메타데이터/LLM/캐시)
+    @Enumerated(EnumType.STRING)
+    @Column
+    private ExtractionTier extractionTier;
+
+    // 불특정 사이트 LLM 호출 방식 (A/B 비교용)
+    @Enumerated(EnumType.STRING)
+    @Column
+    private LlmCallMode llmCallMode;
+
+    // ===== analyze 결과 =====
+    @Column(length = 1000)
+    private String summary;
+
+    @Enumerated(EnumType.STRING)
+    @Column
+    private Category category;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "ingestion_job_result_tag", joinColumns = @JoinColumn(name = "ingestion_job_id"))
+    @Column(name = "tag_name")
+    private Set<String> resultTags = new LinkedHashSet<>();
+
+    // ===== persist 결과 =====
+    @Column
+    private Integer dataSourceId;
+
+    // 실패 사유
+    @Column(length = 1000)
+    private String errorMessage;
+
+    public IngestionJob(int memberId, int folderId, String sourceUrl) {
+        this.memberId = memberId;
+        this.folderId = folderId;
+        this.sourceUrl = sourceUrl;
+    }
+
+    // 다음 단계로 전환
+    public void advanceTo(IngestionStatus next) {
+        this.status = next;
+        this.attempts = 0;
+    }
+
+    public void fail(String errorMessage) {
+        this.status = IngestionStatus.FAILED;
+        this.errorMessage = errorMessage;
+        this.rawHtml = null;
+        this.content = null;
+    }
+
+    public void complete(int dataSourceId) {
+        this.status = IngestionStatus.COMPLETED;
+        this.dataSourceId = dataSourceId;
+        this.content = null;
+    }
+}
@@ -0,0 +1,23 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ingestion.enums;
+
+/**
+ * 자료 등록(Ingestion) 작업 상태
+ * - FETCH ~ PERSIST : 다음에 실행할 단계 (진행 중)
+ * - COMPLETED / FAILED : 종료 상태
+ */
+public enum IngestionStatus {
+    FETCH,
+    EXTRACT,
+    ANALYZE,
+    PERSIST,
+    COMPLETED,
+    FAILED;
+
+    public boolean isTerminal() {
+        return this == COMPLETED || this == FAILED;
+    }
+
+    public static IngestionStatus[] inProgress() {
+        return new IngestionStatus[]{FETCH, EXTRACT, ANALYZE, PERSIST};
+    }
+}
@@ -0,0 +1,13 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ingestion.enums;
+
+/**
+ * 불특정 사이트 LLM 호출 방식 (A/B 비교용)
+ * - SPLIT    : 추출 호출 후 요약/분류 호출 (2회)
+ * - COMBINED : 추출 + 요약/분류 통합 호출 (1회)
+ * - NONE     : 추출에 LLM을 사용하지 않음 (크롤러/메타데이터/캐시)
+ */
+public enum LlmCallMode {
+    SPLIT,
+    COMBINED,
+    NONE
+}
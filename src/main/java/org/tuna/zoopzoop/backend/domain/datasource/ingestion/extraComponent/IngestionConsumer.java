@@ -0,0 +1,21 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ingestion.extraComponent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.dto.IngestionMessage;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.service.IngestionPipelineService;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngestionConsumer {
+    private final IngestionPipelineService ingestionPipelineService;
+
+    @RabbitListener(queues = "datasource.ingestion.queue", concurrency = "${ingestion.consumer.concurrency:2-4}")
+    public void handleIngestion(IngestionMessage message) {
+        log.info("Received ingestion message. jobId: {}, stage: {}", message.jobId(), message.stage());
+        ingestionPipelineService.run(message);
+    }
+}
@@ -0,0 +1,18 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ingestion.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.entity.IngestionJob;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.enums.IngestionStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface IngestionJobRepository extends JpaRepository<IngestionJob, Integer> {
+    Optional<IngestionJob> findByIdAndMemberId(Integer id, Integer memberId);
+
+    // 일정 시간 이상 진행되지 않은 작업 조회 (재시작/유실 메시지 복구용)
+    List<IngestionJob> findTop100ByStatusInAndModifyDateBefore(Collection<IngestionStatus> statuses,
+                                                              LocalDateTime before);
+}
@@ -0,0 +1,282 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ingestion.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.NoResultException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.tuna.zoopzoop.backend.domain.SSE.service.EmitterService;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.dto.AnalyzeContentDto;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.gateway.LlmBusyException;
+import org.tuna.zoopzoop.backend.domain.datasource.dataprocessor.dto.ExtractionResult;
+import org.tuna.zoopzoop.backend.domain.datasource.dataprocessor.enums.ExtractionTier;
+import org.tuna.zoopzoop.backend.domain.datasource.dataprocessor.service.DataProcessorService;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.ArticleData;
+import org.tuna.zoopzoop.backend.domain.datasource.entity.Tag;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.cache.IngestionCacheService;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.dto.IngestionEvent;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.dto.IngestionMessage;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.entity.IngestionJob;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.enums.IngestionStatus;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.enums.LlmCallMode;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.repository.IngestionJobRepository;
+import org.tuna.zoopzoop.backend.domain.datasource.service.DataSourceService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 자료 등록 파이프라인의 단계 실행기
+ * 각 단계는 DB 트랜잭션 밖에서 실행되고(크롤링/LLM 호출 동안 커넥션을 점유하지 않음),
+ * 단계 결과만 짧은 트랜잭션으로 IngestionJob에 저장한 뒤 다음 단계 메시지를 발행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IngestionPipelineService {
+    private final IngestionJobRepository ingestionJobRepository;
+    private final IngestionService ingestionService;
+    private final DataProcessorService dataProcessorService;
+    private final DataSourceService dataSourceService;
+    private final IngestionCacheService ingestionCacheService;
+    private final EmitterService emitterService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 통합 LLM 호출을 사용할 작업 비율 (0.0 ~ 1.0, A/B 비교용)
+    @Value("${ingestion.llm.combined-ratio:1.0}")
+    private double combinedRatio;
+
+    public void run(IngestionMessage message) {
+        IngestionJob job = ingestionJobRepository.findById(message.jobId()).orElse(null);
+        if (job == null) {
+            log.warn("Ingestion job not found: {}", message.jobId());
+            return;
+        }
+
+        // 중복/지연 메시지: 이미 다른 단계로 넘어간 작업은 무시
+        if (job.getStatus() != message.stage()) {
+            log.info("Skipping ingestion message for job {}: expected {}, current {}",
+                    job.getId(), message.stage(), job.getStatus());
+            return;
+        }
+
+        try {
+            switch (job.getStatus()) {
+                case FETCH -> fetchOrReuse(job);
+                case EXTRACT -> timed(job, () -> extract(job));
+                case ANALYZE -> timed(job, () -> proceed(analyze(job), IngestionStatus.PERSIST));
+                case PERSIST -> persist(job);
+                default -> { /* 종료 상태 */ }
+            }
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // 다른 컨슈머(재발행 메시지)가 먼저 같은 단계를 처리함
+            log.warn("Stale ingestion stage for job {}. Discarding.", job.getId());
+        } catch (NoResultException | IllegalArgumentException e) {
+            // 재시도해도 결과가 같은 실패 (폴더 삭제 등)
+            fail(job, e.getMessage());
+        } catch (LlmBusyException e) {
+            // LLM 한도 초과는 작업의 실패가 아니므로 시도 횟수를 올리지 않고 지연 큐로 재시도.
+            // 상태를 저장하지 않으므로 한도 초과가 STALE_THRESHOLD 넘게 이어지면 멈춘 작업 복구가 시도 횟수를 올린다.
+            log.info("LLM busy for ingestion job {} at stage {}. Requeueing with delay.", job.getId(), job.getStatus());
+            meterRegistry.counter("ingestion.llm_busy.requeued", "stage", job.getStatus().name()).increment();
+            ingestionService.publishDelayed(new IngestionMessage(job.getId(), job.getStatus()));
+        } catch (Exception e) {
+            retryOrFail(job, e);
+        }
+    }
+
+    // ===== 단계 =====
+
+    // 다른 회원이 이미 등록한 URL이면 크롤링/추출을 건너뛰고 바로 분석 단계로
+    private void fetchOrReuse(IngestionJob job) {
+        Optional<ArticleData> cached = ingestionCacheService.getArticle(job.getSourceUrl());
+        if (cached.isPresent()) {
+            applyArticle(job, cached.get());
+            recordTier(job, ExtractionTier.CACHE);
+            proceed(job, IngestionStatus.ANALYZE);
+            return;
+        }
+        proceed(fetch(job), IngestionStatus.EXTRACT);
+    }
+
+    private IngestionJob fetch(IngestionJob job) {
+        Map<String, Object> outputMap = dataProcessorService.checkUrl(job.getSourceUrl());
+        Document doc = (Document) outputMap.get("document");
+
+        job.setResolvedUrl((String) outputMap.get("url"));
+        job.setRawHtml(doc.outerHtml());
+        return job;
+    }
+
+    // 통합 호출 모드면 AI 추출이 필요한 경우 요약/분류까지 받아 분석 단계를 건너뛴다.
+    private void extract(IngestionJob job) {
+        Document doc = Jsoup.parse(job.getRawHtml(), job.getResolvedUrl());
+        boolean combinedMode = useCombinedLlmCall(job);
+        List<Tag> tagList = combinedMode ? job.getRequestedTags().stream().map(Tag::new).toList() : null;
+
+        ExtractionResult extraction = dataProcessorService.extractWithTier(job.getResolvedUrl(), doc, tagList);
+        ingestionCacheService.putArticle(job.getSourceUrl(), extraction.articleData());
+
+        applyArticle(job, extraction.articleData());
+        recordTier(job, extraction.tier());
+
+        boolean usedLlm = extraction.tier() == ExtractionTier.LLM || extraction.tier() == ExtractionTier.METADATA_AND_LLM;
+        job.setLlmCallMode(!usedLlm ? LlmCallMode.NONE : extraction.analysis() != null ? LlmCallMode.COMBINED : LlmCallMode.SPLIT);
+
+        if (extraction.analysis() != null) {
+            ingestionCacheService.putAnalysis(job.getSourceUrl(), job.getContent(), extraction.analysis(), job.getRequestedTags());
+            applyAnalysis(job, extraction.analysis());
+            proceed(job, IngestionStatus.PERSIST);
+            return;
+        }
+        proceed(job, IngestionStatus.ANALYZE);
+    }
+
+    // jobId 기준으로 고정 배정 (재시도해도 같은 모드)
+    private boolean useCombinedLlmCall(IngestionJob job) {
+        return Math.floorMod(job.getId(), 100) < Math.round(combinedRatio * 100);
+    }
+
+    private IngestionJob analyze(IngestionJob job) {
+        AnalyzeContentDto analyzeContentDto = ingestionCacheService
+                .getAnalysis(job.getSourceUrl(), job.getContent(), job.getRequestedTags())
+                .orElseGet(() -> {
+                    List<Tag> tagList = job.getRequestedTags().stream().map(Tag::new).toList();
+                    AnalyzeContentDto analyzed = dataProcessorService.analyze(job.getContent(), tagList);
+                    ingestionCacheService.putAnalysis(job.getSourceUrl(), job.getContent(), analyzed, job.getRequestedTags());
+                    return analyzed;
+                });
+
+        applyAnalysis(job, analyzeContentDto);
+        return job;
+    }
+
+    private void applyAnalysis(IngestionJob job, AnalyzeContentDto analyzeContentDto) {
+        job.setSummary(analyzeContentDto.summary());
+        job.setCategory(analyzeContentDto.category());
+        job.getResultTags().clear();
+        if (analyzeContentDto.tags() != null) job.getResultTags().addAll(analyzeContentDto.tags());
+    }
+
+    private void applyArticle(IngestionJob job, ArticleData articleData) {
+        job.setTitle(articleData.title());
+        job.setContent(articleData.content());
+        job.setDataCreatedDate(articleData.dataCreatedDate());
+        job.setImageUrl(articleData.imageUrl());
+        job.setSource(articleData.source());
+        job.setRawHtml(null);
+    }
+
+    private void recordTier(IngestionJob job, ExtractionTier tier) {
+        job.setExtractionTier(tier);
+        meterRegistry.counter("ingestion.extract.tier", "tier", tier.name()).increment();
+    }
+
+    // DataSource 생성과 작업 완료 처리를 하나의 트랜잭션으로 묶어 중복 생성을 막는다.
+    private void persist(IngestionJob job) {
+        IngestionJob completed = transactionTemplate.execute(status -> {
+            var cmd = DataSourceService.CreateCmd.builder()
+                    .title(job.getTitle())
+                    .summary(job.getSummary())
+                    .source(job.getSource())
+                    .sourceUrl(job.getSourceUrl())
+                    .imageUrl(job.getImageUrl())
+                    .category(job.getCategory())
+                    .dataCreatedDate(job.getDataCreatedDate())
+                    .tags(new ArrayList<>(job.getResultTags()))
+                    .build();
+
+            int dataSourceId = dataSourceService.create(job.getFolderId(), cmd);
+            job.complete(dataSourceId);
+            return ingestionJobRepository.save(job);
+        });
+
+        log.info("Ingestion job {} completed. dataSourceId: {}", completed.getId(), completed.getDataSourceId());
+        recordJobDuration(completed);
+        notify(completed, "ingestion-completed");
+    }
+
+    // ===== 메트릭 (LLM 호출 방식 A/B 비교) =====
+
+    // extract/analyze 단계 소요 시간 (LLM 호출 포함)
+    private void timed(IngestionJob job, Runnable stage) {
+        String stageName = job.getStatus().name();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            stage.run();
+        } finally {
+            sample.stop(Timer.builder("ingestion.stage.duration")
+                    .tag("stage", stageName)
+                    .tag("llm_mode", llmModeTag(job))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    // 요청부터 완료까지 전체 소요 시간
+    private void recordJobDuration(IngestionJob job) {
+        if (job.getCreateDate() == null) return;
+        Timer.builder("ingestion.job.duration")
+                .tag("tier", String.valueOf(job.getExtractionTier()))
+                .tag("llm_mode", llmModeTag(job))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.between(job.getCreateDate(), LocalDateTime.now()));
+    }
+
+    // 추출 전(FETCH 실패, 캐시 재사용)에는 호출 방식이 정해지지 않으므로 NONE (다른 태그 값과 같은 대문자 enum 이름)
+    private static String llmModeTag(IngestionJob job) {
+        return (job.getLlmCallMode() == null ? LlmCallMode.NONE : job.getLlmCallMode()).name();
+    }
+
+    // ===== 상태 전환 =====
+
+    private void proceed(IngestionJob job, IngestionStatus next) {
+        job.advanceTo(next);
+        IngestionJob saved = ingestionJobRepository.save(job);
+        ingestionService.publish(new IngestionMessage(saved.getId(), next));
+    }
+
+    private void retryOrFail(IngestionJob job, Exception e) {
+        job.setAttempts(job.getAttempts() + 1);
+        if (job.getAttempts() >= IngestionService.MAX_ATTEMPTS) {
+            log.error("Ingestion job {} failed at stage {}", job.getId(), job.getStatus(), e);
+            fail(job, e.getMessage());
+            return;
+        }
+
+        log.warn("Ingestion job {} stage {} failed (attempt {}). Retrying.",
+                job.getId(), job.getStatus(), job.getAttempts(), e);
+        try {
+            IngestionJob saved = ingestionJobRepository.save(job);
+            ingestionService.publish(new IngestionMessage(saved.getId(), saved.getStatus()));
+        } catch (ObjectOptimisticLockingFailureException ignore) {
+            // 이미 다른 쪽에서 진행된 작업
+        }
+    }
+
+    private void fail(IngestionJob job, String reason) {
+        job.fail(reason == null ? "자료 등록에 실패했습니다." : reason);
+        try {
+            IngestionJob saved = ingestionJobRepository.save(job);
+            notify(saved, "ingestion-failed");
+        } catch (ObjectOptimisticLockingFailureException ignore) {
+            // 이미 다른 쪽에서 진행된 작업
+        }
+    }
+
+    private void notify(IngestionJob job, String eventName) {
+        emitterService.sendNotification((long) job.getMemberId(), eventName, IngestionEvent.from(job));
+    }
+}
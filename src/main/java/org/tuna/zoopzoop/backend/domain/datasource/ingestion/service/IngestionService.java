@@ -0,0 +1,114 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ingestion.service;
+
+import jakarta.persistence.NoResultException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.dto.IngestionMessage;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.entity.IngestionJob;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.enums.IngestionStatus;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.repository.IngestionJobRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IngestionService {
+    private static final String EXCHANGE_NAME = "zoopzoop.exchange";
+    private static final String ROUTING_KEY = "datasource.ingestion.stage";
+    // TTL(30초) 후 ROUTING_KEY로 되돌아오는 지연 큐 (RabbitMQConfig)
+    private static final String DELAY_QUEUE_NAME = "datasource.ingestion.delay.queue";
+
+    // 이 시간 동안 단계가 진행되지 않으면 메시지 유실(서버 재시작 등)로 보고 재발행
+    private static final Duration STALE_THRESHOLD = Duration.ofMinutes(5);
+    static final int MAX_ATTEMPTS = 3;
+
+    private final IngestionJobRepository ingestionJobRepository;
+    private final RabbitTemplate rabbitTemplate;
+
+    /**
+     * 자료 등록 작업을 접수하고 첫 단계(FETCH) 메시지를 발행하는 메서드
+     * 메시지는 트랜잭션 커밋 이후에 발행되어, 컨슈머가 커밋 전의 작업을 읽는 일이 없도록 한다.
+     * @param memberId 요청 회원 ID
+     * @param folderId 저장할 폴더 ID
+     * @param sourceUrl 사용자가 입력한 URL
+     * @param tags 사용자가 입력한 태그 (nullable)
+     * @return 생성된 작업 ID
+     */
+    @Transactional
+    public int submit(int memberId, int folderId, String sourceUrl, List<String> tags) {
+        IngestionJob job = new IngestionJob(memberId, folderId, sourceUrl);
+        if (tags != null) job.getRequestedTags().addAll(tags);
+
+        IngestionJob saved = ingestionJobRepository.save(job);
+        publishAfterCommit(new IngestionMessage(saved.getId(), saved.getStatus()));
+        return saved.getId();
+    }
+
+    /**
+     * 작업 상태 조회 (본인 작업만)
+     */
+    @Transactional(readOnly = true)
+    public IngestionJob getJob(int memberId, int jobId) {
+        return ingestionJobRepository.findByIdAndMemberId(jobId, memberId)
+                .orElseThrow(() -> new NoResultException("존재하지 않는 등록 작업입니다."));
+    }
+
+    public void publish(IngestionMessage message) {
+        rabbitTemplate.convertAndSend(EXCHANGE_NAME, ROUTING_KEY, message);
+    }
+
+    // 지연 큐를 거쳐 잠시 후 같은 단계를 다시 실행 (시도 횟수에 포함하지 않는 재시도)
+    public void publishDelayed(IngestionMessage message) {
+        rabbitTemplate.convertAndSend("", DELAY_QUEUE_NAME, message);
+    }
+
+    private void publishAfterCommit(IngestionMessage message) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(message);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(message);
+            }
+        });
+    }
+
+    /**
+     * 1분마다 멈춘 작업을 찾아 현재 단계 메시지를 재발행
+     * 재발행도 시도 횟수에 포함되며, 한도를 넘으면 FAILED 처리된다.
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void republishStaleJobs() {
+        LocalDateTime before = LocalDateTime.now().minus(STALE_THRESHOLD);
+        List<IngestionJob> staleJobs = ingestionJobRepository.findTop100ByStatusInAndModifyDateBefore(
+                List.of(IngestionStatus.inProgress()), before);
+
+        for (IngestionJob job : staleJobs) {
+            try {
+                job.setAttempts(job.getAttempts() + 1);
+                if (job.getAttempts() > MAX_ATTEMPTS) {
+                    job.fail("자료 등록이 제한 시간 내에 완료되지 않았습니다.");
+                    ingestionJobRepository.save(job);
+                    continue;
+                }
+                IngestionJob saved = ingestionJobRepository.save(job);
+                log.warn("Republishing stale ingestion job: {} (stage: {})", saved.getId(), saved.getStatus());
+                publish(new IngestionMessage(saved.getId(), saved.getStatus()));
+            } catch (Exception e) {
+                // 그 사이 컨슈머가 진행시킨 작업(버전 충돌) 등은 다음 주기에 다시 판단
+                log.warn("Failed to recover ingestion job: {}", job.getId(), e);
+            }
+        }
+    }
+}
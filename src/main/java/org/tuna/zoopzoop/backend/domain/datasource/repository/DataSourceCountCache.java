@@ -0,0 +1,75 @@
+package org.tuna.zoopzoop.backend.domain.datasource.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.stereotype.Component;
+import org.tuna.zoopzoop.backend.domain.archive.archive.service.ArchiveVersionService;
+
+import java.util.function.Supplier;
+
+/**
+ * 검색 건수 캐시: (아카이브, 아카이브 버전, 검색 조건) → 전체 건수.
+ * 자료가 바뀌면 아카이브 버전이 올라가므로 따로 지우지 않는다 (이전 버전 키는 TTL로 만료).
+ */
+@Component
+public class DataSourceCountCache {
+
+    public record Count(long total, boolean approximate) {}
+
+    private final ArchiveVersionService archiveVersionService;
+    private final MeterRegistry meterRegistry;
+    private final SearchCountProperties properties;
+    private final Cache<String, Count> counts;
+
+    public DataSourceCountCache(ArchiveVersionService archiveVersionService,
+                                MeterRegistry meterRegistry,
+                                SearchCountProperties properties) {
+        this.archiveVersionService = archiveVersionService;
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaxSize())
+                .expireAfterWrite(properties.getCacheTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, "search.count");
+    }
+
+    /**
+     * @param filterKey 검색 조건을 문자열로 표현한 값 (where 절)
+     * @param loader    캐시에 없을 때 실제 count 쿼리
+     */
+    public Count get(int archiveId, String filterKey, Supplier<Count> loader) {
+        if (!properties.isCacheEnabled()) return loader.get();
+
+        Long version = archiveVersionService.current(archiveId);
+        if (version == null) {
+            // 버전을 모르면 무효화 여부도 알 수 없으므로 캐시를 쓰지 않음
+            record("bypass");
+            return loader.get();
+        }
+
+        String key = archiveId + ":" + version + ":" + DigestUtils.sha256Hex(filterKey);
+        Count cached = counts.getIfPresent(key);
+        if (cached != null) {
+            record("hit");
+            return cached;
+        }
+
+        Count loaded = loader.get();
+        counts.put(key, loaded);
+        record("miss");
+        return loaded;
+    }
+
+    private void record(String result) {
+        Counter.builder("search.count.requests")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,45 @@
+package org.tuna.zoopzoop.backend.domain.datasource.repository;
+
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 검색 커서: 마지막 항목의 (정렬 키 값, id).
+ * 클라이언트에는 Base64 문자열로만 노출하고, 정렬이 바뀐 요청의 커서는 거부한다.
+ */
+public record DataSourceCursor(
+        String sortKey,          // createdAt | title
+        Sort.Direction direction,
+        String value,            // createdAt: ISO 일시, title: 제목 (null 제목은 "")
+        int id
+) {
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = sortKey + SEPARATOR + direction.name() + SEPARATOR + id + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime dateValue() {
+        return LocalDateTime.parse(value);
+    }
+
+    public static DataSourceCursor decode(String token, String sortKey, Sort.Direction direction) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 4);
+            if (parts.length != 4) throw new IllegalArgumentException();
+
+            DataSourceCursor cursor = new DataSourceCursor(parts[0], Sort.Direction.valueOf(parts[1]), parts[3], Integer.parseInt(parts[2]));
+            if (!cursor.sortKey().equals(sortKey) || cursor.direction() != direction) throw new IllegalArgumentException();
+            if ("createdAt".equals(sortKey)) cursor.dateValue();
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+}
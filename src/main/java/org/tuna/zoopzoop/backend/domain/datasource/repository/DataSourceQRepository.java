@@ -2,10 +2,31 @@ package org.tuna.zoopzoop.backend.domain.datasource.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.CursorPage;
 import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceSearchCondition;
 import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceSearchItem;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.FederatedSearchItem;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.SearchFacets;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.SearchOrigin;
+
+import java.util.List;
+import java.util.Map;
 
 public interface DataSourceQRepository {
     Page<DataSourceSearchItem> search(Integer memberId, DataSourceSearchCondition cond, Pageable pageable);
     Page<DataSourceSearchItem> searchInArchive(Integer archiveId, DataSourceSearchCondition cond, Pageable pageable);
-}
\ No newline at end of file
+
+    // 커서 페이지: pageable은 size/sort만 사용, cursor가 없으면 첫 페이지
+    CursorPage<DataSourceSearchItem> scroll(Integer memberId, DataSourceSearchCondition cond, Pageable pageable, String cursor);
+    CursorPage<DataSourceSearchItem> scrollInArchive(Integer archiveId, DataSourceSearchCondition cond, Pageable pageable, String cursor);
+
+    // 통합 커서 검색: origins의 아카이브 전체를 한 쿼리로 (key = archiveId), 항목마다 출처 표시
+    CursorPage<FederatedSearchItem> scrollAcross(Map<Integer, SearchOrigin> origins, DataSourceSearchCondition cond, Pageable pageable, String cursor);
+
+    // 주어진 id 순서를 유지한 채 아카이브/검색 조건으로 다시 거른 항목 (의미 검색 결과 조립)
+    List<DataSourceSearchItem> findRankedInArchive(Integer archiveId, DataSourceSearchCondition cond, List<Integer> rankedIds);
+
+    // 패싯: 카테고리/폴더는 자기 조건을 뺀 건수, 태그는 전체 조건의 상위 tagLimit개
+    SearchFacets facets(Integer memberId, DataSourceSearchCondition cond, int tagLimit);
+    SearchFacets facetsInArchive(Integer archiveId, DataSourceSearchCondition cond, int tagLimit);
+}
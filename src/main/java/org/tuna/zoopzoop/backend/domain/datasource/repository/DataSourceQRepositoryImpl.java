@@ -2,50 +2,135 @@ package org.tuna.zoopzoop.backend.domain.datasource.repository;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.core.types.dsl.StringExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.TotalHitsRelation;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
 import org.springframework.stereotype.Repository;
 import org.tuna.zoopzoop.backend.domain.archive.archive.entity.QPersonalArchive;
 import org.tuna.zoopzoop.backend.domain.archive.folder.entity.QFolder;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.CursorPage;
 import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceSearchCondition;
 import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceSearchItem;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.FederatedSearchItem;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.SearchFacets;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.SearchOrigin;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.SearchPage;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.Category;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.DataSource;
+import org.tuna.zoopzoop.backend.domain.datasource.entity.DataSourceDocument;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.QDataSource;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.QTag;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import static org.springframework.util.StringUtils.hasText;
 
+@Slf4j
 @Repository
 @RequiredArgsConstructor
 public class DataSourceQRepositoryImpl implements DataSourceQRepository {
+    private static final int MAX_FACET_TAGS = 50;
+
+    // 검색 결과 한 행 → DTO 생성자로 바로 매핑 (개인/공유/커서/랭킹 검색 공통)
+    private static final Expression<DataSourceSearchItem> SEARCH_ITEM = Projections.constructor(
+            DataSourceSearchItem.class,
+            QDataSource.dataSource.id,
+            QDataSource.dataSource.title,
+            QDataSource.dataSource.createDate,
+            QDataSource.dataSource.summary,
+            QDataSource.dataSource.source,
+            QDataSource.dataSource.sourceUrl,
+            QDataSource.dataSource.imageUrl,
+            joinedTags(),
+            QDataSource.dataSource.category
+    );
+
+    // 태그는 행마다 상관 서브쿼리로 모아(MySQL group_concat / H2 listagg) 본문과 같은 쿼리에서 읽는다
+    // 순서는 태그 저장 순(id), MySQL은 group_concat_max_len에서 잘리므로 서버 프로필에서 세션 한도를 올려 둔다
+    private static Expression<String> joinedTags() {
+        QDataSource ds = QDataSource.dataSource;
+        QTag tag = QTag.tag;
+        return JPAExpressions
+                .select(Expressions.stringTemplate(
+                        "listagg({0}, '" + DataSourceSearchItem.TAG_SEPARATOR + "') within group (order by {1})",
+                        tag.tagName, tag.id))
+                .from(tag)
+                .where(tag.dataSource.id.eq(ds.id));
+    }
 
     private final JPAQueryFactory queryFactory;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final DataSourceCountCache countCache;
+    private final DataSourceSearchCache searchCache;
+    private final SearchCountProperties countProperties;
+
+    // 키워드 검색을 ES 색인으로 처리 (false면 LIKE 검색). 색인이 비어 있으면 0건이 되므로 재색인 후에 켠다
+    @Value("${search.elasticsearch.read-enabled:false}")
+    private boolean indexEnabled;
 
     @Override
     public Page<DataSourceSearchItem> search(Integer memberId, DataSourceSearchCondition cond, Pageable pageable) {
         if (memberId == null)
             throw new IllegalArgumentException("memberId must not be null");
 
+        // 회원의 개인 아카이브로 범위를 정한 뒤 공유 검색과 같은 경로로 처리
+        Integer archiveId = personalArchiveIdOf(memberId);
+        if (archiveId == null) return Page.empty(pageable);
+
+        // 키워드 검색: 아카이브 범위로 색인 검색 (폴더 조건 포함)
+        if (useIndex(cond, pageable)) {
+            Page<DataSourceSearchItem> page = searchInIndex(archiveId, cond, true, pageable);
+            if (page != null) return page;
+        }
+
+        return searchInDatabase(archiveId, filters(cond), pageable);
+    }
+
+    // 공통 검색 조건 (활성 여부, 개별 필드, 키워드, 폴더)
+    private BooleanBuilder filters(DataSourceSearchCondition cond) {
+        QDataSource ds = QDataSource.dataSource;
+
+        BooleanBuilder where = baseFilters(cond);
+
+        // 폴더 조건
+        if (hasText(cond.getFolderName())) where.and(ds.folder.name.eq(cond.getFolderName()));
+        if (cond.getFolderId() != null) where.and(ds.folder.id.eq(cond.getFolderId()));
+
+        return where;
+    }
+
+    // 폴더 조건을 뺀 검색 조건 (활성 여부, 개별 필드, 키워드)
+    private BooleanBuilder baseFilters(DataSourceSearchCondition cond) {
         QDataSource ds = QDataSource.dataSource;
-        QFolder folder = QFolder.folder;
-        QPersonalArchive pa = QPersonalArchive.personalArchive;
-        QTag tag = QTag.tag;
 
         BooleanBuilder where = new BooleanBuilder();
 
@@ -75,74 +160,7 @@ public class DataSourceQRepositoryImpl implements DataSourceQRepository {
             );
         }
 
-        // 폴더 조건
-        if (hasText(cond.getFolderName())) where.and(ds.folder.name.eq(cond.getFolderName()));
-        if (cond.getFolderId() != null) where.and(ds.folder.id.eq(cond.getFolderId()));
-
-        BooleanBuilder ownership = new BooleanBuilder().and(pa.member.id.eq(memberId));
-
-        // count
-        JPAQuery<Long> countQuery = queryFactory
-                .select(ds.id.countDistinct())
-                .from(ds)
-                .join(ds.folder, folder)
-                .join(pa).on(pa.archive.eq(folder.archive))
-                .where(where.and(ownership));
-
-        // content
-        JPAQuery<Tuple> contentQuery = queryFactory
-                .select(ds.id, ds.title, ds.createDate, ds.summary, ds.source, ds.sourceUrl, ds.imageUrl, ds.category)
-                .from(ds)
-                .join(ds.folder, folder)
-                .join(pa).on(pa.archive.eq(folder.archive))
-                .where(where.and(ownership));
-
-        List<OrderSpecifier<?>> orderSpecifiers = toOrderSpecifiers(pageable.getSort());
-        if (!orderSpecifiers.isEmpty()) contentQuery.orderBy(orderSpecifiers.toArray(new OrderSpecifier<?>[0]));
-        else contentQuery.orderBy(ds.createDate.desc()); // 기본 정렬: 생성일시 내림차순
-
-        List<Tuple> tuples = contentQuery.offset(pageable.getOffset()).limit(pageable.getPageSize()).fetch();
-        Long totalCount = countQuery.fetchOne();
-        long total = (totalCount == null ? 0L : totalCount);
-
-        // 태그 배치 조회
-        List<Integer> ids = tuples.stream().map(t -> t.get(ds.id)).toList();
-
-        Map<Integer, List<String>> tagsById = ids.isEmpty() ? Map.of()
-                : queryFactory
-                .select(ds.id, tag.tagName)
-                .from(ds)
-                .leftJoin(ds.tags, tag)
-                .where(ds.id.in(ids))
-                .fetch()
-                .stream()
-                .filter(row -> row.get(tag.tagName) != null)
-                .collect(Collectors.groupingBy(
-                        row -> row.get(ds.id),
-                        Collectors.mapping(row -> row.get(tag.tagName), Collectors.toList())
-                ));
-
-        List<DataSourceSearchItem> content = tuples.stream()
-                .map(row -> {
-                    Category cat = row.get(ds.category);
-                    String categoryCode = (cat != null ? cat.name() : null);
-                    LocalDateTime createdAt = row.get(ds.createDate);
-                    LocalDate createdDate = (createdAt != null ? createdAt.toLocalDate() : null);
-                    return new DataSourceSearchItem(
-                            row.get(ds.id),
-                            row.get(ds.title),
-                            createdDate,
-                            row.get(ds.summary),
-                            row.get(ds.source),
-                            row.get(ds.sourceUrl),
-                            row.get(ds.imageUrl),
-                            tagsById.getOrDefault(row.get(ds.id), List.of()),
-                            categoryCode
-                    );
-                })
-                .toList();
-
-        return new PageImpl<>(content, pageable, total);
+        return where;
     }
 
     // createdAt / title 허용. createdAt은 내부적으로 dataCreatedDate로 매핑
@@ -170,101 +188,410 @@ public class DataSourceQRepositoryImpl implements DataSourceQRepository {
     public Page<DataSourceSearchItem> searchInArchive(Integer archiveId, DataSourceSearchCondition cond, Pageable pageable) {
         if (archiveId == null) throw new IllegalArgumentException("archiveId must not be null");
 
+        // 공유 검색은 색인/DB 모두 폴더 조건 없이 아카이브 전체 범위
+        if (useIndex(cond, pageable)) {
+            Page<DataSourceSearchItem> page = searchInIndex(archiveId, cond, false, pageable);
+            if (page != null) return page;
+        }
+
+        return searchInDatabase(archiveId, baseFilters(cond), pageable);
+    }
+
+    /**
+     * 아카이브 범위 DB 검색. 페이지 단위로 (아카이브, 버전, 조건, 페이지)별 캐시.
+     * 본문 조회만으로 전체 건수가 확정되면(첫 페이지가 덜 참 / 마지막 페이지) count 쿼리를 생략하고,
+     * 그 외에는 (아카이브, 버전, 조건)별로 캐시된 건수를 쓴다.
+     */
+    private Page<DataSourceSearchItem> searchInDatabase(Integer archiveId, BooleanBuilder filters, Pageable pageable) {
         QDataSource ds = QDataSource.dataSource;
-        QFolder folder = QFolder.folder;
-        QTag tag = QTag.tag;
 
-        BooleanBuilder where = new BooleanBuilder();
+        BooleanBuilder where = filters.and(ds.archiveId.eq(archiveId));
+        return searchCache.get(archiveId, where.toString(), pageable, () -> fetchPage(archiveId, where, pageable));
+    }
 
-        // 활성/비활성
-        if (cond.getIsActive() == null || Boolean.TRUE.equals(cond.getIsActive())) where.and(ds.isActive.isTrue());
-        else where.and(ds.isActive.isFalse());
+    private Page<DataSourceSearchItem> fetchPage(Integer archiveId, BooleanBuilder where, Pageable pageable) {
+        QDataSource ds = QDataSource.dataSource;
 
-        // 개별 필드 필터
-        if (hasText(cond.getTitle())) where.and(ds.title.containsIgnoreCase(cond.getTitle()));
-        if (hasText(cond.getSummary())) where.and(ds.summary.containsIgnoreCase(cond.getSummary()));
-        if (cond.getCategory() != null) where.and(ds.category.eq(cond.getCategory()));
+        JPAQuery<DataSourceSearchItem> contentQuery = queryFactory
+                .select(SEARCH_ITEM)
+                .from(ds)
+                .where(where);
 
-        // 키워드 검색 (카테고리는 "한글 라벨 정확 일치" + IT 예외만 허용)
-        if (hasText(cond.getKeyword())) {
-            String kw = cond.getKeyword();
+        List<OrderSpecifier<?>> orderSpecifiers = toOrderSpecifiers(pageable.getSort());
+        if (!orderSpecifiers.isEmpty()) contentQuery.orderBy(orderSpecifiers.toArray(new OrderSpecifier<?>[0]));
+        else contentQuery.orderBy(ds.createDate.desc()); // 기본 정렬: 생성일시 내림차순
 
-            BooleanBuilder categoryMatch = new BooleanBuilder();
-            Category cat = resolveCategoryFromKoreanOrIT(kw);
-            if (cat != null) {
-                categoryMatch.or(ds.category.eq(cat));
-            }
-            // 영어 ENUM 문자열 비교 제거
+        List<DataSourceSearchItem> items = contentQuery.offset(pageable.getOffset()).limit(pageable.getPageSize()).fetch();
 
-            where.and(
-                    ds.title.containsIgnoreCase(kw)
-                            .or(ds.summary.containsIgnoreCase(kw))
-                            .or(ds.source.containsIgnoreCase(kw))
-                            .or(categoryMatch)
-            );
+        if (items.size() < pageable.getPageSize() && (!items.isEmpty() || pageable.getOffset() == 0)) {
+            return new PageImpl<>(items, pageable, pageable.getOffset() + items.size());
         }
 
-        // 아카이브 스코프
-        BooleanBuilder scope = new BooleanBuilder().and(folder.archive.id.eq(archiveId));
+        DataSourceCountCache.Count count = countCache.get(archiveId, where.toString(), () -> countRows(where));
+        return new SearchPage<>(items, pageable, count.total(), count.approximate());
+    }
+
+    // 비정규화된 archiveId로 조인 없이 센다 (archive_id, is_active, create_date 인덱스)
+    private DataSourceCountCache.Count countRows(Predicate where) {
+        QDataSource ds = QDataSource.dataSource;
+
+        int maxExact = countProperties.getMaxExact();
+        if (maxExact > 0) {
+            // 대형 아카이브: 최대 maxExact+1개 id만 읽고 넘치면 "maxExact건 이상"
+            int capped = queryFactory
+                    .select(ds.id)
+                    .from(ds)
+                    .where(where)
+                    .limit(maxExact + 1L)
+                    .fetch()
+                    .size();
+            return capped > maxExact
+                    ? new DataSourceCountCache.Count(maxExact, true)
+                    : new DataSourceCountCache.Count(capped, false);
+        }
 
-        // count
-        JPAQuery<Long> countQuery = queryFactory
-                .select(ds.id.countDistinct())
+        Long total = queryFactory
+                .select(ds.count())
                 .from(ds)
-                .join(ds.folder, folder)
-                .where(where.and(scope));
+                .where(where)
+                .fetchOne();
+        return new DataSourceCountCache.Count(total == null ? 0L : total, false);
+    }
+
+    private Integer personalArchiveIdOf(Integer memberId) {
+        QPersonalArchive pa = QPersonalArchive.personalArchive;
+        return queryFactory
+                .select(pa.archive.id)
+                .from(pa)
+                .where(pa.member.id.eq(memberId))
+                .fetchFirst();
+    }
+
+    // ===== 커서(keyset) 페이지 =====
+
+    @Override
+    public CursorPage<DataSourceSearchItem> scroll(Integer memberId, DataSourceSearchCondition cond, Pageable pageable, String cursor) {
+        if (memberId == null)
+            throw new IllegalArgumentException("memberId must not be null");
+
+        Integer archiveId = personalArchiveIdOf(memberId);
+        if (archiveId == null) return CursorPage.empty();
+
+        return scrollItems(archiveId, filters(cond), pageable, cursor);
+    }
 
-        // content
-        JPAQuery<Tuple> contentQuery = queryFactory
-                // 이미 공유 쪽은 createDate 사용 중
-                .select(ds.id, ds.title, ds.createDate, ds.summary, ds.source, ds.sourceUrl, ds.imageUrl, ds.category)
+    /**
+     * (정렬 키, id) 기준으로 커서 다음 행부터 size+1개만 읽는다.
+     * offset/count 없이 몇 번째 페이지든 같은 비용.
+     * 공유 검색(searchInArchive)과 같이 폴더 조건 없이 아카이브 전체 범위.
+     */
+    @Override
+    public CursorPage<DataSourceSearchItem> scrollInArchive(Integer archiveId, DataSourceSearchCondition cond, Pageable pageable, String cursor) {
+        if (archiveId == null) throw new IllegalArgumentException("archiveId must not be null");
+
+        return scrollItems(archiveId, baseFilters(cond), pageable, cursor);
+    }
+
+    private CursorPage<DataSourceSearchItem> scrollItems(Integer archiveId, BooleanBuilder filters, Pageable pageable, String cursor) {
+        QDataSource ds = QDataSource.dataSource;
+        KeysetSlice slice = scrollRows(filters.and(ds.archiveId.eq(archiveId)), pageable, cursor);
+        List<DataSourceSearchItem> items = slice.rows().stream().map(row -> row.get(SEARCH_ITEM)).toList();
+        return new CursorPage<>(items, slice.nextCursor(), slice.hasNext());
+    }
+
+    /**
+     * 여러 아카이브를 한 쿼리로 커서 검색하고 행마다 출처를 붙인다 (archive_id IN (...)).
+     * 아카이브마다 폴더가 다르므로 폴더 조건은 쓰지 않음.
+     */
+    @Override
+    public CursorPage<FederatedSearchItem> scrollAcross(Map<Integer, SearchOrigin> origins, DataSourceSearchCondition cond, Pageable pageable, String cursor) {
+        if (origins == null || origins.isEmpty()) return CursorPage.empty();
+
+        QDataSource ds = QDataSource.dataSource;
+        KeysetSlice slice = scrollRows(baseFilters(cond).and(ds.archiveId.in(origins.keySet())), pageable, cursor);
+
+        List<FederatedSearchItem> labeled = slice.rows().stream()
+                .map(row -> new FederatedSearchItem(row.get(SEARCH_ITEM), origins.get(row.get(ds.archiveId))))
+                .toList();
+        return new CursorPage<>(labeled, slice.nextCursor(), slice.hasNext());
+    }
+
+    private record KeysetSlice(List<Tuple> rows, String nextCursor, boolean hasNext) {}
+
+    private KeysetSlice scrollRows(BooleanBuilder where, Pageable pageable, String cursor) {
+        QDataSource ds = QDataSource.dataSource;
+        StringExpression titleKey = Expressions.stringTemplate("coalesce({0}, '')", ds.title); // null 제목은 ""로 정렬
+
+        Sort.Order order = toKeysetOrder(pageable.getSort());
+        boolean asc = order.isAscending();
+        boolean byTitle = "title".equals(order.getProperty());
+
+        if (hasText(cursor)) {
+            DataSourceCursor after = DataSourceCursor.decode(cursor, order.getProperty(), order.getDirection());
+            if (byTitle) {
+                where.and(asc
+                        ? titleKey.gt(after.value()).or(titleKey.eq(after.value()).and(ds.id.gt(after.id())))
+                        : titleKey.lt(after.value()).or(titleKey.eq(after.value()).and(ds.id.lt(after.id()))));
+            } else {
+                LocalDateTime createdAt = after.dateValue();
+                where.and(asc
+                        ? ds.createDate.gt(createdAt).or(ds.createDate.eq(createdAt).and(ds.id.gt(after.id())))
+                        : ds.createDate.lt(createdAt).or(ds.createDate.eq(createdAt).and(ds.id.lt(after.id()))));
+            }
+        }
+
+        OrderSpecifier<?> primary = byTitle
+                ? (asc ? titleKey.asc() : titleKey.desc())
+                : (asc ? ds.createDate.asc() : ds.createDate.desc());
+
+        int size = pageable.getPageSize();
+        List<Tuple> tuples = queryFactory
+                .select(SEARCH_ITEM, ds.id, ds.title, ds.createDate, ds.archiveId) // 뒤의 컬럼은 커서/출처용
+                .from(ds)
+                .where(where)
+                .orderBy(primary, asc ? ds.id.asc() : ds.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = tuples.size() > size;
+        if (hasNext) tuples = tuples.subList(0, size);
+
+        String nextCursor = null;
+        if (hasNext) {
+            Tuple last = tuples.get(tuples.size() - 1);
+            String value = byTitle
+                    ? (last.get(ds.title) == null ? "" : last.get(ds.title))
+                    : String.valueOf(last.get(ds.createDate));
+            nextCursor = new DataSourceCursor(order.getProperty(), order.getDirection(), value, last.get(ds.id)).encode();
+        }
+
+        return new KeysetSlice(tuples, nextCursor, hasNext);
+    }
+
+    // 첫 번째 허용 정렬(createdAt / title)만 사용, 없으면 생성일시 내림차순
+    private Sort.Order toKeysetOrder(Sort sort) {
+        if (sort != null) {
+            for (Sort.Order o : sort) {
+                if ("createdAt".equals(o.getProperty()) || "title".equals(o.getProperty())) return o;
+            }
+        }
+        return Sort.Order.desc("createdAt");
+    }
+
+    // ===== 패싯 집계 =====
+
+    @Override
+    public SearchFacets facets(Integer memberId, DataSourceSearchCondition cond, int tagLimit) {
+        if (memberId == null)
+            throw new IllegalArgumentException("memberId must not be null");
+
+        Integer archiveId = personalArchiveIdOf(memberId);
+        if (archiveId == null) return SearchFacets.empty();
+
+        return facetsInArchive(archiveId, cond, tagLimit);
+    }
+
+    /**
+     * (폴더, 카테고리)별 건수 한 번 + 태그 상위 N 한 번의 GROUP BY로 사이드바 집계를 만든다.
+     * 카테고리/폴더 건수는 자기 조건만 뺀 값(다른 항목을 골랐을 때의 건수)이라 격자를 Java에서 접어 계산하고,
+     * 태그는 전체 조건을 적용한다. 키워드는 LIKE 조건으로 처리 (ES 집계는 사용하지 않음).
+     */
+    @Override
+    public SearchFacets facetsInArchive(Integer archiveId, DataSourceSearchCondition cond, int tagLimit) {
+        if (archiveId == null) throw new IllegalArgumentException("archiveId must not be null");
+
+        QDataSource ds = QDataSource.dataSource;
+        int limit = Math.min(Math.max(tagLimit, 0), MAX_FACET_TAGS);
+        BooleanBuilder where = filters(cond).and(ds.archiveId.eq(archiveId));
+        return searchCache.getFacets(archiveId, where + "|tags:" + limit,
+                () -> fetchFacets(archiveId, cond, where, limit));
+    }
+
+    private SearchFacets fetchFacets(Integer archiveId, DataSourceSearchCondition cond, BooleanBuilder where, int tagLimit) {
+        QDataSource ds = QDataSource.dataSource;
+        QFolder folder = QFolder.folder;
+        QTag tag = QTag.tag;
+
+        // 카테고리/폴더 조건을 뺀 (폴더, 카테고리) 격자
+        DataSourceSearchCondition gridCond = DataSourceSearchCondition.builder()
+                .title(cond.getTitle())
+                .summary(cond.getSummary())
+                .keyword(cond.getKeyword())
+                .isActive(cond.getIsActive())
+                .build();
+        NumberExpression<Long> cellCount = ds.count();
+        List<Tuple> grid = queryFactory
+                .select(folder.id, folder.name, ds.category, cellCount)
                 .from(ds)
                 .join(ds.folder, folder)
-                .where(where.and(scope));
+                .where(baseFilters(gridCond).and(ds.archiveId.eq(archiveId)))
+                .groupBy(folder.id, folder.name, ds.category)
+                .fetch();
+
+        Map<Category, Long> byCategory = new EnumMap<>(Category.class);
+        Map<Integer, SearchFacets.FolderFacetCount> byFolder = new HashMap<>();
+        for (Tuple row : grid) {
+            Integer folderId = row.get(folder.id);
+            String folderName = row.get(folder.name);
+            Category category = row.get(ds.category);
+            long n = row.get(cellCount) == null ? 0L : row.get(cellCount);
+
+            boolean folderMatch = (cond.getFolderId() == null || cond.getFolderId().equals(folderId))
+                    && (!hasText(cond.getFolderName()) || cond.getFolderName().equals(folderName));
+            boolean categoryMatch = cond.getCategory() == null || cond.getCategory() == category;
+
+            if (folderMatch && category != null) byCategory.merge(category, n, Long::sum);
+            if (categoryMatch) {
+                byFolder.merge(folderId, new SearchFacets.FolderFacetCount(folderId, folderName, n),
+                        (a, b) -> new SearchFacets.FolderFacetCount(folderId, folderName, a.count() + b.count()));
+            }
+        }
 
-        List<OrderSpecifier<?>> orderSpecifiers = toOrderSpecifiers(pageable.getSort());
-        if (!orderSpecifiers.isEmpty()) contentQuery.orderBy(orderSpecifiers.toArray(new OrderSpecifier<?>[0]));
-        else contentQuery.orderBy(ds.createDate.desc());
+        List<SearchFacets.FacetCount> categories = byCategory.entrySet().stream()
+                .sorted(Map.Entry.<Category, Long>comparingByValue().reversed())
+                .map(e -> new SearchFacets.FacetCount(e.getKey().name(), e.getKey().getName(), e.getValue()))
+                .toList();
+        List<SearchFacets.FolderFacetCount> folders = byFolder.values().stream()
+                .sorted(Comparator.comparingLong(SearchFacets.FolderFacetCount::count).reversed()
+                        .thenComparing(SearchFacets.FolderFacetCount::folderName, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+
+        // 태그: 전체 조건, 태그가 붙은 자료 수 기준 상위 N
+        List<SearchFacets.FacetCount> tags = List.of();
+        if (tagLimit > 0) {
+            NumberExpression<Long> tagCount = ds.id.countDistinct();
+            tags = queryFactory
+                    .select(tag.tagName, tagCount)
+                    .from(tag)
+                    .join(tag.dataSource, ds)
+                    .where(where)
+                    .groupBy(tag.tagName)
+                    .orderBy(tagCount.desc(), tag.tagName.asc())
+                    .limit(tagLimit)
+                    .fetch()
+                    .stream()
+                    .map(row -> new SearchFacets.FacetCount(row.get(tag.tagName), row.get(tag.tagName),
+                            row.get(tagCount) == null ? 0L : row.get(tagCount)))
+                    .toList();
+        }
+
+        return new SearchFacets(categories, tags, folders);
+    }
 
-        List<Tuple> tuples = contentQuery.offset(pageable.getOffset()).limit(pageable.getPageSize()).fetch();
-        Long totalCount = countQuery.fetchOne();
-        long total = (totalCount == null ? 0L : totalCount);
+    // ===== 키워드 검색: ES 색인 =====
 
-        Map<Integer, List<String>> tagsById = tuples.isEmpty() ? Map.of()
-                : queryFactory
-                .select(ds.id, tag.tagName)
+    // 폴더명 조건은 색인에 없으므로 LIKE 검색으로 처리
+    private boolean useIndex(DataSourceSearchCondition cond, Pageable pageable) {
+        return indexEnabled
+                && pageable.isPaged()
+                && hasText(cond.getKeyword())
+                && !hasText(cond.getFolderName());
+    }
+
+    /**
+     * ES에서 id 페이지를 찾고 본문은 MySQL에서 id로 다시 읽는다 (ES 순서 유지).
+     * 색인이 늦게 반영된 자료는 MySQL 조건(아카이브/활성)으로 한 번 더 거른다.
+     * ES 장애 시 null → LIKE 검색으로 대체.
+     * @param folderScoped 폴더 조건 적용 여부 (LIKE 검색의 filters / baseFilters와 같게)
+     */
+    private Page<DataSourceSearchItem> searchInIndex(Integer archiveId, DataSourceSearchCondition cond, boolean folderScoped, Pageable pageable) {
+        SearchHits<DataSourceDocument> hits;
+        try {
+            CriteriaQuery query = new CriteriaQuery(toCriteria(archiveId, cond, folderScoped));
+            query.setPageable(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), toIndexSort(pageable.getSort())));
+            // 근사 건수 옵션: maxExact까지만 정확히 세고 넘으면 "이상"으로 표시
+            if (countProperties.getMaxExact() > 0) query.setTrackTotalHitsUpTo(countProperties.getMaxExact());
+            else query.setTrackTotalHits(true);
+            hits = elasticsearchOperations.search(query, DataSourceDocument.class);
+        } catch (RuntimeException e) {
+            log.warn("DataSource index search failed. Falling back to database search.", e);
+            return null;
+        }
+
+        List<Integer> ids = hits.getSearchHits().stream()
+                .map(SearchHit::getContent)
+                .map(DataSourceDocument::getId)
+                .toList();
+        boolean approximate = hits.getTotalHitsRelation() == TotalHitsRelation.GREATER_THAN_OR_EQUAL_TO;
+        if (ids.isEmpty()) return new SearchPage<>(List.of(), pageable, hits.getTotalHits(), approximate);
+
+        QDataSource ds = QDataSource.dataSource;
+        boolean active = cond.getIsActive() == null || Boolean.TRUE.equals(cond.getIsActive());
+
+        BooleanBuilder where = new BooleanBuilder(ds.archiveId.eq(archiveId)).and(ds.isActive.eq(active));
+        if (folderScoped && cond.getFolderId() != null) where.and(ds.folder.id.eq(cond.getFolderId()));
+        List<DataSourceSearchItem> items = rankedItems(ids, where);
+
+        // 색인 반영이 늦은 문서(삭제/이동/비활성화)는 MySQL에서 걸러짐 → 확인된 만큼 전체 건수에서 뺌 (근사 건수는 그대로)
+        long total = hits.getTotalHits();
+        int dropped = ids.size() - items.size();
+        if (dropped > 0 && !approximate) total = Math.max(pageable.getOffset() + items.size(), total - dropped);
+        return new SearchPage<>(items, pageable, total, approximate);
+    }
+
+    @Override
+    public List<DataSourceSearchItem> findRankedInArchive(Integer archiveId, DataSourceSearchCondition cond, List<Integer> rankedIds) {
+        if (archiveId == null) throw new IllegalArgumentException("archiveId must not be null");
+        if (rankedIds.isEmpty()) return List.of();
+
+        QDataSource ds = QDataSource.dataSource;
+        return rankedItems(rankedIds, filters(cond).and(ds.archiveId.eq(archiveId)));
+    }
+
+    // id 목록을 MySQL 조건으로 다시 거르고 원래 순서대로 조립
+    private List<DataSourceSearchItem> rankedItems(List<Integer> ids, BooleanBuilder where) {
+        QDataSource ds = QDataSource.dataSource;
+
+        List<DataSourceSearchItem> items = queryFactory
+                .select(SEARCH_ITEM)
                 .from(ds)
-                .leftJoin(ds.tags, tag)
-                .where(ds.id.in(tuples.stream().map(t -> t.get(ds.id)).toList()))
-                .fetch()
-                .stream()
-                .filter(row -> row.get(tag.tagName) != null)
-                .collect(Collectors.groupingBy(
-                        row -> row.get(ds.id),
-                        Collectors.mapping(row -> row.get(tag.tagName), Collectors.toList())
-                ));
-
-        List<DataSourceSearchItem> content = tuples.stream()
-                .map(row -> {
-                    Category category = row.get(ds.category);
-                    String categoryCode = (category != null ? category.name() : null); // null 허용
-                    LocalDateTime createdAt = row.get(ds.createDate);
-                    LocalDate createdDate = (createdAt != null ? createdAt.toLocalDate() : null);
-                    return new DataSourceSearchItem(
-                            row.get(ds.id),
-                            row.get(ds.title),
-                            createdDate,
-                            row.get(ds.summary),
-                            row.get(ds.source),
-                            row.get(ds.sourceUrl),
-                            row.get(ds.imageUrl),
-                            tagsById.getOrDefault(row.get(ds.id), List.of()),
-                            categoryCode
-                    );
-                })
+                .where(where.and(ds.id.in(ids)))
+                .fetch();
+
+        Map<Integer, Integer> rank = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) rank.put(ids.get(i), i);
+        return items.stream()
+                .sorted(Comparator.comparing(item -> rank.get(item.getDataSourceId())))
                 .toList();
+    }
+
+    // LIKE 검색(filters / baseFilters)과 같은 범위와 필드: 태그는 키워드 대상이 아님
+    private Criteria toCriteria(Integer archiveId, DataSourceSearchCondition cond, boolean folderScoped) {
+        boolean active = cond.getIsActive() == null || Boolean.TRUE.equals(cond.getIsActive());
+        Criteria criteria = new Criteria("archiveId").is(archiveId)
+                .and(new Criteria("isActive").is(active));
+
+        if (folderScoped && cond.getFolderId() != null) criteria = criteria.and(new Criteria("folderId").is(cond.getFolderId()));
+        if (cond.getCategory() != null) criteria = criteria.and(new Criteria("category").is(cond.getCategory().name()));
+        if (hasText(cond.getTitle())) criteria = criteria.and(new Criteria("title").matchesAll(cond.getTitle()));
+        if (hasText(cond.getSummary())) criteria = criteria.and(new Criteria("summary").matchesAll(cond.getSummary()));
+
+        // 키워드: 제목/요약/출처 중 하나에 모든 ngram 포함, 또는 카테고리 한글 라벨 정확 일치
+        String kw = cond.getKeyword();
+        Criteria keyword = new Criteria("title").matchesAll(kw)
+                .or("summary").matchesAll(kw)
+                .or("source").matchesAll(kw);
+        Category cat = resolveCategoryFromKoreanOrIT(kw);
+        if (cat != null) keyword = keyword.or("category").is(cat.name());
+
+        return criteria.subCriteria(keyword);
+    }
 
-        return new PageImpl<>(content, pageable, total);
+    // createdAt / title 허용 (title은 keyword 하위 필드로 정렬)
+    private Sort toIndexSort(Sort sort) {
+        List<Sort.Order> orders = new ArrayList<>();
+        if (sort != null) {
+            for (Sort.Order o : sort) {
+                switch (o.getProperty()) {
+                    case "title" -> orders.add(new Sort.Order(o.getDirection(), "title.sort"));
+                    case "createdAt" -> orders.add(new Sort.Order(o.getDirection(), "createDate"));
+                    default -> { /* 무시 */ }
+                }
+            }
+        }
+        if (orders.isEmpty()) orders.add(Sort.Order.desc("createDate")); // 기본 정렬: 생성일시 내림차순
+        orders.add(Sort.Order.desc("id"));
+        return Sort.by(orders);
     }
 
     /**
@@ -1,5 +1,6 @@
 package org.tuna.zoopzoop.backend.domain.datasource.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -14,25 +15,22 @@ import java.util.Optional;
 
 public interface DataSourceRepository extends JpaRepository<DataSource, Integer> {
 
-    // 개인 소유 검증: DataSource -> Folder -> Archive -> PersonalArchive.member.id
+    // 개인 소유 검증: DataSource.archiveId = PersonalArchive.archive (member_id unique 인덱스)
     @Query("""
            select ds
            from DataSource ds
-             join ds.folder f
-             join f.archive a
              join PersonalArchive pa
-               on pa.archive = a
+               on pa.archive.id = ds.archiveId
            where ds.id = :dataSourceId and pa.member.id = :memberId
            """)
     Optional<DataSource> findByIdAndMemberId(@Param("dataSourceId") int dataSourceId,
                                              @Param("memberId") int memberId);
 
-    // 공유 스코프 검증: DataSource -> Folder -> Archive.id
+    // 공유 스코프 검증: DataSource.archiveId
     @Query("""
            select ds
            from DataSource ds
-             join ds.folder f
-           where ds.id = :dataSourceId and f.archive.id = :archiveId
+           where ds.id = :dataSourceId and ds.archiveId = :archiveId
            """)
     Optional<DataSource> findByIdAndArchiveId(@Param("dataSourceId") int dataSourceId,
                                               @Param("archiveId") int archiveId);
@@ -41,10 +39,8 @@ public interface DataSourceRepository extends JpaRepository<DataSource, Integer>
     @Query("""
            select ds.id
            from DataSource ds
-             join ds.folder f
-             join f.archive a
              join PersonalArchive pa
-               on pa.archive = a
+               on pa.archive.id = ds.archiveId
            where pa.member.id = :memberId and ds.id in :ids
            """)
     List<Integer> findExistingIdsInMember(@Param("memberId") int memberId,
@@ -54,8 +50,7 @@ public interface DataSourceRepository extends JpaRepository<DataSource, Integer>
     @Query("""
            select ds.id
            from DataSource ds
-             join ds.folder f
-           where f.archive.id = :archiveId and ds.id in :ids
+           where ds.archiveId = :archiveId and ds.id in :ids
            """)
     List<Integer> findExistingIdsInArchive(@Param("archiveId") int archiveId,
                                            @Param("ids") Collection<Integer> ids);
@@ -65,13 +60,65 @@ public interface DataSourceRepository extends JpaRepository<DataSource, Integer>
     @Modifying
     @Query("""
            delete from DataSource ds
-           where ds.folder.id in (
-             select f.id from Folder f
-             where f.archive.id = :archiveId
-           )
+           where ds.archiveId = :archiveId
            """)
     void deleteByArchiveId(@Param("archiveId") int archiveId);
 
+    // 검색 색인 동기화용: 폴더/태그까지 한 번에 조회
+    @Query("""
+           select distinct ds
+           from DataSource ds
+             join fetch ds.folder f
+             left join fetch ds.tags
+           where ds.id in :ids
+           """)
+    List<DataSource> findAllForIndexing(@Param("ids") Collection<Integer> ids);
+
+    // 전체 재색인용 id 순회 (id 기준 keyset)
+    @Query("""
+           select ds.id
+           from DataSource ds
+           where ds.id > :afterId
+           order by ds.id
+           """)
+    List<Integer> findIdsAfter(@Param("afterId") int afterId, Pageable pageable);
+
+    // 자동완성 색인 적재용: 아카이브의 활성 자료 제목/태그/출처별 자료 수
+    @Query("""
+           select new org.tuna.zoopzoop.backend.domain.datasource.repository.TermCount(ds.title, count(ds))
+           from DataSource ds
+           where ds.archiveId = :archiveId and ds.isActive = true and ds.title is not null
+           group by ds.title
+           """)
+    List<TermCount> countTitlesInArchive(@Param("archiveId") int archiveId);
+
+    @Query("""
+           select new org.tuna.zoopzoop.backend.domain.datasource.repository.TermCount(t.tagName, count(distinct ds.id))
+           from Tag t
+             join t.dataSource ds
+           where ds.archiveId = :archiveId and ds.isActive = true
+           group by t.tagName
+           """)
+    List<TermCount> countTagsInArchive(@Param("archiveId") int archiveId);
+
+    @Query("""
+           select new org.tuna.zoopzoop.backend.domain.datasource.repository.TermCount(ds.source, count(ds))
+           from DataSource ds
+           where ds.archiveId = :archiveId and ds.isActive = true and ds.source is not null
+           group by ds.source
+           """)
+    List<TermCount> countSourcesInArchive(@Param("archiveId") int archiveId);
+
+    // archiveId 비정규화 이전 자료 보정 (폴더의 아카이브로 채움)
+    @Transactional
+    @Modifying
+    @Query("""
+           update DataSource ds
+           set ds.archiveId = (select f.archive.id from Folder f where f = ds.folder)
+           where ds.archiveId is null
+           """)
+    int backfillArchiveIds();
+
     List<DataSource> findAllByFolderAndIsActiveTrue(Folder folder);
 
     List<DataSource> findAllByFolderId(Integer folderId);
@@ -82,7 +129,7 @@ public interface DataSourceRepository extends JpaRepository<DataSource, Integer>
     @Modifying
     @Query("""
       delete from DataSource d
-      where d.folder.archive.id = (
+      where d.archiveId = (
         select sa.archive.id
         from Space s join s.sharingArchive sa
         where s.id = :spaceId
@@ -93,7 +140,7 @@ public interface DataSourceRepository extends JpaRepository<DataSource, Integer>
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
         delete from DataSource d
-        where d.folder.archive.id in (
+        where d.archiveId in (
             select pa.archive.id
             from PersonalArchive pa
             where pa.member.id = :memberId
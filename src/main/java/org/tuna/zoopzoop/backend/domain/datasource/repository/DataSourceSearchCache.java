@@ -0,0 +1,151 @@
+package org.tuna.zoopzoop.backend.domain.datasource.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.tuna.zoopzoop.backend.domain.archive.archive.service.ArchiveVersionService;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceSearchItem;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.SearchFacets;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.SearchPage;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 검색 페이지/패싯 캐시 (로컬 Caffeine near-cache + Redis).
+ * 키: (아카이브, 아카이브 버전, 정규화된 검색 조건[, 페이지/정렬]).
+ * 자료/폴더가 바뀌면 커밋 후 아카이브 버전이 올라가므로, 쓰기 이후에는 이전 페이지가 조회되지 않는다.
+ */
+@Slf4j
+@Component
+public class DataSourceSearchCache {
+    private static final String PAGE_KEY_PREFIX = "search:page:";
+    private static final String FACETS_KEY_PREFIX = "search:facets:";
+
+    record CachedPage(List<DataSourceSearchItem> items, long total, boolean totalApproximate) {}
+
+    private final ArchiveVersionService archiveVersionService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final SearchCacheProperties properties;
+    private final Cache<String, CachedPage> localPages;
+    private final Cache<String, SearchFacets> localFacets;
+
+    public DataSourceSearchCache(ArchiveVersionService archiveVersionService,
+                                 StringRedisTemplate stringRedisTemplate,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 SearchCacheProperties properties) {
+        this.archiveVersionService = archiveVersionService;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.localPages = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaxSize())
+                .expireAfterWrite(properties.getLocalTtl())
+                .recordStats()
+                .build();
+        this.localFacets = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaxSize())
+                .expireAfterWrite(properties.getLocalTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localPages, "search.page");
+        CaffeineCacheMetrics.monitor(meterRegistry, localFacets, "search.facets");
+    }
+
+    /**
+     * @param filterKey 정규화된 검색 조건 (where 절 문자열)
+     * @param loader    캐시에 없을 때 실제 검색
+     */
+    public Page<DataSourceSearchItem> get(int archiveId, String filterKey, Pageable pageable,
+                                          Supplier<Page<DataSourceSearchItem>> loader) {
+        String hashInput = filterKey + "|" + pageable.getOffset() + "|" + pageable.getPageSize() + "|" + pageable.getSort();
+        CachedPage cached = lookup(PAGE_KEY_PREFIX, "search.page.requests", localPages, CachedPage.class,
+                archiveId, hashInput, () -> toCached(loader.get()));
+        return toPage(cached, pageable);
+    }
+
+    // 패싯 집계도 같은 아카이브 버전으로 무효화
+    public SearchFacets getFacets(int archiveId, String filterKey, Supplier<SearchFacets> loader) {
+        return lookup(FACETS_KEY_PREFIX, "search.facets.requests", localFacets, SearchFacets.class,
+                archiveId, filterKey, loader);
+    }
+
+    private <T> T lookup(String prefix, String metric, Cache<String, T> local, Class<T> type,
+                         int archiveId, String hashInput, Supplier<T> loader) {
+        if (!properties.isEnabled()) return loader.get();
+
+        Long version = archiveVersionService.current(archiveId);
+        if (version == null) {
+            // 버전을 모르면 무효화 여부도 알 수 없으므로 캐시를 쓰지 않음
+            count(metric, "bypass");
+            return loader.get();
+        }
+
+        String key = prefix + archiveId + ":" + version + ":" + DigestUtils.sha256Hex(hashInput);
+
+        T hit = local.getIfPresent(key);
+        if (hit != null) {
+            count(metric, "local_hit");
+            return hit;
+        }
+
+        if (properties.isRedisEnabled()) {
+            try {
+                String json = stringRedisTemplate.opsForValue().get(key);
+                if (json != null) {
+                    T cached = objectMapper.readValue(json, type);
+                    local.put(key, cached);
+                    count(metric, "redis_hit");
+                    return cached;
+                }
+            } catch (Exception e) {
+                log.warn("Search cache lookup failed. key: {}, reason: {}", key, e.getMessage());
+            }
+        }
+
+        count(metric, "miss");
+        T value = loader.get();
+        store(key, local, value);
+        return value;
+    }
+
+    private <T> void store(String key, Cache<String, T> local, T value) {
+        local.put(key, value);
+        if (!properties.isRedisEnabled()) return;
+
+        try {
+            stringRedisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value), properties.getTtl());
+        } catch (Exception e) {
+            log.warn("Search cache store failed. key: {}, reason: {}", key, e.getMessage());
+        }
+    }
+
+    private static CachedPage toCached(Page<DataSourceSearchItem> page) {
+        boolean approximate = page instanceof SearchPage<?> sp && sp.isTotalApproximate();
+        return new CachedPage(List.copyOf(page.getContent()), page.getTotalElements(), approximate);
+    }
+
+    private static Page<DataSourceSearchItem> toPage(CachedPage cached, Pageable pageable) {
+        return new SearchPage<>(cached.items(), pageable, cached.total(), cached.totalApproximate());
+    }
+
+    private void count(String metric, String result) {
+        Counter.builder(metric)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,7 @@
+package org.tuna.zoopzoop.backend.domain.datasource.repository;
+
+import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
+import org.tuna.zoopzoop.backend.domain.datasource.entity.DataSourceDocument;
+
+public interface DataSourceSearchRepository extends ElasticsearchRepository<DataSourceDocument, Integer> {
+}
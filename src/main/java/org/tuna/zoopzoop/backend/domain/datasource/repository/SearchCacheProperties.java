@@ -0,0 +1,29 @@
+package org.tuna.zoopzoop.backend.domain.datasource.repository;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "search.cache")
+@Getter
+@Setter
+public class SearchCacheProperties {
+    //application.yml에 search.cache 항목 작성
+    //예시
+    //search:
+    //  cache:
+    //    enabled: true
+    //    ttl: 10m
+    //    local-ttl: 1m
+    //    local-max-size: 5000
+    //    redis-enabled: true
+    private boolean enabled = true;
+    private Duration ttl = Duration.ofMinutes(10);      // Redis TTL (무효화는 아카이브 버전으로, TTL은 메모리 회수용)
+    private Duration localTtl = Duration.ofMinutes(1);  // 로컬 near-cache TTL
+    private long localMaxSize = 5_000;                  // 로컬 near-cache 최대 페이지 수
+    private boolean redisEnabled = true;
+}
@@ -0,0 +1,27 @@
+package org.tuna.zoopzoop.backend.domain.datasource.repository;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "search.count")
+@Getter
+@Setter
+public class SearchCountProperties {
+    //application.yml에 search.count 항목 작성
+    //예시
+    //search:
+    //  count:
+    //    cache-enabled: true
+    //    cache-ttl: 10m
+    //    cache-max-size: 10000
+    //    max-exact: 10000
+    private boolean cacheEnabled = true;
+    private Duration cacheTtl = Duration.ofMinutes(10); // (아카이브, 버전, 조건)별 건수 캐시 TTL
+    private long cacheMaxSize = 10_000;                 // 건수 캐시 최대 항목 수
+    private int maxExact = 0;                           // 이 값을 넘으면 "N건 이상"으로 근사 (0이면 항상 정확히 셈)
+}
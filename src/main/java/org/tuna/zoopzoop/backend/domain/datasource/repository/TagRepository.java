@@ -24,7 +24,7 @@ public interface TagRepository extends JpaRepository<Tag, Integer> {
       where t.dataSource.id in (
         select d.id
         from DataSource d
-        where d.folder.archive.id = (
+        where d.archiveId = (
           select sa.archive.id
           from Space s join s.sharingArchive sa
           where s.id = :spaceId
@@ -39,9 +39,7 @@ public interface TagRepository extends JpaRepository<Tag, Integer> {
         where t.dataSource.id in (
             select d.id
             from DataSource d
-            join d.folder f
-            join f.archive a
-            where a.id in (
+            where d.archiveId in (
                 select pa.archive.id
                 from PersonalArchive pa
                 where pa.member.id = :memberId
@@ -0,0 +1,4 @@
+package org.tuna.zoopzoop.backend.domain.datasource.repository;
+
+// 자동완성 색인 적재용 (값, 그 값을 가진 자료 수)
+public record TermCount(String term, Long count) {}
@@ -0,0 +1,87 @@
+package org.tuna.zoopzoop.backend.domain.datasource.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceChangedEvent;
+import org.tuna.zoopzoop.backend.domain.datasource.entity.DataSource;
+import org.tuna.zoopzoop.backend.domain.datasource.entity.DataSourceDocument;
+import org.tuna.zoopzoop.backend.domain.datasource.repository.DataSourceRepository;
+import org.tuna.zoopzoop.backend.domain.datasource.repository.DataSourceSearchRepository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+/**
+ * DataSource → Elasticsearch 색인 동기화.
+ * 쓰기 트랜잭션 커밋 후 변경된 자료를 색인 전용 풀(searchIndexExecutor)에서 다시 읽어 색인하고, 없어진 자료는 색인에서 지운다.
+ * 요청 스레드는 ES 응답을 기다리지 않으며, 색인 실패는 쓰기 요청을 실패시키지 않음 (검색 시 MySQL에서 다시 걸러지고, 재색인으로 복구).
+ */
+@Slf4j
+@Service
+public class DataSourceIndexService {
+    private final DataSourceRepository dataSourceRepository;
+    private final DataSourceSearchRepository dataSourceSearchRepository;
+    private final TransactionOperations transactionOperations;
+    private final Executor searchIndexExecutor;
+
+    @Value("${search.elasticsearch.enabled:true}")
+    private boolean enabled;
+
+    public DataSourceIndexService(DataSourceRepository dataSourceRepository,
+                                  DataSourceSearchRepository dataSourceSearchRepository,
+                                  TransactionOperations transactionOperations,
+                                  @Qualifier("searchIndexExecutor") Executor searchIndexExecutor) {
+        this.dataSourceRepository = dataSourceRepository;
+        this.dataSourceSearchRepository = dataSourceSearchRepository;
+        this.transactionOperations = transactionOperations;
+        this.searchIndexExecutor = searchIndexExecutor;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(DataSourceChangedEvent event) {
+        if (!enabled || event.dataSourceIds() == null || event.dataSourceIds().isEmpty()) return;
+        List<Integer> ids = List.copyOf(event.dataSourceIds());
+        searchIndexExecutor.execute(() -> {
+            try {
+                transactionOperations.executeWithoutResult(status -> index(ids));
+            } catch (RuntimeException e) {
+                log.warn("Failed to sync search index for data sources {}", ids, e);
+            }
+        });
+    }
+
+    // 전체 재색인 (id 순으로 batchSize씩, 배치마다 따로 조회해 영속성 컨텍스트가 커지지 않도록)
+    public int reindexAll(int batchSize) {
+        int indexed = 0;
+        int afterId = 0;
+        while (true) {
+            List<Integer> ids = dataSourceRepository.findIdsAfter(afterId, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) return indexed;
+
+            indexed += transactionOperations.execute(status -> index(ids));
+            afterId = ids.get(ids.size() - 1);
+            log.info("Reindexed {} data sources (last id {})", indexed, afterId);
+        }
+    }
+
+    private int index(Collection<Integer> ids) {
+        List<DataSource> found = dataSourceRepository.findAllForIndexing(ids);
+        if (!found.isEmpty()) {
+            dataSourceSearchRepository.saveAll(found.stream().map(DataSourceDocument::from).toList());
+        }
+
+        // 물리 삭제된 자료
+        Set<Integer> missing = new HashSet<>(ids);
+        found.forEach(ds -> missing.remove(ds.getId()));
+        if (!missing.isEmpty()) dataSourceSearchRepository.deleteAllById(missing);
+        return found.size();
+    }
+}
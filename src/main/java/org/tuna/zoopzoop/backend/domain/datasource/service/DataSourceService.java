@@ -6,26 +6,38 @@ import lombok.Builder;
 import lombok.RequiredArgsConstructor;
 import org.openapitools.jackson.nullable.JsonNullable;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.tuna.zoopzoop.backend.domain.archive.folder.entity.Folder;
 import org.tuna.zoopzoop.backend.domain.archive.folder.repository.FolderRepository;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.CursorPage;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceChangedEvent;
 import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceSearchCondition;
 import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceSearchItem;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.FederatedSearchItem;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.SearchFacets;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.SearchOrigin;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.SearchSuggestion;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.service.SemanticSearchService;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.Category;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.DataSource;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.Tag;
 import org.tuna.zoopzoop.backend.domain.datasource.repository.DataSourceQRepository;
 import org.tuna.zoopzoop.backend.domain.datasource.repository.DataSourceRepository;
+import org.tuna.zoopzoop.backend.domain.datasource.suggest.service.SuggestionService;
 import org.tuna.zoopzoop.backend.global.aws.S3Service;
 
 import java.net.URI;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -35,6 +47,9 @@ public class DataSourceService {
     private final FolderRepository folderRepository;
     private final DataSourceQRepository dataSourceQRepository;
     private final S3Service s3Service;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SemanticSearchService semanticSearchService;
+    private final SuggestionService suggestionService;
 
     @Value("${spring.cloud.aws.s3.bucket}")
     private String bucket;
@@ -110,7 +125,9 @@ public class DataSourceService {
             ds.getTags().addAll(tags);
         }
 
-        return dataSourceRepository.save(ds).getId();
+        int id = dataSourceRepository.save(ds).getId();
+        publishChanged(List.of(id), archiveIdsOf(List.of(folder)));
+        return id;
     }
 
     // update
@@ -142,6 +159,7 @@ public class DataSourceService {
             }
         }
 
+        publishChanged(List.of(ds.getId()), archiveIdsOf(List.of(ds.getFolder())));
         return ds.getId();
     }
 
@@ -155,7 +173,9 @@ public class DataSourceService {
 
         // 동일 폴더 이동은 무시
         if (!Objects.equals(ds.getFolder().getId(), target.getId())) {
+            Set<Integer> archiveIds = archiveIdsOf(List.of(ds.getFolder(), target));
             ds.setFolder(target);
+            publishChanged(List.of(ds.getId()), archiveIds);
         }
         return new MoveResult(ds.getId(), target.getId());
     }
@@ -169,11 +189,14 @@ public class DataSourceService {
         List<DataSource> all = dataSourceRepository.findAllById(ids);
         if (all.size() != ids.size()) throw new NoResultException("존재하지 않는 자료 포함");
 
+        Set<Integer> archiveIds = archiveIdsOf(foldersOf(all));
+        archiveIds.addAll(archiveIdsOf(List.of(target)));
         for (DataSource ds : all) {
             if (!Objects.equals(ds.getFolder().getId(), target.getId())) {
                 ds.setFolder(target);
             }
         }
+        publishChanged(ids, archiveIds);
     }
 
     // hard delete
@@ -183,6 +206,7 @@ public class DataSourceService {
                 .orElseThrow(() -> new NoResultException("존재하지 않는 자료입니다."));
 //        deleteOwnedImageIfAny(ds);
         dataSourceRepository.delete(ds);
+        publishChanged(List.of(dataSourceId), archiveIdsOf(List.of(ds.getFolder())));
     }
 
     @Transactional
@@ -192,6 +216,7 @@ public class DataSourceService {
         if (list.size() != ids.size()) throw new NoResultException("존재하지 않는 자료 포함");
 //        for (DataSource ds : list) deleteOwnedImageIfAny(ds);
         dataSourceRepository.deleteAll(list);
+        publishChanged(ids, archiveIdsOf(foldersOf(list)));
     }
 
     // soft delete
@@ -208,6 +233,7 @@ public class DataSourceService {
                 affected++;
             }
         }
+        if (affected > 0) publishChanged(ids, archiveIdsOf(foldersOf(list)));
         return affected;
     }
 
@@ -225,6 +251,7 @@ public class DataSourceService {
                 affected++;
             }
         }
+        if (affected > 0) publishChanged(ids, archiveIdsOf(foldersOf(list)));
         return affected;
     }
 
@@ -249,6 +276,85 @@ public class DataSourceService {
         return dataSourceQRepository.searchInArchive(archiveId, cond, pageable);
     }
 
+    /**
+     * Personal 의미 검색: 개인 아카이브의 벡터 인덱스에서 keyword와 가까운 순
+     * 임베딩을 쓸 수 없으면 키워드 검색으로 대체
+     */
+    public Page<DataSourceSearchItem> semanticSearchByMember(int memberId,
+                                                             int archiveId,
+                                                             DataSourceSearchCondition cond,
+                                                             Pageable pageable) {
+        cond = normalizeFolder(memberId, null, cond);
+        Page<DataSourceSearchItem> page = semanticSearchService.search(archiveId, cond, pageable);
+        return page != null ? page : dataSourceQRepository.search(memberId, cond, pageable);
+    }
+
+    /**
+     * Space(공유) 의미 검색
+     */
+    public Page<DataSourceSearchItem> semanticSearchByArchive(int archiveId,
+                                                              DataSourceSearchCondition cond,
+                                                              Pageable pageable) {
+        cond = normalizeFolder(null, archiveId, cond);
+        Page<DataSourceSearchItem> page = semanticSearchService.search(archiveId, cond, pageable);
+        return page != null ? page : dataSourceQRepository.searchInArchive(archiveId, cond, pageable);
+    }
+
+    /**
+     * Personal 커서 검색: count 없이 다음 커서만 반환
+     */
+    public CursorPage<DataSourceSearchItem> scrollByMember(int memberId,
+                                                           DataSourceSearchCondition cond,
+                                                           Pageable pageable,
+                                                           String cursor) {
+        cond = normalizeFolder(memberId, null, cond);
+        return dataSourceQRepository.scroll(memberId, cond, pageable, cursor);
+    }
+
+    /**
+     * Space(공유) 커서 검색
+     */
+    public CursorPage<DataSourceSearchItem> scrollByArchive(int archiveId,
+                                                            DataSourceSearchCondition cond,
+                                                            Pageable pageable,
+                                                            String cursor) {
+        cond = normalizeFolder(null, archiveId, cond);
+        return dataSourceQRepository.scrollInArchive(archiveId, cond, pageable, cursor);
+    }
+
+    /**
+     * 통합 커서 검색: 여러 아카이브(key = archiveId)를 한 쿼리로, 폴더 조건 없음
+     */
+    public CursorPage<FederatedSearchItem> scrollAcross(Map<Integer, SearchOrigin> origins,
+                                                        DataSourceSearchCondition cond,
+                                                        Pageable pageable,
+                                                        String cursor) {
+        return dataSourceQRepository.scrollAcross(origins, cond, pageable, cursor);
+    }
+
+    /**
+     * 검색어 자동완성: 아카이브의 제목/태그/출처 중 prefix로 시작하는 상위 limit개 (메모리 색인, DB 조회 없음)
+     */
+    public List<SearchSuggestion> suggestByArchive(int archiveId, String prefix, int limit) {
+        return suggestionService.suggest(archiveId, prefix, limit);
+    }
+
+    /**
+     * Personal 패싯: 카테고리/태그/폴더별 건수
+     */
+    public SearchFacets facetsByMember(int memberId, DataSourceSearchCondition cond, int tagLimit) {
+        cond = normalizeFolder(memberId, null, cond);
+        return dataSourceQRepository.facets(memberId, cond, tagLimit);
+    }
+
+    /**
+     * Space(공유) 패싯
+     */
+    public SearchFacets facetsByArchive(int archiveId, DataSourceSearchCondition cond, int tagLimit) {
+        cond = normalizeFolder(null, archiveId, cond);
+        return dataSourceQRepository.facetsInArchive(archiveId, cond, tagLimit);
+    }
+
     /**
      * folderId=0 -> 기본 폴더 치환
      * memberId가 있으면 Personal, archiveId가 있으면 Shared로 판단
@@ -285,6 +391,23 @@ public class DataSourceService {
                 .build();
     }
 
+    // 커밋 후 검색 색인 동기화 (DataSourceIndexService) + 아카이브 버전 증가 (ArchiveVersionService)
+    private void publishChanged(List<Integer> ids, Set<Integer> archiveIds) {
+        eventPublisher.publishEvent(new DataSourceChangedEvent(List.copyOf(ids), Set.copyOf(archiveIds)));
+    }
+
+    private List<Folder> foldersOf(List<DataSource> list) {
+        return list.stream().map(DataSource::getFolder).toList();
+    }
+
+    private Set<Integer> archiveIdsOf(List<Folder> folders) {
+        Set<Integer> archiveIds = new HashSet<>();
+        for (Folder f : folders) {
+            if (f != null && f.getArchive() != null) archiveIds.add(f.getArchive().getId());
+        }
+        return archiveIds;
+    }
+
     // ===== update: 공통 유틸 =====
     // 이미지 유효성 검사
     public void validateImage(MultipartFile image) {
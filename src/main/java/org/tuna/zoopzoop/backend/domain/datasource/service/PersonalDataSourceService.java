@@ -11,16 +11,19 @@ import org.springframework.web.multipart.MultipartFile;
 import org.tuna.zoopzoop.backend.domain.archive.archive.entity.PersonalArchive;
 import org.tuna.zoopzoop.backend.domain.archive.archive.repository.PersonalArchiveRepository;
 import org.tuna.zoopzoop.backend.domain.archive.folder.repository.FolderRepository;
-import org.tuna.zoopzoop.backend.domain.datasource.dataprocessor.service.DataProcessorService;
-import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceDto;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.CursorPage;
 import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceSearchCondition;
 import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceSearchItem;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.FederatedSearchItem;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.SearchFacets;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.SearchOrigin;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.SearchSuggestion;
 import org.tuna.zoopzoop.backend.domain.datasource.dto.UpdateOutcome;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.DataSource;
-import org.tuna.zoopzoop.backend.domain.datasource.entity.Tag;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.service.IngestionService;
 import org.tuna.zoopzoop.backend.domain.datasource.repository.DataSourceRepository;
+import org.tuna.zoopzoop.backend.domain.space.membership.repository.MembershipRepository;
 
-import java.io.IOException;
 import java.util.*;
 
 @Service
@@ -31,7 +34,8 @@ public class PersonalDataSourceService {
     private final DataSourceRepository dataSourceRepository;
     private final FolderRepository folderRepository;
     private final PersonalArchiveRepository personalArchiveRepository;
-    private final DataProcessorService dataProcessorService;
+    private final IngestionService ingestionService;
+    private final MembershipRepository membershipRepository;
 
     private int getPersonalArchiveId(int memberId) {
         PersonalArchive pa = personalArchiveRepository.findByMemberId(memberId)
@@ -50,31 +54,12 @@ public class PersonalDataSourceService {
                 .getId();
     }
 
-    // create
+    // create (비동기 등록 요청)
+    // URL 접속/본문 추출/AI 분석은 IngestionJob 파이프라인에서 처리하고, 여기서는 작업만 접수한다.
     @Transactional
-    public int create(int memberId, String sourceUrl, Integer folderIdOrZero, DataSourceService.CreateCmd meta) throws IOException {
+    public int requestCreate(int memberId, String sourceUrl, Integer folderIdOrZero, DataSourceService.CreateCmd meta) {
         int folderId = resolveTargetFolderIdByMember(memberId, folderIdOrZero);
-
-        // 1) 태그 후보(사용자 입력) 준비
-        List<Tag> baseTags = new ArrayList<>();
-        if (meta.tags() != null) {
-            for (String t : meta.tags()) baseTags.add(new Tag(t));
-        }
-
-        DataSourceDto dto = dataProcessorService.process(sourceUrl, baseTags);
-
-        var cmd = DataSourceService.CreateCmd.builder()
-                .title(dto.title())
-                .summary(dto.summary())
-                .source(dto.source())
-                .sourceUrl(sourceUrl)
-                .imageUrl(dto.imageUrl())
-                .category(dto.category())
-                .dataCreatedDate(dto.dataCreatedDate())
-                .tags(dto.tags())
-                .build();
-
-        return domain.create(folderId, cmd);
+        return ingestionService.submit(memberId, folderId, sourceUrl, meta.tags());
     }
 
     // hard delete
@@ -203,4 +188,41 @@ public class PersonalDataSourceService {
                                              Pageable pageable) {
         return domain.searchByMember(memberId, cond, pageable);
     }
+
+    // 의미 검색 (keyword 임베딩 유사도 순)
+    public Page<DataSourceSearchItem> semanticSearch(int memberId,
+                                                     DataSourceSearchCondition cond,
+                                                     Pageable pageable) {
+        return domain.semanticSearchByMember(memberId, getPersonalArchiveId(memberId), cond, pageable);
+    }
+
+    public CursorPage<DataSourceSearchItem> scroll(int memberId,
+                                                   DataSourceSearchCondition cond,
+                                                   Pageable pageable,
+                                                   String cursor) {
+        return domain.scrollByMember(memberId, cond, pageable, cursor);
+    }
+
+    // 통합 검색: 개인 아카이브 + 참여 중인 스페이스 아카이브를 한 번에 (항목마다 출처 표시)
+    public CursorPage<FederatedSearchItem> searchAll(int memberId,
+                                                     DataSourceSearchCondition cond,
+                                                     Pageable pageable,
+                                                     String cursor) {
+        Map<Integer, SearchOrigin> origins = new LinkedHashMap<>();
+        personalArchiveRepository.findByMemberId(memberId)
+                .ifPresent(pa -> origins.put(pa.getArchive().getId(), SearchOrigin.personal(pa.getArchive().getId())));
+        for (SearchOrigin space : membershipRepository.findJoinedSpaceOrigins(memberId)) {
+            origins.putIfAbsent(space.archiveId(), space);
+        }
+        return domain.scrollAcross(origins, cond, pageable, cursor);
+    }
+
+    // 검색어 자동완성
+    public List<SearchSuggestion> suggest(int memberId, String prefix, int limit) {
+        return domain.suggestByArchive(getPersonalArchiveId(memberId), prefix, limit);
+    }
+
+    public SearchFacets facets(int memberId, DataSourceSearchCondition cond, int tagLimit) {
+        return domain.facetsByMember(memberId, cond, tagLimit);
+    }
 }
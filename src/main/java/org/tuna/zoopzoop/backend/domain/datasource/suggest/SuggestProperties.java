@@ -0,0 +1,33 @@
+package org.tuna.zoopzoop.backend.domain.datasource.suggest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "search.suggest")
+@Getter
+@Setter
+public class SuggestProperties {
+    //application.yml에 search.suggest 항목 작성
+    //예시
+    //search:
+    //  suggest:
+    //    max-archives: 500
+    //    idle-ttl: 30m
+    //    stale-after: 5m
+    //    max-limit: 20
+    //    scan-limit: 2000
+    //    max-title-words: 8
+    //    client-max-age: 10s
+    private long maxArchives = 500;                     // 메모리에 올려 둘 아카이브 색인 수 (LRU)
+    private Duration idleTtl = Duration.ofMinutes(30);  // 이 시간 동안 요청이 없으면 내림
+    private Duration staleAfter = Duration.ofMinutes(5); // 아카이브 버전을 알 수 없을 때(Redis 장애) 재구축 주기
+    private int maxLimit = 20;                          // 요청당 최대 후보 수
+    private int scanLimit = 2_000;                      // 접두사 범위가 이보다 넓으면 미리 계산한 상위 목록 사용
+    private int maxTitleWords = 8;                      // 제목 중간 단어로도 찾도록 색인할 단어 시작 위치 수
+    private Duration clientMaxAge = Duration.ofSeconds(10); // 응답 Cache-Control max-age (타이핑 중 같은 접두사 재요청 흡수)
+}
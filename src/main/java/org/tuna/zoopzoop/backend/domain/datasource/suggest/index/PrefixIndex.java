@@ -0,0 +1,151 @@
+package org.tuna.zoopzoop.backend.domain.datasource.suggest.index;
+
+import org.tuna.zoopzoop.backend.domain.datasource.dto.SearchSuggestion;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 아카이브 하나의 자동완성 색인 (불변, 다시 만들 때 통째로 교체).
+ * 정규화한 키를 정렬된 배열에 두고 접두사 범위를 이분 탐색으로 찾는다.
+ * 항목 번호 = 순위(건수 내림차순)이므로 범위 안에서 번호가 작은 것부터 k개가 곧 상위 k개.
+ * 범위가 넓은 짧은 접두사("a", "스")는 빌드 때 상위 목록을 미리 계산해 두어, 어떤 입력이든 scanLimit 이내만 훑는다.
+ */
+public final class PrefixIndex {
+    private static final int MAX_KEY_LENGTH = 64;
+    private static final Comparator<SearchSuggestion> RANK = Comparator
+            .comparingLong(SearchSuggestion::count).reversed()
+            .thenComparing(SearchSuggestion::type)
+            .thenComparing(SearchSuggestion::text);
+
+    private final SearchSuggestion[] entries; // 순위 순
+    private final String[] keys;              // 정규화된 키 (사전 순)
+    private final int[] keyEntry;             // 키 → 항목 번호
+    private final Map<String, int[]> hot;     // 범위가 넓은 접두사 → 상위 항목 번호
+    private final int scanLimit;
+
+    private PrefixIndex(SearchSuggestion[] entries, String[] keys, int[] keyEntry, Map<String, int[]> hot, int scanLimit) {
+        this.entries = entries;
+        this.keys = keys;
+        this.keyEntry = keyEntry;
+        this.hot = hot;
+        this.scanLimit = scanLimit;
+    }
+
+    public static PrefixIndex empty() {
+        return new PrefixIndex(new SearchSuggestion[0], new String[0], new int[0], Map.of(), 0);
+    }
+
+    /**
+     * @param maxWords 제목/출처는 중간 단어부터도 찾을 수 있도록 단어 시작 위치 maxWords개까지 키로 넣음
+     * @param topSize  미리 계산할 상위 목록 길이 (요청 limit 최대값)
+     */
+    public static PrefixIndex build(List<SearchSuggestion> terms, int maxWords, int topSize, int scanLimit) {
+        SearchSuggestion[] entries = terms.stream()
+                .filter(t -> !normalize(t.text()).isEmpty())
+                .sorted(RANK)
+                .toArray(SearchSuggestion[]::new);
+
+        record Key(String key, int entry) {}
+        List<Key> list = new ArrayList<>(entries.length * 2);
+        for (int i = 0; i < entries.length; i++) {
+            String normalized = normalize(entries[i].text());
+            list.add(new Key(truncate(normalized), i));
+            if (entries[i].type() == SearchSuggestion.Type.TAG) continue;
+
+            int words = 1;
+            for (int p = normalized.indexOf(' '); p >= 0 && words < maxWords; p = normalized.indexOf(' ', p + 1)) {
+                list.add(new Key(truncate(normalized.substring(p + 1)), i));
+                words++;
+            }
+        }
+        list.sort(Comparator.comparing(Key::key).thenComparingInt(Key::entry));
+
+        String[] keys = new String[list.size()];
+        int[] keyEntry = new int[list.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = list.get(i).key();
+            keyEntry[i] = list.get(i).entry();
+        }
+
+        Map<String, int[]> hot = new HashMap<>();
+        collectHot(keys, keyEntry, 0, keys.length, 0, topSize, scanLimit, hot);
+        return new PrefixIndex(entries, keys, keyEntry, hot, scanLimit);
+    }
+
+    // [lo, hi)는 모두 길이 depth의 같은 접두사로 시작. 넓으면 상위 목록을 저장하고 다음 글자별로 나눠 내려감
+    private static void collectHot(String[] keys, int[] keyEntry, int lo, int hi, int depth,
+                                   int topSize, int scanLimit, Map<String, int[]> hot) {
+        if (hi - lo <= scanLimit) return;
+        if (depth > 0) hot.put(keys[lo].substring(0, depth), top(keyEntry, lo, hi, topSize));
+
+        int i = lo;
+        while (i < hi && keys[i].length() == depth) i++; // 접두사와 똑같은 키 (더 나눌 수 없음)
+        while (i < hi) {
+            char c = keys[i].charAt(depth);
+            int j = i;
+            while (j < hi && keys[j].charAt(depth) == c) j++;
+            collectHot(keys, keyEntry, i, j, depth + 1, topSize, scanLimit, hot);
+            i = j;
+        }
+    }
+
+    // 범위 안에서 번호가 가장 작은(=순위가 높은) 서로 다른 항목 limit개
+    private static int[] top(int[] keyEntry, int lo, int hi, int limit) {
+        TreeSet<Integer> best = new TreeSet<>();
+        for (int i = lo; i < hi; i++) {
+            int entry = keyEntry[i];
+            if (best.size() < limit) best.add(entry);
+            else if (entry < best.last() && best.add(entry)) best.pollLast();
+        }
+        return best.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    public List<SearchSuggestion> lookup(String query, int limit) {
+        String prefix = truncate(normalize(query));
+        if (prefix.isEmpty() || limit <= 0) return List.of();
+
+        int lo = lowerBound(prefix);
+        int hi = lowerBound(prefix + Character.MAX_VALUE);
+        if (lo >= hi) return List.of();
+
+        int[] ranked = hi - lo > scanLimit ? hot.get(prefix) : null;
+        if (ranked == null) ranked = top(keyEntry, lo, hi, limit);
+
+        int n = Math.min(limit, ranked.length);
+        List<SearchSuggestion> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) out.add(entries[ranked[i]]);
+        return out;
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    // key 이상인 첫 위치 (같은 키가 여러 개면 첫 번째)
+    private int lowerBound(String key) {
+        int lo = 0;
+        int hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(key) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // 소문자 + 앞뒤 공백 제거 + 연속 공백 하나로
+    static String normalize(String text) {
+        if (text == null) return "";
+        return text.toLowerCase(Locale.ROOT).strip().replaceAll("\\s+", " ");
+    }
+
+    private static String truncate(String key) {
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+}
@@ -0,0 +1,126 @@
+package org.tuna.zoopzoop.backend.domain.datasource.suggest.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.tuna.zoopzoop.backend.domain.archive.archive.service.ArchiveVersionService;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.SearchSuggestion;
+import org.tuna.zoopzoop.backend.domain.datasource.repository.DataSourceRepository;
+import org.tuna.zoopzoop.backend.domain.datasource.repository.TermCount;
+import org.tuna.zoopzoop.backend.domain.datasource.suggest.SuggestProperties;
+import org.tuna.zoopzoop.backend.domain.datasource.suggest.index.PrefixIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 검색어 자동완성: 아카이브별 메모리 접두사 색인 (인스턴스 로컬, LRU).
+ * 첫 요청 때 활성 자료의 제목/태그/출처 집계를 색인 전용 풀(suggestIndexExecutor)에 예약하고, 준비될 때까지는 빈 목록으로 답한다.
+ * 아카이브 버전이 바뀌면(자료 변경 이벤트 → 커밋 후 증가) 같은 풀에서 다시 만들어 교체하고, 그 동안은 이전 색인으로 답함
+ * (키 입력 요청이 DB 집계를 기다리거나 키마다 DB를 치지 않도록).
+ */
+@Slf4j
+@Service
+public class SuggestionService {
+    private final DataSourceRepository dataSourceRepository;
+    private final ArchiveVersionService archiveVersionService;
+    private final SuggestProperties properties;
+    private final Cache<Integer, Holder> archives;
+    private final Executor builder;
+    private final Timer lookupTimer;
+
+    // 색인 + 만들 때의 아카이브 버전/시각 (index가 null이면 첫 적재 전)
+    private static final class Holder {
+        volatile PrefixIndex index;
+        volatile Long version;
+        volatile long builtAt;
+        final AtomicBoolean rebuilding = new AtomicBoolean();
+    }
+
+    public SuggestionService(DataSourceRepository dataSourceRepository,
+                             ArchiveVersionService archiveVersionService,
+                             SuggestProperties properties,
+                             MeterRegistry meterRegistry,
+                             @Qualifier("suggestIndexExecutor") Executor suggestIndexExecutor) {
+        this.dataSourceRepository = dataSourceRepository;
+        this.archiveVersionService = archiveVersionService;
+        this.properties = properties;
+        this.archives = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxArchives())
+                .expireAfterAccess(properties.getIdleTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, archives, "search.suggest.archives");
+        this.builder = suggestIndexExecutor;
+        this.lookupTimer = Timer.builder("search.suggest.lookup")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * prefix로 시작하는 제목/태그/출처 상위 limit개 (자료 수 내림차순).
+     * 아카이브 색인이 아직 적재 중이면 빈 목록.
+     */
+    public List<SearchSuggestion> suggest(int archiveId, String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) return List.of();
+        int capped = Math.min(Math.max(limit, 1), properties.getMaxLimit());
+
+        Holder holder = archives.get(archiveId, id -> new Holder());
+        refreshIfStale(archiveId, holder);
+
+        PrefixIndex index = holder.index;
+        if (index == null) return List.of();
+        return lookupTimer.record(() -> index.lookup(prefix, capped));
+    }
+
+    private void refreshIfStale(int archiveId, Holder holder) {
+        Long version = archiveVersionService.current(archiveId);
+        boolean stale;
+        if (holder.index == null) stale = true; // 첫 적재 (실패했으면 다시)
+        else if (version != null) stale = !Objects.equals(version, holder.version);
+        else stale = System.currentTimeMillis() - holder.builtAt > properties.getStaleAfter().toMillis(); // 버전을 모를 때는 주기적으로
+        if (!stale || !holder.rebuilding.compareAndSet(false, true)) return;
+
+        try {
+            builder.execute(() -> {
+                try {
+                    // 버전을 먼저 잡아야 적재 중의 변경이 다음 요청에서 다시 반영됨
+                    Long current = archiveVersionService.current(archiveId);
+                    holder.index = load(archiveId);
+                    holder.version = current;
+                    holder.builtAt = System.currentTimeMillis();
+                } catch (RuntimeException e) {
+                    log.warn("Suggestion index rebuild failed. archiveId: {}", archiveId, e);
+                } finally {
+                    holder.rebuilding.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            holder.rebuilding.set(false); // 대기열이 가득 참/종료 중: 다음 요청에서 다시 예약
+        }
+    }
+
+    private PrefixIndex load(int archiveId) {
+        long start = System.currentTimeMillis();
+        List<SearchSuggestion> terms = new ArrayList<>();
+        for (TermCount t : dataSourceRepository.countTitlesInArchive(archiveId))
+            terms.add(new SearchSuggestion(SearchSuggestion.Type.TITLE, t.term(), t.count()));
+        for (TermCount t : dataSourceRepository.countTagsInArchive(archiveId))
+            terms.add(new SearchSuggestion(SearchSuggestion.Type.TAG, t.term(), t.count()));
+        for (TermCount t : dataSourceRepository.countSourcesInArchive(archiveId))
+            terms.add(new SearchSuggestion(SearchSuggestion.Type.SOURCE, t.term(), t.count()));
+
+        PrefixIndex index = PrefixIndex.build(terms, properties.getMaxTitleWords(), properties.getMaxLimit(), properties.getScanLimit());
+        log.debug("Built suggestion index for archive {} ({} terms) in {} ms", archiveId, index.size(), System.currentTimeMillis() - start);
+        return index;
+    }
+}
@@ -3,70 +3,45 @@ package org.tuna.zoopzoop.backend.domain.news.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.tuna.zoopzoop.backend.domain.archive.folder.service.PersonalArchiveFolderService;
-import org.tuna.zoopzoop.backend.domain.datasource.dto.FileSummary;
-import org.tuna.zoopzoop.backend.domain.datasource.dto.FolderFilesDto;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceSearchCondition;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.SearchFacets;
+import org.tuna.zoopzoop.backend.domain.datasource.service.DataSourceService;
 import org.tuna.zoopzoop.backend.domain.member.entity.Member;
 import org.tuna.zoopzoop.backend.domain.member.service.MemberService;
 import org.tuna.zoopzoop.backend.domain.space.archive.service.SpaceArchiveFolderService;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class NewsService {
+    private static final int RECOMMEND_TAG_COUNT = 3;
+
     private final PersonalArchiveFolderService folderService;
     private final SpaceArchiveFolderService spaceArchiveFolderService;
     private final MemberService memberService;
+    private final DataSourceService dataSourceService;
 
     public List<String> getTagFrequencyFromFiles(Integer memberId, Integer folderId) {
-        FolderFilesDto folderFilesDto = folderService.getFilesInFolder(memberId, folderId);
-
-        List<FileSummary> files = folderFilesDto.files();
-
-        Map<String, Long> tags = files.stream()
-                .flatMap(file -> {
-                    List<String> ts = file.tags();
-                    return (ts == null ? List.<String>of() : ts).stream();
-                })
-                .collect(Collectors.groupingBy(
-                        tagName -> tagName,
-                        Collectors.counting()
-                ));
-
-        List<String> frequency = tags.entrySet().stream()
-                .sorted(Map.Entry.comparingByValue(Comparator.reverseOrder()))
-                .limit(3)
-                .map(Map.Entry::getKey)
-                .toList();
-
-        return frequency;
+        Integer archiveId = folderService.getFolderArchiveId(memberId, folderId);
+        return topTagsInFolder(archiveId, folderId);
     }
 
     public List<String> getTagFrequencyFromFilesInSharing(Integer spaceId, Integer memberId, Integer folderId) {
         Member member = memberService.findById(memberId);
-        FolderFilesDto folderFilesDto = spaceArchiveFolderService.getFilesInFolder(spaceId, member, folderId);
-
-        List<FileSummary> files = folderFilesDto.files();
+        Integer archiveId = spaceArchiveFolderService.getFolderArchiveId(spaceId, member, folderId);
+        return topTagsInFolder(archiveId, folderId);
+    }
 
-        Map<String, Long> tags = files.stream()
-                .flatMap(file -> {
-                    List<String> ts = file.tags();
-                    return (ts == null ? List.<String>of() : ts).stream();
-                })
-                .collect(Collectors.groupingBy(
-                        tagName -> tagName,
-                        Collectors.counting()
-                ));
+    // 폴더 안 활성 자료의 태그 빈도 상위 N개 (자료를 읽지 않고 태그 패싯 집계로 계산)
+    private List<String> topTagsInFolder(Integer archiveId, Integer folderId) {
+        DataSourceSearchCondition cond = DataSourceSearchCondition.builder()
+                .folderId(folderId)
+                .isActive(true)
+                .build();
 
-        List<String> frequency = tags.entrySet().stream()
-                .sorted(Map.Entry.comparingByValue(Comparator.reverseOrder()))
-                .limit(3)
-                .map(Map.Entry::getKey)
+        return dataSourceService.facetsByArchive(archiveId, cond, RECOMMEND_TAG_COUNT).tags().stream()
+                .map(SearchFacets.FacetCount::value)
                 .toList();
-
-        return frequency;
     }
 }
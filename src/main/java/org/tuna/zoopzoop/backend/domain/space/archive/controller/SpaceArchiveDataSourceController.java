@@ -8,6 +8,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -16,6 +17,7 @@ import org.springframework.web.multipart.MultipartFile;
 import org.tuna.zoopzoop.backend.domain.datasource.dto.*;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.Category;
 import org.tuna.zoopzoop.backend.domain.datasource.service.DataSourceService;
+import org.tuna.zoopzoop.backend.domain.datasource.suggest.SuggestProperties;
 import org.tuna.zoopzoop.backend.domain.space.archive.service.SpaceDataSourceService;
 import org.tuna.zoopzoop.backend.global.rsData.RsData;
 import org.tuna.zoopzoop.backend.global.security.jwt.CustomUserDetails;
@@ -31,6 +33,7 @@ import java.util.Map;
 public class SpaceArchiveDataSourceController {
 
     private final SpaceDataSourceService spaceApp;
+    private final SuggestProperties suggestProperties;
 
     // ===== 단건 삭제 =====
     @Operation(summary = "공유 자료 단건 삭제")
@@ -237,6 +240,9 @@ public class SpaceArchiveDataSourceController {
             @RequestParam(required = false) Integer folderId,
             @RequestParam(required = false) String folderName,
             @RequestParam(required = false, defaultValue = "true") Boolean isActive,
+            @RequestParam(required = false, defaultValue = "offset") String paging, // offset | cursor
+            @RequestParam(required = false) String cursor, // paging=cursor일 때 이전 응답의 nextCursor
+            @RequestParam(required = false, defaultValue = "false") boolean semantic, // true면 keyword 의미 유사도 순 (offset 페이징만)
             @PageableDefault(size = 8, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             @AuthenticationPrincipal CustomUserDetails user
     ) {
@@ -245,15 +251,68 @@ public class SpaceArchiveDataSourceController {
                 .title(title).summary(summary).category(categoryEnum).folderId(folderId)
                 .folderName(folderName).isActive(isActive).keyword(keyword).build();
 
-        Page<DataSourceSearchItem> page = spaceApp.search(user.getMember().getId(), spaceId, cond, pageable);
         String sorted = pageable.getSort().toString().replace(": ", ",");
 
-        var pageInfo = new PageInfo(
-                page.getNumber(), page.getSize(), page.getTotalElements(), page.getTotalPages(),
-                page.isFirst(), page.isLast(), sorted
-        );
+        // 의미 검색: 정렬은 유사도 순으로 고정, 상위 결과 안에서만 페이지 이동
+        if (semantic) {
+            Page<DataSourceSearchItem> page = spaceApp.semanticSearch(user.getMember().getId(), spaceId, cond, pageable);
+            var body = new SearchResponse<>(page.getContent(), PageInfo.of(page, "similarity,DESC"));
+            return ResponseEntity.ok(new RsData<>("200", "복수개의 자료가 조회됐습니다.", body));
+        }
+
+        // 커서 모드: count 없이 다음 커서만 반환 (무한 스크롤)
+        if ("cursor".equalsIgnoreCase(paging)) {
+            CursorPage<DataSourceSearchItem> slice = spaceApp.scroll(user.getMember().getId(), spaceId, cond, pageable, cursor);
+            var cursorInfo = new CursorInfo(pageable.getPageSize(), slice.nextCursor(), slice.hasNext(), sorted);
+            return ResponseEntity.ok(new RsData<>("200", "복수개의 자료가 조회됐습니다.", new SearchResponse<>(slice.content(), cursorInfo)));
+        }
+
+        Page<DataSourceSearchItem> page = spaceApp.search(user.getMember().getId(), spaceId, cond, pageable);
+
+        var pageInfo = PageInfo.of(page, sorted);
         var body = new SearchResponse<>(page.getContent(), pageInfo);
 
         return ResponseEntity.ok(new RsData<>("200", "복수개의 자료가 조회됐습니다.", body));
     }
+
+    // ===== 검색어 자동완성 =====
+    // 키 입력마다 호출되는 가벼운 경로: 메모리 접두사 색인만 조회, 짧게 브라우저 캐시
+    @Operation(summary = "공유 검색어 자동완성", description = "공유 아카이브의 제목/태그/출처 중 입력한 접두사로 시작하는 항목을 자료 수 순으로 조회합니다.")
+    @GetMapping("/suggestions")
+    public ResponseEntity<RsData<List<SearchSuggestion>>> suggest(
+            @PathVariable String spaceId,
+            @RequestParam String q,
+            @RequestParam(required = false, defaultValue = "10") int limit,
+            @AuthenticationPrincipal CustomUserDetails user
+    ) {
+        List<SearchSuggestion> suggestions = spaceApp.suggest(user.getMember().getId(), spaceId, q, limit);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(suggestProperties.getClientMaxAge()).cachePrivate())
+                .body(new RsData<>("200", "검색어 후보가 조회됐습니다.", suggestions));
+    }
+
+    // ===== 검색 패싯 =====
+    // 카테고리/폴더 건수는 자기 조건을 뺀 값 (선택 중인 항목 외 다른 항목의 건수도 표시)
+    @Operation(summary = "공유 자료 검색 패싯", description = "공유 아카이브 검색 조건에 대한 카테고리/태그 상위 N/폴더별 건수를 한 번에 조회합니다.")
+    @GetMapping("/facets")
+    public ResponseEntity<RsData<SearchFacets>> facets(
+            @PathVariable String spaceId,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String summary,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Integer folderId,
+            @RequestParam(required = false) String folderName,
+            @RequestParam(required = false, defaultValue = "true") Boolean isActive,
+            @RequestParam(required = false, defaultValue = "10") int tagLimit,
+            @AuthenticationPrincipal CustomUserDetails user
+    ) {
+        Category categoryEnum = category != null ? Category.from(category) : null;
+        var cond = DataSourceSearchCondition.builder()
+                .title(title).summary(summary).category(categoryEnum).folderId(folderId)
+                .folderName(folderName).isActive(isActive).keyword(keyword).build();
+
+        SearchFacets facets = spaceApp.facets(user.getMember().getId(), spaceId, cond, tagLimit);
+        return ResponseEntity.ok(new RsData<>("200", "검색 패싯이 조회됐습니다.", facets));
+    }
 }
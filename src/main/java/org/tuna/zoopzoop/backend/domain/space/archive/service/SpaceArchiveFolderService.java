@@ -109,6 +109,20 @@ public class SpaceArchiveFolderService {
         return folderService.getFilesInFolder(archive, folderId);
     }
 
+    // 스페이스 구성원 + 공유 아카이브 폴더인지 확인하고 아카이브 id 반환
+    @Transactional(readOnly = true)
+    public Integer getFolderArchiveId(Integer spaceId, Member requester, Integer folderId) {
+        Space space = spaceService.findById(spaceId);
+        if (!membershipService.isMemberInSpace(requester, space))
+            throw new SecurityException("스페이스의 구성원이 아닙니다.");
+
+        Archive archive = Optional.ofNullable(space.getSharingArchive())
+                .map(SharingArchive::getArchive)
+                .orElseThrow(() -> new NoResultException("스페이스의 공유 아카이브가 없습니다."));
+
+        return folderService.getFolderArchiveId(archive, folderId);
+    }
+
     @Transactional(readOnly = true)
     public Integer getDefaultFolderId(Integer spaceId, Member requester) {
         Space space = spaceService.findById(spaceId);
@@ -11,8 +11,11 @@ import org.springframework.web.multipart.MultipartFile;
 import org.tuna.zoopzoop.backend.domain.archive.archive.entity.SharingArchive;
 import org.tuna.zoopzoop.backend.domain.archive.folder.entity.Folder;
 import org.tuna.zoopzoop.backend.domain.archive.folder.repository.FolderRepository;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.CursorPage;
 import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceSearchCondition;
 import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceSearchItem;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.SearchFacets;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.SearchSuggestion;
 import org.tuna.zoopzoop.backend.domain.datasource.dto.UpdateOutcome;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.DataSource;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.Tag;
@@ -242,6 +245,47 @@ public class SpaceDataSourceService {
         return domain.searchByArchive(archiveId, cond, pageable);
     }
 
+    // 의미 검색 (keyword 임베딩 유사도 순)
+    public Page<DataSourceSearchItem> semanticSearch(int requesterMemberId,
+                                                     String spaceId,
+                                                     DataSourceSearchCondition cond,
+                                                     Pageable pageable) {
+        Space space = getSpace(spaceId);
+        assertReadable(requesterMemberId, space);
+        int archiveId = getArchiveId(space);
+        return domain.semanticSearchByArchive(archiveId, cond, pageable);
+    }
+
+    // 커서 검색
+    public CursorPage<DataSourceSearchItem> scroll(int requesterMemberId,
+                                                   String spaceId,
+                                                   DataSourceSearchCondition cond,
+                                                   Pageable pageable,
+                                                   String cursor) {
+        Space space = getSpace(spaceId);
+        assertReadable(requesterMemberId, space);
+        int archiveId = getArchiveId(space);
+        return domain.scrollByArchive(archiveId, cond, pageable, cursor);
+    }
+
+    // 패싯 (카테고리/태그/폴더별 건수)
+    public SearchFacets facets(int requesterMemberId,
+                               String spaceId,
+                               DataSourceSearchCondition cond,
+                               int tagLimit) {
+        Space space = getSpace(spaceId);
+        assertReadable(requesterMemberId, space);
+        int archiveId = getArchiveId(space);
+        return domain.facetsByArchive(archiveId, cond, tagLimit);
+    }
+
+    // 검색어 자동완성
+    public List<SearchSuggestion> suggest(int requesterMemberId, String spaceId, String prefix, int limit) {
+        Space space = getSpace(spaceId);
+        assertReadable(requesterMemberId, space);
+        return domain.suggestByArchive(getArchiveId(space), prefix, limit);
+    }
+
     // ========== 내부 유틸리티 ==========
     private Space getSpace(String raw) {
         Integer spaceId;
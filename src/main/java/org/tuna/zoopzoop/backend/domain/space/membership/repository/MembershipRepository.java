@@ -5,6 +5,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.SearchOrigin;
 import org.tuna.zoopzoop.backend.domain.member.entity.Member;
 import org.tuna.zoopzoop.backend.domain.space.membership.entity.Membership;
 import org.tuna.zoopzoop.backend.domain.space.membership.enums.Authority;
@@ -56,6 +57,19 @@ public interface MembershipRepository extends JpaRepository<Membership, Integer>
     @Query("SELECT m FROM Membership m JOIN FETCH m.space WHERE m.member = :member AND m.authority <> :authority ORDER BY m.id ASC")
     Page<Membership> findAllByMemberAndAuthorityIsNotWithSpace(@Param("member") Member member, @Param("authority") Authority authority, Pageable pageable);
 
+    // 통합 검색 범위: 참여 중(PENDING 제외)인 활성 스페이스의 공유 아카이브 id/이름을 한 번에 (Space 엔티티 로딩 없이)
+    @Query("""
+    select new org.tuna.zoopzoop.backend.domain.datasource.dto.SearchOrigin(sa.archive.id, s.id, s.name)
+    from Membership m
+    join m.space s
+    join s.sharingArchive sa
+    where m.member.id = :memberId
+      and m.authority <> org.tuna.zoopzoop.backend.domain.space.membership.enums.Authority.PENDING
+      and s.active = true
+    order by m.id asc
+""")
+    List<SearchOrigin> findJoinedSpaceOrigins(@Param("memberId") Integer memberId);
+
     // 여러 Space에 속한 Member 목록 한번에 조회 (JOIN FETCH로 Member 정보까지)
     @Query("SELECT m FROM Membership m JOIN FETCH m.member WHERE m.space IN :spaces AND m.authority <> org.tuna.zoopzoop.backend.domain.space.membership.enums.Authority.PENDING")
     List<Membership> findAllMembersInSpaces(@Param("spaces") List<Space> spaces);
@@ -0,0 +1,24 @@
+package org.tuna.zoopzoop.backend.global.clients.web;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * 웹 페이지 응답 (압축 해제된 본문 바이트)
+ * charset이 헤더에 없으면 Jsoup이 meta 태그로 판별한다.
+ */
+public record FetchedPage(
+        String requestedUrl,
+        String finalUrl,     // 리다이렉트 후 최종 URL
+        int status,
+        String charset,      // Content-Type 헤더의 charset (없으면 null)
+        byte[] body,
+        boolean notModified  // 304 응답으로 캐시된 본문을 재사용했는지
+) {
+    public Document toDocument() throws IOException {
+        return Jsoup.parse(new ByteArrayInputStream(body), charset, finalUrl);
+    }
+}
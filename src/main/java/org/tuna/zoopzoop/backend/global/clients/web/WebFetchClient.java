@@ -0,0 +1,337 @@
+package org.tuna.zoopzoop.backend.global.clients.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 크롤링용 공용 HTTP 클라이언트
+ * - 하나의 HttpClient(HTTP/2 우선, keep-alive 커넥션 재사용)를 모든 크롤러/프로브가 공유
+ * - gzip/deflate 압축 협상 및 해제, 최대 본문 크기 제한
+ * - 요청 전체(응답 헤더 + 본문 읽기) 제한 시간: 본문을 조금씩 흘려보내는 서버도 제한 시간에 끊음
+ * - ETag/Last-Modified 기반 조건부 요청 (304면 캐시된 본문 재사용)
+ * - host별 동시 요청 상한(세마포어)과 사용 중 커넥션/응답 시간 메트릭
+ *   (permit과 응답 시간 측정은 본문 스트림을 닫을 때까지 유지 → 본문 다운로드까지 포함)
+ */
+@Slf4j
+@Component
+public class WebFetchClient {
+    private static final int MAX_TRACKED_HOSTS = 200; // 메트릭 host 태그 카디널리티 상한
+    private static final String OTHER_HOST = "other";
+
+    // 조건부 요청용 검증자 + 본문
+    private record Validated(String etag, String lastModified, FetchedPage page) {
+    }
+
+    private final WebFetchProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    // 본문 읽기 제한 시간이 지나면 응답 스트림을 닫아 블로킹된 read를 깨움
+    private final ScheduledExecutorService deadlines = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "web-fetch-deadline");
+        t.setDaemon(true);
+        return t;
+    });
+    private final HttpClient httpClient;
+
+    // 만료된 세마포어의 게이지는 함께 지움 (evictionListener는 교체와 같은 원자 구간에서 호출되어 새 게이지 등록과 겹치지 않음)
+    private final Cache<String, Semaphore> hostPermits = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofMinutes(30))
+            .evictionListener((String host, Semaphore semaphore, RemovalCause cause) -> unregisterPool(host))
+            .build();
+    private final Cache<String, Validated> validators;
+    private final Set<String> trackedHosts = ConcurrentHashMap.newKeySet();
+
+    public WebFetchClient(WebFetchProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(properties.getConnectTimeout())
+                .executor(executor)
+                .build();
+        this.validators = Caffeine.newBuilder()
+                .maximumWeight(properties.getValidatorCacheSize().toBytes())
+                .weigher((String url, Validated v) -> v.page().body().length + url.length())
+                .expireAfterWrite(Duration.ofHours(6))
+                .build();
+    }
+
+    public FetchedPage get(String url) throws IOException {
+        return get(url, properties.getRequestTimeout());
+    }
+
+    public FetchedPage get(String url, Duration timeout) throws IOException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        URI uri = toUri(url);
+        Validated cached = validators.getIfPresent(url);
+
+        HttpRequest.Builder builder = baseRequest(uri, timeout).GET();
+        if (cached != null) {
+            if (cached.etag() != null) builder.header("If-None-Match", cached.etag());
+            if (cached.lastModified() != null) builder.header("If-Modified-Since", cached.lastModified());
+        }
+
+        HttpResponse<InputStream> response = send(uri, builder.build());
+        try (InputStream in = response.body()) {
+            if (response.statusCode() == 304 && cached != null) {
+                counter("not_modified", uri).increment();
+                FetchedPage page = cached.page();
+                return new FetchedPage(url, page.finalUrl(), page.status(), page.charset(), page.body(), true);
+            }
+            if (response.statusCode() >= 400) {
+                throw new IOException("HTTP error fetching URL. Status=" + response.statusCode() + ", URL=" + url);
+            }
+
+            byte[] body = readBody(in, response, url, deadline);
+            FetchedPage page = new FetchedPage(
+                    url,
+                    response.uri().toString(),
+                    response.statusCode(),
+                    charsetOf(response),
+                    body,
+                    false
+            );
+
+            String etag = response.headers().firstValue("ETag").orElse(null);
+            String lastModified = response.headers().firstValue("Last-Modified").orElse(null);
+            if (etag != null || lastModified != null) validators.put(url, new Validated(etag, lastModified, page));
+            return page;
+        }
+    }
+
+    // 본문 없이 접근 가능 여부만 확인 (HEAD를 막아둔 서버는 GET으로 재시도)
+    public boolean isReachable(String url, Duration timeout) {
+        try {
+            URI uri = toUri(url);
+            HttpRequest head = baseRequest(uri, timeout)
+                    .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                    .build();
+            HttpResponse<InputStream> response = send(uri, head);
+            response.body().close();
+            if (response.statusCode() == 405) {
+                get(url, timeout);
+                return true;
+            }
+            return response.statusCode() < 400;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private HttpRequest.Builder baseRequest(URI uri, Duration timeout) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .header("User-Agent", properties.getUserAgent())
+                .header("Accept-Encoding", "gzip, deflate");
+    }
+
+    private HttpResponse<InputStream> send(URI uri, HttpRequest request) throws IOException {
+        String host = hostTag(uri);
+        Semaphore permits = hostPermits.get(host(uri), h -> registerPool(h, new Semaphore(properties.getMaxConnectionsPerHost())));
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean acquired = false;
+        boolean handedOff = false;
+        try {
+            acquired = permits.tryAcquire(request.timeout().orElse(properties.getRequestTimeout()).toMillis(), TimeUnit.MILLISECONDS);
+            if (!acquired) throw new IOException("Too many concurrent requests to host: " + host(uri));
+
+            // 응답을 받으면 permit 반납과 측정 종료는 본문 스트림의 close로 넘김
+            HttpResponse<InputStream> response = httpClient.send(request, info -> {
+                String outcome = info.statusCode() < 400 ? "success" : "http_" + (info.statusCode() / 100) + "xx";
+                return HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofInputStream(),
+                        in -> new ReleasingInputStream(in, () -> finish(permits, true, sample, host, outcome)));
+            });
+            handedOff = true;
+            return response;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while fetching " + uri, e);
+        } finally {
+            if (!handedOff) finish(permits, acquired, sample, host, "error");
+        }
+    }
+
+    private void finish(Semaphore permits, boolean acquired, Timer.Sample sample, String host, String outcome) {
+        if (acquired) permits.release();
+        sample.stop(Timer.builder("ingestion.fetch.latency")
+                .tag("host", host)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    // 처음 close될 때 한 번만 permit 반납 + 측정 종료 (제한 시간 스레드와 읽는 스레드가 함께 닫을 수 있음)
+    private static final class ReleasingInputStream extends FilterInputStream {
+        private final AtomicBoolean released = new AtomicBoolean();
+        private final Runnable onClose;
+
+        private ReleasingInputStream(InputStream in, Runnable onClose) {
+            super(in);
+            this.onClose = onClose;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (released.compareAndSet(false, true)) onClose.run();
+            }
+        }
+    }
+
+    private InputStream decode(InputStream in, HttpResponse<?> response) throws IOException {
+        String encoding = response.headers().firstValue("Content-Encoding").orElse("").toLowerCase(Locale.ROOT);
+        return switch (encoding) {
+            case "gzip", "x-gzip" -> new GZIPInputStream(in);
+            case "deflate" -> new InflaterInputStream(in);
+            default -> in;
+        };
+    }
+
+    // HttpRequest.timeout은 응답 헤더까지만 적용되므로 본문은 deadline까지만 읽는다.
+    private byte[] readBody(InputStream raw, HttpResponse<?> response, String url, long deadline) throws IOException {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) throw new HttpTimeoutException("Response body read timed out: " + url);
+
+        AtomicBoolean timedOut = new AtomicBoolean();
+        // 압축 해제 스트림은 스레드 안전하지 않으므로 원본 응답 스트림만 닫는다.
+        ScheduledFuture<?> guard = deadlines.schedule(() -> {
+            timedOut.set(true);
+            try {
+                raw.close();
+            } catch (IOException ignore) {
+                // 이미 닫힘
+            }
+        }, remaining, TimeUnit.NANOSECONDS);
+
+        try {
+            InputStream in = decode(raw, response);
+            long max = properties.getMaxBodySize().toBytes();
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            long total = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                if (timedOut.get() || System.nanoTime() - deadline > 0) break;
+                total += read;
+                if (total > max) throw new IOException("Response body exceeds " + max + " bytes: " + url);
+                out.write(buffer, 0, read);
+            }
+            if (timedOut.get() || System.nanoTime() - deadline > 0) {
+                throw new HttpTimeoutException("Response body read timed out: " + url);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            // 스트림이 닫혀 난 예외(closed, 잘린 gzip 등)는 제한 시간 초과로 보고
+            if (timedOut.get()) throw new HttpTimeoutException("Response body read timed out: " + url);
+            throw e;
+        } finally {
+            guard.cancel(false);
+        }
+    }
+
+    private static String charsetOf(HttpResponse<?> response) {
+        return response.headers().firstValue("Content-Type")
+                .map(ct -> {
+                    for (String part : ct.split(";")) {
+                        String p = part.trim();
+                        if (p.toLowerCase(Locale.ROOT).startsWith("charset=")) {
+                            return p.substring("charset=".length()).replace("\"", "").trim();
+                        }
+                    }
+                    return null;
+                })
+                .orElse(null);
+    }
+
+    private static URI toUri(String url) throws IOException {
+        try {
+            URI uri = URI.create(url);
+            if (uri.getHost() == null) throw new IOException("Malformed URL: " + url);
+            return uri;
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Malformed URL: " + url, e);
+        }
+    }
+
+    private static String host(URI uri) {
+        return uri.getHost().toLowerCase(Locale.ROOT);
+    }
+
+    // ===== 메트릭 =====
+
+    private Semaphore registerPool(String host, Semaphore semaphore) {
+        if (!OTHER_HOST.equals(hostTag(host))) {
+            int max = properties.getMaxConnectionsPerHost();
+            Gauge.builder("ingestion.fetch.pool.in_use", semaphore, s -> max - s.availablePermits())
+                    .tag("host", host)
+                    .register(meterRegistry);
+        }
+        return semaphore;
+    }
+
+    private void unregisterPool(String host) {
+        Gauge gauge = meterRegistry.find("ingestion.fetch.pool.in_use").tag("host", host).gauge();
+        if (gauge != null) meterRegistry.remove(gauge);
+    }
+
+    private Counter counter(String result, URI uri) {
+        return Counter.builder("ingestion.fetch.conditional")
+                .tag("host", hostTag(uri))
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private String hostTag(URI uri) {
+        return hostTag(host(uri));
+    }
+
+    private String hostTag(String host) {
+        if (trackedHosts.contains(host)) return host;
+        if (trackedHosts.size() < MAX_TRACKED_HOSTS) {
+            trackedHosts.add(host);
+            return host;
+        }
+        return OTHER_HOST;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+        deadlines.shutdownNow();
+    }
+}
@@ -0,0 +1,31 @@
+package org.tuna.zoopzoop.backend.global.clients.web;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "crawler.http")
+@Getter
+@Setter
+public class WebFetchProperties {
+    //application.yml에 crawler.http 항목 작성
+    //예시
+    //crawler:
+    //  http:
+    //    connect-timeout: 3s
+    //    request-timeout: 5s
+    //    max-body-size: 5MB
+    //    max-connections-per-host: 8
+    //    validator-cache-size: 32MB
+    private Duration connectTimeout = Duration.ofSeconds(3);
+    private Duration requestTimeout = Duration.ofSeconds(5);       // 응답 헤더 + 본문 읽기 전체
+    private DataSize maxBodySize = DataSize.ofMegabytes(5);        // 초과 시 요청 실패
+    private int maxConnectionsPerHost = 8;                         // host별 동시 요청 상한
+    private DataSize validatorCacheSize = DataSize.ofMegabytes(32); // ETag/Last-Modified 재검증용 본문 캐시
+    private String userAgent = "Mozilla/5.0";
+}
@@ -0,0 +1,65 @@
+package org.tuna.zoopzoop.backend.global.config.executor;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 커밋 후 부가 작업(검색 색인, 임베딩 등)을 요청 스레드 밖에서 처리하는 전용 풀.
+ * 대기열이 가득 차면 호출한 스레드가 직접 실행 (작업을 버리지 않음). 자동완성/벡터 인덱스는 예외로 거절 (다음 요청에서 다시 시도).
+ */
+@Configuration
+public class ExecutorConfig {
+
+    // 검색 색인 동기화: 한 스레드로 순서대로 처리 (같은 자료의 이전 상태가 나중에 덮어쓰지 않도록)
+    @Bean
+    public ThreadPoolTaskExecutor searchIndexExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1000);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("search-index-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    // 자료 임베딩: 외부 임베딩 API 호출이 요청 스레드를 붙잡지 않도록. 한 스레드로 순서대로 처리
+    @Bean
+    public ThreadPoolTaskExecutor embeddingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1000);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("embedding-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    // 자동완성 색인 적재: 키 입력 요청이 DB 집계를 기다리지 않도록. 가득 차면 거절하고 다음 요청에서 다시 예약
+    @Bean
+    public ThreadPoolTaskExecutor suggestIndexExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(200);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setThreadNamePrefix("suggest-index-");
+        return executor;
+    }
+
+    // 의미 검색 벡터 인덱스: HNSW 빌드와 다른 인스턴스 변경분 따라잡기. 가득 차면 거절하고 다음 검색에서 다시 예약
+    @Bean
+    public ThreadPoolTaskExecutor vectorIndexExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(200);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setThreadNamePrefix("vector-index-");
+        return executor;
+    }
+}
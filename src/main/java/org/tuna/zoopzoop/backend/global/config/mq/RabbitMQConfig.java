@@ -1,12 +1,19 @@
 package org.tuna.zoopzoop.backend.global.config.mq;
 
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.tuna.zoopzoop.backend.domain.dashboard.GraphQueueProperties;
+import org.tuna.zoopzoop.backend.domain.dashboard.extraComponent.GraphUpdateShards;
+
+import java.util.ArrayList;
+import java.util.List;
 
 @Configuration
 public class RabbitMQConfig {
@@ -14,9 +21,15 @@ public class RabbitMQConfig {
     private static final String QUEUE_NAME = "graph.update.queue";
     private static final String ROUTING_KEY = "graph.update.#";
 
-    private static final String DLQ_EXCHANGE_NAME = EXCHANGE_NAME + ".dlx";
+    public static final String DLQ_EXCHANGE_NAME = EXCHANGE_NAME + ".dlx";
     private static final String DLQ_QUEUE_NAME = QUEUE_NAME + ".dlq";
-    private static final String DLQ_ROUTING_KEY = "graph.update.dlq";
+    public static final String DLQ_ROUTING_KEY = "graph.update.dlq";
+
+    private static final String INGESTION_QUEUE_NAME = "datasource.ingestion.queue";
+    private static final String INGESTION_ROUTING_KEY = "datasource.ingestion.#";
+    private static final String INGESTION_DELAY_QUEUE_NAME = "datasource.ingestion.delay.queue";
+    private static final String INGESTION_STAGE_ROUTING_KEY = "datasource.ingestion.stage";
+    private static final int INGESTION_DELAY_MILLIS = 30_000;
 
     @Bean
     public TopicExchange exchange() {
@@ -53,6 +66,79 @@ public class RabbitMQConfig {
         return BindingBuilder.bind(dlqQueue).to(dlqExchange).with(DLQ_ROUTING_KEY);
     }
 
+    // ================= 자료 등록(Ingestion) 큐 ================= //
+
+    @Bean
+    public Queue ingestionQueue() {
+        // 작업 상태는 DB(IngestionJob)에 남으므로 별도 DLQ 없이 durable 큐만 사용
+        return QueueBuilder.durable(INGESTION_QUEUE_NAME).build();
+    }
+
+    @Bean
+    public Binding ingestionBinding(Queue ingestionQueue, TopicExchange exchange) {
+        return BindingBuilder.bind(ingestionQueue).to(exchange).with(INGESTION_ROUTING_KEY);
+    }
+
+    /**
+     * LLM 한도 초과(LlmBusyException) 단계의 지연 재시도용 큐.
+     * 기본 Exchange로 큐 이름에 직접 발행하고(바인딩 없음), TTL이 지나면 zoopzoop.exchange의 단계 키로 되돌아간다.
+     */
+    @Bean
+    public Queue ingestionDelayQueue() {
+        return QueueBuilder.durable(INGESTION_DELAY_QUEUE_NAME)
+                .withArgument("x-message-ttl", INGESTION_DELAY_MILLIS) // 대기 시간
+                .withArgument("x-dead-letter-exchange", EXCHANGE_NAME) // 만료되면 원래 Exchange로
+                .withArgument("x-dead-letter-routing-key", INGESTION_STAGE_ROUTING_KEY) // 단계 메시지 라우팅 키
+                .build();
+    }
+
+    // ================= 그래프 업데이트 샤드 큐 ================= //
+
+    /**
+     * graph.update.shard.{0..N-1}: 발행 측이 dashboardId로 샤드를 골라 graph.shard.{n} 키로 보냄 (GraphUpdateShards).
+     * single-active-consumer라 여러 인스턴스가 구독해도 샤드마다 한 컨슈머만 받음 → 대시보드별 순서 유지, 나머지는 대기.
+     * drain-shards로 남겨 둔 이전 샤드 큐는 구독만 하고 바인딩하지 않음 (새 메시지가 들어가지 않음).
+     */
+    @Bean
+    public Declarables graphUpdateShardQueues(TopicExchange exchange, GraphUpdateShards shards) {
+        List<Declarable> declarables = new ArrayList<>();
+        for (int shard = 0; shard < shards.consumedCount(); shard++) {
+            Queue queue = QueueBuilder.durable(GraphUpdateShards.queueName(shard))
+                    .singleActiveConsumer()
+                    .withArgument("x-dead-letter-exchange", DLQ_EXCHANGE_NAME)
+                    .withArgument("x-dead-letter-routing-key", DLQ_ROUTING_KEY)
+                    .build();
+            declarables.add(queue);
+            if (shard < shards.count()) {
+                declarables.add(BindingBuilder.bind(queue).to(exchange).with(GraphUpdateShards.routingKey(shard)));
+            }
+        }
+        return new Declarables(declarables);
+    }
+
+    /**
+     * 그래프 업데이트 큐 전용: 메시지를 최대 batchSize개(또는 receiveTimeout 동안 온 만큼) 모아 List로 전달.
+     * 컨슈머가 대시보드별 최신 상태만 반영하고 나머지는 함께 ACK (spring.rabbitmq.listener.simple 설정은 그대로 상속).
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory graphUpdateBatchContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            GraphQueueProperties properties
+    ) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(properties.getBatchSize());
+        factory.setPrefetchCount(Math.max(properties.getPrefetch(), properties.getBatchSize()));
+        factory.setReceiveTimeout(properties.getReceiveTimeout().toMillis());
+        // 샤드 큐마다 컨슈머 하나 (늘리면 single-active-consumer라 대기만 늘어남)
+        factory.setConcurrentConsumers(1);
+        factory.setMaxConcurrentConsumers(1);
+        return factory;
+    }
+
     // ================= DLQ 인프라 구성 추가 ================= //
     @Bean
     public MessageConverter messageConverter() {
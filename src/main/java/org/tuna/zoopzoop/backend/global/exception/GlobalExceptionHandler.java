@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.multipart.support.MissingServletRequestPartException;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.gateway.LlmBusyException;
 import org.tuna.zoopzoop.backend.global.rsData.RsData;
 
 import javax.naming.AuthenticationException;
@@ -200,6 +201,17 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(LlmBusyException.class) // AI 호출 한도 초과
+    public ResponseEntity<RsData<Void>> handleLlmBusyException(LlmBusyException e) {
+        return new ResponseEntity<>(
+                new RsData<>(
+                        "503",
+                        e.getMessage()
+                ),
+                SERVICE_UNAVAILABLE
+        );
+    }
+
     @ExceptionHandler(Exception.class) // 내부 서버 에러(= 따로 Exception을 지정하지 않은 경우.)
     public ResponseEntity<RsData<Void>> handleException(Exception e) {
         return new ResponseEntity<>(
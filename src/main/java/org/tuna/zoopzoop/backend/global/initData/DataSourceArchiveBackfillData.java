@@ -0,0 +1,27 @@
+package org.tuna.zoopzoop.backend.global.initData;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.tuna.zoopzoop.backend.domain.datasource.repository.DataSourceRepository;
+
+// DataSource.archive_id 컬럼 추가 이전 자료 보정 (비어 있는 행만 채우므로 매 기동 시 실행해도 무방)
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "datasource.archive-backfill.enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceArchiveBackfillData {
+
+    private final DataSourceRepository dataSourceRepository;
+
+    @Bean
+    ApplicationRunner dataSourceArchiveBackfillRunner() {
+        return args -> {
+            int updated = dataSourceRepository.backfillArchiveIds();
+            if (updated > 0) log.info("DataSource archive_id backfill: {} rows", updated);
+        };
+    }
+}
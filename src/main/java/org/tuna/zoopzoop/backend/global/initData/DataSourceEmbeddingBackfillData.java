@@ -0,0 +1,32 @@
+package org.tuna.zoopzoop.backend.global.initData;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.service.DataSourceEmbeddingService;
+
+// 자료 임베딩 백필: embedding.backfill.enabled=true 로 한 번 기동 (문장/모델이 그대로인 자료는 건너뜀)
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "embedding.backfill.enabled", havingValue = "true")
+public class DataSourceEmbeddingBackfillData {
+
+    private final DataSourceEmbeddingService dataSourceEmbeddingService;
+
+    @Value("${embedding.backfill.batch-size:64}")
+    private int batchSize;
+
+    @Bean
+    ApplicationRunner dataSourceEmbeddingBackfillRunner() {
+        return args -> {
+            long start = System.currentTimeMillis();
+            int count = dataSourceEmbeddingService.embedAll(batchSize);
+            log.info("DataSource embedding backfill finished: {} embedded in {} ms", count, System.currentTimeMillis() - start);
+        };
+    }
+}
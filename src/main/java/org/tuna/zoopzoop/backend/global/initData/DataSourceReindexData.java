@@ -0,0 +1,46 @@
+package org.tuna.zoopzoop.backend.global.initData;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.tuna.zoopzoop.backend.domain.datasource.entity.DataSourceDocument;
+import org.tuna.zoopzoop.backend.domain.datasource.service.DataSourceIndexService;
+
+// 자료 검색 색인 전체 재구축: search.reindex.enabled=true 로 한 번 기동 (끝나면 search.elasticsearch.read-enabled=true)
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "search.reindex.enabled", havingValue = "true")
+public class DataSourceReindexData {
+
+    private final DataSourceIndexService dataSourceIndexService;
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    @Value("${search.reindex.batch-size:500}")
+    private int batchSize;
+
+    // 기존 색인의 분석기 설정은 바뀌지 않으므로 분석기를 바꿨으면 색인부터 다시 만든다
+    @Value("${search.reindex.recreate-index:false}")
+    private boolean recreateIndex;
+
+    @Bean
+    ApplicationRunner dataSourceReindexRunner() {
+        return args -> {
+            long start = System.currentTimeMillis();
+            if (recreateIndex) {
+                IndexOperations indexOps = elasticsearchOperations.indexOps(DataSourceDocument.class);
+                indexOps.delete();
+                indexOps.createWithMapping();
+                log.info("DataSource index recreated with current settings and mapping");
+            }
+            int count = dataSourceIndexService.reindexAll(batchSize);
+            log.info("DataSource reindex finished: {} documents in {} ms", count, System.currentTimeMillis() - start);
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package org.tuna.zoopzoop.backend.global.initData;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.tuna.zoopzoop.backend.domain.dashboard.dto.BodyForReactFlow;
+import org.tuna.zoopzoop.backend.domain.dashboard.entity.Graph;
+import org.tuna.zoopzoop.backend.domain.dashboard.repository.GraphRepository;
+import org.tuna.zoopzoop.backend.domain.dashboard.snapshot.GraphSnapshotCodec;
+
+import java.util.List;
+
+/**
+ * 노드/엣지 행으로 저장된 기존 그래프를 스냅샷 컬럼으로 이관 (스냅샷이 없는 그래프만, 여러 번 실행해도 무방).
+ * dashboard.graph.storage=snapshot 으로 바꾸기 전에 dashboard.graph.snapshot-migration.enabled=true 로 한 번 기동.
+ * 기존 행은 지우지 않으므로 normalized로 되돌릴 수 있다. SNAPSHOT 동안 행은 갱신되지 않지만, normalized에서는
+ * 스냅샷이 남아 있는 그래프를 스냅샷으로 조회하고 다음 웹훅에서 행을 맞춘 뒤 스냅샷을 지운다.
+ * 다시 snapshot으로 바꿀 때는 이관을 한 번 더 실행 (그 사이 바뀐 그래프만 스냅샷이 없음).
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "dashboard.graph.snapshot-migration.enabled", havingValue = "true")
+public class GraphSnapshotMigrationData {
+    private final GraphRepository graphRepository;
+    private final GraphSnapshotCodec graphSnapshotCodec;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${dashboard.graph.snapshot-migration.batch-size:100}")
+    private int batchSize;
+
+    @Bean
+    ApplicationRunner graphSnapshotMigrationRunner() {
+        return args -> {
+            long start = System.currentTimeMillis();
+            int migrated = 0;
+            int afterId = 0;
+            while (true) {
+                List<Integer> ids = graphRepository.findIdsWithoutSnapshot(afterId, PageRequest.of(0, batchSize));
+                if (ids.isEmpty()) break;
+
+                // 배치마다 커밋 (이관 중 들어온 웹훅과는 Graph 버전으로 충돌 감지)
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (Graph graph : graphRepository.findAllById(ids)) {
+                        graph.setSnapshot(graphSnapshotCodec.encode(BodyForReactFlow.from(graph)));
+                    }
+                });
+                migrated += ids.size();
+                afterId = ids.getLast();
+            }
+            log.info("Graph snapshot migration: {} graphs in {} ms", migrated, System.currentTimeMillis() - start);
+        };
+    }
+}
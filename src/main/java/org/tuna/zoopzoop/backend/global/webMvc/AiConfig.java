@@ -5,15 +5,33 @@ import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.openai.OpenAiChatModel;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.token.AiTokenProperties;
+
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @RequiredArgsConstructor
 public class AiConfig {
 
     private final OpenAiChatModel openAiChatModel;
+    private final AiTokenProperties aiTokenProperties;
 
     @Bean
     public ChatClient chatClient() {
         return ChatClient.builder(openAiChatModel).build();
     }
+
+    // 긴 본문 조각 요약(map) 공용 풀. 요청마다 풀을 만들지 않고 전체 동시 호출 수를 map-parallelism으로 제한
+    @Bean
+    public ThreadPoolTaskExecutor aiMapExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(aiTokenProperties.getMapParallelism());
+        executor.setMaxPoolSize(aiTokenProperties.getMapParallelism());
+        executor.setQueueCapacity(aiTokenProperties.getMapQueueCapacity());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("ai-map-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
 }
@@ -0,0 +1,204 @@
+package org.tuna.zoopzoop.backend.bench;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.tuna.zoopzoop.backend.domain.archive.archive.entity.Archive;
+import org.tuna.zoopzoop.backend.domain.archive.folder.entity.Folder;
+import org.tuna.zoopzoop.backend.domain.archive.folder.repository.FolderRepository;
+import org.tuna.zoopzoop.backend.domain.datasource.entity.Category;
+import org.tuna.zoopzoop.backend.domain.member.entity.Member;
+import org.tuna.zoopzoop.backend.domain.member.enums.Provider;
+import org.tuna.zoopzoop.backend.domain.member.repository.MemberRepository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * DataSource 개인 스코프 쿼리 벤치마크: Folder → Archive → PersonalArchive 조인(이전) vs archive_id 비정규화 + 복합 인덱스(이후).
+ * MySQL 8.0.18+ 빈 DB에서 ./gradlew bootTestRun --args='--bench.datasource-scope.enabled=true' 로 한 번 실행 (JDBC URL에 rewriteBatchedStatements=true 권장).
+ * 이전 계획은 같은 스키마에서 새 인덱스를 IGNORE INDEX로 빼고 예전 쿼리 모양 그대로 실행해 재현한다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "bench.datasource-scope.enabled", havingValue = "true")
+public class DataSourceScopeBenchmarkData {
+    private static final String NEW_INDEXES =
+            "idx_data_source__archive_id__is_active__create_date, idx_data_source__folder_id__is_active";
+    private static final int BATCH_SIZE = 5_000;
+    private static final int RUNS = 5;
+
+    private final MemberRepository memberRepository;
+    private final FolderRepository folderRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired @Lazy
+    private DataSourceScopeBenchmarkData self;
+
+    @Value("${bench.datasource-scope.rows:1000000}")
+    private int rows;
+
+    @Value("${bench.datasource-scope.members:1000}")
+    private int members;
+
+    private record Owner(int memberId, int archiveId, int folderId) {}
+
+    private record Case(String name, String before, String after, Object[] beforeArgs, Object[] afterArgs) {}
+
+    @Bean
+    ApplicationRunner dataSourceScopeBenchmarkRunner() {
+        return args -> {
+            List<Owner> owners = self.seedOwners();
+            seedDataSources(owners);
+            jdbcTemplate.execute("analyze table data_source, folder, archive, personal_archive");
+
+            Owner target = owners.get(owners.size() / 2);
+            List<Integer> ids = jdbcTemplate.queryForList(
+                    "select id from data_source where archive_id = ? limit 50", Integer.class, target.archiveId());
+            String inIds = String.join(",", ids.stream().map(String::valueOf).toList());
+
+            for (Case c : cases(target, inIds)) {
+                report(c.name() + " / before", c.before(), c.beforeArgs());
+                report(c.name() + " / after", c.after(), c.afterArgs());
+            }
+        };
+    }
+
+    // 회원마다 개인 아카이브 + 기본 폴더
+    @Transactional
+    public List<Owner> seedOwners() {
+        List<Owner> owners = new ArrayList<>(members);
+        for (int i = 0; i < members; i++) {
+            Member member = memberRepository.save(
+                    Member.builder()
+                            .name("bench" + i)
+                            .providerKey("bench-" + i)
+                            .provider(Provider.KAKAO)
+                            .profileImageUrl("https://img.example.com/profile.png")
+                            .build()
+            );
+            Archive archive = member.getPersonalArchive().getArchive();
+            Folder folder = archive.getFolders().stream()
+                    .filter(Folder::isDefault)
+                    .findFirst()
+                    .orElseThrow();
+            folder = folderRepository.save(folder);
+            owners.add(new Owner(member.getId(), archive.getId(), folder.getId()));
+        }
+        return owners;
+    }
+
+    // 회원별로 고르게, 10%는 휴지통, 생성일시는 약 3년에 분산
+    private void seedDataSources(List<Owner> owners) {
+        String sql = """
+                insert into data_source
+                  (folder_id, archive_id, title, summary, source, category, is_active,
+                   data_created_date, create_date, modify_date)
+                values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """;
+        Category[] categories = Category.values();
+        LocalDateTime now = LocalDateTime.now();
+        long start = System.currentTimeMillis();
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < rows; i++) {
+            Owner owner = owners.get(i % owners.size());
+            LocalDateTime created = now.minusMinutes(i % 1_576_800L);
+            batch.add(new Object[]{
+                    owner.folderId(), owner.archiveId(),
+                    "bench-" + i, "summary " + i, "Bench", categories[i % categories.length].name(),
+                    i % 10 != 0,
+                    LocalDate.from(created), Timestamp.valueOf(created), Timestamp.valueOf(created)
+            });
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) jdbcTemplate.batchUpdate(sql, batch);
+        log.info("Benchmark seed: {} data sources for {} members in {} ms", rows, owners.size(), System.currentTimeMillis() - start);
+    }
+
+    private List<Case> cases(Owner target, String inIds) {
+        Object[] byMember = {target.memberId()};
+        Object[] byArchive = {target.archiveId()};
+        return List.of(
+                new Case("personal search page",
+                        """
+                        select ds.id, ds.title, ds.create_date
+                        from data_source ds ignore index (%s)
+                          join folder f on f.id = ds.folder_id
+                          join archive a on a.id = f.archive_id
+                          join personal_archive pa on pa.archive_id = a.id
+                        where pa.member_id = ? and ds.is_active = true
+                        order by ds.create_date desc
+                        limit 20
+                        """.formatted(NEW_INDEXES),
+                        """
+                        select ds.id, ds.title, ds.create_date
+                        from data_source ds
+                        where ds.archive_id = ? and ds.is_active = true
+                        order by ds.create_date desc
+                        limit 20
+                        """,
+                        byMember, byArchive),
+                new Case("personal search count",
+                        """
+                        select count(distinct ds.id)
+                        from data_source ds ignore index (%s)
+                          join folder f on f.id = ds.folder_id
+                          join archive a on a.id = f.archive_id
+                          join personal_archive pa on pa.archive_id = a.id
+                        where pa.member_id = ? and ds.is_active = true
+                        """.formatted(NEW_INDEXES),
+                        """
+                        select count(*)
+                        from data_source ds
+                        where ds.archive_id = ? and ds.is_active = true
+                        """,
+                        byMember, byArchive),
+                new Case("findExistingIdsInMember",
+                        """
+                        select ds.id
+                        from data_source ds ignore index (%s)
+                          join folder f on f.id = ds.folder_id
+                          join archive a on a.id = f.archive_id
+                          join personal_archive pa on pa.archive_id = a.id
+                        where pa.member_id = ? and ds.id in (%s)
+                        """.formatted(NEW_INDEXES, inIds),
+                        """
+                        select ds.id
+                        from data_source ds
+                          join personal_archive pa on pa.archive_id = ds.archive_id
+                        where pa.member_id = ? and ds.id in (%s)
+                        """.formatted(inIds),
+                        byMember, byMember)
+        );
+    }
+
+    private void report(String name, String sql, Object[] args) {
+        String plan = String.join("\n", jdbcTemplate.queryForList("explain analyze " + sql, String.class, args));
+
+        long[] millis = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            jdbcTemplate.queryForList(sql, args);
+            millis[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+        Arrays.sort(millis);
+        log.info("[{}] median {} ms (runs {})\n{}", name, millis[RUNS / 2], Arrays.toString(millis), plan);
+    }
+}
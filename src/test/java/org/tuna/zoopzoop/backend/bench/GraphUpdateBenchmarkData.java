@@ -0,0 +1,112 @@
+package org.tuna.zoopzoop.backend.bench;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.tuna.zoopzoop.backend.domain.dashboard.dto.BodyForReactFlow;
+import org.tuna.zoopzoop.backend.domain.dashboard.entity.Dashboard;
+import org.tuna.zoopzoop.backend.domain.dashboard.entity.Graph;
+import org.tuna.zoopzoop.backend.domain.dashboard.repository.DashboardRepository;
+import org.tuna.zoopzoop.backend.domain.dashboard.service.DashboardService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.BiConsumer;
+
+/**
+ * 그래프 업데이트 벤치마크: 노드 N개짜리 그래프에서 노드 하나를 옮기는 웹훅을 반복해
+ * 전체 삭제 후 재삽입(이전) vs key 기준 차이 반영(이후)의 실행 SQL 수와 지연(p50/p99)을 로그로 남긴다.
+ * 빈 DB에서 ./gradlew bootTestRun --args='--bench.graph-update.enabled=true' 로 한 번 실행.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "bench.graph-update.enabled", havingValue = "true")
+public class GraphUpdateBenchmarkData {
+    private final DashboardRepository dashboardRepository;
+    private final DashboardService dashboardService;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Value("${bench.graph-update.nodes:1000}")
+    private int nodes;
+
+    @Value("${bench.graph-update.rounds:50}")
+    private int rounds;
+
+    @Bean
+    ApplicationRunner graphUpdateBenchmarkRunner() {
+        return args -> {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.setStatisticsEnabled(true);
+
+            run("clear-and-reinsert", statistics, (dashboardId, dto) -> transactionTemplate.executeWithoutResult(status -> {
+                // 이전 DashboardService.updateGraph 그대로
+                Graph graph = dashboardRepository.findById(dashboardId).orElseThrow().getGraph();
+                graph.getNodes().clear();
+                graph.getEdges().clear();
+                graph.getNodes().addAll(dto.toNodeEntities(graph));
+                graph.getEdges().addAll(dto.toEdgeEntities(graph));
+            }));
+            run("updateGraph", statistics, dashboardService::updateGraph); // dashboard.graph.storage 설정 그대로 (normalized = 차이 반영)
+        };
+    }
+
+    private void run(String name, Statistics statistics, BiConsumer<Integer, BodyForReactFlow> update) {
+        Random random = new Random(42);
+        List<BodyForReactFlow.NodeDto> nodeDtos = new ArrayList<>(nodes);
+        for (int i = 0; i < nodes; i++) {
+            nodeDtos.add(new BodyForReactFlow.NodeDto(
+                    String.valueOf(i), "CUSTOM",
+                    Map.of("title", "노드" + i, "description", "설명" + i, "dataSourceId", String.valueOf(i)),
+                    new BodyForReactFlow.NodeDto.PositionDto(random.nextInt(5_000), random.nextInt(5_000))
+            ));
+        }
+        List<BodyForReactFlow.EdgeDto> edgeDtos = new ArrayList<>(nodes);
+        for (int i = 1; i < nodes; i++) {
+            edgeDtos.add(new BodyForReactFlow.EdgeDto(
+                    "e" + (i - 1) + "-" + i, String.valueOf(i - 1), String.valueOf(i), "SMOOTHSTEP", false,
+                    new BodyForReactFlow.EdgeDto.StyleDto("#999", 2.0)
+            ));
+        }
+
+        Integer dashboardId = dashboardRepository.save(Dashboard.create("bench-" + name, null)).getId();
+        long start = System.currentTimeMillis();
+        update.accept(dashboardId, new BodyForReactFlow(nodeDtos, edgeDtos));
+        log.info("[graph-update/{}] seeded {} nodes, {} edges in {} ms", name, nodes, edgeDtos.size(), System.currentTimeMillis() - start);
+
+        statistics.clear();
+        long[] nanos = new long[rounds];
+        for (int r = 0; r < rounds; r++) {
+            // 노드 하나 이동 (가장 흔한 웹훅)
+            int moved = random.nextInt(nodes);
+            BodyForReactFlow.NodeDto old = nodeDtos.get(moved);
+            nodeDtos.set(moved, new BodyForReactFlow.NodeDto(old.nodeKey(), old.nodeType(), old.data(),
+                    new BodyForReactFlow.NodeDto.PositionDto(old.positionDto().x() + 10, old.positionDto().y() + 10)));
+
+            long t = System.nanoTime();
+            update.accept(dashboardId, new BodyForReactFlow(nodeDtos, edgeDtos));
+            nanos[r] = System.nanoTime() - t;
+        }
+        Arrays.sort(nanos);
+        log.info("[graph-update/{}] {} rounds: p50 {} ms, p99 {} ms, per update: {} statements ({} collection fetches, {} inserts, {} updates, {} deletes, {} collection rebuilds)",
+                name, rounds, nanos[rounds / 2] / 1e6, nanos[rounds * 99 / 100] / 1e6,
+                statistics.getPrepareStatementCount() / rounds,
+                statistics.getCollectionFetchCount() / rounds,
+                statistics.getEntityInsertCount() / rounds,
+                statistics.getEntityUpdateCount() / rounds,
+                statistics.getEntityDeleteCount() / rounds,
+                statistics.getCollectionRecreateCount() / rounds);
+    }
+}
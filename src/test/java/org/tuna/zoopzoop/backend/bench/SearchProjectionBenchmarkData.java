@@ -0,0 +1,207 @@
+package org.tuna.zoopzoop.backend.bench;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.tuna.zoopzoop.backend.domain.archive.archive.entity.Archive;
+import org.tuna.zoopzoop.backend.domain.archive.folder.entity.Folder;
+import org.tuna.zoopzoop.backend.domain.archive.folder.repository.FolderRepository;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceSearchCondition;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceSearchItem;
+import org.tuna.zoopzoop.backend.domain.datasource.entity.Category;
+import org.tuna.zoopzoop.backend.domain.datasource.entity.QDataSource;
+import org.tuna.zoopzoop.backend.domain.datasource.entity.QTag;
+import org.tuna.zoopzoop.backend.domain.datasource.repository.DataSourceQRepository;
+import org.tuna.zoopzoop.backend.domain.member.entity.Member;
+import org.tuna.zoopzoop.backend.domain.member.enums.Provider;
+import org.tuna.zoopzoop.backend.domain.member.repository.MemberRepository;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 결과 페이지 조립 벤치마크: 본문 Tuple 조회 + 태그 별도 조회 + groupingBy(이전) vs 태그 listagg 생성자 프로젝션 한 번(이후).
+ * 같은 id 페이지를 두 방식으로 읽어 페이지당 지연(중앙값), 할당 바이트, 실행한 SQL 문 수를 로그로 남긴다.
+ * MySQL 빈 DB에서 ./gradlew bootTestRun --args='--bench.search-projection.enabled=true' 로 한 번 실행.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "bench.search-projection.enabled", havingValue = "true")
+public class SearchProjectionBenchmarkData {
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP_PAGES = 200;
+
+    private final MemberRepository memberRepository;
+    private final FolderRepository folderRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final JPAQueryFactory queryFactory;
+    private final DataSourceQRepository dataSourceQRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Value("${bench.search-projection.rows:10000}")
+    private int rows;
+
+    @Value("${bench.search-projection.tags-per-row:5}")
+    private int tagsPerRow;
+
+    @Value("${bench.search-projection.pages:2000}")
+    private int pages;
+
+    @Bean
+    ApplicationRunner searchProjectionBenchmarkRunner() {
+        return args -> {
+            int[] owner = transactionTemplate.execute(status -> seedOwner());
+            int archiveId = owner[0];
+            seed(archiveId, owner[1]);
+
+            List<Integer> ids = jdbcTemplate.queryForList(
+                    "select id from data_source where archive_id = ? order by id", Integer.class, archiveId);
+            List<List<Integer>> idPages = new ArrayList<>();
+            for (int from = 0; from + PAGE_SIZE <= ids.size(); from += PAGE_SIZE) idPages.add(ids.subList(from, from + PAGE_SIZE));
+
+            DataSourceSearchCondition cond = DataSourceSearchCondition.builder().isActive(true).build();
+            run("before (tuple + tag query)", idPages, page -> loadBefore(archiveId, page));
+            run("after (projection + listagg)", idPages, page -> dataSourceQRepository.findRankedInArchive(archiveId, cond, page));
+        };
+    }
+
+    // 벤치마크용 회원 1명의 개인 아카이브 + 기본 폴더
+    private int[] seedOwner() {
+        Member member = memberRepository.save(
+                Member.builder()
+                        .name("bench-search")
+                        .providerKey("bench-search")
+                        .provider(Provider.KAKAO)
+                        .profileImageUrl("https://img.example.com/profile.png")
+                        .build()
+        );
+        Archive archive = member.getPersonalArchive().getArchive();
+        Folder folder = folderRepository.save(archive.getFolders().stream()
+                .filter(Folder::isDefault)
+                .findFirst()
+                .orElseThrow());
+        return new int[]{archive.getId(), folder.getId()};
+    }
+
+    private void seed(int archiveId, int folderId) {
+        LocalDateTime now = LocalDateTime.now();
+        Category[] categories = Category.values();
+
+        List<Object[]> dataSources = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            LocalDateTime created = now.minusMinutes(i);
+            dataSources.add(new Object[]{
+                    folderId, archiveId, "bench-" + i, "summary " + i, "Bench",
+                    "https://example.com/" + i, "https://img.example.com/" + i + ".png",
+                    categories[i % categories.length].name(), true,
+                    LocalDate.from(created), Timestamp.valueOf(created), Timestamp.valueOf(created)
+            });
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into data_source
+                  (folder_id, archive_id, title, summary, source, source_url, image_url, category, is_active,
+                   data_created_date, create_date, modify_date)
+                values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, dataSources);
+
+        Timestamp at = Timestamp.valueOf(now);
+        List<Object[]> tags = new ArrayList<>();
+        for (Integer id : jdbcTemplate.queryForList("select id from data_source where archive_id = ?", Integer.class, archiveId)) {
+            for (int t = 0; t < tagsPerRow; t++) tags.add(new Object[]{id, "tag-" + (id % 50) + "-" + t, at, at});
+        }
+        jdbcTemplate.batchUpdate("insert into tag (data_source_id, tag_name, create_date, modify_date) values (?, ?, ?, ?)", tags);
+        log.info("[search-projection] seeded {} data sources x {} tags", rows, tagsPerRow);
+    }
+
+    // 이전 방식 그대로: 본문 Tuple + 태그 조회 → groupingBy → 열마다 row.get(path)
+    private List<DataSourceSearchItem> loadBefore(int archiveId, List<Integer> ids) {
+        QDataSource ds = QDataSource.dataSource;
+        QTag tag = QTag.tag;
+
+        List<Tuple> tuples = queryFactory
+                .select(ds.id, ds.title, ds.createDate, ds.summary, ds.source, ds.sourceUrl, ds.imageUrl, ds.category)
+                .from(ds)
+                .where(ds.archiveId.eq(archiveId), ds.isActive.isTrue(), ds.id.in(ids))
+                .fetch();
+
+        Map<Integer, List<String>> tagsById = queryFactory
+                .select(ds.id, tag.tagName)
+                .from(ds)
+                .leftJoin(ds.tags, tag)
+                .where(ds.id.in(ids))
+                .fetch()
+                .stream()
+                .filter(row -> row.get(tag.tagName) != null)
+                .collect(Collectors.groupingBy(
+                        row -> row.get(ds.id),
+                        Collectors.mapping(row -> row.get(tag.tagName), Collectors.toList())
+                ));
+
+        return tuples.stream()
+                .map(row -> new DataSourceSearchItem(
+                        row.get(ds.id),
+                        row.get(ds.title),
+                        row.get(ds.createDate) != null ? row.get(ds.createDate).toLocalDate() : null,
+                        row.get(ds.summary),
+                        row.get(ds.source),
+                        row.get(ds.sourceUrl),
+                        row.get(ds.imageUrl),
+                        tagsById.getOrDefault(row.get(ds.id), List.of()),
+                        row.get(ds.category) != null ? row.get(ds.category).name() : null
+                ))
+                .toList();
+    }
+
+    private void run(String name, List<List<Integer>> idPages, Function<List<Integer>, List<DataSourceSearchItem>> loader) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.setStatisticsEnabled(true);
+
+        for (int i = 0; i < WARMUP_PAGES; i++) load(loader, idPages.get(i % idPages.size()));
+        stats.clear();
+
+        long[] nanos = new long[pages];
+        long allocated = 0;
+        for (int i = 0; i < pages; i++) {
+            List<Integer> page = idPages.get(i % idPages.size());
+            long bytes = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            load(loader, page);
+            nanos[i] = System.nanoTime() - start;
+            allocated += threads.getCurrentThreadAllocatedBytes() - bytes;
+        }
+
+        Arrays.sort(nanos);
+        log.info("[search-projection] {}: median {} us, {} KB allocated/page, {} statements/page",
+                name, nanos[pages / 2] / 1_000, allocated / pages / 1024,
+                (double) stats.getPrepareStatementCount() / pages);
+    }
+
+    // 요청 하나처럼 페이지마다 새 읽기 트랜잭션 (영속성 컨텍스트 재사용 없음)
+    private void load(Function<List<Integer>, List<DataSourceSearchItem>> loader, List<Integer> page) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (loader.apply(page).size() != page.size()) throw new IllegalStateException("missing rows");
+        });
+    }
+}
@@ -0,0 +1,89 @@
+package org.tuna.zoopzoop.backend.bench;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.EmbeddingProperties;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.index.ArchiveVectors;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.index.HnswIndex;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.model.TextEmbedder;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 아카이브 벡터 인덱스 벤치마크: 군집된 임의 벡터 N개로 HNSW를 만들고
+ * 검색 지연(p50/p99)과 전체 비교 대비 recall@10을 로그로 남긴다. DB/모델 호출 없음.
+ * ./gradlew bootTestRun --args='--bench.semantic-index.enabled=true' 로 한 번 실행.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(value = "bench.semantic-index.enabled", havingValue = "true")
+public class SemanticIndexBenchmarkData {
+    private static final int K = 10;
+    private static final int CLUSTERS = 500;
+
+    @Value("${bench.semantic-index.vectors:100000}")
+    private int size;
+
+    @Value("${bench.semantic-index.queries:1000}")
+    private int queries;
+
+    @Bean
+    ApplicationRunner semanticIndexBenchmarkRunner(EmbeddingProperties properties) {
+        return args -> {
+            EmbeddingProperties.Index config = properties.getIndex();
+            int dimensions = properties.getDimensions();
+            Random random = new Random(42);
+
+            float[][] centers = new float[CLUSTERS][];
+            for (int c = 0; c < CLUSTERS; c++) centers[c] = randomUnit(random, dimensions, null, 0);
+
+            ArchiveVectors exact = new ArchiveVectors(dimensions, null, null); // 빌드하지 않으면 전체 비교
+            HnswIndex index = new HnswIndex(dimensions, config.getM(), config.getEfConstruction(), 42);
+            long start = System.currentTimeMillis();
+            for (int i = 0; i < size; i++) {
+                float[] v = randomUnit(random, dimensions, centers[random.nextInt(CLUSTERS)], 0.6f);
+                exact.upsert(i, v);
+                index.upsert(i, v);
+            }
+            log.info("[semantic-index] built {} x {}d (m={}, efConstruction={}) in {} ms",
+                    size, dimensions, config.getM(), config.getEfConstruction(), System.currentTimeMillis() - start);
+
+            long[] nanos = new long[queries];
+            double recall = 0;
+            for (int q = 0; q < queries; q++) {
+                float[] query = randomUnit(random, dimensions, centers[random.nextInt(CLUSTERS)], 0.6f);
+
+                long t = System.nanoTime();
+                List<HnswIndex.Hit> approx = index.search(query, K, config.getEfSearch());
+                nanos[q] = System.nanoTime() - t;
+
+                Set<Integer> truth = new HashSet<>();
+                for (HnswIndex.Hit hit : exact.search(query, K, 0)) truth.add(hit.key());
+                recall += approx.stream().filter(h -> truth.contains(h.key())).count() / (double) K;
+            }
+            Arrays.sort(nanos);
+            log.info("[semantic-index] efSearch={} search p50 {} ms, p99 {} ms, recall@{} {}",
+                    config.getEfSearch(), nanos[queries / 2] / 1e6, nanos[queries * 99 / 100] / 1e6,
+                    K, String.format("%.3f", recall / queries));
+        };
+    }
+
+    // center가 있으면 center + noise * 가우시안 (같은 주제 자료 묶음 흉내)
+    private static float[] randomUnit(Random random, int dimensions, float[] center, float noise) {
+        float[] v = new float[dimensions];
+        float scale = (float) Math.sqrt(dimensions);
+        for (int i = 0; i < dimensions; i++) {
+            float g = (float) random.nextGaussian();
+            v[i] = center == null ? g : center[i] * scale + g * noise;
+        }
+        return TextEmbedder.normalize(v);
+    }
+}
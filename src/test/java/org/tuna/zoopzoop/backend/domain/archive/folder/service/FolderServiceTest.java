@@ -8,11 +8,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.tuna.zoopzoop.backend.domain.archive.archive.dto.ArchiveChangedEvent;
 import org.tuna.zoopzoop.backend.domain.archive.archive.entity.Archive;
 import org.tuna.zoopzoop.backend.domain.archive.folder.dto.FolderResponse;
 import org.tuna.zoopzoop.backend.domain.archive.folder.entity.Folder;
 import org.tuna.zoopzoop.backend.domain.archive.folder.repository.FolderRepository;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceChangedEvent;
 import org.tuna.zoopzoop.backend.domain.datasource.dto.FileSummary;
 import org.tuna.zoopzoop.backend.domain.datasource.dto.FolderFilesDto;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.DataSource;
@@ -33,6 +36,7 @@ class FolderServiceTest {
 
     @Mock private FolderRepository folderRepository;
     @Mock private DataSourceRepository dataSourceRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks private FolderService folderService;
 
@@ -113,6 +117,8 @@ class FolderServiceTest {
         assertThat(d1.getDeletedAt()).isNotNull();
         assertThat(d1.getFolder()).isEqualTo(defaultFolder);
         verify(folderRepository, times(1)).delete(target);
+        // 이관 자료 재색인 + 아카이브 버전 증가
+        verify(eventPublisher).publishEvent(new DataSourceChangedEvent(List.of(1, 2), List.of(10)));
     }
 
     @Test
@@ -143,6 +149,7 @@ class FolderServiceTest {
 
         assertThat(updated).isEqualTo("새이름");
         assertThat(folder.getName()).isEqualTo("새이름");
+        verify(eventPublisher).publishEvent(new ArchiveChangedEvent(List.of(10))); // 폴더명 검색 결과 무효화
     }
 
     @Test
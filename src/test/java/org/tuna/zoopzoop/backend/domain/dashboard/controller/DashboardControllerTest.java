@@ -39,7 +39,9 @@ import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -133,6 +135,23 @@ class DashboardControllerTest extends ControllerTestSupport {
                 .andExpect(jsonPath("$.data.edges").isEmpty());
     }
 
+    @Test
+    @WithUserDetails(value = "KAKAO:dc1111", setupBefore = TestExecutionEvent.TEST_METHOD)
+    @DisplayName("대시보드 그래프 데이터 조회 - 같은 버전이면 304")
+    void getGraph_NotModified() throws Exception {
+        // Given
+        String url = String.format("/api/v1/dashboard/%d/graph", authorizedDashboardId);
+        String eTag = performGet(url)
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When
+        ResultActions resultActions = mvc.perform(get(url).header("If-None-Match", eTag));
+
+        // Then
+        resultActions.andExpect(status().isNotModified());
+    }
+
     @Test
     @WithUserDetails(value = "KAKAO:dc2222", setupBefore = TestExecutionEvent.TEST_METHOD)
     @DisplayName("대시보드 그래프 데이터 조회 - 실패: 접근 권한 없음")
@@ -0,0 +1,189 @@
+package org.tuna.zoopzoop.backend.domain.dashboard.controller;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.codec.binary.Hex;
+import org.junit.jupiter.api.*;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+import org.tuna.zoopzoop.backend.domain.dashboard.dto.BodyForReactFlow;
+import org.tuna.zoopzoop.backend.domain.member.enums.Provider;
+import org.tuna.zoopzoop.backend.domain.member.repository.MemberRepository;
+import org.tuna.zoopzoop.backend.domain.member.service.MemberService;
+import org.tuna.zoopzoop.backend.domain.space.membership.enums.Authority;
+import org.tuna.zoopzoop.backend.domain.space.membership.repository.MembershipRepository;
+import org.tuna.zoopzoop.backend.domain.space.membership.service.MembershipService;
+import org.tuna.zoopzoop.backend.domain.space.space.entity.Space;
+import org.tuna.zoopzoop.backend.domain.space.space.repository.SpaceRepository;
+import org.tuna.zoopzoop.backend.domain.space.space.service.SpaceService;
+import org.tuna.zoopzoop.backend.global.clients.liveblocks.LiveblocksClient;
+import org.tuna.zoopzoop.backend.testSupport.ControllerTestSupport;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// dashboard.graph.storage=snapshot: webhook → 큐 → 압축 문서 저장 → 조회 응답에 그대로 끼워 넣기까지
+@SpringBootTest(properties = "dashboard.graph.storage=snapshot")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class DashboardSnapshotControllerTest extends ControllerTestSupport {
+    @Autowired private SpaceService spaceService;
+    @Autowired private MemberService memberService;
+    @Autowired private MembershipService membershipService;
+
+    @Autowired SpaceRepository spaceRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired MembershipRepository membershipRepository;
+
+    @Autowired private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private LiveblocksClient liveblocksClient;
+
+    private Integer dashboardId;
+
+    @Value("${liveblocks.secret-key}")
+    private String testSecretKey;
+
+    @BeforeAll
+    void setUp() {
+        Mockito.doNothing().when(liveblocksClient).createRoom(anyString());
+        Mockito.doNothing().when(liveblocksClient).deleteRoom(anyString());
+
+        memberService.createMember("tester1_forDashboardSnapshotControllerTest", "url", "ds1111", Provider.KAKAO);
+        Space space = spaceService.createSpace("TestSpace1_forDashboardSnapshotControllerTest", "thumb1");
+        this.dashboardId = space.getDashboard().getId();
+
+        membershipService.addMemberToSpace(memberService.findByKakaoKey("ds1111"), space, Authority.ADMIN);
+    }
+
+    @AfterAll
+    void tearDown() {
+        membershipRepository.deleteAll();
+        spaceRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @WithUserDetails(value = "KAKAO:ds1111", setupBefore = TestExecutionEvent.TEST_METHOD)
+    @DisplayName("스냅샷 저장 - webhook 반영 후 조회 응답 바이트와 ETag 갱신, 같은 문서면 ETag 유지")
+    void updateThenGetGraph_Snapshot() throws Exception {
+        // Given: 스냅샷이 없으면 정규화 행(빈 그래프)으로 응답
+        String url = String.format("/api/v1/dashboard/%d/graph", dashboardId);
+        String msg = String.format("ID: %d 의 React-flow 데이터를 조회했습니다.", dashboardId);
+        MvcResult before = performGet(url)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.nodes").isEmpty())
+                .andReturn();
+        String eTagBefore = before.getResponse().getHeader("ETag");
+
+        // When: webhook 수신
+        String requestBody = createReactFlowJsonBody();
+        putWebhook(url, requestBody);
+
+        // Then: 버전이 올라 ETag가 바뀌고, data는 스냅샷 JSON 바이트 그대로
+        String expected = "{\"status\":\"200\",\"msg\":" + objectMapper.writeValueAsString(msg)
+                + ",\"data\":" + objectMapper.writeValueAsString(objectMapper.readValue(requestBody, BodyForReactFlow.class)) + "}";
+        String[] eTagAfter = new String[1];
+        await().atMost(5, TimeUnit.SECONDS).pollInSameThread().untilAsserted(() -> {
+            MvcResult after = mvc.perform(get(url)).andExpect(status().isOk()).andReturn();
+            eTagAfter[0] = after.getResponse().getHeader("ETag");
+            assertThat(eTagAfter[0]).isNotEqualTo(eTagBefore);
+            assertThat(after.getResponse().getContentAsByteArray()).isEqualTo(expected.getBytes(StandardCharsets.UTF_8));
+        });
+        performGet(url)
+                .andExpect(jsonPath("$.data.nodes.length()").value(2))
+                .andExpect(jsonPath("$.data.nodes[0].data.title").value("노드1"))
+                .andExpect(jsonPath("$.data.edges[0].source").value("1"));
+
+        // When: 같은 문서로 다시 webhook (반영 처리가 끝날 때까지 대기)
+        double appliedBefore = applied();
+        putWebhook(url, requestBody);
+        await().atMost(5, TimeUnit.SECONDS).pollInSameThread()
+                .untilAsserted(() -> assertThat(applied()).isGreaterThan(appliedBefore));
+
+        // Then: 쓰지 않으므로 ETag 유지 → 이전 ETag로 304
+        mvc.perform(get(url).header("If-None-Match", eTagAfter[0]))
+                .andExpect(status().isNotModified());
+    }
+
+    private double applied() {
+        return meterRegistry.counter("graph.update.messages", "result", "applied").count();
+    }
+
+    private void putWebhook(String url, String requestBody) throws Exception {
+        expectAccepted(
+                mvc.perform(put(url)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Liveblocks-Signature", generateLiveblocksSignature(requestBody))
+                        .content(requestBody)),
+                "데이터 업데이트 요청이 성공적으로 접수되었습니다."
+        );
+    }
+
+    // ======================= TEST DATA FACTORIES ======================== //
+
+    private String createReactFlowJsonBody() {
+        return """
+            {
+                "nodes": [
+                    {
+                        "id": "1",
+                        "type": "CUSTOM",
+                        "data": { "title": "노드1", "description": "설명1" },
+                        "position": { "x": 100, "y": 200 }
+                    },
+                    {
+                        "id": "2",
+                        "type": "CUSTOM",
+                        "data": { "title": "노드2" },
+                        "position": { "x": 300, "y": 400 }
+                    }
+                ],
+                "edges": [
+                    {
+                        "id": "e1-2",
+                        "source": "1",
+                        "target": "2",
+                        "type": "SMOOTHSTEP",
+                        "animated": true,
+                        "style": { "stroke": "#999", "strokeWidth": 2.0 }
+                    }
+                ]
+            }
+            """;
+    }
+
+    // ======================= HELPER METHODS ======================== //
+    private String generateLiveblocksSignature(String requestBody) throws Exception {
+        long timestamp = System.currentTimeMillis();
+        String payload = timestamp + "." + requestBody;
+
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(testSecretKey.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        byte[] hash = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+
+        return String.format("t=%d,v1=%s", timestamp, Hex.encodeHexString(hash));
+    }
+}
@@ -1,5 +1,6 @@
 package org.tuna.zoopzoop.backend.domain.dashboard.extraComponent;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.*;
 import org.mockito.Mockito;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -15,6 +16,7 @@ import org.tuna.zoopzoop.backend.domain.space.space.service.SpaceService;
 import org.tuna.zoopzoop.backend.global.clients.liveblocks.LiveblocksClient;
 import org.tuna.zoopzoop.backend.testSupport.ControllerTestSupport;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
@@ -28,6 +30,8 @@ class GraphUpdateConsumerTest extends ControllerTestSupport {
     @Autowired private RabbitTemplate rabbitTemplate;
     @Autowired private TransactionTemplate transactionTemplate;
     @Autowired private SpaceService spaceService;
+    @Autowired private GraphUpdateConsumer graphUpdateConsumer;
+    @Autowired private MeterRegistry meterRegistry;
 
     @MockitoBean
     private LiveblocksClient liveblocksClient;
@@ -72,6 +76,45 @@ class GraphUpdateConsumerTest extends ControllerTestSupport {
         });
     }
 
+    @Test
+    @DisplayName("한 배치에 같은 대시보드 메시지가 여럿이면 webhook 시각이 가장 늦은 것만 반영한다")
+    void handleGraphUpdates_CoalescesToLatest() {
+        // Given
+        Integer dashboardId = spaceService.findByName(existingSpaceName).getDashboard().getId();
+        double appliedBefore = meterRegistry.counter("graph.update.messages", "result", "applied").count();
+        double coalescedBefore = meterRegistry.counter("graph.update.messages", "result", "coalesced").count();
+
+        // When: 큐 순서와 webhook 시각 순서가 다른 배치
+        graphUpdateConsumer.handleGraphUpdates(List.of(
+                new GraphUpdateMessage(dashboardId, createSingleNodeJsonBody("최신"), 3_000),
+                new GraphUpdateMessage(dashboardId, createSingleNodeJsonBody("처음"), 1_000),
+                new GraphUpdateMessage(dashboardId, createSingleNodeJsonBody("중간"), 2_000)
+        ));
+
+        // Then
+        Graph graph = spaceService.findByName(existingSpaceName).getDashboard().getGraph();
+        assertThat(graph.getNodes()).hasSize(1);
+        assertThat(graph.getNodes().get(0).getData().get("title")).isEqualTo("최신");
+        assertThat(meterRegistry.counter("graph.update.messages", "result", "applied").count() - appliedBefore).isEqualTo(1);
+        assertThat(meterRegistry.counter("graph.update.messages", "result", "coalesced").count() - coalescedBefore).isEqualTo(2);
+    }
+
+    private String createSingleNodeJsonBody(String title) {
+        return """
+            {
+                "nodes": [
+                    {
+                        "id": "1",
+                        "type": "CUSTOM",
+                        "data": { "title": "%s" },
+                        "position": { "x": 0, "y": 0 }
+                    }
+                ],
+                "edges": []
+            }
+            """.formatted(title);
+    }
+
     private String createReactFlowJsonBody() {
         return """
             {
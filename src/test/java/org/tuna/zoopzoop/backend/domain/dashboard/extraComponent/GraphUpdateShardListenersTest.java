@@ -0,0 +1,82 @@
+package org.tuna.zoopzoop.backend.domain.dashboard.extraComponent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.tuna.zoopzoop.backend.domain.dashboard.GraphQueueProperties;
+import org.tuna.zoopzoop.backend.domain.dashboard.dto.GraphWebhook;
+import org.tuna.zoopzoop.backend.global.config.mq.RabbitMQConfig;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class GraphUpdateShardListenersTest {
+    @Mock private GraphUpdateConsumer graphUpdateConsumer;
+    @Mock private SimpleRabbitListenerContainerFactory containerFactory;
+    @Mock private RabbitListenerEndpointRegistry endpointRegistry;
+    @Mock private AmqpAdmin amqpAdmin;
+    @Mock private RabbitTemplate rabbitTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GraphUpdateShardListeners listeners;
+
+    @BeforeEach
+    void setUp() {
+        GraphQueueProperties properties = new GraphQueueProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        listeners = new GraphUpdateShardListeners(graphUpdateConsumer, new GraphUpdateShards(properties), properties,
+                containerFactory, new ObjectMapper(), endpointRegistry, amqpAdmin, rabbitTemplate, meterRegistry);
+    }
+
+    private static Message raw(String body) {
+        return new Message(body.getBytes(StandardCharsets.UTF_8), new MessageProperties());
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 메시지는 그 한 건만 DLQ로 보내고 나머지는 반영")
+    void onBatch_DeadLettersOnlyInvalidMessage() {
+        Message valid = new GraphWebhook(1, 1_000, "{}".getBytes(StandardCharsets.UTF_8)).toMessage();
+        Message legacy = raw("{\"dashboardId\":2,\"requestBody\":\"{}\",\"webhookTimestamp\":2000}");
+        Message invalid = raw("not json");
+        Message missingBody = raw("{\"dashboardId\":3}");
+
+        listeners.onBatch(0, List.of(valid, invalid, legacy, missingBody));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<GraphWebhook>> handled = ArgumentCaptor.forClass(List.class);
+        verify(graphUpdateConsumer).handleWebhooks(handled.capture());
+        assertThat(handled.getValue()).extracting(GraphWebhook::dashboardId).containsExactly(1, 2);
+        verify(rabbitTemplate).send(RabbitMQConfig.DLQ_EXCHANGE_NAME, RabbitMQConfig.DLQ_ROUTING_KEY, invalid);
+        verify(rabbitTemplate).send(RabbitMQConfig.DLQ_EXCHANGE_NAME, RabbitMQConfig.DLQ_ROUTING_KEY, missingBody);
+        assertThat(meterRegistry.counter("graph.update.messages", "result", "invalid").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("배치가 모두 읽을 수 없으면 컨슈머를 호출하지 않음")
+    void onBatch_SkipsConsumerWhenNothingValid() {
+        listeners.onBatch(0, List.of(raw("not json")));
+
+        verify(graphUpdateConsumer, never()).handleWebhooks(anyList());
+        verify(rabbitTemplate).send(anyString(), anyString(), any(Message.class));
+    }
+}
@@ -0,0 +1,63 @@
+package org.tuna.zoopzoop.backend.domain.dashboard.extraComponent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tuna.zoopzoop.backend.domain.dashboard.GraphQueueProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GraphUpdateShardsTest {
+
+    @Test
+    @DisplayName("대시보드는 고르게 나뉘고 항상 같은 샤드로 간다")
+    void jumpHash_IsStableAndBalanced() {
+        int[] counts = new int[8];
+        for (int dashboardId = 1; dashboardId <= 80_000; dashboardId++) {
+            int shard = GraphUpdateShards.jumpHash(dashboardId, 8);
+            assertThat(GraphUpdateShards.jumpHash(dashboardId, 8)).isEqualTo(shard);
+            counts[shard]++;
+        }
+
+        for (int count : counts) assertThat(count).isBetween(9_500, 10_500);
+    }
+
+    @Test
+    @DisplayName("샤드를 하나 늘리면 약 1/(N+1)만 새 샤드로 옮겨진다")
+    void jumpHash_MovesOnlyToNewShardWhenGrowing() {
+        int moved = 0;
+        for (int dashboardId = 1; dashboardId <= 80_000; dashboardId++) {
+            int before = GraphUpdateShards.jumpHash(dashboardId, 8);
+            int after = GraphUpdateShards.jumpHash(dashboardId, 9);
+            if (before != after) {
+                assertThat(after).isEqualTo(8);
+                moved++;
+            }
+        }
+
+        assertThat(moved / 80_000.0).isCloseTo(1 / 9.0, within(0.01));
+    }
+
+    @Test
+    @DisplayName("샤드 라우팅 키는 기존 graph.update.# 바인딩에 걸리지 않는다")
+    void routingKey_DoesNotMatchLegacyBinding() {
+        assertThat(GraphUpdateShards.routingKey(3)).isEqualTo("graph.shard.3").doesNotStartWith("graph.update.");
+        assertThat(GraphUpdateShards.queueName(3)).isEqualTo("graph.update.shard.3");
+    }
+
+    @Test
+    @DisplayName("샤드 수를 줄이면 발행은 새 샤드로만, 구독은 이전 샤드 큐까지")
+    void consumedCount_IncludesDrainShards() {
+        GraphQueueProperties properties = new GraphQueueProperties();
+        properties.setShards(4);
+        properties.setDrainShards(8);
+        GraphUpdateShards shards = new GraphUpdateShards(properties);
+
+        assertThat(shards.count()).isEqualTo(4);
+        assertThat(shards.consumedCount()).isEqualTo(8);
+        for (int dashboardId = 1; dashboardId <= 1_000; dashboardId++) assertThat(shards.shardOf(dashboardId)).isLessThan(4);
+
+        properties.setDrainShards(0);
+        assertThat(shards.consumedCount()).isEqualTo(4);
+    }
+}
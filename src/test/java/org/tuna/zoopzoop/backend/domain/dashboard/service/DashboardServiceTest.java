@@ -0,0 +1,119 @@
+package org.tuna.zoopzoop.backend.domain.dashboard.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.tuna.zoopzoop.backend.domain.dashboard.dto.BodyForReactFlow;
+import org.tuna.zoopzoop.backend.domain.dashboard.dto.GraphDocument;
+import org.tuna.zoopzoop.backend.domain.dashboard.entity.Dashboard;
+import org.tuna.zoopzoop.backend.domain.dashboard.entity.Graph;
+import org.tuna.zoopzoop.backend.domain.dashboard.repository.DashboardRepository;
+import org.tuna.zoopzoop.backend.domain.dashboard.snapshot.GraphSnapshotCodec;
+import org.tuna.zoopzoop.backend.global.clients.liveblocks.LiveblocksClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class DashboardServiceTest {
+    @Autowired private DashboardService dashboardService;
+    @Autowired private DashboardRepository dashboardRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private GraphSnapshotCodec graphSnapshotCodec;
+    @Autowired private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private LiveblocksClient liveblocksClient;
+
+    private final List<Integer> dashboardIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        dashboardRepository.deleteAllById(dashboardIds);
+    }
+
+    private static BodyForReactFlow graph(int nodes, int movedNode) {
+        List<BodyForReactFlow.NodeDto> nodeDtos = new ArrayList<>(nodes);
+        for (int i = 0; i < nodes; i++) {
+            double x = i == movedNode ? 1_000 : i;
+            nodeDtos.add(new BodyForReactFlow.NodeDto(String.valueOf(i), "CUSTOM",
+                    Map.of("title", "노드" + i, "description", "설명" + i),
+                    new BodyForReactFlow.NodeDto.PositionDto(x, 0)));
+        }
+        List<BodyForReactFlow.EdgeDto> edgeDtos = new ArrayList<>(nodes);
+        for (int i = 1; i < nodes; i++) {
+            edgeDtos.add(new BodyForReactFlow.EdgeDto("e" + (i - 1) + "-" + i, String.valueOf(i - 1), String.valueOf(i),
+                    "SMOOTHSTEP", false, new BodyForReactFlow.EdgeDto.StyleDto("#999", 2.0)));
+        }
+        return new BodyForReactFlow(nodeDtos, edgeDtos);
+    }
+
+    // 노드 nodes개 그래프에서 노드 하나를 옮기는 업데이트가 실행한 SQL 문 수
+    private long statementsToMoveOneNode(int nodes) {
+        Integer dashboardId = dashboardRepository.save(Dashboard.create("statements-" + nodes, null)).getId();
+        dashboardIds.add(dashboardId);
+        transactionTemplate.executeWithoutResult(status -> dashboardService.updateGraph(dashboardId, graph(nodes, -1)));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        transactionTemplate.executeWithoutResult(status -> dashboardService.updateGraph(dashboardId, graph(nodes, 0)));
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    @DisplayName("노드 하나 이동 - node_data를 한 번에 읽어 SQL 문 수가 그래프 크기와 무관")
+    void updateGraph_StatementsDoNotScaleWithGraphSize() {
+        long small = statementsToMoveOneNode(10);
+        long large = statementsToMoveOneNode(300);
+
+        assertThat(large).isEqualTo(small);
+        assertThat(large).isLessThanOrEqualTo(12); // 대시보드, 그래프, 노드+node_data, 노드/엣지 컬렉션, UPDATE, 버전 증가
+    }
+
+    @Test
+    @DisplayName("snapshot → normalized 되돌림 - 남은 스냅샷으로 조회하고, 웹훅 반영 시 행을 맞추고 스냅샷을 지움")
+    void updateGraph_NormalizedReconcilesLeftoverSnapshot() throws Exception {
+        Integer dashboardId = dashboardRepository.save(Dashboard.create("reconcile", null)).getId();
+        dashboardIds.add(dashboardId);
+        transactionTemplate.executeWithoutResult(status -> dashboardService.updateGraph(dashboardId, graph(2, -1)));
+
+        // SNAPSHOT 동안 들어온 변경: 스냅샷만 바뀌고 행은 이관 시점 그대로
+        BodyForReactFlow duringSnapshot = graph(3, 0);
+        transactionTemplate.executeWithoutResult(status -> dashboardService.getGraphByDashboardId(dashboardId)
+                .setSnapshot(graphSnapshotCodec.encode(duringSnapshot)));
+
+        GraphDocument leftover = dashboardService.getGraphDocument(dashboardId);
+        assertThat(leftover.json()).isEqualTo(objectMapper.writeValueAsBytes(duringSnapshot));
+
+        // normalized 웹훅: 행이 최신이 되고 스냅샷은 지워짐
+        BodyForReactFlow next = graph(4, 1);
+        transactionTemplate.executeWithoutResult(status -> dashboardService.updateGraph(dashboardId, next));
+
+        Graph graph = transactionTemplate.execute(status -> {
+            Graph g = dashboardService.getGraphByDashboardId(dashboardId);
+            g.getNodes().size();
+            return g;
+        });
+        assertThat(graph.getSnapshot()).isNull();
+        assertThat(graph.getNodes()).hasSize(4);
+        GraphDocument document = dashboardService.getGraphDocument(dashboardId);
+        BodyForReactFlow served = objectMapper.readValue(document.json(), BodyForReactFlow.class);
+        assertThat(served.nodes()).containsExactlyInAnyOrderElementsOf(next.nodes());
+        assertThat(served.edges()).containsExactlyInAnyOrderElementsOf(next.edges());
+        assertThat(document.version()).isGreaterThan(leftover.version());
+    }
+}
@@ -0,0 +1,124 @@
+package org.tuna.zoopzoop.backend.domain.dashboard.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tuna.zoopzoop.backend.domain.dashboard.dto.BodyForReactFlow;
+import org.tuna.zoopzoop.backend.domain.dashboard.entity.Edge;
+import org.tuna.zoopzoop.backend.domain.dashboard.entity.Graph;
+import org.tuna.zoopzoop.backend.domain.dashboard.entity.Node;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GraphMergerTest {
+
+    private static BodyForReactFlow.NodeDto node(String key, double x, Map<String, String> data) {
+        return new BodyForReactFlow.NodeDto(key, "CUSTOM", data, new BodyForReactFlow.NodeDto.PositionDto(x, 0));
+    }
+
+    private static BodyForReactFlow.EdgeDto edge(String key, String source, String target) {
+        return new BodyForReactFlow.EdgeDto(key, source, target, "SMOOTHSTEP", false,
+                new BodyForReactFlow.EdgeDto.StyleDto("#999", 2.0));
+    }
+
+    private static Graph seeded() {
+        Graph graph = new Graph();
+        GraphMerger.merge(graph, new BodyForReactFlow(
+                List.of(node("1", 0, Map.of("title", "노드1")),
+                        node("2", 0, Map.of("title", "노드2", "description", "설명2")),
+                        node("3", 0, Map.of())),
+                List.of(edge("e1-2", "1", "2"), edge("e2-3", "2", "3"))
+        ));
+        return graph;
+    }
+
+    @Test
+    @DisplayName("빈 그래프에는 모두 추가")
+    void merge_InsertsAllIntoEmptyGraph() {
+        Graph graph = new Graph();
+
+        GraphMerger.Changes changes = GraphMerger.merge(graph, new BodyForReactFlow(
+                List.of(node("1", 10, Map.of("title", "노드1"))),
+                List.of(edge("e1-1", "1", "1"))
+        ));
+
+        assertThat(changes).isEqualTo(new GraphMerger.Changes(1, 0, 0, 1, 0, 0));
+        assertThat(graph.getNodes().getFirst().getGraph()).isSameAs(graph);
+        assertThat(graph.getNodes().getFirst().getPositonX()).isEqualTo(10);
+        assertThat(graph.getEdges().getFirst().getStroke()).isEqualTo("#999");
+    }
+
+    @Test
+    @DisplayName("노드 하나 이동 - 그 노드만 수정, 나머지 엔티티는 그대로")
+    void merge_MovesOnlyChangedNode() {
+        Graph graph = seeded();
+        List<Node> before = List.copyOf(graph.getNodes());
+        List<Edge> edgesBefore = List.copyOf(graph.getEdges());
+
+        GraphMerger.Changes changes = GraphMerger.merge(graph, new BodyForReactFlow(
+                List.of(node("1", 0, Map.of("title", "노드1")),
+                        node("2", 50, Map.of("title", "노드2", "description", "설명2")),
+                        node("3", 0, Map.of())),
+                List.of(edge("e1-2", "1", "2"), edge("e2-3", "2", "3"))
+        ));
+
+        assertThat(changes).isEqualTo(new GraphMerger.Changes(0, 1, 0, 0, 0, 0));
+        // 같은 인스턴스를 고쳐야 Hibernate가 UPDATE 한 줄로 처리 (id가 없는 엔티티는 equals가 같으므로 동일성으로 비교)
+        assertThat(graph.getNodes()).usingElementComparator((a, b) -> a == b ? 0 : 1).containsExactlyElementsOf(before);
+        assertThat(graph.getEdges()).usingElementComparator((a, b) -> a == b ? 0 : 1).containsExactlyElementsOf(edgesBefore);
+        assertThat(before.get(1).getPositonX()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("같은 상태를 다시 받으면 변경 없음")
+    void merge_SameStateIsNoop() {
+        Graph graph = seeded();
+
+        GraphMerger.Changes changes = GraphMerger.merge(graph, new BodyForReactFlow(
+                List.of(node("1", 0, Map.of("title", "노드1")),
+                        node("2", 0, Map.of("title", "노드2", "description", "설명2")),
+                        node("3", 0, Map.of())),
+                List.of(edge("e1-2", "1", "2"), edge("e2-3", "2", "3"))
+        ));
+
+        assertThat(changes.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("data는 Map을 바꾸지 않고 항목 단위로 반영")
+    void merge_UpdatesNodeDataInPlace() {
+        Graph graph = seeded();
+        Map<String, String> data = graph.getNodes().get(1).getData();
+
+        GraphMerger.merge(graph, new BodyForReactFlow(
+                List.of(node("1", 0, Map.of("title", "노드1")),
+                        node("2", 0, Map.of("title", "바뀐 제목", "link", "https://a.com")),
+                        node("3", 0, Map.of())),
+                List.of(edge("e1-2", "1", "2"), edge("e2-3", "2", "3"))
+        ));
+
+        assertThat(graph.getNodes().get(1).getData())
+                .isSameAs(data)
+                .containsExactlyInAnyOrderEntriesOf(Map.of("title", "바뀐 제목", "link", "https://a.com"));
+    }
+
+    @Test
+    @DisplayName("사라진 노드/엣지는 삭제, 새 key는 추가")
+    void merge_DeletesMissingAndInsertsNew() {
+        Graph graph = seeded();
+
+        GraphMerger.Changes changes = GraphMerger.merge(graph, new BodyForReactFlow(
+                List.of(node("1", 0, Map.of("title", "노드1")),
+                        node("2", 0, Map.of("title", "노드2", "description", "설명2")),
+                        node("4", 0, Map.of("title", "노드4"))),
+                List.of(edge("e1-2", "1", "4"), edge("e2-4", "2", "4"))
+        ));
+
+        assertThat(changes).isEqualTo(new GraphMerger.Changes(1, 0, 1, 1, 1, 1));
+        assertThat(graph.getNodes()).extracting(Node::getNodeKey).containsExactly("1", "2", "4");
+        assertThat(graph.getEdges()).extracting(Edge::getEdgeKey).containsExactly("e1-2", "e2-4");
+        assertThat(graph.getEdges().getFirst().getTargetNodeKey()).isEqualTo("4");
+    }
+}
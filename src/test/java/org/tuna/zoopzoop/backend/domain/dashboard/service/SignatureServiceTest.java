@@ -0,0 +1,57 @@
+package org.tuna.zoopzoop.backend.domain.dashboard.service;
+
+import org.apache.commons.codec.binary.Hex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SignatureServiceTest {
+    private static final String SECRET = "test-secret";
+
+    private SignatureService signatureService;
+
+    @BeforeEach
+    void setUp() {
+        signatureService = new SignatureService();
+        ReflectionTestUtils.setField(signatureService, "liveblocksSecretKey", SECRET);
+    }
+
+    // 이전 방식 그대로: "timestamp." + 본문 문자열 전체에 대한 HMAC
+    private static String sign(long timestamp, String body) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        String hash = Hex.encodeHexString(mac.doFinal((timestamp + "." + body).getBytes(StandardCharsets.UTF_8)));
+        return "t=" + timestamp + ",v1=" + hash;
+    }
+
+    @Test
+    @DisplayName("원문 바이트로 나눠 계산한 서명이 문자열 전체로 계산한 서명과 같다")
+    void isValidSignature_BytesMatchString() throws Exception {
+        String body = "{\"nodes\":[{\"id\":\"1\",\"data\":{\"title\":\"노드1\"}}],\"edges\":[]}";
+        String header = sign(System.currentTimeMillis(), body);
+
+        assertThat(signatureService.isValidSignature(body.getBytes(StandardCharsets.UTF_8), header)).isTrue();
+        assertThat(signatureService.isValidSignature(body, header)).isTrue();
+        // 같은 스레드의 Mac을 다시 써도 이전 계산이 남지 않음
+        assertThat(signatureService.isValidSignature(body.getBytes(StandardCharsets.UTF_8), header)).isTrue();
+    }
+
+    @Test
+    @DisplayName("본문이 한 바이트라도 다르거나 오래된 요청이면 실패")
+    void isValidSignature_RejectsTamperedOrStale() throws Exception {
+        String body = "{\"nodes\":[],\"edges\":[]}";
+        String header = sign(System.currentTimeMillis(), body);
+        String staleHeader = sign(System.currentTimeMillis() - 10 * 60 * 1000, body);
+
+        assertThat(signatureService.isValidSignature("{\"nodes\":[],\"edges\":[ ]}".getBytes(StandardCharsets.UTF_8), header)).isFalse();
+        assertThat(signatureService.isValidSignature(body.getBytes(StandardCharsets.UTF_8), staleHeader)).isFalse();
+        assertThat(signatureService.isValidSignature(body.getBytes(StandardCharsets.UTF_8), "v1=abc")).isFalse();
+    }
+}
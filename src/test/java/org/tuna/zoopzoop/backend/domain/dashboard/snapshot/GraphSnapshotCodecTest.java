@@ -0,0 +1,54 @@
+package org.tuna.zoopzoop.backend.domain.dashboard.snapshot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tuna.zoopzoop.backend.domain.dashboard.dto.BodyForReactFlow;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GraphSnapshotCodecTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final GraphSnapshotCodec codec = new GraphSnapshotCodec(objectMapper);
+
+    private static BodyForReactFlow graph(int nodes) {
+        List<BodyForReactFlow.NodeDto> nodeDtos = new ArrayList<>();
+        List<BodyForReactFlow.EdgeDto> edgeDtos = new ArrayList<>();
+        for (int i = 0; i < nodes; i++) {
+            nodeDtos.add(new BodyForReactFlow.NodeDto(String.valueOf(i), "CUSTOM",
+                    Map.of("title", "노드" + i, "description", "설명" + i),
+                    new BodyForReactFlow.NodeDto.PositionDto(i * 10, i * 20)));
+            if (i > 0) {
+                edgeDtos.add(new BodyForReactFlow.EdgeDto("e" + (i - 1) + "-" + i, String.valueOf(i - 1), String.valueOf(i),
+                        "SMOOTHSTEP", true, new BodyForReactFlow.EdgeDto.StyleDto("#999", 2.0)));
+            }
+        }
+        return new BodyForReactFlow(nodeDtos, edgeDtos);
+    }
+
+    @Test
+    @DisplayName("압축을 풀면 조회 응답 data와 같은 JSON")
+    void toJson_ReturnsSameJsonAsResponse() throws Exception {
+        BodyForReactFlow dto = graph(3);
+
+        byte[] json = codec.toJson(codec.encode(dto));
+
+        assertThat(objectMapper.readTree(json)).isEqualTo(objectMapper.readTree(objectMapper.writeValueAsBytes(dto)));
+        assertThat(objectMapper.readValue(json, BodyForReactFlow.class)).isEqualTo(dto);
+    }
+
+    @Test
+    @DisplayName("같은 그래프는 같은 바이트 (변경 없는 웹훅은 쓰지 않음), 압축됨")
+    void encode_IsDeterministicAndCompressed() throws Exception {
+        BodyForReactFlow dto = graph(1_000);
+
+        byte[] snapshot = codec.encode(dto);
+
+        assertThat(codec.encode(graph(1_000))).isEqualTo(snapshot);
+        assertThat(snapshot.length).isLessThan(objectMapper.writeValueAsBytes(dto).length / 3);
+    }
+}
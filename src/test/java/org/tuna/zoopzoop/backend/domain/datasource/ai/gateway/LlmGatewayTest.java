@@ -0,0 +1,171 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ai.gateway;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LlmGatewayTest {
+    @Mock
+    private ChatClient chatClient;
+
+    @Mock
+    private ChatClient.ChatClientRequestSpec requestSpec;
+
+    @Mock
+    private ChatClient.CallResponseSpec responseSpec;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LlmGatewayProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new LlmGatewayProperties();
+        properties.setMaxWait(Duration.ofSeconds(2));
+    }
+
+    private static ChatResponse response(String text) {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+    }
+
+    @Test
+    void rateLimiter_WaitsUntilBucketRefills() {
+        AtomicLong now = new AtomicLong();
+        LlmRateLimiter limiter = new LlmRateLimiter(60, 600, now::get); // 초당 요청 1, 토큰 10
+
+        assertThat(limiter.tryAcquire(500)).isZero();
+        // 토큰 100 남음 → 200 요청은 10초 대기
+        assertThat(limiter.tryAcquire(200)).isCloseTo(TimeUnit.SECONDS.toNanos(10), within(1_000_000L));
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(11));
+        assertThat(limiter.tryAcquire(200)).isZero();
+    }
+
+    @Test
+    void rateLimiter_BlocksDuringRetryAfter() {
+        AtomicLong now = new AtomicLong();
+        LlmRateLimiter limiter = new LlmRateLimiter(600, 60000, now::get);
+
+        limiter.blockFor(TimeUnit.SECONDS.toNanos(3));
+        assertThat(limiter.tryAcquire(1)).isEqualTo(TimeUnit.SECONDS.toNanos(3));
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(4));
+        assertThat(limiter.tryAcquire(1)).isZero();
+    }
+
+    @Test
+    void retryAfterOf_ParsesProviderMessage() {
+        Duration fallback = Duration.ofSeconds(5);
+
+        assertThat(LlmGateway.retryAfterOf(new RuntimeException("429 - {\"error\":{\"message\":\"Rate limit reached. Please try again in 1.5s.\"}}"), fallback))
+                .isEqualTo(Duration.ofMillis(1500));
+        assertThat(LlmGateway.retryAfterOf(new RuntimeException("429 - Please try again in 2m3s"), fallback))
+                .isEqualTo(Duration.ofSeconds(123));
+        assertThat(LlmGateway.retryAfterOf(new RuntimeException("429 - Too Many Requests"), fallback))
+                .isEqualTo(fallback);
+        assertThat(LlmGateway.retryAfterOf(new RuntimeException("500 - Internal Server Error"), fallback))
+                .isNull();
+        assertThat(LlmGateway.parseRetryAfter("7", fallback)).isEqualTo(Duration.ofSeconds(7));
+    }
+
+    @Test
+    void execute_RetriesAfterRateLimit() {
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.user(anyString())).thenReturn(requestSpec);
+        when(requestSpec.call()).thenReturn(responseSpec);
+        when(responseSpec.chatResponse())
+                .thenThrow(new RuntimeException("429 - Please try again in 50ms"))
+                .thenReturn(response("응답"));
+
+        LlmGateway gateway = new LlmGateway(chatClient, properties, meterRegistry);
+
+        assertThat(gateway.content("프롬프트")).isEqualTo("응답");
+        verify(responseSpec, times(2)).chatResponse();
+        assertThat(meterRegistry.counter("ai.gateway.rate_limited").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.gateway.in_flight").gauge().value()).isZero();
+    }
+
+    @Test
+    void execute_RejectsWhenRetryAfterExceedsDeadline() {
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.user(anyString())).thenReturn(requestSpec);
+        when(requestSpec.call()).thenReturn(responseSpec);
+        when(responseSpec.chatResponse()).thenThrow(new RuntimeException("429 - Please try again in 1m0s"));
+
+        LlmGateway gateway = new LlmGateway(chatClient, properties, meterRegistry);
+
+        assertThatThrownBy(() -> gateway.content("프롬프트")).isInstanceOf(LlmBusyException.class);
+        // 막혀 있는 동안의 새 호출은 제공자까지 가지 않음
+        assertThatThrownBy(() -> gateway.content("프롬프트")).isInstanceOf(LlmBusyException.class);
+        verify(responseSpec, times(1)).chatResponse();
+    }
+
+    @Test
+    void execute_RejectsWhenRequestQuotaExhausted() {
+        properties.setRequestsPerMinute(1);
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.user(anyString())).thenReturn(requestSpec);
+        when(requestSpec.call()).thenReturn(responseSpec);
+        when(responseSpec.chatResponse()).thenReturn(response("응답"));
+
+        LlmGateway gateway = new LlmGateway(chatClient, properties, meterRegistry);
+
+        assertThat(gateway.content("프롬프트")).isEqualTo("응답");
+        assertThatThrownBy(() -> gateway.content("프롬프트")).isInstanceOf(LlmBusyException.class);
+        assertThat(meterRegistry.counter("ai.gateway.rejected", "reason", "deadline").count()).isEqualTo(1);
+    }
+
+    @Test
+    void execute_PermitTimeoutDoesNotSpendQuota() throws Exception {
+        properties.setMaxConcurrency(1);
+        properties.setRequestsPerMinute(2);
+        properties.setMaxWait(Duration.ofMillis(300));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.user(anyString())).thenReturn(requestSpec);
+        when(requestSpec.call()).thenReturn(responseSpec);
+        when(responseSpec.chatResponse())
+                .thenAnswer(invocation -> {
+                    started.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return response("첫 응답");
+                })
+                .thenReturn(response("응답"));
+
+        LlmGateway gateway = new LlmGateway(chatClient, properties, meterRegistry);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> gateway.content("프롬프트"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // permit을 못 얻은 호출은 요청 한도를 쓰지 않음
+        assertThatThrownBy(() -> gateway.content("프롬프트")).isInstanceOf(LlmBusyException.class);
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("첫 응답");
+
+        // 분당 2회 중 남은 1회로 바로 성공
+        assertThat(gateway.content("프롬프트")).isEqualTo("응답");
+    }
+}
@@ -28,6 +28,7 @@ import org.tuna.zoopzoop.backend.domain.datasource.dataprocessor.service.DataPro
 import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceDto;
 import org.tuna.zoopzoop.backend.domain.datasource.dto.reqBodyForCreateDataSource;
 import org.tuna.zoopzoop.backend.domain.datasource.dto.reqBodyForMoveDataSource;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.service.DataSourceEmbeddingService;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.Category;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.DataSource;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.Tag;
@@ -41,10 +42,13 @@ import org.tuna.zoopzoop.backend.domain.member.service.MemberService;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -62,6 +66,7 @@ class DataSourceControllerTest {
     @Autowired PersonalArchiveFolderService folderService;
     @Autowired FolderRepository folderRepository;
     @Autowired DataSourceRepository dataSourceRepository;
+    @Autowired DataSourceEmbeddingService dataSourceEmbeddingService;
 
     @Mock PersonalDataSourceService personalApp;
 
@@ -82,7 +87,7 @@ class DataSourceControllerTest {
     static class StubConfig {
         @Bean @Primary
         DataProcessorService stubDataProcessorService() {
-            return new DataProcessorService(null, null) {
+            return new DataProcessorService(null, null, null) {
                 @Override
                 public DataSourceDto process(String url, List<Tag> tagList) {
                     return new DataSourceDto(
@@ -173,10 +178,10 @@ class DataSourceControllerTest {
         mockMvc.perform(post("/api/v1/archive")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(body)))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.status").value(200))
-                .andExpect(jsonPath("$.msg").value("새로운 자료가 등록됐습니다."))
-                .andExpect(jsonPath("$.data.dataSourceId").isNumber());
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value(202))
+                .andExpect(jsonPath("$.msg").value("자료 등록 요청이 접수됐습니다."))
+                .andExpect(jsonPath("$.data.jobId").isNumber());
     }
 
     @Test
@@ -188,9 +193,29 @@ class DataSourceControllerTest {
         mockMvc.perform(post("/api/v1/archive")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(body)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value(202))
+                .andExpect(jsonPath("$.data.jobId").isNumber());
+    }
+
+    @Test
+    @DisplayName("[개인] 자료 생성 요청 후 작업 상태 조회")
+    @WithUserDetails(value = "KAKAO:testUser_sc1111", setupBefore = TestExecutionEvent.TEST_METHOD)
+    void create_thenGetIngestionJob() throws Exception {
+        var body = new reqBodyForCreateDataSource("https://example.com/c", docsFolderId);
+
+        String response = mockMvc.perform(post("/api/v1/archive")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(body)))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        int jobId = objectMapper.readTree(response).path("data").path("jobId").asInt();
+
+        mockMvc.perform(get("/api/v1/archive/ingestions/{jobId}", jobId))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.status").value(200))
-                .andExpect(jsonPath("$.data.dataSourceId").isNumber());
+                .andExpect(jsonPath("$.data.jobId").value(jobId))
+                .andExpect(jsonPath("$.data.status").value("FETCH"))
+                .andExpect(jsonPath("$.data.sourceUrl").value("https://example.com/c"));
     }
 
     // ===== 삭제 =====
@@ -266,5 +291,35 @@ class DataSourceControllerTest {
                 .andExpect(jsonPath("$.status").value(200))
                 .andExpect(jsonPath("$.data.items").isArray());
     }
-}
 
+    @Test
+    @DisplayName("[개인] 의미 검색: semantic=true → keyword와 가까운 자료 순 (local 임베딩)")
+    @WithUserDetails(value = "KAKAO:testUser_sc1111", setupBefore = TestExecutionEvent.TEST_METHOD)
+    void search_semantic() throws Exception {
+        // 시드는 리포지토리로 직접 저장되어 커밋 후 임베딩이 돌지 않으므로 직접 계산
+        dataSourceEmbeddingService.embed(List.of(dataSourceId1, dataSourceId2));
+
+        mockMvc.perform(get("/api/v1/archive")
+                        .param("keyword", "spec pdf")
+                        .param("semantic", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(200))
+                .andExpect(jsonPath("$.data.items[0].dataSourceId").value(dataSourceId1))
+                .andExpect(jsonPath("$.data.pageInfo.sorted").value("similarity,DESC"));
+    }
+
+    // ===== 검색어 자동완성 =====
+
+    @Test
+    @DisplayName("[개인] 검색어 자동완성: 색인이 백그라운드에서 준비되면 접두사로 제목 후보 조회")
+    @WithUserDetails(value = "KAKAO:testUser_sc1111", setupBefore = TestExecutionEvent.TEST_METHOD)
+    void suggestions() throws Exception {
+        // 첫 요청은 적재만 예약하고 빈 목록일 수 있음
+        await().atMost(5, TimeUnit.SECONDS).pollInSameThread().untilAsserted(() ->
+                mockMvc.perform(get("/api/v1/archive/suggestions").param("q", "spe"))
+                        .andExpect(status().isOk())
+                        .andExpect(header().exists("Cache-Control"))
+                        .andExpect(jsonPath("$.data[0].type").value("TITLE"))
+                        .andExpect(jsonPath("$.data[0].text").value("spec.pdf")));
+    }
+}
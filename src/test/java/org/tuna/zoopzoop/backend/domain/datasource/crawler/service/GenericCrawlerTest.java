@@ -0,0 +1,131 @@
+package org.tuna.zoopzoop.backend.domain.datasource.crawler.service;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tuna.zoopzoop.backend.domain.datasource.crawler.dto.UnspecificSiteDto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GenericCrawlerTest {
+    private static final Logger log = LoggerFactory.getLogger(GenericCrawlerTest.class);
+
+    private final GenericCrawler genericCrawler = new GenericCrawler();
+
+    @Test
+    @DisplayName("본문 블록만 추출 - 메뉴/사이드바/댓글/푸터 제거")
+    void extractMainContent() {
+        Document doc = Jsoup.parse(samplePage(5), "https://example.com/post/1");
+
+        String html = ((UnspecificSiteDto) genericCrawler.extract(doc).data()).rawHtml();
+
+        assertThat(html)
+                .contains("<title>샘플 글</title>")
+                .contains("content=\"https://example.com/img/thumb.png\"")
+                .contains("property=\"article:published_time\"")
+                .contains("본문 문단 0")
+                .contains("https://example.com/images/body.png")
+                .doesNotContain("메뉴 링크", "관련 글", "댓글 내용", "copyright", "<script", "class=");
+    }
+
+    @Test
+    @DisplayName("본문 후보가 없으면 body 전체를 사용")
+    void fallbackToBody() {
+        Document doc = Jsoup.parse("<html><body><span>짧은 글</span></body></html>", "https://example.com");
+
+        String html = ((UnspecificSiteDto) genericCrawler.extract(doc).data()).rawHtml();
+
+        assertThat(html).contains("짧은 글");
+    }
+
+    @Test
+    @DisplayName("벤치마크 - 기존 정규식 경로 대비 payload 크기/추출 시간")
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmarkAgainstRegexPath() {
+        String page = samplePage(400); // 대략 수백 KB 규모의 페이지
+        int iterations = 50;
+
+        long regexNanos = 0, domNanos = 0;
+        int regexSize = 0, domSize = 0;
+        for (int i = 0; i < iterations; i++) {
+            Document d1 = Jsoup.parse(page, "https://example.com/post/1");
+            long t0 = System.nanoTime();
+            regexSize = legacyRegexExtract(d1).length();
+            regexNanos += System.nanoTime() - t0;
+
+            Document d2 = Jsoup.parse(page, "https://example.com/post/1");
+            long t1 = System.nanoTime();
+            domSize = MainContentExtractor.extract(d2).length();
+            domNanos += System.nanoTime() - t1;
+        }
+
+        double ratio = (double) domSize / regexSize;
+        log.info("page={} chars | regex: {} chars, {} ms | dom: {} chars, {} ms | payload ratio={}",
+                page.length(), regexSize, String.format("%.2f", regexNanos / 1e6 / iterations),
+                domSize, String.format("%.2f", domNanos / 1e6 / iterations), String.format("%.2f", ratio));
+        // 메뉴/관련 글/댓글이 본문보다 훨씬 큰 페이지이므로 LLM에 보내는 payload가 절반 이하로 줄어야 함
+        assertThat(ratio).isLessThan(0.5);
+    }
+
+    // 기존 GenericCrawler 정규식 경로 (비교용)
+    private String legacyRegexExtract(Document doc) {
+        doc.select("img[src]").forEach(el -> el.attr("src", el.absUrl("src")));
+        return doc.body().html()
+                .replaceAll("<script[^>]*>.*?</script>", "")
+                .replaceAll("<style[^>]*>.*?</style>", "")
+                .replaceAll("<!--.*?-->", "")
+                .replaceAll("\\s+", " ")
+                .replaceAll("(class|id|style|onclick|onload)=\"[^\"]*\"", "")
+                .trim();
+    }
+
+    private String samplePage(int noiseRepeat) {
+        StringBuilder menu = new StringBuilder();
+        StringBuilder related = new StringBuilder();
+        StringBuilder comments = new StringBuilder();
+        for (int i = 0; i < noiseRepeat; i++) {
+            menu.append("<li class=\"menu-item\"><a href=\"/m/").append(i).append("\">메뉴 링크 ").append(i).append("</a></li>");
+            related.append("<li><a href=\"/r/").append(i).append("\">관련 글 제목이 들어가는 자리입니다 ").append(i).append("</a></li>");
+            comments.append("<div class=\"comment-item\"><p>댓글 내용입니다, 아주 길게 작성된 댓글 ").append(i).append("</p></div>");
+        }
+
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 8; i++) {
+            body.append("<p style=\"margin:0\">본문 문단 ").append(i)
+                    .append(". 이 문단은 기사 본문에 해당하며, 충분히 긴 텍스트와 쉼표, 그리고 여러 문장을 포함하고 있습니다. 추출기가 이 영역을 본문으로 골라야 합니다.</p>");
+        }
+
+        return """
+                <!doctype html>
+                <html lang="ko">
+                <head>
+                  <title>샘플 글</title>
+                  <meta property="og:image" content="/img/thumb.png">
+                  <meta property="article:published_time" content="2025-09-01T10:00:00+09:00">
+                  <style>body { color: red }</style>
+                  <script>var tracking = "%s";</script>
+                </head>
+                <body>
+                  <div id="wrap">
+                    <div class="gnb"><ul>%s</ul></div>
+                    <div class="container">
+                      <div class="post-content">
+                        <h1>샘플 글</h1>
+                        %s
+                        <img src="/images/body.png" onload="track()">
+                      </div>
+                      <div class="comment-area">%s</div>
+                    </div>
+                    <div class="sidebar"><ul>%s</ul></div>
+                    <footer>copyright</footer>
+                  </div>
+                  <script>console.log("analytics");</script>
+                </body>
+                </html>
+                """.formatted("x".repeat(noiseRepeat * 10), menu, body, comments, related);
+    }
+}
@@ -0,0 +1,78 @@
+package org.tuna.zoopzoop.backend.domain.datasource.dataprocessor.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.tuna.zoopzoop.backend.global.clients.web.FetchedPage;
+import org.tuna.zoopzoop.backend.global.clients.web.WebFetchClient;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UrlProbeServiceTest {
+    @Mock
+    private WebFetchClient webFetchClient;
+
+    private UrlProbeService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new UrlProbeService(webFetchClient);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    private static FetchedPage page(String url) {
+        return new FetchedPage(url, url, 200, "UTF-8", "<html><title>t</title></html>".getBytes(StandardCharsets.UTF_8), false);
+    }
+
+    @Test
+    @DisplayName("http가 먼저 성공해도 https가 되면 https를 쓰고 host 경로도 https로 기억")
+    void probe_PrefersHttpsEvenWhenHttpAnswersFirst() throws Exception {
+        when(webFetchClient.get(eq("https://example.com/a"), any(Duration.class))).thenAnswer(inv -> {
+            Thread.sleep(200);
+            return page("https://example.com/a");
+        });
+        when(webFetchClient.get(eq("http://example.com/a"), any(Duration.class))).thenReturn(page("http://example.com/a"));
+        when(webFetchClient.get(eq("https://example.com/b"), any(Duration.class))).thenReturn(page("https://example.com/b"));
+
+        Map<String, Object> first = service.probe("example.com/a");
+        Map<String, Object> second = service.probe("example.com/b");
+
+        assertThat(first.get("url")).isEqualTo("https://example.com/a");
+        assertThat(second.get("url")).isEqualTo("https://example.com/b");
+        verify(webFetchClient, never()).get(eq("http://example.com/b"), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("https가 실패할 때만 http로 접속하고 http 경로를 기억")
+    void probe_FallsBackToHttpOnlyWhenHttpsFails() throws Exception {
+        when(webFetchClient.get(eq("https://plain.test/a"), any(Duration.class))).thenThrow(new IOException("refused"));
+        when(webFetchClient.get(eq("http://plain.test/a"), any(Duration.class))).thenReturn(page("http://plain.test/a"));
+        when(webFetchClient.get(eq("http://plain.test/b"), any(Duration.class))).thenReturn(page("http://plain.test/b"));
+
+        assertThat(service.probe("https://plain.test/a").get("url")).isEqualTo("http://plain.test/a");
+        assertThat(service.probe("plain.test/b").get("url")).isEqualTo("http://plain.test/b");
+
+        verify(webFetchClient, times(1)).get(eq("https://plain.test/a"), any(Duration.class));
+        verify(webFetchClient, never()).get(eq("https://plain.test/b"), any(Duration.class));
+    }
+}
@@ -0,0 +1,130 @@
+package org.tuna.zoopzoop.backend.domain.datasource.embedding.index;
+
+import org.junit.jupiter.api.Test;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.EmbeddingProperties;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.model.LocalHashingTextEmbedder;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.model.TextEmbedder;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HnswIndexTest {
+    private static final int DIMENSIONS = 64;
+
+    private static float[] clustered(Random random, float[] center) {
+        float[] v = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) v[i] = center[i] * 4 + (float) random.nextGaussian() * 0.5f;
+        return TextEmbedder.normalize(v);
+    }
+
+    private static float[] randomUnit(Random random) {
+        float[] v = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) v[i] = (float) random.nextGaussian();
+        return TextEmbedder.normalize(v);
+    }
+
+    @Test
+    void search_RecallAgainstExactScan() {
+        Random random = new Random(7);
+        float[][] centers = new float[20][];
+        for (int c = 0; c < centers.length; c++) centers[c] = randomUnit(random);
+
+        HnswIndex index = new HnswIndex(DIMENSIONS, 16, 100, 7);
+        ArchiveVectors exact = new ArchiveVectors(DIMENSIONS, null, null);
+        for (int i = 0; i < 2_000; i++) {
+            float[] v = clustered(random, centers[random.nextInt(centers.length)]);
+            index.upsert(i, v);
+            exact.upsert(i, v);
+        }
+
+        double recall = 0;
+        int queries = 50;
+        for (int q = 0; q < queries; q++) {
+            float[] query = clustered(random, centers[random.nextInt(centers.length)]);
+            Set<Integer> truth = new HashSet<>();
+            exact.search(query, 10, 0).forEach(h -> truth.add(h.key()));
+
+            List<HnswIndex.Hit> hits = index.search(query, 10, 64);
+            assertThat(hits).hasSize(10);
+            assertThat(hits).isSortedAccordingTo((a, b) -> Float.compare(b.score(), a.score()));
+            recall += hits.stream().filter(h -> truth.contains(h.key())).count() / 10.0;
+        }
+        assertThat(recall / queries).isGreaterThan(0.9);
+    }
+
+    @Test
+    void upsert_ReplacesVectorOfSameKey() {
+        Random random = new Random(1);
+        HnswIndex index = new HnswIndex(DIMENSIONS, 8, 50, 1);
+        for (int i = 0; i < 200; i++) index.upsert(i, randomUnit(random));
+
+        float[] target = randomUnit(random);
+        index.upsert(5, target);
+
+        List<HnswIndex.Hit> hits = index.search(target, 1, 50);
+        assertThat(hits.getFirst().key()).isEqualTo(5);
+        assertThat(hits.getFirst().score()).isCloseTo(1f, within(1e-4f));
+        assertThat(index.size()).isEqualTo(200);
+    }
+
+    @Test
+    void remove_ExcludesKeyFromResults() {
+        Random random = new Random(2);
+        HnswIndex index = new HnswIndex(DIMENSIONS, 8, 50, 2);
+        float[] removed = randomUnit(random);
+        index.upsert(0, removed);
+        for (int i = 1; i < 100; i++) index.upsert(i, randomUnit(random));
+
+        index.remove(0);
+
+        assertThat(index.search(removed, 10, 50)).extracting(HnswIndex.Hit::key).doesNotContain(0);
+        assertThat(index.size()).isEqualTo(99);
+    }
+
+    @Test
+    void search_DimensionMismatch_Throws() {
+        HnswIndex index = new HnswIndex(DIMENSIONS, 8, 50, 3);
+
+        assertThatThrownBy(() -> index.search(new float[DIMENSIONS + 1], 1, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void archiveVectors_BuildKeepsChangesAndAnswersSameAsExact() {
+        Random random = new Random(4);
+        ArchiveVectors vectors = new ArchiveVectors(DIMENSIONS, null, null);
+        for (int i = 0; i < 300; i++) vectors.upsert(i, randomUnit(random));
+        float[] query = randomUnit(random);
+        List<Integer> before = vectors.search(query, 5, 0).stream().map(HnswIndex.Hit::key).toList();
+
+        assertThat(vectors.startBuildIfNeeded(100)).isTrue();
+        assertThat(vectors.startBuildIfNeeded(100)).isFalse(); // 이미 빌드 중
+        vectors.build(() -> new HnswIndex(DIMENSIONS, 16, 200, 4));
+
+        assertThat(vectors.isIndexed()).isTrue();
+        assertThat(vectors.search(query, 5, 300).stream().map(HnswIndex.Hit::key).toList()).isEqualTo(before);
+
+        vectors.remove(before.getFirst());
+        assertThat(vectors.search(query, 5, 300)).extracting(HnswIndex.Hit::key).doesNotContain(before.getFirst());
+    }
+
+    @Test
+    void localEmbedder_SimilarTextsAreCloser() {
+        EmbeddingProperties properties = new EmbeddingProperties();
+        properties.setDimensions(DIMENSIONS);
+        LocalHashingTextEmbedder embedder = new LocalHashingTextEmbedder(properties);
+
+        float[] a = embedder.embed("스프링 부트 캐시 설정");
+        float[] b = embedder.embed("스프링 부트 캐시 설정 방법");
+        float[] c = embedder.embed("제주도 여행 맛집 추천");
+
+        assertThat(HnswIndex.dot(a, b)).isGreaterThan(HnswIndex.dot(a, c));
+        assertThat(embedder.embed("스프링 부트 캐시 설정")).isEqualTo(a); // 결정적
+    }
+}
@@ -0,0 +1,125 @@
+package org.tuna.zoopzoop.backend.domain.datasource.embedding.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.tuna.zoopzoop.backend.domain.archive.archive.service.ArchiveVersionService;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.EmbeddingProperties;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.entity.DataSourceEmbedding;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.index.HnswIndex;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.model.LocalHashingTextEmbedder;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.repository.DataSourceEmbeddingRepository;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.repository.EmbeddingVectorRow;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArchiveVectorIndexServiceTest {
+    private static final int ARCHIVE_ID = 7;
+
+    @Mock private DataSourceEmbeddingRepository embeddingRepository;
+    @Mock private ArchiveVersionService archiveVersionService;
+
+    private EmbeddingProperties properties;
+    private LocalHashingTextEmbedder embedder;
+    private ArchiveVectorIndexService service;
+
+    // 따라잡기/빌드 작업을 모아 두었다가 테스트에서 직접 실행
+    private final List<Runnable> submitted = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        properties = new EmbeddingProperties();
+        properties.setDimensions(32);
+        embedder = new LocalHashingTextEmbedder(properties);
+        service = new ArchiveVectorIndexService(embeddingRepository, archiveVersionService, embedder, properties,
+                new SimpleMeterRegistry(), submitted::add);
+    }
+
+    private void runSubmitted() {
+        List<Runnable> tasks = List.copyOf(submitted);
+        submitted.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    private EmbeddingVectorRow row(int id, int dataSourceId, String text) {
+        return new EmbeddingVectorRow(id, dataSourceId, DataSourceEmbedding.encode(embedder.embed(text)));
+    }
+
+    // 첫 검색: 자료 1, 2를 DB에서 올림
+    private List<Integer> searchAfterLoad(Long version) {
+        when(archiveVersionService.current(ARCHIVE_ID)).thenReturn(version);
+        when(embeddingRepository.findVectorsAfter(eq(ARCHIVE_ID), anyString(), anyInt(), any()))
+                .thenReturn(List.of(row(1, 1, "금리 인상"), row(2, 2, "환율 하락")), List.of());
+        return search();
+    }
+
+    private List<Integer> search() {
+        return service.search(ARCHIVE_ID, embedder.embed("금리"), 10).stream().map(HnswIndex.Hit::key).toList();
+    }
+
+    @Test
+    @DisplayName("버전이 그대로고 동기화 주기 전이면 DB를 다시 읽지 않음")
+    void search_skipsCatchUpWithinInterval() {
+        assertThat(searchAfterLoad(1L)).containsExactlyInAnyOrder(1, 2);
+        assertThat(search()).containsExactlyInAnyOrder(1, 2);
+
+        verify(embeddingRepository, never()).findVectorsChangedSince(any(), any(), any());
+        verify(embeddingRepository, never()).findDataSourceIds(any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 버전을 올리면 요청은 현재 벡터로 답하고, 풀에서 바뀐 벡터 반영 + DB에 없는 자료(삭제/이동) 제거")
+    void search_catchesUpOnVersionChange() {
+        searchAfterLoad(1L);
+
+        when(archiveVersionService.current(ARCHIVE_ID)).thenReturn(2L);
+        when(embeddingRepository.findVectorsChangedSince(eq(ARCHIVE_ID), anyString(), any()))
+                .thenReturn(List.of(row(3, 3, "금리 동결")));
+        when(embeddingRepository.findDataSourceIds(eq(ARCHIVE_ID), anyString())).thenReturn(List.of(2, 3));
+
+        // 요청 스레드에서는 DB를 읽지 않고, 따라잡기는 아카이브당 하나만 예약
+        assertThat(search()).containsExactlyInAnyOrder(1, 2);
+        assertThat(search()).containsExactlyInAnyOrder(1, 2);
+        verify(embeddingRepository, never()).findDataSourceIds(any(), any());
+        assertThat(submitted).hasSize(1);
+
+        runSubmitted();
+
+        assertThat(search()).containsExactlyInAnyOrder(2, 3);
+        assertThat(submitted).isEmpty();
+        verify(embeddingRepository, times(1)).findDataSourceIds(eq(ARCHIVE_ID), anyString());
+    }
+
+    @Test
+    @DisplayName("버전이 그대로여도 동기화 주기가 지나면 늦게 저장된 벡터와 삭제를 따라잡음")
+    void search_catchesUpAfterInterval() {
+        searchAfterLoad(1L);
+        properties.getIndex().setSyncInterval(Duration.ZERO);
+
+        when(embeddingRepository.findVectorsChangedSince(eq(ARCHIVE_ID), anyString(), any()))
+                .thenReturn(List.of(row(3, 3, "금리 동결")));
+        when(embeddingRepository.findDataSourceIds(eq(ARCHIVE_ID), anyString())).thenReturn(List.of(1, 3));
+
+        search();
+        runSubmitted();
+
+        assertThat(search()).containsExactlyInAnyOrder(1, 3);
+    }
+}
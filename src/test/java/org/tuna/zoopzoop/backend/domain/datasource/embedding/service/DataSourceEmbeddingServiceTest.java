@@ -0,0 +1,146 @@
+package org.tuna.zoopzoop.backend.domain.datasource.embedding.service;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceChangedEvent;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.EmbeddingProperties;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.entity.DataSourceEmbedding;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.model.LocalHashingTextEmbedder;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.repository.DataSourceEmbeddingRepository;
+import org.tuna.zoopzoop.backend.domain.datasource.entity.DataSource;
+import org.tuna.zoopzoop.backend.domain.datasource.repository.DataSourceRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DataSourceEmbeddingServiceTest {
+    @Mock private DataSourceRepository dataSourceRepository;
+    @Mock private DataSourceEmbeddingRepository embeddingRepository;
+    @Mock private ArchiveVectorIndexService vectorIndexService;
+
+    private final List<Runnable> submitted = new ArrayList<>();
+    private LocalHashingTextEmbedder model;
+    private LocalHashingTextEmbedder embedder;
+    private DataSourceEmbeddingService service;
+
+    @BeforeEach
+    void setUp() {
+        EmbeddingProperties properties = new EmbeddingProperties();
+        properties.setDimensions(32);
+        model = new LocalHashingTextEmbedder(properties);
+        embedder = spy(model);
+        service = new DataSourceEmbeddingService(dataSourceRepository, embeddingRepository, vectorIndexService,
+                embedder, properties, TransactionOperations.withoutTransaction(), submitted::add);
+    }
+
+    private static DataSource dataSource(int id, int archiveId, String title, String summary) {
+        DataSource ds = new DataSource();
+        ReflectionTestUtils.setField(ds, "id", id);
+        ReflectionTestUtils.setField(ds, "archiveId", archiveId);
+        ds.setTitle(title);
+        ds.setSummary(summary);
+        return ds;
+    }
+
+    // 이미 저장된 임베딩 (spy 호출 기록에 남지 않도록 원본 모델로 계산)
+    private DataSourceEmbedding stored(DataSource ds, int archiveId) {
+        String text = ds.getTitle() + "\n" + ds.getSummary();
+        String hash = DigestUtils.sha256Hex(model.model() + "\n" + text);
+        return new DataSourceEmbedding(ds.getId(), archiveId, model.model(), hash, model.embed(text));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<DataSourceEmbedding> saved() {
+        ArgumentCaptor<List<DataSourceEmbedding>> captor = ArgumentCaptor.forClass(List.class);
+        verify(embeddingRepository).saveAll(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("커밋 후 이벤트 - 요청 스레드에서는 임베딩 풀에 넘기기만 함")
+    void onChanged_runsOnEmbeddingExecutor() {
+        DataSource ds = dataSource(1, 10, "금리 인상", "요약");
+        when(dataSourceRepository.findAllById(List.of(1))).thenReturn(List.of(ds));
+
+        service.onChanged(new DataSourceChangedEvent(Set.of(1), Set.of(10)));
+
+        verifyNoInteractions(dataSourceRepository, embeddingRepository, vectorIndexService);
+        assertThat(submitted).hasSize(1);
+
+        submitted.getFirst().run();
+
+        assertThat(saved()).singleElement()
+                .extracting(DataSourceEmbedding::getDataSourceId, DataSourceEmbedding::getArchiveId)
+                .containsExactly(1, 10);
+        verify(vectorIndexService).upsert(eq(10), eq(1), any(float[].class));
+    }
+
+    @Test
+    @DisplayName("제목/요약이 그대로면 임베딩 API를 다시 부르지 않음")
+    void embed_skipsUnchangedText() {
+        DataSource ds = dataSource(1, 10, "금리 인상", "요약");
+        DataSourceEmbedding current = stored(ds, 10);
+        when(dataSourceRepository.findAllById(List.of(1))).thenReturn(List.of(ds));
+        when(embeddingRepository.findAllByDataSourceIdIn(List.of(1))).thenReturn(List.of(current));
+
+        int embedded = service.embed(List.of(1));
+
+        assertThat(embedded).isZero();
+        verify(embedder, never()).embed(anyList());
+        assertThat(saved()).isEmpty();
+        verifyNoInteractions(vectorIndexService);
+    }
+
+    @Test
+    @DisplayName("문장은 그대로 다른 아카이브로 이동 - 벡터를 다시 계산하지 않고 아카이브만 옮김")
+    void embed_movesVectorToNewArchive() {
+        DataSource ds = dataSource(1, 20, "금리 인상", "요약");
+        DataSourceEmbedding current = stored(ds, 10);
+        when(dataSourceRepository.findAllById(List.of(1))).thenReturn(List.of(ds));
+        when(embeddingRepository.findAllByDataSourceIdIn(List.of(1))).thenReturn(List.of(current));
+
+        int embedded = service.embed(List.of(1));
+
+        assertThat(embedded).isZero();
+        verify(embedder, never()).embed(anyList());
+        assertThat(current.getArchiveId()).isEqualTo(20);
+        assertThat(saved()).containsExactly(current);
+        verify(vectorIndexService).remove(10, 1);
+        verify(vectorIndexService).upsert(eq(20), eq(1), any(float[].class));
+    }
+
+    @Test
+    @DisplayName("물리 삭제된 자료 - 인덱스와 임베딩 행을 함께 지움")
+    void embed_removesDeletedDataSource() {
+        DataSource gone = dataSource(1, 10, "금리 인상", "요약");
+        when(dataSourceRepository.findAllById(List.of(1))).thenReturn(List.of());
+        when(embeddingRepository.findAllByDataSourceIdIn(List.of(1))).thenReturn(List.of(stored(gone, 10)));
+
+        service.embed(List.of(1));
+
+        verify(vectorIndexService).remove(10, 1);
+        verify(embeddingRepository).deleteAllByDataSourceIdIn(Set.of(1));
+        verify(vectorIndexService, never()).upsert(any(), anyInt(), any());
+    }
+}
@@ -0,0 +1,87 @@
+package org.tuna.zoopzoop.backend.domain.datasource.embedding.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceSearchCondition;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceSearchItem;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.EmbeddingProperties;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.index.HnswIndex;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.model.TextEmbedder;
+import org.tuna.zoopzoop.backend.domain.datasource.repository.DataSourceQRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SemanticSearchServiceTest {
+    private static final int ARCHIVE_ID = 7;
+
+    @Mock private TextEmbedder embedder;
+    @Mock private ArchiveVectorIndexService vectorIndexService;
+    @Mock private DataSourceQRepository dataSourceQRepository;
+
+    private EmbeddingProperties properties;
+    private SemanticSearchService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EmbeddingProperties();
+        service = new SemanticSearchService(embedder, vectorIndexService, dataSourceQRepository, properties);
+    }
+
+    private static DataSourceSearchCondition cond() {
+        return DataSourceSearchCondition.builder().keyword("금리").isActive(true).build();
+    }
+
+    private static DataSourceSearchItem item(int id) {
+        return new DataSourceSearchItem(id, "자료" + id, null, null, null, null, null, List.of(), null);
+    }
+
+    @Test
+    @DisplayName("의미 검색이 꺼져 있으면 null → 키워드 검색으로 대체")
+    void search_returnsNullWhenDisabled() {
+        properties.setEnabled(false);
+
+        assertThat(service.search(ARCHIVE_ID, cond(), PageRequest.of(0, 10))).isNull();
+        verifyNoInteractions(embedder, vectorIndexService, dataSourceQRepository);
+    }
+
+    @Test
+    @DisplayName("질의 임베딩 실패(모델 장애) 시 null → 키워드 검색으로 대체")
+    void search_returnsNullWhenEmbedderFails() {
+        when(embedder.embed(anyString())).thenThrow(new IllegalStateException("429"));
+
+        assertThat(service.search(ARCHIVE_ID, cond(), PageRequest.of(0, 10))).isNull();
+        verifyNoInteractions(vectorIndexService, dataSourceQRepository);
+    }
+
+    @Test
+    @DisplayName("인덱스 유사도 순서대로 MySQL에서 거른 결과를 keyword 조건 없이 반환")
+    void search_returnsRankedItems() {
+        float[] query = {1f, 0f};
+        when(embedder.embed("금리")).thenReturn(query);
+        when(vectorIndexService.search(ARCHIVE_ID, query, 2 * properties.getOverfetch()))
+                .thenReturn(List.of(new HnswIndex.Hit(3, 0.9f), new HnswIndex.Hit(1, 0.8f), new HnswIndex.Hit(2, 0.1f)));
+        ArgumentCaptor<DataSourceSearchCondition> filtered = ArgumentCaptor.forClass(DataSourceSearchCondition.class);
+        when(dataSourceQRepository.findRankedInArchive(eq(ARCHIVE_ID), filtered.capture(), eq(List.of(3, 1, 2))))
+                .thenReturn(List.of(item(3), item(1), item(2)));
+
+        Page<DataSourceSearchItem> page = service.search(ARCHIVE_ID, cond(), PageRequest.of(0, 2));
+
+        assertThat(page.getContent()).extracting(DataSourceSearchItem::getDataSourceId).containsExactly(3, 1);
+        assertThat(filtered.getValue().getKeyword()).isNull();
+        assertThat(filtered.getValue().getIsActive()).isTrue();
+    }
+}
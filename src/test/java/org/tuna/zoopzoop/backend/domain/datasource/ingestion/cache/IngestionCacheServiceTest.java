@@ -0,0 +1,99 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ingestion.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.dto.AnalyzeContentDto;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.ArticleData;
+import org.tuna.zoopzoop.backend.domain.datasource.entity.Category;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IngestionCacheServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private IngestionCacheService ingestionCacheService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        IngestionCacheProperties properties = new IngestionCacheProperties();
+        properties.setRedisEnabled(false); // 로컬 near-cache만 사용
+        ingestionCacheService = new IngestionCacheService(null, new ObjectMapper(), meterRegistry, properties);
+    }
+
+    @Test
+    @DisplayName("URL 정규화 - 프로토콜/추적 파라미터/마지막 슬래시 무시")
+    void normalizeUrl() {
+        String a = UrlNormalizer.normalize("https://Example.com/post/1/?utm_source=x&b=2&a=1#top");
+        String b = UrlNormalizer.normalize("http://example.com:80/post/1?a=1&b=2&fbclid=abc");
+
+        assertThat(a).isEqualTo("example.com/post/1?a=1&b=2");
+        assertThat(b).isEqualTo(a);
+        assertThat(UrlNormalizer.host("example.com/post")).isEqualTo("example.com");
+    }
+
+    @Test
+    @DisplayName("URL 정규화 - ref는 내용을 고르는 파라미터일 수 있어 유지")
+    void normalizeUrlKeepsRef() {
+        String main = UrlNormalizer.normalize("https://github.com/org/repo/blob/x?ref=main");
+        String dev = UrlNormalizer.normalize("https://github.com/org/repo/blob/x?ref=dev");
+
+        assertThat(main).isEqualTo("github.com/org/repo/blob/x?ref=main");
+        assertThat(main).isNotEqualTo(dev);
+    }
+
+    @Test
+    @DisplayName("article 캐시 - 같은 정규화 URL이면 hit")
+    void articleHit() {
+        ArticleData article = new ArticleData("제목", "본문", LocalDate.of(2025, 9, 1), "img", "출처");
+        ingestionCacheService.putArticle("https://example.com/a?utm_medium=mail", article);
+
+        Optional<ArticleData> found = ingestionCacheService.getArticle("http://example.com/a/");
+
+        assertThat(found).contains(article);
+        assertThat(meterRegistry.get("ingestion.cache.requests")
+                .tag("cache", "article").tag("result", "local_hit").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("analysis 캐시 - 본문이 바뀌면 miss")
+    void analysisMissWhenContentChanges() {
+        AnalyzeContentDto analyzed = new AnalyzeContentDto("요약", Category.IT, List.of("spring"));
+        ingestionCacheService.putAnalysis("https://example.com/a", "본문1", analyzed, List.of());
+
+        assertThat(ingestionCacheService.getAnalysis("https://example.com/a", "본문2", List.of())).isEmpty();
+        assertThat(meterRegistry.get("ingestion.cache.requests")
+                .tag("cache", "analysis").tag("result", "miss").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("analysis 캐시 - 개인 태그는 저장하지 않고, 조회 시 요청자 태그를 앞에 병합")
+    void analysisTagsArePerUser() {
+        AnalyzeContentDto analyzed = new AnalyzeContentDto("요약", Category.IT, List.of("내태그", "spring", "jpa"));
+        ingestionCacheService.putAnalysis("https://example.com/a", "본문", analyzed, List.of("내태그"));
+
+        AnalyzeContentDto other = ingestionCacheService
+                .getAnalysis("https://example.com/a", "본문", List.of("다른사람", "jpa"))
+                .orElseThrow();
+
+        assertThat(other.summary()).isEqualTo("요약");
+        assertThat(other.tags()).containsExactly("다른사람", "jpa", "spring");
+    }
+
+    @Test
+    @DisplayName("비어 있는 결과(AI 실패)는 캐시하지 않음")
+    void emptyResultNotCached() {
+        ingestionCacheService.putArticle("https://example.com/a", new ArticleData("", null, null, null, null));
+        ingestionCacheService.putAnalysis("https://example.com/a", "본문", new AnalyzeContentDto("", null, List.of()), List.of());
+
+        assertThat(ingestionCacheService.getArticle("https://example.com/a")).isEmpty();
+        assertThat(ingestionCacheService.getAnalysis("https://example.com/a", "본문", List.of())).isEmpty();
+    }
+}
@@ -0,0 +1,109 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ingestion.service;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.tuna.zoopzoop.backend.domain.archive.folder.service.PersonalArchiveFolderService;
+import org.tuna.zoopzoop.backend.domain.datasource.entity.Category;
+import org.tuna.zoopzoop.backend.domain.datasource.entity.DataSource;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.dto.IngestionMessage;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.entity.IngestionJob;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.enums.IngestionStatus;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.repository.IngestionJobRepository;
+import org.tuna.zoopzoop.backend.domain.datasource.repository.DataSourceRepository;
+import org.tuna.zoopzoop.backend.domain.datasource.service.DataSourceService;
+import org.tuna.zoopzoop.backend.domain.member.enums.Provider;
+import org.tuna.zoopzoop.backend.domain.member.service.MemberService;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PERSIST 단계 중복 실행 방지 (@Version)
+ * persist는 트랜잭션을 커밋해야 검증되므로 테스트 트랜잭션(롤백) 없이 실행한다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class IngestionPersistTest {
+    @Autowired private IngestionPipelineService ingestionPipelineService;
+    @Autowired private IngestionJobRepository ingestionJobRepository;
+    @Autowired private DataSourceService dataSourceService;
+    @Autowired private DataSourceRepository dataSourceRepository;
+    @Autowired private MemberService memberService;
+    @Autowired private PersonalArchiveFolderService folderService;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    private int memberId;
+    private int folderId;
+
+    @BeforeAll
+    void setUp() {
+        memberId = memberService.createMember("ingestionPersistUser", "http://img", "ingestion_persist_1111", Provider.KAKAO).getId();
+        folderId = folderService.createFolder(memberId, "ingestion").folderId();
+    }
+
+    private IngestionJob persistStageJob(String url) {
+        IngestionJob job = new IngestionJob(memberId, folderId, url);
+        job.setTitle("제목");
+        job.setSummary("요약");
+        job.setCategory(Category.IT);
+        job.getResultTags().add("spring");
+        job.advanceTo(IngestionStatus.PERSIST);
+        return ingestionJobRepository.save(job);
+    }
+
+    private List<DataSource> created(String url) {
+        return dataSourceRepository.findAllByFolderId(folderId).stream()
+                .filter(ds -> url.equals(ds.getSourceUrl()))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("같은 PERSIST 메시지가 두 번 전달되면 자료는 한 번만 생성")
+    void persist_RedeliveredMessageIsSkipped() {
+        String url = "https://example.com/persist-twice";
+        IngestionJob job = persistStageJob(url);
+        IngestionMessage message = new IngestionMessage(job.getId(), IngestionStatus.PERSIST);
+
+        ingestionPipelineService.run(message);
+        ingestionPipelineService.run(message);
+
+        IngestionJob completed = ingestionJobRepository.findById(job.getId()).orElseThrow();
+        assertThat(completed.getStatus()).isEqualTo(IngestionStatus.COMPLETED);
+        assertThat(created(url)).hasSize(1)
+                .first().extracting(DataSource::getId).isEqualTo(completed.getDataSourceId());
+    }
+
+    @Test
+    @DisplayName("두 컨슈머가 같은 버전을 읽고 PERSIST를 실행하면 늦게 커밋하는 쪽은 버전 충돌로 롤백")
+    void persist_ConcurrentDeliveryRollsBackLoser() {
+        String url = "https://example.com/persist-concurrent";
+        IngestionJob job = persistStageJob(url);
+        // 두 번째 컨슈머가 첫 번째 커밋 전에 읽어 둔 작업
+        IngestionJob stale = ingestionJobRepository.findById(job.getId()).orElseThrow();
+
+        ingestionPipelineService.run(new IngestionMessage(job.getId(), IngestionStatus.PERSIST));
+
+        // IngestionPipelineService.persist와 같은 트랜잭션 구성으로 늦은 쪽을 재현
+        assertThatThrownBy(() -> transactionTemplate.execute(status -> {
+            int dataSourceId = dataSourceService.create(stale.getFolderId(), DataSourceService.CreateCmd.builder()
+                    .title(stale.getTitle())
+                    .sourceUrl(stale.getSourceUrl())
+                    .category(stale.getCategory())
+                    .build());
+            stale.complete(dataSourceId);
+            return ingestionJobRepository.save(stale);
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        assertThat(created(url)).hasSize(1);
+    }
+}
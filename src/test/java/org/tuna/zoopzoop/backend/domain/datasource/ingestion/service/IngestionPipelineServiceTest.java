@@ -0,0 +1,154 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ingestion.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.NoResultException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.tuna.zoopzoop.backend.domain.SSE.service.EmitterService;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.gateway.LlmBusyException;
+import org.tuna.zoopzoop.backend.domain.datasource.dataprocessor.service.DataProcessorService;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.cache.IngestionCacheService;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.dto.IngestionMessage;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.entity.IngestionJob;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.enums.IngestionStatus;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.repository.IngestionJobRepository;
+import org.tuna.zoopzoop.backend.domain.datasource.service.DataSourceService;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IngestionPipelineServiceTest {
+    @Mock private IngestionJobRepository ingestionJobRepository;
+    @Mock private IngestionService ingestionService;
+    @Mock private DataProcessorService dataProcessorService;
+    @Mock private DataSourceService dataSourceService;
+    @Mock private IngestionCacheService ingestionCacheService;
+    @Mock private EmitterService emitterService;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    private IngestionPipelineService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new IngestionPipelineService(ingestionJobRepository, ingestionService, dataProcessorService,
+                dataSourceService, ingestionCacheService, emitterService, transactionTemplate, new SimpleMeterRegistry());
+    }
+
+    private IngestionJob job(IngestionStatus status, int attempts) {
+        IngestionJob job = new IngestionJob(1, 10, "https://example.com/a");
+        ReflectionTestUtils.setField(job, "id", 7);
+        job.setStatus(status);
+        job.setAttempts(attempts);
+        when(ingestionJobRepository.findById(7)).thenReturn(Optional.of(job));
+        return job;
+    }
+
+    private void fetchFails() {
+        when(ingestionCacheService.getArticle(anyString())).thenReturn(Optional.empty());
+        when(dataProcessorService.checkUrl(anyString())).thenThrow(new IllegalStateException("timeout"));
+    }
+
+    @Test
+    @DisplayName("단계 실패 - 시도 횟수를 올리고 같은 단계 메시지를 재발행")
+    void retryOrFail_RepublishesSameStage() {
+        IngestionJob job = job(IngestionStatus.FETCH, 0);
+        fetchFails();
+        when(ingestionJobRepository.save(any(IngestionJob.class))).then(returnsFirstArg());
+
+        service.run(new IngestionMessage(7, IngestionStatus.FETCH));
+
+        assertThat(job.getAttempts()).isEqualTo(1);
+        assertThat(job.getStatus()).isEqualTo(IngestionStatus.FETCH);
+        verify(ingestionService).publish(new IngestionMessage(7, IngestionStatus.FETCH));
+        verifyNoInteractions(emitterService);
+    }
+
+    @Test
+    @DisplayName("단계 실패 - 마지막 시도면 FAILED로 전환하고 실패 알림, 재발행 없음")
+    void retryOrFail_FailsOnLastAttempt() {
+        IngestionJob job = job(IngestionStatus.FETCH, IngestionService.MAX_ATTEMPTS - 1);
+        fetchFails();
+        when(ingestionJobRepository.save(any(IngestionJob.class))).then(returnsFirstArg());
+
+        service.run(new IngestionMessage(7, IngestionStatus.FETCH));
+
+        assertThat(job.getAttempts()).isEqualTo(IngestionService.MAX_ATTEMPTS);
+        assertThat(job.getStatus()).isEqualTo(IngestionStatus.FAILED);
+        assertThat(job.getErrorMessage()).isEqualTo("timeout");
+        verify(ingestionService, never()).publish(any());
+        verify(emitterService).sendNotification(eq(1L), eq("ingestion-failed"), any());
+    }
+
+    @Test
+    @DisplayName("LLM 한도 초과 - 시도 횟수에 포함하지 않고 지연 큐로 재발행")
+    void run_RequeuesWithDelayWhenLlmBusy() {
+        IngestionJob job = job(IngestionStatus.ANALYZE, 1);
+        when(ingestionCacheService.getAnalysis(anyString(), any(), any())).thenReturn(Optional.empty());
+        when(dataProcessorService.analyze(any(), any())).thenThrow(new LlmBusyException("busy"));
+
+        service.run(new IngestionMessage(7, IngestionStatus.ANALYZE));
+
+        assertThat(job.getAttempts()).isEqualTo(1);
+        assertThat(job.getStatus()).isEqualTo(IngestionStatus.ANALYZE);
+        verify(ingestionService).publishDelayed(new IngestionMessage(7, IngestionStatus.ANALYZE));
+        verify(ingestionService, never()).publish(any());
+        verify(ingestionJobRepository, never()).save(any());
+        verifyNoInteractions(emitterService);
+    }
+
+    @Test
+    @DisplayName("재시도해도 같은 실패(폴더 삭제 등) - 시도 횟수와 관계없이 바로 FAILED")
+    void fail_ImmediatelyOnPermanentError() {
+        IngestionJob job = job(IngestionStatus.PERSIST, 0);
+        when(transactionTemplate.execute(any())).thenThrow(new NoResultException("존재하지 않는 폴더입니다."));
+        when(ingestionJobRepository.save(any(IngestionJob.class))).then(returnsFirstArg());
+
+        service.run(new IngestionMessage(7, IngestionStatus.PERSIST));
+
+        assertThat(job.getAttempts()).isZero();
+        assertThat(job.getStatus()).isEqualTo(IngestionStatus.FAILED);
+        assertThat(job.getErrorMessage()).isEqualTo("존재하지 않는 폴더입니다.");
+        verify(ingestionService, never()).publish(any());
+        verify(emitterService).sendNotification(eq(1L), eq("ingestion-failed"), any());
+    }
+
+    @Test
+    @DisplayName("실패 저장이 버전 충돌이면(다른 컨슈머가 이미 진행) 알림 없이 무시")
+    void fail_IgnoresVersionConflict() {
+        job(IngestionStatus.PERSIST, 0);
+        when(transactionTemplate.execute(any())).thenThrow(new NoResultException("존재하지 않는 폴더입니다."));
+        when(ingestionJobRepository.save(any(IngestionJob.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(IngestionJob.class, 7));
+
+        service.run(new IngestionMessage(7, IngestionStatus.PERSIST));
+
+        verifyNoInteractions(emitterService);
+    }
+
+    @Test
+    @DisplayName("이미 다음 단계로 넘어간 작업의 중복/지연 메시지는 무시")
+    void run_SkipsMessageForOtherStage() {
+        job(IngestionStatus.COMPLETED, 0);
+
+        service.run(new IngestionMessage(7, IngestionStatus.PERSIST));
+
+        verifyNoInteractions(transactionTemplate, dataSourceService, ingestionService, emitterService);
+    }
+}
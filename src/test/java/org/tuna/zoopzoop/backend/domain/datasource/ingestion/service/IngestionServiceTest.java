@@ -0,0 +1,97 @@
+package org.tuna.zoopzoop.backend.domain.datasource.ingestion.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.dto.IngestionMessage;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.entity.IngestionJob;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.enums.IngestionStatus;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.repository.IngestionJobRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IngestionServiceTest {
+    @Mock private IngestionJobRepository ingestionJobRepository;
+    @Mock private RabbitTemplate rabbitTemplate;
+
+    @InjectMocks private IngestionService ingestionService;
+
+    private IngestionJob job(int id, IngestionStatus status, int attempts) {
+        IngestionJob job = new IngestionJob(1, 10, "https://example.com/" + id);
+        ReflectionTestUtils.setField(job, "id", id);
+        job.setStatus(status);
+        job.setAttempts(attempts);
+        return job;
+    }
+
+    @Test
+    @DisplayName("멈춘 작업 복구 - 현재 단계 메시지를 재발행하고 시도 횟수에 포함")
+    void republishStaleJobs_Republishes() {
+        IngestionJob stale = job(1, IngestionStatus.EXTRACT, 0);
+        when(ingestionJobRepository.findTop100ByStatusInAndModifyDateBefore(any(), any())).thenReturn(List.of(stale));
+        when(ingestionJobRepository.save(any(IngestionJob.class))).then(returnsFirstArg());
+
+        ingestionService.republishStaleJobs();
+
+        assertThat(stale.getAttempts()).isEqualTo(1);
+        verify(rabbitTemplate).convertAndSend("zoopzoop.exchange", "datasource.ingestion.stage",
+                new IngestionMessage(1, IngestionStatus.EXTRACT));
+    }
+
+    @Test
+    @DisplayName("멈춘 작업 복구 - 시도 한도를 넘으면 재발행 없이 FAILED")
+    void republishStaleJobs_FailsOverLimit() {
+        IngestionJob stale = job(1, IngestionStatus.ANALYZE, IngestionService.MAX_ATTEMPTS);
+        when(ingestionJobRepository.findTop100ByStatusInAndModifyDateBefore(any(), any())).thenReturn(List.of(stale));
+
+        ingestionService.republishStaleJobs();
+
+        assertThat(stale.getStatus()).isEqualTo(IngestionStatus.FAILED);
+        verify(ingestionJobRepository).save(stale);
+        verify(rabbitTemplate, never()).convertAndSend(anyString(), anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("멈춘 작업 복구 - 그 사이 진행된 작업(버전 충돌)은 건너뛰고 나머지는 계속 처리")
+    void republishStaleJobs_SkipsConflicts() {
+        IngestionJob progressed = job(1, IngestionStatus.FETCH, 0);
+        IngestionJob stale = job(2, IngestionStatus.PERSIST, 1);
+        when(ingestionJobRepository.findTop100ByStatusInAndModifyDateBefore(any(), any()))
+                .thenReturn(List.of(progressed, stale));
+        when(ingestionJobRepository.save(progressed))
+                .thenThrow(new ObjectOptimisticLockingFailureException(IngestionJob.class, 1));
+        when(ingestionJobRepository.save(stale)).thenReturn(stale);
+
+        ingestionService.republishStaleJobs();
+
+        verify(rabbitTemplate, never()).convertAndSend("zoopzoop.exchange", "datasource.ingestion.stage",
+                new IngestionMessage(1, IngestionStatus.FETCH));
+        verify(rabbitTemplate).convertAndSend("zoopzoop.exchange", "datasource.ingestion.stage",
+                new IngestionMessage(2, IngestionStatus.PERSIST));
+    }
+
+    @Test
+    @DisplayName("지연 재발행 - 기본 Exchange로 지연 큐에 직접 발행")
+    void publishDelayed_SendsToDelayQueue() {
+        IngestionMessage message = new IngestionMessage(1, IngestionStatus.ANALYZE);
+
+        ingestionService.publishDelayed(message);
+
+        verify(rabbitTemplate).convertAndSend("", "datasource.ingestion.delay.queue", message);
+    }
+}
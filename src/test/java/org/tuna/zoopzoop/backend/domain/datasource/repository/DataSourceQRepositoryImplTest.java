@@ -1,23 +1,46 @@
 package org.tuna.zoopzoop.backend.domain.datasource.repository;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.tuna.zoopzoop.backend.domain.archive.archive.entity.Archive;
 import org.tuna.zoopzoop.backend.domain.archive.archive.repository.PersonalArchiveRepository;
+import org.tuna.zoopzoop.backend.domain.archive.archive.service.ArchiveVersionService;
 import org.tuna.zoopzoop.backend.domain.archive.folder.entity.Folder;
 import org.tuna.zoopzoop.backend.domain.archive.folder.repository.FolderRepository;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.CursorPage;
 import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceSearchCondition;
 import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceSearchItem;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.FederatedSearchItem;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.SearchFacets;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.SearchOrigin;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.Category;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.DataSource;
+import org.tuna.zoopzoop.backend.domain.datasource.entity.DataSourceDocument;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.Tag;
 import org.tuna.zoopzoop.backend.domain.member.entity.Member;
 import org.tuna.zoopzoop.backend.domain.member.enums.Provider;
@@ -25,13 +48,28 @@ import org.tuna.zoopzoop.backend.domain.member.repository.MemberRepository;
 import org.tuna.zoopzoop.backend.global.config.QuerydslConfig;
 
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
-
-@DataJpaTest
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = {
+        "search.count.cache-enabled=true",
+        "search.cache.enabled=true",
+        "search.cache.redis-enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
 @ActiveProfiles("test")
-@Import({QuerydslConfig.class, DataSourceQRepositoryImpl.class})
+@Import({QuerydslConfig.class, DataSourceQRepositoryImpl.class, JacksonAutoConfiguration.class,
+        DataSourceCountCache.class, SearchCountProperties.class,
+        DataSourceSearchCache.class, SearchCacheProperties.class,
+        ArchiveVersionService.class, SimpleMeterRegistry.class})
 class DataSourceQRepositoryImplTest {
 
     @Autowired
@@ -41,8 +79,16 @@ class DataSourceQRepositoryImplTest {
     @Autowired PersonalArchiveRepository personalArchiveRepository;
     @Autowired FolderRepository folderRepository;
     @Autowired DataSourceRepository dataSourceRepository;
+    @Autowired ArchiveVersionService archiveVersionService;
+    @Autowired MeterRegistry meterRegistry;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    // 테스트 프로필은 ES 색인/Redis 버전을 쓰지 않음
+    @MockitoBean ElasticsearchOperations elasticsearchOperations;
+    @MockitoBean StringRedisTemplate stringRedisTemplate;
 
     Integer memberId;
+    Integer archiveId;
     Integer defaultFolderId;
     Folder defaultFolder;
 
@@ -58,6 +104,7 @@ class DataSourceQRepositoryImplTest {
                         .build()
         );
         this.memberId = member.getId();
+        this.archiveId = member.getPersonalArchive().getArchive().getId();
 
         // 2) 기본 폴더 가져오기 (아직 비영속일 수 있음)
         Folder defaultFolder = member.getPersonalArchive().getArchive()
@@ -84,6 +131,12 @@ class DataSourceQRepositoryImplTest {
 
 
 
+    @AfterEach
+    void tearDown() {
+        // 컨텍스트를 공유하는 다른 테스트는 LIKE 검색
+        indexEnabled(false);
+    }
+
     private DataSource ds(Folder f, String title, String sum, LocalDate date, Category cat, List<String> tags) {
         DataSource d = new DataSource();
         d.setFolder(f);
@@ -238,4 +291,247 @@ class DataSourceQRepositoryImplTest {
         assertThat(page.getContent()).extracting(DataSourceSearchItem::getTitle)
                 .containsExactly("b-spec");
     }
+
+    @Test
+    @DisplayName("건수: 마지막 페이지는 count 없이 offset + 조회 건수")
+    void count_skipped_on_last_page() {
+        Pageable pageable = PageRequest.of(1, 2, Sort.by(Sort.Order.desc("createdAt")));
+        double before = countRequests("miss") + countRequests("hit");
+
+        Page<DataSourceSearchItem> page = dataSourceQRepository.search(memberId, DataSourceSearchCondition.builder().build(), pageable);
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(countRequests("miss") + countRequests("hit")).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("건수: 같은 아카이브 버전/조건이면 다른 페이지도 캐시된 건수, 버전이 오르면 다시 셈")
+    void count_cached_until_archive_version_bump() {
+        DataSourceSearchCondition cond = DataSourceSearchCondition.builder().build();
+        double miss = countRequests("miss");
+        double hit = countRequests("hit");
+
+        assertThat(dataSourceQRepository.search(memberId, cond, PageRequest.of(0, 1)).getTotalElements()).isEqualTo(3);
+        assertThat(dataSourceQRepository.search(memberId, cond, PageRequest.of(1, 1)).getTotalElements()).isEqualTo(3);
+        assertThat(countRequests("miss")).isEqualTo(miss + 1);
+        assertThat(countRequests("hit")).isEqualTo(hit + 1);
+
+        // 자료 추가 후 버전 증가 → 새 건수
+        dataSourceRepository.saveAndFlush(ds(defaultFolder, "d-new", "s4", LocalDate.now(), Category.IT, List.of()));
+        archiveVersionService.bump(archiveId);
+
+        assertThat(dataSourceQRepository.search(memberId, cond, PageRequest.of(0, 1)).getTotalElements()).isEqualTo(4);
+        assertThat(countRequests("miss")).isEqualTo(miss + 2);
+    }
+
+    @Test
+    @DisplayName("페이지 캐시: 같은 버전/조건/페이지는 메모리에서, 버전이 오르면 다시 조회")
+    void page_cached_until_archive_version_bump() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.desc("createdAt")));
+        DataSourceSearchCondition cond = DataSourceSearchCondition.builder().build();
+        double localHit = pageRequests("local_hit");
+
+        assertThat(dataSourceQRepository.search(memberId, cond, pageable).getContent()).hasSize(3);
+        assertThat(dataSourceQRepository.search(memberId, cond, pageable).getContent()).hasSize(3);
+        assertThat(pageRequests("local_hit")).isEqualTo(localHit + 1);
+
+        // 자료 추가 + 버전 증가 (서비스에서는 커밋 후 DataSourceChangedEvent로 증가)
+        dataSourceRepository.saveAndFlush(ds(defaultFolder, "d-new", "s4", LocalDate.now(), Category.IT, List.of()));
+        archiveVersionService.bump(archiveId);
+
+        assertThat(dataSourceQRepository.search(memberId, cond, pageable).getContent()).hasSize(4);
+        assertThat(pageRequests("local_hit")).isEqualTo(localHit + 1);
+    }
+
+    @Test
+    @DisplayName("패싯: 카테고리/폴더는 자기 조건을 뺀 건수, 태그는 전체 조건의 상위 N")
+    void facets_disjunctive_counts() {
+        Folder other = new Folder();
+        other.setName("other");
+        other.setArchive(defaultFolder.getArchive());
+        other = folderRepository.saveAndFlush(other);
+        dataSourceRepository.saveAndFlush(ds(other, "d-other", "s4", LocalDate.now(), Category.IT, List.of("X")));
+
+        DataSourceSearchCondition cond = DataSourceSearchCondition.builder()
+                .category(Category.IT)
+                .folderId(defaultFolderId)
+                .build();
+
+        SearchFacets facets = dataSourceQRepository.facets(memberId, cond, 10);
+
+        // 카테고리: 기본 폴더 안 전체 카테고리 (IT 2, SCIENCE 1)
+        assertThat(facets.categories())
+                .extracting(SearchFacets.FacetCount::value, SearchFacets.FacetCount::count)
+                .containsExactly(tuple("IT", 2L), tuple("SCIENCE", 1L));
+        // 폴더: IT 자료의 폴더별 건수 (기본 2, other 1)
+        assertThat(facets.folders())
+                .extracting(SearchFacets.FolderFacetCount::folderId, SearchFacets.FolderFacetCount::count)
+                .containsExactly(tuple(defaultFolderId, 2L), tuple(other.getId(), 1L));
+        // 태그: 기본 폴더 + IT 자료 (X, Z)
+        assertThat(facets.tags()).extracting(SearchFacets.FacetCount::value).containsExactly("X", "Z");
+
+        // 태그 개수 제한
+        assertThat(dataSourceQRepository.facets(memberId, cond, 1).tags()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("검색 페이지: 태그까지 한 번의 쿼리로 조회 (태그 별도 조회 없음)")
+    void search_page_loads_tags_in_single_statement() {
+        dataSourceRepository.saveAndFlush(ds(defaultFolder, "d-multi", "s4", LocalDate.now(), Category.IT, List.of("B", "A")));
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        Page<DataSourceSearchItem> page = dataSourceQRepository.searchInArchive(
+                archiveId, DataSourceSearchCondition.builder().build(), PageRequest.of(0, 10, Sort.by(Sort.Order.asc("title"))));
+
+        assertThat(page.getContent()).extracting(DataSourceSearchItem::getTitle)
+                .containsExactly("a-note", "b-spec", "c-hello", "d-multi");
+        assertThat(page.getContent().get(0).getTags()).containsExactly("X");
+        assertThat(page.getContent().get(3).getTags()).containsExactly("B", "A"); // 이름순이 아니라 저장 순서
+        assertThat(page.getContent().get(0).getCategory()).isEqualTo("IT");
+        // 마지막 페이지라 count도 생략 → 본문 쿼리 1회
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("개인 커서 검색: title asc, 폴더 조건 적용")
+    void scroll_personal_title_asc_with_folder_filter() {
+        Folder other = new Folder("other");
+        other.setArchive(defaultFolder.getArchive());
+        other = folderRepository.saveAndFlush(other);
+        dataSourceRepository.saveAndFlush(ds(other, "0-other", "s0", LocalDate.now(), Category.IT, List.of()));
+
+        DataSourceSearchCondition cond = DataSourceSearchCondition.builder().folderId(defaultFolderId).build();
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Order.asc("title")));
+
+        CursorPage<DataSourceSearchItem> first = dataSourceQRepository.scroll(memberId, cond, pageable, null);
+        assertThat(first.content()).extracting(DataSourceSearchItem::getTitle).containsExactly("a-note", "b-spec");
+        assertThat(first.hasNext()).isTrue();
+
+        CursorPage<DataSourceSearchItem> second = dataSourceQRepository.scroll(memberId, cond, pageable, first.nextCursor());
+        assertThat(second.content()).extracting(DataSourceSearchItem::getTitle).containsExactly("c-hello");
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("개인 커서 검색: createdAt desc (생성 일시, 같으면 id 역순)")
+    void scroll_personal_createdAt_desc() {
+        DataSourceSearchCondition cond = DataSourceSearchCondition.builder().build();
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Order.desc("createdAt")));
+
+        CursorPage<DataSourceSearchItem> first = dataSourceQRepository.scroll(memberId, cond, pageable, null);
+        assertThat(first.content()).extracting(DataSourceSearchItem::getTitle).containsExactly("c-hello", "b-spec");
+        assertThat(first.hasNext()).isTrue();
+
+        CursorPage<DataSourceSearchItem> second = dataSourceQRepository.scroll(memberId, cond, pageable, first.nextCursor());
+        assertThat(second.content()).extracting(DataSourceSearchItem::getTitle).containsExactly("a-note");
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("아카이브 커서 검색: 공유 검색과 같이 폴더 조건 없이 아카이브 전체")
+    void scrollInArchive_ignores_folder_filter_like_searchInArchive() {
+        Folder other = new Folder("other");
+        other.setArchive(defaultFolder.getArchive());
+        other = folderRepository.saveAndFlush(other);
+        dataSourceRepository.saveAndFlush(ds(other, "0-other", "s0", LocalDate.now(), Category.IT, List.of()));
+
+        DataSourceSearchCondition cond = DataSourceSearchCondition.builder().folderId(defaultFolderId).build();
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.asc("title")));
+
+        CursorPage<DataSourceSearchItem> scrolled = dataSourceQRepository.scrollInArchive(archiveId, cond, pageable, null);
+        Page<DataSourceSearchItem> paged = dataSourceQRepository.searchInArchive(archiveId, cond, pageable);
+
+        assertThat(scrolled.content()).extracting(DataSourceSearchItem::getTitle)
+                .containsExactly("0-other", "a-note", "b-spec", "c-hello");
+        assertThat(scrolled.content()).extracting(DataSourceSearchItem::getTitle)
+                .containsExactlyElementsOf(paged.getContent().stream().map(DataSourceSearchItem::getTitle).toList());
+    }
+
+    @Test
+    @DisplayName("키워드 검색: 색인 조건은 LIKE 검색과 같은 범위 (공유 검색은 폴더 무시, 태그는 양쪽 모두 대상 아님)")
+    void index_criteria_match_database_scope() {
+        indexEnabled(true);
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        // ES 장애 → LIKE 검색으로 대체되므로 같은 요청의 DB 결과도 함께 확인
+        when(elasticsearchOperations.search(queries.capture(), eq(DataSourceDocument.class)))
+                .thenThrow(new IllegalStateException("es down"));
+
+        Folder other = new Folder("other");
+        other.setArchive(defaultFolder.getArchive());
+        other = folderRepository.saveAndFlush(other);
+        dataSourceRepository.saveAndFlush(ds(other, "0-hello", "s0", LocalDate.now(), Category.IT, List.of()));
+
+        DataSourceSearchCondition cond = DataSourceSearchCondition.builder().keyword("hello").folderId(defaultFolderId).build();
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.asc("title")));
+
+        Page<DataSourceSearchItem> shared = dataSourceQRepository.searchInArchive(archiveId, cond, pageable);
+        Page<DataSourceSearchItem> personal = dataSourceQRepository.search(memberId, cond, pageable);
+
+        Set<String> sharedFields = fields(((CriteriaQuery) queries.getAllValues().get(0)).getCriteria());
+        Set<String> personalFields = fields(((CriteriaQuery) queries.getAllValues().get(1)).getCriteria());
+        assertThat(sharedFields).doesNotContain("folderId", "tags");
+        assertThat(personalFields).contains("folderId").doesNotContain("tags");
+        assertThat(shared.getContent()).extracting(DataSourceSearchItem::getTitle).containsExactly("0-hello", "b-spec", "c-hello");
+        assertThat(personal.getContent()).extracting(DataSourceSearchItem::getTitle).containsExactly("b-spec", "c-hello");
+    }
+
+    // @Repository 예외 변환 프록시가 아니라 대상 객체의 필드를 바꿈
+    private void indexEnabled(boolean enabled) {
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(dataSourceQRepository), "indexEnabled", enabled);
+    }
+
+    private static Set<String> fields(Criteria criteria) {
+        Set<String> names = new HashSet<>();
+        for (Criteria c : criteria.getCriteriaChain()) {
+            if (c.getField() != null) names.add(c.getField().getName());
+            for (Criteria sub : c.getSubCriteria()) names.addAll(fields(sub));
+        }
+        return names;
+    }
+
+    @Test
+    @DisplayName("통합 검색: 여러 아카이브를 한 번에 커서 페이지로 합치고 출처 표시")
+    void scrollAcross_merges_archives_with_origin() {
+        Member otherMember = memberRepository.saveAndFlush(
+                Member.builder()
+                        .name("other")
+                        .providerKey("KAKAO:" + System.nanoTime())
+                        .provider(Provider.KAKAO)
+                        .profileImageUrl("http://img")
+                        .build()
+        );
+        Archive otherArchive = otherMember.getPersonalArchive().getArchive();
+        Folder otherFolder = folderRepository.saveAndFlush(otherArchive.getFolders().stream()
+                .filter(Folder::isDefault).findFirst().orElseThrow());
+        dataSourceRepository.saveAndFlush(ds(otherFolder, "d-hello", "s4", LocalDate.now(), Category.IT, List.of("W")));
+
+        Map<Integer, SearchOrigin> origins = Map.of(
+                archiveId, SearchOrigin.personal(archiveId),
+                otherArchive.getId(), SearchOrigin.space(otherArchive.getId(), 7, "space"));
+        DataSourceSearchCondition cond = DataSourceSearchCondition.builder().keyword("hello").build();
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Order.asc("title")));
+
+        CursorPage<FederatedSearchItem> first = dataSourceQRepository.scrollAcross(origins, cond, pageable, null);
+        assertThat(first.content()).extracting(i -> i.dataSource().getTitle()).containsExactly("b-spec", "c-hello");
+        assertThat(first.content()).extracting(i -> i.origin().type()).containsOnly(SearchOrigin.Type.PERSONAL);
+        assertThat(first.hasNext()).isTrue();
+
+        CursorPage<FederatedSearchItem> second = dataSourceQRepository.scrollAcross(origins, cond, pageable, first.nextCursor());
+        assertThat(second.content()).hasSize(1);
+        assertThat(second.content().getFirst().dataSource().getTitle()).isEqualTo("d-hello");
+        assertThat(second.content().getFirst().origin().spaceId()).isEqualTo(7);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    private double pageRequests(String result) {
+        var counter = meterRegistry.find("search.page.requests").tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private double countRequests(String result) {
+        var counter = meterRegistry.find("search.count.requests").tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
 }
@@ -1,21 +1,42 @@
 package org.tuna.zoopzoop.backend.domain.datasource.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.retry.support.RetryTemplate;
 import org.springframework.test.context.ActiveProfiles;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.dto.AiExtractAnalyzeDto;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.dto.AiExtractorDto;
 import org.tuna.zoopzoop.backend.domain.datasource.ai.dto.AnalyzeContentDto;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.gateway.LlmGateway;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.gateway.LlmGatewayProperties;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.parser.AiResponseParseException;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.parser.AiResponseParser;
 import org.tuna.zoopzoop.backend.domain.datasource.ai.service.AiService;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.token.AiTokenProperties;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.token.ContentChunker;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.token.TokenEstimator;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.Category;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.Tag;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ActiveProfiles("test")
@@ -31,26 +52,44 @@ class AiServiceTest {
     private ChatClient.CallResponseSpec responseSpec;
 
 
-    @InjectMocks
     private AiService aiService;
 
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AiTokenProperties properties = new AiTokenProperties();
+        properties.setMaxInputTokens(1000);
+        properties.setChunkTokens(500);
+        aiService = new AiService(
+                new LlmGateway(chatClient, new LlmGatewayProperties(), meterRegistry),
+                new AiResponseParser(new ObjectMapper().findAndRegisterModules(), meterRegistry),
+                properties,
+                meterRegistry,
+                Runnable::run
+        );
+    }
+
+    private static ChatResponse response(String text) {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+    }
+
     @Test
     void analyzeContent_ShouldReturnMockedResponse() {
         // given
         String content = "테스트 본문";
         List<Tag> tagList = List.of(new Tag("Java"), new Tag("Spring"));
 
-        AnalyzeContentDto mockResponse = new AnalyzeContentDto(
-                "요약",
-                Category.IT,
-                List.of("Java", "Spring")
-        );
+        String mockResponse = """
+                {"summary": "요약", "category": "IT", "tags": ["Java", "Spring"]}
+                """;
 
         // 체인 mock 세팅
         when(chatClient.prompt()).thenReturn(requestSpec);
         when(requestSpec.user(anyString())).thenReturn(requestSpec);
         when(requestSpec.call()).thenReturn(responseSpec);
-        when(responseSpec.entity(AnalyzeContentDto.class)).thenReturn(mockResponse);
+        when(responseSpec.chatResponse()).thenReturn(response(mockResponse));
 
         // when
         AnalyzeContentDto result = aiService.analyzeContent(content, tagList);
@@ -61,4 +100,168 @@ class AiServiceTest {
         assertThat(result.tags()).containsExactly("Java", "Spring");
         assertThat(result.category()).isEqualTo(Category.IT);
     }
-}
\ No newline at end of file
+
+    @Test
+    void extractAndAnalyze_ShouldReturnCombinedResponse() {
+        // given
+        List<Tag> tagList = List.of(new Tag("Java"));
+
+        String mockResponse = """
+                {
+                  "title": "제목",
+                  "dataCreatedDate": "2025-09-01",
+                  "content": "본문",
+                  "imageUrl": "https://img.example/a.png",
+                  "source": "example.com",
+                  "summary": "요약",
+                  "category": "IT",
+                  "tags": ["Java", "JPA"]
+                }
+                """;
+
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.user(anyString())).thenReturn(requestSpec);
+        when(requestSpec.call()).thenReturn(responseSpec);
+        when(responseSpec.chatResponse()).thenReturn(response(mockResponse));
+
+        // when
+        AiExtractAnalyzeDto result = aiService.extractAndAnalyze("<html></html>", tagList);
+
+        // then
+        assertThat(result.toExtractorDto().title()).isEqualTo("제목");
+        assertThat(result.toExtractorDto().dataCreatedDate()).isEqualTo(LocalDate.of(2025, 9, 1));
+        assertThat(result.toAnalyzeContentDto().summary()).isEqualTo("요약");
+        assertThat(result.toAnalyzeContentDto().category()).isEqualTo(Category.IT);
+        assertThat(result.toAnalyzeContentDto().tags()).containsExactly("Java", "JPA");
+    }
+
+    @Test
+    void chunker_ShouldKeepEachChunkWithinBudget() {
+        String content = "가나다라마바사 문장입니다. ".repeat(500) + "\n" + "English sentence here. ".repeat(400);
+
+        List<String> chunks = ContentChunker.chunk(content, 1000);
+
+        assertThat(chunks).hasSizeGreaterThan(1);
+        assertThat(chunks).allSatisfy(chunk -> assertThat(TokenEstimator.estimate(chunk)).isLessThanOrEqualTo(1000));
+    }
+
+    @Test
+    void analyzeContent_ShouldMapReduceOversizedContent() {
+        // given - 예산(1000토큰)을 넘는 본문
+        String content = "긴 본문 문장입니다. ".repeat(400);
+        // 조각 요약/최종 분석 모두 같은 응답 (조각 요약은 문자열 그대로 사용됨)
+        String mockResponse = "{\"summary\": \"요약\", \"category\": \"IT\", \"tags\": [\"Java\"]}";
+
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.user(anyString())).thenReturn(requestSpec);
+        when(requestSpec.call()).thenReturn(responseSpec);
+        when(responseSpec.chatResponse()).thenReturn(response(mockResponse));
+
+        // when
+        AnalyzeContentDto result = aiService.analyzeContent(aiService.fitToBudget(content), List.of());
+
+        // then - 조각 요약 N회 + 최종 분석 1회
+        int chunkCount = ContentChunker.chunk(content, 500).size();
+        verify(responseSpec, times(chunkCount + 1)).chatResponse();
+        assertThat(result.summary()).isEqualTo("요약");
+        assertThat(meterRegistry.get("ai.tokens").tag("operation", "chunk_summary").tag("type", "prompt")
+                .summary().count()).isEqualTo(chunkCount);
+    }
+
+    @Test
+    void analyzeContent_ShouldRepairMalformedJsonWithoutRecall() {
+        // given - 코드 펜스, 후행 쉼표, 이스케이프 안 된 따옴표, 한글 카테고리
+        String malformed = """
+                ```json
+                {
+                  "summary": "그는 "안녕" 이라고 말했다",
+                  "category": "경제",
+                  "tags": ["Java", "Spring",],
+                }
+                ```
+                """;
+
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.user(anyString())).thenReturn(requestSpec);
+        when(requestSpec.call()).thenReturn(responseSpec);
+        when(responseSpec.chatResponse()).thenReturn(response(malformed));
+
+        // when
+        AnalyzeContentDto result = aiService.analyzeContent("본문", List.of());
+
+        // then
+        verify(responseSpec, times(1)).chatResponse();
+        assertThat(result.summary()).isEqualTo("그는 \"안녕\" 이라고 말했다");
+        assertThat(result.category()).isEqualTo(Category.ECONOMY);
+        assertThat(result.tags()).containsExactly("Java", "Spring");
+        assertThat(meterRegistry.counter("ai.response.parse", "operation", "analyze", "result", "repaired").count()).isEqualTo(1);
+    }
+
+    @Test
+    void extract_ShouldFillDefaultsAndCoerceFields() {
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.user(anyString())).thenReturn(requestSpec);
+        when(requestSpec.call()).thenReturn(responseSpec);
+        when(responseSpec.chatResponse()).thenReturn(response("{\"title\": \"제목\", \"datacreatedDate\": \"2025.09.01\"}"));
+
+        AiExtractorDto result = aiService.extract("<html></html>");
+
+        assertThat(result.title()).isEqualTo("제목");
+        assertThat(result.dataCreatedDate()).isEqualTo(LocalDate.of(2025, 9, 1));
+        assertThat(result.content()).isEmpty();
+        assertThat(result.source()).isEmpty();
+    }
+
+    @Test
+    void analyzeContent_ShouldThrowWhenRepairFails() {
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.user(anyString())).thenReturn(requestSpec);
+        when(requestSpec.call()).thenReturn(responseSpec);
+        when(responseSpec.chatResponse()).thenReturn(response("요약할 수 없습니다."));
+
+        // 프록시 없이 호출 → @Retryable 재호출 대신 예외 그대로 (다시 호출하지 않으므로 reasked가 아닌 failed)
+        assertThatThrownBy(() -> aiService.analyzeContent("본문", List.of()))
+                .isInstanceOf(AiResponseParseException.class);
+        assertThat(meterRegistry.counter("ai.response.parse", "operation", "analyze", "result", "failed").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("ai.response.parse", "operation", "analyze", "result", "reasked").count()).isZero();
+    }
+
+    @Test
+    void analyzeContent_ShouldCountReaskOnlyWhenRetried() {
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.user(anyString())).thenReturn(requestSpec);
+        when(requestSpec.call()).thenReturn(responseSpec);
+        when(responseSpec.chatResponse()).thenReturn(response("요약할 수 없습니다."));
+        // @Retryable(maxAttempts = 3)과 같은 재시도 컨텍스트
+        RetryTemplate retryTemplate = RetryTemplate.builder()
+                .maxAttempts(3)
+                .retryOn(AiResponseParseException.class)
+                .build();
+
+        assertThatThrownBy(() -> retryTemplate.execute(context -> aiService.analyzeContent("본문", List.of())))
+                .isInstanceOf(AiResponseParseException.class);
+
+        // 앞의 두 번은 다시 호출, 마지막 실패는 failed
+        verify(responseSpec, times(3)).chatResponse();
+        assertThat(meterRegistry.counter("ai.response.parse", "operation", "analyze", "result", "reasked").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("ai.response.parse", "operation", "analyze", "result", "failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    void analyzeContent_ShouldRecordProviderUsage() {
+        ChatResponse withUsage = new ChatResponse(
+                List.of(new Generation(new AssistantMessage("{\"summary\": \"요약\", \"category\": \"IT\", \"tags\": []}"))),
+                ChatResponseMetadata.builder().usage(new DefaultUsage(321, 45)).build());
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.user(anyString())).thenReturn(requestSpec);
+        when(requestSpec.call()).thenReturn(responseSpec);
+        when(responseSpec.chatResponse()).thenReturn(withUsage);
+
+        aiService.analyzeContent("본문", List.of());
+
+        assertThat(meterRegistry.get("ai.tokens").tag("operation", "analyze").tag("type", "prompt")
+                .summary().totalAmount()).isEqualTo(321);
+        assertThat(meterRegistry.get("ai.tokens").tag("operation", "analyze").tag("type", "completion")
+                .summary().totalAmount()).isEqualTo(45);
+    }
+}
@@ -259,30 +259,6 @@ public class CrawlerManagerServiceTest {
 
         Document doc = Jsoup.parse(mockHtml, "https://example.com");
 
-        // img 태그
-        doc.select("img[src]").forEach(el ->
-                el.attr("src", el.absUrl("src"))
-        );
-
-        // meta 태그 (Open Graph, Twitter Card 등)
-        doc.select("meta[content]").forEach(meta -> {
-            String absUrl = meta.absUrl("content");
-            if (!absUrl.isEmpty() && !absUrl.equals(meta.attr("content"))) {
-                meta.attr("content", absUrl);
-            }
-        });
-
-        String cleanHtml = doc.body().html()
-                .replaceAll("<script[^>]*>.*?</script>", "")
-                .replaceAll("<style[^>]*>.*?</style>", "")
-                // 주석 제거
-                .replaceAll("<!--.*?-->", "")
-                // 연속된 공백 제거
-                .replaceAll("\\s+", " ")
-                // 불필요한 속성 제거
-                .replaceAll("(class|id|style|onclick|onload)=\"[^\"]*\"", "")
-                .trim();
-
         when(genericCrawler.supports(url)).thenReturn(true);
         given(genericCrawler.extract(any(Document.class))).willCallRealMethod(); // 실제 메소드 실행
 
@@ -292,6 +268,11 @@ public class CrawlerManagerServiceTest {
 
         // then
         assertThat(result.type()).isEqualTo(CrawlerResult.CrawlerType.UNSPECIFIC);
-        assertThat(genericDoc.rawHtml()).isEqualTo(cleanHtml);
+        assertThat(genericDoc.rawHtml())
+                .contains("<h1>테스트 제목</h1>")
+                .contains("본문 <b>내용</b>")
+                .contains("https://example.com/images/test.png")
+                .contains("content=\"https://example.com/img/thumb.png\"")
+                .doesNotContain("<script", "<style", "<!--", "onclick", "onload", "class=", "id=");
     }
 }
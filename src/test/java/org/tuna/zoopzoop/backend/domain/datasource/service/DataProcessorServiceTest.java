@@ -1,5 +1,7 @@
 package org.tuna.zoopzoop.backend.domain.datasource.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -7,13 +9,34 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.dto.AiExtractAnalyzeDto;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.dto.AiExtractorDto;
+import org.tuna.zoopzoop.backend.domain.datasource.ai.service.AiService;
+import org.tuna.zoopzoop.backend.domain.datasource.crawler.service.CrawlerManagerService;
+import org.tuna.zoopzoop.backend.domain.datasource.crawler.service.GenericCrawler;
+import org.tuna.zoopzoop.backend.domain.datasource.dataprocessor.dto.ExtractionResult;
+import org.tuna.zoopzoop.backend.domain.datasource.dataprocessor.enums.ExtractionTier;
 import org.tuna.zoopzoop.backend.domain.datasource.dataprocessor.service.DataProcessorService;
+import org.tuna.zoopzoop.backend.domain.datasource.dataprocessor.service.UrlProbeService;
+import org.tuna.zoopzoop.backend.domain.datasource.entity.Category;
+import org.tuna.zoopzoop.backend.domain.datasource.entity.Tag;
 import org.tuna.zoopzoop.backend.domain.datasource.exception.ServiceException;
+import org.tuna.zoopzoop.backend.global.clients.web.WebFetchClient;
+import org.tuna.zoopzoop.backend.global.clients.web.WebFetchProperties;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 @ActiveProfiles("test")
 @ExtendWith(MockitoExtension.class)
@@ -24,7 +47,7 @@ class DataProcessorServiceTest {
     @BeforeEach
     void setUp() {
         // 실제 객체 생성, 의존성은 테스트에 필요 없으면 null
-        dataProcessorService = new DataProcessorService(null, null);
+        dataProcessorService = new DataProcessorService(null, null, new UrlProbeService(new WebFetchClient(new WebFetchProperties(), new SimpleMeterRegistry())));
     }
 
     @Test
@@ -118,4 +141,130 @@ class DataProcessorServiceTest {
         // then
         assertThat(doc).isNotNull();
     }
+
+    @Test
+    @DisplayName("성공 -> 같은 host 재요청 시 캐시된 경로로 접속")
+    void checkUrlTest8() {
+        // given
+        dataProcessorService.checkUrl("example.com");
+
+        // when
+        Map<String, Object> outputMap = dataProcessorService.checkUrl("http://example.com/");
+        Document doc = (Document) outputMap.get("document");
+
+        // then
+        assertThat(doc).isNotNull();
+        assertThat((String) outputMap.get("url")).endsWith("example.com/");
+    }
+
+    @Test
+    @DisplayName("성공 -> 메타데이터로 충족되면 AI 추출 생략")
+    void extractWithMetadataOnly() {
+        // given
+        AiService aiService = mock(AiService.class);
+        DataProcessorService service = new DataProcessorService(
+                new CrawlerManagerService(List.of(new GenericCrawler())), aiService, null);
+
+        String paragraph = "<p>메타데이터 추출 테스트 본문입니다. 충분히 긴 문단이어야 본문 블록으로 인정되며, 쉼표도 몇 개 포함합니다.</p>";
+        String html = """
+                <html><head>
+                  <meta property="og:title" content="OG 제목">
+                  <meta property="og:image" content="/thumb.png">
+                  <meta property="og:site_name" content="테스트 매체">
+                  <meta property="article:published_time" content="2025-09-01T10:00:00+09:00">
+                </head><body><article>%s</article></body></html>
+                """.formatted(paragraph.repeat(4));
+        Document doc = Jsoup.parse(html, "https://example.com/post/1");
+
+        // when
+        ExtractionResult result = service.extractWithTier("https://example.com/post/1", doc);
+
+        // then
+        assertThat(result.tier()).isEqualTo(ExtractionTier.METADATA);
+        assertThat(result.articleData().title()).isEqualTo("OG 제목");
+        assertThat(result.articleData().dataCreatedDate()).isEqualTo(LocalDate.of(2025, 9, 1));
+        assertThat(result.articleData().imageUrl()).isEqualTo("https://example.com/thumb.png");
+        assertThat(result.articleData().source()).isEqualTo("테스트 매체");
+        assertThat(result.articleData().content()).contains("메타데이터 추출 테스트 본문입니다.");
+        verifyNoInteractions(aiService);
+    }
+
+    @Test
+    @DisplayName("성공 -> 메타데이터가 부족하면 빈 필드만 AI로 보완")
+    void extractWithMetadataAndLlm() {
+        // given
+        AiService aiService = mock(AiService.class);
+        when(aiService.extract(anyString())).thenReturn(
+                new AiExtractorDto("AI 제목", LocalDate.of(2025, 1, 1), "AI 본문", "", "AI 출처"));
+        DataProcessorService service = new DataProcessorService(
+                new CrawlerManagerService(List.of(new GenericCrawler())), aiService, null);
+
+        Document doc = Jsoup.parse(
+                "<html><head><meta property=\"og:title\" content=\"OG 제목\"></head><body><p>짧은 글</p></body></html>",
+                "https://example.com/post/2");
+
+        // when
+        ExtractionResult result = service.extractWithTier("https://example.com/post/2", doc);
+
+        // then
+        assertThat(result.tier()).isEqualTo(ExtractionTier.METADATA_AND_LLM);
+        assertThat(result.articleData().title()).isEqualTo("OG 제목");
+        assertThat(result.articleData().content()).isEqualTo("AI 본문");
+        assertThat(result.articleData().dataCreatedDate()).isEqualTo(LocalDate.of(2025, 1, 1));
+        assertThat(result.articleData().source()).isEqualTo("AI 출처");
+    }
+
+    @Test
+    @DisplayName("성공 -> <title>과 페이지의 첫 time 태그만 있으면 AI 추출 (사이드바/댓글 날짜일 수 있음)")
+    void extractIgnoresPlainTagsForSufficiency() {
+        // given
+        AiService aiService = mock(AiService.class);
+        when(aiService.extract(anyString())).thenReturn(
+                new AiExtractorDto("AI 제목", LocalDate.of(2025, 9, 1), "AI 본문", "", "AI 출처"));
+        DataProcessorService service = new DataProcessorService(
+                new CrawlerManagerService(List.of(new GenericCrawler())), aiService, null);
+
+        String paragraph = "<p>구조화 메타데이터가 없는 글입니다. 충분히 긴 문단이어야 본문 블록으로 인정되며, 쉼표도 몇 개 포함합니다.</p>";
+        String html = """
+                <html><head><title>사이트 이름 | 글 목록</title></head><body>
+                  <div class="sidebar"><time datetime="2024-01-01">최근 댓글</time></div>
+                  <article>%s</article>
+                </body></html>
+                """.formatted(paragraph.repeat(4));
+        Document doc = Jsoup.parse(html, "https://example.com/post/4");
+
+        // when
+        ExtractionResult result = service.extractWithTier("https://example.com/post/4", doc);
+
+        // then: 본문 블록만 메타데이터 쪽 값, 제목/작성일자는 AI
+        assertThat(result.tier()).isEqualTo(ExtractionTier.METADATA_AND_LLM);
+        assertThat(result.articleData().title()).isEqualTo("AI 제목");
+        assertThat(result.articleData().dataCreatedDate()).isEqualTo(LocalDate.of(2025, 9, 1));
+        verify(aiService).extract(anyString());
+    }
+
+    @Test
+    @DisplayName("성공 -> 태그를 넘기면 추출과 요약/분류를 한 번의 AI 호출로 처리")
+    void extractWithCombinedLlmCall() {
+        // given
+        AiService aiService = mock(AiService.class);
+        when(aiService.extractAndAnalyze(anyString(), anyList())).thenReturn(new AiExtractAnalyzeDto(
+                "AI 제목", LocalDate.of(2025, 1, 1), "AI 본문", "", "AI 출처",
+                "AI 요약", Category.IT, List.of("Java")));
+        DataProcessorService service = new DataProcessorService(
+                new CrawlerManagerService(List.of(new GenericCrawler())), aiService, null);
+
+        Document doc = Jsoup.parse("<html><body><p>짧은 글</p></body></html>", "https://example.com/post/3");
+
+        // when
+        ExtractionResult result = service.extractWithTier("https://example.com/post/3", doc, List.of(new Tag("Java")));
+
+        // then
+        assertThat(result.tier()).isEqualTo(ExtractionTier.LLM);
+        assertThat(result.articleData().title()).isEqualTo("AI 제목");
+        assertThat(result.analysis()).isNotNull();
+        assertThat(result.analysis().summary()).isEqualTo("AI 요약");
+        verify(aiService, never()).extract(anyString());
+        verify(aiService, never()).analyzeContent(anyString(), anyList());
+    }
 }
@@ -0,0 +1,127 @@
+package org.tuna.zoopzoop.backend.domain.datasource.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+import org.tuna.zoopzoop.backend.domain.archive.archive.entity.Archive;
+import org.tuna.zoopzoop.backend.domain.archive.archive.enums.ArchiveType;
+import org.tuna.zoopzoop.backend.domain.archive.folder.entity.Folder;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceChangedEvent;
+import org.tuna.zoopzoop.backend.domain.datasource.entity.Category;
+import org.tuna.zoopzoop.backend.domain.datasource.entity.DataSource;
+import org.tuna.zoopzoop.backend.domain.datasource.entity.DataSourceDocument;
+import org.tuna.zoopzoop.backend.domain.datasource.entity.Tag;
+import org.tuna.zoopzoop.backend.domain.datasource.repository.DataSourceRepository;
+import org.tuna.zoopzoop.backend.domain.datasource.repository.DataSourceSearchRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DataSourceIndexServiceTest {
+
+    @Mock private DataSourceRepository dataSourceRepository;
+    @Mock private DataSourceSearchRepository dataSourceSearchRepository;
+
+    private DataSourceIndexService indexService;
+
+    @BeforeEach
+    void setUp() {
+        // 색인 풀 대신 호출 스레드에서 바로 실행
+        indexService = new DataSourceIndexService(dataSourceRepository, dataSourceSearchRepository,
+                TransactionOperations.withoutTransaction(), Runnable::run);
+        ReflectionTestUtils.setField(indexService, "enabled", true);
+    }
+
+    private DataSource ds(int id, int folderId, int archiveId) {
+        Archive archive = new Archive(ArchiveType.SHARED);
+        ReflectionTestUtils.setField(archive, "id", archiveId);
+        Folder folder = new Folder("docs");
+        ReflectionTestUtils.setField(folder, "id", folderId);
+        folder.setArchive(archive);
+
+        DataSource d = new DataSource();
+        ReflectionTestUtils.setField(d, "id", id);
+        d.setFolder(folder);
+        d.setTitle("spec.pdf");
+        d.setSummary("요약");
+        d.setCategory(Category.IT);
+        d.setActive(true);
+        Tag tag = new Tag("tag1");
+        tag.setDataSource(d);
+        d.getTags().add(tag);
+        return d;
+    }
+
+    @Test
+    @DisplayName("onChanged: 존재하는 자료는 색인, 물리 삭제된 자료는 색인에서 제거")
+    @SuppressWarnings("unchecked")
+    void onChanged_indexesExistingAndDeletesMissing() {
+        when(dataSourceRepository.findAllForIndexing(List.of(1, 2))).thenReturn(List.of(ds(1, 10, 100)));
+
+        indexService.onChanged(new DataSourceChangedEvent(List.of(1, 2), Set.of()));
+
+        ArgumentCaptor<List<DataSourceDocument>> saved = ArgumentCaptor.forClass(List.class);
+        verify(dataSourceSearchRepository).saveAll(saved.capture());
+        DataSourceDocument doc = saved.getValue().get(0);
+        assertThat(doc.getId()).isEqualTo(1);
+        assertThat(doc.getArchiveId()).isEqualTo(100);
+        assertThat(doc.getFolderId()).isEqualTo(10);
+        assertThat(doc.getCategory()).isEqualTo("IT");
+        assertThat(doc.getTags()).containsExactly("tag1");
+        assertThat(doc.getIsActive()).isTrue();
+        verify(dataSourceSearchRepository).deleteAllById(Set.of(2));
+    }
+
+    @Test
+    @DisplayName("onChanged: 색인 실패는 쓰기 요청으로 전파되지 않음")
+    void onChanged_swallowsIndexFailure() {
+        when(dataSourceRepository.findAllForIndexing(List.of(1))).thenReturn(List.of(ds(1, 10, 100)));
+        doThrow(new RuntimeException("es down")).when(dataSourceSearchRepository).saveAll(any());
+
+        indexService.onChanged(new DataSourceChangedEvent(List.of(1), Set.of()));
+
+        verify(dataSourceSearchRepository, never()).deleteAllById(any());
+    }
+
+    @Test
+    @DisplayName("onChanged: 요청 스레드에서는 색인 작업을 풀에 넘기기만 함")
+    void onChanged_runsOnIndexExecutor() {
+        List<Runnable> submitted = new ArrayList<>();
+        indexService = new DataSourceIndexService(dataSourceRepository, dataSourceSearchRepository,
+                TransactionOperations.withoutTransaction(), submitted::add);
+        ReflectionTestUtils.setField(indexService, "enabled", true);
+        when(dataSourceRepository.findAllForIndexing(List.of(1))).thenReturn(List.of(ds(1, 10, 100)));
+
+        indexService.onChanged(new DataSourceChangedEvent(List.of(1), Set.of()));
+        verifyNoInteractions(dataSourceRepository, dataSourceSearchRepository);
+
+        submitted.forEach(Runnable::run);
+        verify(dataSourceSearchRepository).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("onChanged: 색인 비활성화 시 아무것도 하지 않음")
+    void onChanged_disabled() {
+        ReflectionTestUtils.setField(indexService, "enabled", false);
+
+        indexService.onChanged(new DataSourceChangedEvent(List.of(1), Set.of()));
+
+        verifyNoInteractions(dataSourceRepository, dataSourceSearchRepository);
+    }
+}
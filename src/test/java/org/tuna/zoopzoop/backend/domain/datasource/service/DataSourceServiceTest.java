@@ -9,12 +9,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.openapitools.jackson.nullable.JsonNullable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.tuna.zoopzoop.backend.domain.archive.archive.entity.Archive;
+import org.tuna.zoopzoop.backend.domain.archive.archive.enums.ArchiveType;
 import org.tuna.zoopzoop.backend.domain.archive.folder.entity.Folder;
 import org.tuna.zoopzoop.backend.domain.archive.folder.repository.FolderRepository;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceChangedEvent;
 import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceSearchCondition;
 import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceSearchItem;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.Category;
@@ -26,6 +30,7 @@ import org.tuna.zoopzoop.backend.domain.datasource.repository.DataSourceReposito
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -40,6 +45,7 @@ class DataSourceServiceTest {
     @Mock private DataSourceRepository dataSourceRepository;
     @Mock private FolderRepository folderRepository;
     @Mock private DataSourceQRepository dataSourceQRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks private DataSourceService service;
 
@@ -49,6 +55,14 @@ class DataSourceServiceTest {
         return f;
     }
 
+    private Folder folder(int id, int archiveId) {
+        Archive archive = new Archive(ArchiveType.PERSONAL);
+        ReflectionTestUtils.setField(archive, "id", archiveId);
+        Folder f = folder(id);
+        f.setArchive(archive);
+        return f;
+    }
+
     private DataSource ds(int id, int folderId) {
         DataSource d = new DataSource();
         ReflectionTestUtils.setField(d, "id", id);
@@ -61,7 +75,7 @@ class DataSourceServiceTest {
     @Test
     @DisplayName("create: 폴더 존재 → 성공, 태그도 저장")
     void create_ok() {
-        when(folderRepository.findById(10)).thenReturn(Optional.of(folder(10)));
+        when(folderRepository.findById(10)).thenReturn(Optional.of(folder(10, 3)));
         ArgumentCaptor<DataSource> cap = ArgumentCaptor.forClass(DataSource.class);
         DataSource saved = ds(777, 10);
         when(dataSourceRepository.save(any(DataSource.class))).thenReturn(saved);
@@ -79,6 +93,7 @@ class DataSourceServiceTest {
         DataSource toSave = cap.getValue();
         assertThat(toSave.getTitle()).isEqualTo("T");
         assertThat(toSave.getTags()).hasSize(2);
+        verify(eventPublisher).publishEvent(new DataSourceChangedEvent(List.of(777), Set.of(3)));
     }
 
     @Test
@@ -136,6 +151,21 @@ class DataSourceServiceTest {
         assertThat(entity.getFolder().getId()).isEqualTo(2);
     }
 
+    @Test
+    @DisplayName("moveOne: 다른 아카이브 폴더로 이동 → 비정규화 archiveId도 갱신")
+    void moveOne_otherArchive_syncsArchiveId() {
+        DataSource entity = ds(7, 1);
+        entity.setFolder(folder(1, 3));
+        assertThat(entity.getArchiveId()).isEqualTo(3);
+        when(dataSourceRepository.findById(7)).thenReturn(Optional.of(entity));
+        when(folderRepository.findById(2)).thenReturn(Optional.of(folder(2, 4)));
+
+        service.moveOne(7, 2);
+
+        assertThat(entity.getArchiveId()).isEqualTo(4);
+        verify(eventPublisher).publishEvent(new DataSourceChangedEvent(List.of(7), Set.of(3, 4)));
+    }
+
     @Test
     @DisplayName("moveMany: 일부 존재하지 않으면 예외")
     void moveMany_missing() {
@@ -169,6 +199,7 @@ class DataSourceServiceTest {
     void softDeleteMany_ok() {
         DataSource a = ds(1,1); a.setActive(true);
         DataSource b = ds(2,1); b.setActive(false);
+        a.setFolder(folder(1, 3)); b.setFolder(folder(2, 4));
         when(dataSourceRepository.findAllById(List.of(1,2))).thenReturn(List.of(a,b));
 
         int affected = service.softDeleteMany(List.of(1,2));
@@ -176,6 +207,7 @@ class DataSourceServiceTest {
         assertThat(affected).isEqualTo(1);
         assertThat(a.isActive()).isFalse();
         assertThat(b.isActive()).isFalse();
+        verify(eventPublisher).publishEvent(new DataSourceChangedEvent(List.of(1, 2), Set.of(3, 4))); // 검색 색인 동기화 + 아카이브 버전
     }
 
     @Test
@@ -14,16 +14,12 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.tuna.zoopzoop.backend.domain.archive.archive.entity.Archive;
 import org.tuna.zoopzoop.backend.domain.archive.folder.entity.Folder;
 import org.tuna.zoopzoop.backend.domain.archive.folder.repository.FolderRepository;
-import org.tuna.zoopzoop.backend.domain.datasource.dataprocessor.service.DataProcessorService;
-import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceDto;
 import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceSearchCondition;
 import org.tuna.zoopzoop.backend.domain.datasource.dto.DataSourceSearchItem;
-import org.tuna.zoopzoop.backend.domain.datasource.entity.Category;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.DataSource;
+import org.tuna.zoopzoop.backend.domain.datasource.ingestion.service.IngestionService;
 import org.tuna.zoopzoop.backend.domain.datasource.repository.DataSourceRepository;
 
-import java.io.IOException;
-import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,7 +34,7 @@ class PersonalDataSourceServiceTest {
     @Mock private DataSourceService domain;
     @Mock private DataSourceRepository dataSourceRepository;
     @Mock private FolderRepository folderRepository;
-    @Mock private DataProcessorService dataProcessorService;
+    @Mock private IngestionService ingestionService;
 
     @InjectMocks private PersonalDataSourceService app;
 
@@ -51,8 +47,8 @@ class PersonalDataSourceServiceTest {
 
     // ---------------------- Create ----------------------
     @Test
-    @DisplayName("create: folderId=0 → default 폴더로 위임")
-    void create_defaultFolder() throws IOException {
+    @DisplayName("requestCreate: folderId=0 → default 폴더로 등록 작업 접수")
+    void requestCreate_defaultFolder() {
         int memberId = 7;
         Archive a = archive(100);
         Folder defaultFolder = folder(55, a, true);
@@ -60,29 +56,23 @@ class PersonalDataSourceServiceTest {
 
         String url = "https://m.sports.naver.com/wfootball/article/109/0005404750";
 
-        when(dataProcessorService.process(eq(url), anyList()))
-                .thenReturn(new DataSourceDto(
-                        "제목", "요약",
-                        LocalDate.of(2024, 9, 1),
-                        url,
-                        "http://img.jpg",
-                        "NAVER",
-                        Category.SPORTS,
-                        List.of("tag1","tag2")
-                ));
-
-        // domain.create 검증 시에는 enum으로 비교
-        when(domain.create(eq(55), argThat(c ->
-                c.sourceUrl().equals(url)
-                        && c.title().equals("제목")
-                        && c.category() == Category.SPORTS   // enum 비교!
-        ))).thenReturn(999);
-
-        int id = app.create(memberId, url, 0, DataSourceService.CreateCmd.builder().build());
-
-        assertThat(id).isEqualTo(999);
-        verify(dataProcessorService).process(eq(url), anyList());
-        verify(domain).create(eq(55), any());
+        when(ingestionService.submit(eq(memberId), eq(55), eq(url), any())).thenReturn(999);
+
+        int jobId = app.requestCreate(memberId, url, 0, DataSourceService.CreateCmd.builder().build());
+
+        assertThat(jobId).isEqualTo(999);
+        verify(ingestionService).submit(eq(memberId), eq(55), eq(url), any());
+        verify(domain, never()).create(anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("requestCreate: 존재하지 않는 폴더 → NoResultException, 작업 접수 안 함")
+    void requestCreate_folderNotFound() {
+        when(folderRepository.findById(404)).thenReturn(Optional.empty());
+
+        assertThrows(NoResultException.class,
+                () -> app.requestCreate(7, "https://example.com", 404, DataSourceService.CreateCmd.builder().build()));
+        verify(ingestionService, never()).submit(anyInt(), anyInt(), anyString(), any());
     }
 
 
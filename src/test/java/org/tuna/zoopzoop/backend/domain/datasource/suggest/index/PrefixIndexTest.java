@@ -0,0 +1,89 @@
+package org.tuna.zoopzoop.backend.domain.datasource.suggest.index;
+
+import org.junit.jupiter.api.Test;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.SearchSuggestion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.tuna.zoopzoop.backend.domain.datasource.dto.SearchSuggestion.Type.SOURCE;
+import static org.tuna.zoopzoop.backend.domain.datasource.dto.SearchSuggestion.Type.TAG;
+import static org.tuna.zoopzoop.backend.domain.datasource.dto.SearchSuggestion.Type.TITLE;
+
+class PrefixIndexTest {
+
+    private static List<String> texts(List<SearchSuggestion> suggestions) {
+        return suggestions.stream().map(SearchSuggestion::text).toList();
+    }
+
+    @Test
+    void lookup_RanksPrefixMatchesByCount() {
+        PrefixIndex index = PrefixIndex.build(List.of(
+                new SearchSuggestion(TITLE, "Spring Boot 입문", 1),
+                new SearchSuggestion(TAG, "spring", 5),
+                new SearchSuggestion(SOURCE, "Spring Blog", 3),
+                new SearchSuggestion(TITLE, "JPA 기초", 9)
+        ), 8, 20, 2_000);
+
+        assertThat(texts(index.lookup("  SPR", 10))).containsExactly("spring", "Spring Blog", "Spring Boot 입문");
+        assertThat(index.lookup("spr", 10).getFirst().type()).isEqualTo(TAG);
+    }
+
+    @Test
+    void lookup_MatchesLaterWordsOfTitleButNotOfTag() {
+        PrefixIndex index = PrefixIndex.build(List.of(
+                new SearchSuggestion(TITLE, "실전   스프링 부트", 1),
+                new SearchSuggestion(TAG, "백엔드 부트캠프", 1)
+        ), 8, 20, 2_000);
+
+        assertThat(texts(index.lookup("부트", 10))).containsExactly("실전   스프링 부트");
+        assertThat(texts(index.lookup("스프링 부", 10))).containsExactly("실전   스프링 부트");
+        assertThat(texts(index.lookup("백엔드", 10))).containsExactly("백엔드 부트캠프");
+    }
+
+    @Test
+    void lookup_DoesNotRepeatEntryMatchedByTwoWords() {
+        PrefixIndex index = PrefixIndex.build(List.of(
+                new SearchSuggestion(TITLE, "java and javascript", 1)
+        ), 8, 20, 2_000);
+
+        assertThat(index.lookup("java", 10)).hasSize(1);
+    }
+
+    @Test
+    void lookup_HotPrefixMatchesFullScan() {
+        Random random = new Random(3);
+        List<SearchSuggestion> terms = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 2 + random.nextInt(6);
+            for (int c = 0; c < length; c++) word.append((char) ('a' + random.nextInt(4)));
+            terms.add(new SearchSuggestion(i % 2 == 0 ? TITLE : TAG, word + " " + i, random.nextInt(50)));
+        }
+
+        PrefixIndex scanned = PrefixIndex.build(terms, 8, 20, Integer.MAX_VALUE);
+        PrefixIndex precomputed = PrefixIndex.build(terms, 8, 20, 16);
+
+        for (String prefix : List.of("a", "b", "ab", "cd", "abc", "dd", "1", "a 1")) {
+            for (int limit : List.of(1, 5, 20)) {
+                assertThat(precomputed.lookup(prefix, limit))
+                        .as("prefix=%s limit=%d", prefix, limit)
+                        .isEqualTo(scanned.lookup(prefix, limit));
+            }
+        }
+        assertThat(precomputed.lookup("a", 20)).hasSize(20)
+                .isSortedAccordingTo((x, y) -> Long.compare(y.count(), x.count()));
+    }
+
+    @Test
+    void lookup_EmptyQueryOrNoMatchReturnsEmpty() {
+        PrefixIndex index = PrefixIndex.build(List.of(new SearchSuggestion(TAG, "spring", 1)), 8, 20, 2_000);
+
+        assertThat(index.lookup("   ", 10)).isEmpty();
+        assertThat(index.lookup("kotlin", 10)).isEmpty();
+        assertThat(index.lookup("spring", 0)).isEmpty();
+        assertThat(PrefixIndex.empty().lookup("s", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,93 @@
+package org.tuna.zoopzoop.backend.domain.datasource.suggest.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.tuna.zoopzoop.backend.domain.archive.archive.service.ArchiveVersionService;
+import org.tuna.zoopzoop.backend.domain.datasource.dto.SearchSuggestion;
+import org.tuna.zoopzoop.backend.domain.datasource.repository.DataSourceRepository;
+import org.tuna.zoopzoop.backend.domain.datasource.repository.TermCount;
+import org.tuna.zoopzoop.backend.domain.datasource.suggest.SuggestProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SuggestionServiceTest {
+    private static final int ARCHIVE_ID = 7;
+
+    @Mock private DataSourceRepository dataSourceRepository;
+    @Mock private ArchiveVersionService archiveVersionService;
+
+    // 색인 적재 작업을 모아 두었다가 테스트에서 직접 실행
+    private final List<Runnable> submitted = new ArrayList<>();
+    private SuggestionService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SuggestionService(dataSourceRepository, archiveVersionService, new SuggestProperties(),
+                new SimpleMeterRegistry(), submitted::add);
+    }
+
+    private static List<String> texts(List<SearchSuggestion> suggestions) {
+        return suggestions.stream().map(SearchSuggestion::text).toList();
+    }
+
+    private void titles(String... titles) {
+        List<TermCount> counts = new ArrayList<>();
+        for (String title : titles) counts.add(new TermCount(title, 1L));
+        when(dataSourceRepository.countTitlesInArchive(ARCHIVE_ID)).thenReturn(counts);
+    }
+
+    private void runSubmitted() {
+        List<Runnable> tasks = List.copyOf(submitted);
+        submitted.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    @Test
+    @DisplayName("첫 요청은 적재를 예약만 하고 빈 목록, 적재가 끝나면 색인으로 답함")
+    void suggest_warmsIndexAsynchronously() {
+        when(archiveVersionService.current(ARCHIVE_ID)).thenReturn(1L);
+
+        assertThat(service.suggest(ARCHIVE_ID, "spr", 10)).isEmpty();
+        assertThat(service.suggest(ARCHIVE_ID, "spr", 10)).isEmpty();
+        verifyNoInteractions(dataSourceRepository);
+        assertThat(submitted).hasSize(1); // 적재 중에는 다시 예약하지 않음
+
+        titles("Spring Boot 입문");
+        runSubmitted();
+
+        assertThat(texts(service.suggest(ARCHIVE_ID, "spr", 10))).containsExactly("Spring Boot 입문");
+        assertThat(submitted).isEmpty();
+    }
+
+    @Test
+    @DisplayName("아카이브 버전이 바뀌면 이전 색인으로 답하면서 다시 만들어 교체")
+    void suggest_rebuildsOnVersionChange() {
+        when(archiveVersionService.current(ARCHIVE_ID)).thenReturn(1L);
+        titles("Spring Boot 입문");
+        service.suggest(ARCHIVE_ID, "spr", 10);
+        runSubmitted();
+
+        when(archiveVersionService.current(ARCHIVE_ID)).thenReturn(2L);
+        titles("Spring Boot 입문", "Spring Data JPA");
+
+        assertThat(texts(service.suggest(ARCHIVE_ID, "spr", 10))).containsExactly("Spring Boot 입문");
+        assertThat(submitted).hasSize(1);
+
+        runSubmitted();
+
+        assertThat(texts(service.suggest(ARCHIVE_ID, "spr", 10)))
+                .containsExactlyInAnyOrder("Spring Boot 입문", "Spring Data JPA");
+        assertThat(submitted).isEmpty();
+    }
+}
@@ -75,6 +75,7 @@ public class NewsServiceTest {
         ds.setImageUrl("www.example.com/img");
         ds.setDataCreatedDate(LocalDate.now());
         ds.setTags(tags);
+        tags.forEach(tag -> tag.setDataSource(ds)); // 태그 집계는 DB 기준이므로 연관관계 주인 쪽도 설정
         ds.setCategory(Category.ENVIRONMENT);
         ds.setActive(true);
         return dataSourceRepository.save(ds);
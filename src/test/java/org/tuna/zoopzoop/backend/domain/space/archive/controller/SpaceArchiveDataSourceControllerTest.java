@@ -18,6 +18,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.tuna.zoopzoop.backend.domain.archive.folder.entity.Folder;
 import org.tuna.zoopzoop.backend.domain.archive.folder.repository.FolderRepository;
+import org.tuna.zoopzoop.backend.domain.datasource.embedding.service.DataSourceEmbeddingService;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.Category;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.DataSource;
 import org.tuna.zoopzoop.backend.domain.datasource.entity.Tag;
@@ -35,7 +36,9 @@ import org.tuna.zoopzoop.backend.global.jpa.entity.BaseEntity;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
+import static org.awaitility.Awaitility.await;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -64,6 +67,7 @@ class SpaceArchiveDataSourceControllerTest {
 
     @Autowired FolderRepository folderRepository;
     @Autowired DataSourceRepository dataSourceRepository;
+    @Autowired DataSourceEmbeddingService dataSourceEmbeddingService;
 
     private static final String OWNER_PK = "sc_owner_1111";
     private Integer ownerMemberId;
@@ -72,6 +76,7 @@ class SpaceArchiveDataSourceControllerTest {
     private Integer defaultFolderId;
     private Integer docsFolderId;
     private Integer ds1Id;
+    private Integer ds2Id;
     private Integer personalDefaultFolderId;
     private Integer personalDs1Id, personalDs2Id, personalDs3Id;
 
@@ -133,7 +138,7 @@ class SpaceArchiveDataSourceControllerTest {
         d2.setActive(true);
         d2.setTags(List.of());
         d2.setCategory(Category.SCIENCE);
-        dataSourceRepository.saveAndFlush(d2);
+        ds2Id = dataSourceRepository.saveAndFlush(d2).getId();
 
         // === 개인(default) 폴더 찾고 개인 자료 시드 ===
         var personalDefaultFolder = folderRepository.findDefaultFolderByMemberId(ownerMemberId)
@@ -350,4 +355,74 @@ class SpaceArchiveDataSourceControllerTest {
                 .andExpect(jsonPath("$.data.items").isArray())
                 .andExpect(jsonPath("$.data.items.length()").value(greaterThanOrEqualTo(1)));
     }
+
+    @Test
+    @WithUserDetails(value = "KAKAO:" + OWNER_PK, setupBefore = TestExecutionEvent.TEST_METHOD)
+    @DisplayName("공유 자료 검색 - 커서 페이지")
+    void search_cursor_ok() throws Exception {
+        // 첫 페이지: count 없이 nextCursor만
+        String first = mockMvc.perform(get("/api/v1/space/{spaceId}/archive/datasources", spaceId)
+                        .param("paging", "cursor")
+                        .param("folderId", String.valueOf(docsFolderId))
+                        .param("size", "1")
+                        .param("sort", "title,asc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(1))
+                .andExpect(jsonPath("$.data.items[0].title").value("notes.txt"))
+                .andExpect(jsonPath("$.data.pageInfo").doesNotExist())
+                .andExpect(jsonPath("$.data.cursorInfo.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        String nextCursor = om.readTree(first).at("/data/cursorInfo/nextCursor").asText();
+
+        // 다음 페이지
+        mockMvc.perform(get("/api/v1/space/{spaceId}/archive/datasources", spaceId)
+                        .param("paging", "cursor")
+                        .param("cursor", nextCursor)
+                        .param("folderId", String.valueOf(docsFolderId))
+                        .param("size", "1")
+                        .param("sort", "title,asc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(1))
+                .andExpect(jsonPath("$.data.items[0].title").value("spec.pdf"))
+                .andExpect(jsonPath("$.data.cursorInfo.hasNext").value(false));
+
+        // 정렬이 다른 커서는 거부
+        mockMvc.perform(get("/api/v1/space/{spaceId}/archive/datasources", spaceId)
+                        .param("paging", "cursor")
+                        .param("cursor", nextCursor)
+                        .param("sort", "createdAt,desc"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithUserDetails(value = "KAKAO:" + OWNER_PK, setupBefore = TestExecutionEvent.TEST_METHOD)
+    @DisplayName("공유 자료 의미 검색 - semantic=true면 keyword와 가까운 자료 순 (local 임베딩)")
+    void search_semantic_ok() throws Exception {
+        // 시드는 리포지토리로 직접 저장되어 커밋 후 임베딩이 돌지 않으므로 직접 계산
+        dataSourceEmbeddingService.embed(List.of(ds1Id, ds2Id));
+
+        mockMvc.perform(get("/api/v1/space/{spaceId}/archive/datasources", spaceId)
+                        .param("keyword", "notes txt")
+                        .param("semantic", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("200"))
+                .andExpect(jsonPath("$.data.items[0].title").value("notes.txt"))
+                .andExpect(jsonPath("$.data.pageInfo.sorted").value("similarity,DESC"));
+    }
+
+    // ----------------- 검색어 자동완성 -----------------
+    @Test
+    @WithUserDetails(value = "KAKAO:" + OWNER_PK, setupBefore = TestExecutionEvent.TEST_METHOD)
+    @DisplayName("공유 자료 검색어 자동완성 - 색인이 백그라운드에서 준비되면 접두사로 제목 후보 조회")
+    void suggestions_ok() throws Exception {
+        // 첫 요청은 적재만 예약하고 빈 목록일 수 있음
+        await().atMost(5, TimeUnit.SECONDS).pollInSameThread().untilAsserted(() ->
+                mockMvc.perform(get("/api/v1/space/{spaceId}/archive/datasources/suggestions", spaceId)
+                                .param("q", "note"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.status").value("200"))
+                        .andExpect(jsonPath("$.data[0].type").value("TITLE"))
+                        .andExpect(jsonPath("$.data[0].text").value("notes.txt")));
+    }
 }
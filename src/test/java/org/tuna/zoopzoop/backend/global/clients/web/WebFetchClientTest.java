@@ -0,0 +1,114 @@
+package org.tuna.zoopzoop.backend.global.clients.web;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class WebFetchClientTest {
+    private HttpServer server;
+    private SimpleMeterRegistry meterRegistry;
+    private WebFetchClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/ok", exchange -> {
+            byte[] body = "<html>본문</html>".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/html; charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        // 헤더는 바로 보내고 본문은 200ms마다 1바이트씩 (약 20초)
+        server.createContext("/trickle", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                for (int i = 0; i < 100; i++) {
+                    out.write('x');
+                    out.flush();
+                    Thread.sleep(200);
+                }
+            } catch (Exception ignore) {
+                // 클라이언트가 끊음
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        WebFetchProperties properties = new WebFetchProperties();
+        properties.setRequestTimeout(Duration.ofSeconds(1));
+        meterRegistry = new SimpleMeterRegistry();
+        client = new WebFetchClient(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+        server.stop(0);
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+
+    @Test
+    @DisplayName("정상 응답 본문은 그대로 읽음")
+    void get_ReadsBody() throws Exception {
+        FetchedPage page = client.get(url("/ok"));
+
+        assertThat(page.status()).isEqualTo(200);
+        assertThat(page.charset()).isEqualTo("UTF-8");
+        assertThat(new String(page.body(), StandardCharsets.UTF_8)).isEqualTo("<html>본문</html>");
+    }
+
+    @Test
+    @DisplayName("본문을 조금씩 흘려보내는 서버는 요청 제한 시간에 끊음")
+    void get_TimesOutTricklingBody() {
+        long start = System.nanoTime();
+
+        assertThatThrownBy(() -> client.get(url("/trickle")))
+                .isInstanceOf(HttpTimeoutException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("본문을 읽는 동안 host permit을 쥐고, 응답 시간은 본문 다운로드까지 측정")
+    void get_HoldsPermitUntilBodyClosed() {
+        CompletableFuture<Void> fetch = CompletableFuture.runAsync(() ->
+                assertThatThrownBy(() -> client.get(url("/trickle"))).isInstanceOf(HttpTimeoutException.class));
+
+        // 헤더를 받은 뒤에도 본문을 읽는 동안은 사용 중
+        await().during(300, TimeUnit.MILLISECONDS).atMost(900, TimeUnit.MILLISECONDS)
+                .until(() -> inUse() == 1.0);
+        fetch.join();
+
+        assertThat(inUse()).isZero();
+        Timer latency = meterRegistry.get("ingestion.fetch.latency").tag("host", "localhost").timer();
+        assertThat(latency.count()).isEqualTo(1);
+        assertThat(latency.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(900);
+    }
+
+    private double inUse() {
+        Gauge gauge = meterRegistry.find("ingestion.fetch.pool.in_use").tag("host", "localhost").gauge();
+        return gauge == null ? 0 : gauge.value();
+    }
+}